@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8ArrayBuffer;
+import com.eclipsesource.v8.V8Function;
+
+/**
+ * Measures access to the backing store of an ArrayBuffer from Java, and
+ * the cost of handing a buffer to JavaScript.
+ */
+public class ArrayBufferBenchmark extends V8Benchmark {
+
+    @Param({ "1024", "65536" })
+    private int           capacity;
+
+    private V8ArrayBuffer buffer;
+    private V8Function    sum;
+    private byte[]        bytes;
+
+    @Override
+    protected void setup() {
+        buffer = new V8ArrayBuffer(v8, capacity);
+        bytes = new byte[capacity];
+        for (int i = 0; i < capacity; i++) {
+            buffer.put(i, (byte) i);
+        }
+        sum = (V8Function) v8.executeScript("(function(buffer) {"
+                + " var view = new Uint8Array(buffer), result = 0;"
+                + " for (var i = 0; i < view.length; i++) { result += view[i]; }"
+                + " return result; })");
+    }
+
+    @Override
+    protected void tearDown() {
+        sum.close();
+        buffer.close();
+    }
+
+    @Benchmark
+    public int getByIndex() {
+        int result = 0;
+        for (int i = 0; i < capacity; i++) {
+            result += buffer.get(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] getBulk() {
+        buffer.rewind();
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Benchmark
+    public V8ArrayBuffer putBulk() {
+        buffer.rewind();
+        return buffer.put(bytes);
+    }
+
+    @Benchmark
+    public Object sumInJavaScript() {
+        V8Array parameters = new V8Array(v8).push(buffer);
+        try {
+            return sum.call(null, parameters);
+        } finally {
+            parameters.close();
+        }
+    }
+
+    @Benchmark
+    public void create() {
+        new V8ArrayBuffer(v8, capacity).close();
+    }
+
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+
+import com.eclipsesource.v8.JavaCallback;
+import com.eclipsesource.v8.JavaFastCallback;
+import com.eclipsesource.v8.JavaIntCallback;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8CallbackArguments;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8Script;
+
+/**
+ * Measures the cost of a call from JavaScript into Java for each of the
+ * callback flavours. Every invocation performs {@link #CALLS} calls from
+ * a compiled loop so that the script overhead is amortized.
+ */
+public class CallbackBenchmark extends V8Benchmark {
+
+    private static final int CALLS = 100;
+
+    private V8Script         reflectionLoop;
+    private V8Script         callbackLoop;
+    private V8Script         fastCallbackLoop;
+    private V8Script         intCallbackLoop;
+
+    public int add(final int a, final int b) {
+        return a + b;
+    }
+
+    @Override
+    protected void setup() {
+        v8.registerJavaMethod(this, "add", "reflectionAdd", new Class<?>[] { int.class, int.class });
+        v8.registerJavaMethod(new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                return parameters.getInteger(0) + parameters.getInteger(1);
+            }
+        }, "callbackAdd");
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return arguments.getInteger(0) + arguments.getInteger(1);
+            }
+        }, "fastCallbackAdd");
+        v8.registerIntMethod(new JavaIntCallback() {
+
+            @Override
+            public int invoke(final V8CallbackArguments arguments) {
+                return arguments.getInteger(0) + arguments.getInteger(1);
+            }
+        }, "intCallbackAdd");
+        reflectionLoop = compileLoop("reflectionAdd");
+        callbackLoop = compileLoop("callbackAdd");
+        fastCallbackLoop = compileLoop("fastCallbackAdd");
+        intCallbackLoop = compileLoop("intCallbackAdd");
+    }
+
+    @Override
+    protected void tearDown() {
+        reflectionLoop.close();
+        callbackLoop.close();
+        fastCallbackLoop.close();
+        intCallbackLoop.close();
+    }
+
+    private V8Script compileLoop(final String function) {
+        return v8.compileScript("for (var i = 0; i < " + CALLS + "; i++) { " + function + "(i, 1); }");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void reflection() {
+        reflectionLoop.executeVoid();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void javaCallback() {
+        callbackLoop.executeVoid();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void javaFastCallback() {
+        fastCallbackLoop.executeVoid();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void javaIntCallback() {
+        intCallbackLoop.executeVoid();
+    }
+
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8Script;
+
+/**
+ * Measures the cost of running scripts through the different execute
+ * variants, including the cost of compiling the source on every call.
+ */
+public class ExecuteScriptBenchmark extends V8Benchmark {
+
+    private V8Script compiledScript;
+
+    @Override
+    protected void setup() {
+        v8.executeVoidScript("var counter = 0; function add(a, b) { return a + b; }");
+        compiledScript = v8.compileScript("counter++;");
+    }
+
+    @Override
+    protected void tearDown() {
+        compiledScript.close();
+    }
+
+    @Benchmark
+    public int executeIntegerScript() {
+        return v8.executeIntegerScript("1 + 1");
+    }
+
+    @Benchmark
+    public void executeVoidScript() {
+        v8.executeVoidScript("counter++;");
+    }
+
+    @Benchmark
+    public void executeCompiledScript() {
+        compiledScript.executeVoid();
+    }
+
+    @Benchmark
+    public int executeObjectScript() {
+        V8Object result = v8.executeObjectScript("({x: 1, y: 2})");
+        try {
+            return result.getInteger("x");
+        } finally {
+            result.close();
+        }
+    }
+
+    @Benchmark
+    public Object executeJSFunction() {
+        return v8.executeJSFunction("add", 1, 2);
+    }
+
+}
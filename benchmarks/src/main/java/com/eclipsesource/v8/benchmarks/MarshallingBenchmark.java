@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.eclipsesource.v8.Releasable;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.utils.V8ObjectUtils;
+import com.eclipsesource.v8.utils.V8ValueReader;
+import com.eclipsesource.v8.utils.V8ValueWriter;
+
+/**
+ * Compares the ways of moving an object graph between Java and JavaScript:
+ * the property walking {@link V8ObjectUtils}, the structured clone based
+ * {@link V8ValueReader} and {@link V8ValueWriter}, and JSON.
+ */
+public class MarshallingBenchmark extends V8Benchmark {
+
+    private static final String  DATA = "Array.from({length: 100}, function(v, i) {"
+            + " return {id: i, name: 'item' + i, price: i * 1.5, active: i % 2 === 0, tags: ['a', 'b'], nested: {x: i}};"
+            + " })";
+
+    private V8Array              array;
+    private List<? super Object> list;
+    private String               json;
+
+    @Override
+    protected void setup() {
+        array = v8.executeArrayScript(DATA);
+        list = V8ObjectUtils.toList(array);
+        json = v8.executeStringScript("JSON.stringify(" + DATA + ")");
+    }
+
+    @Override
+    protected void tearDown() {
+        array.close();
+    }
+
+    @Benchmark
+    public List<? super Object> toList() {
+        return V8ObjectUtils.toList(array);
+    }
+
+    @Benchmark
+    public Object readValue() {
+        return V8ValueReader.read(array);
+    }
+
+    @Benchmark
+    public void toV8Array() {
+        V8ObjectUtils.toV8Array(v8, list).close();
+    }
+
+    @Benchmark
+    public void writeValue() {
+        ((Releasable) V8ValueWriter.write(v8, list)).close();
+    }
+
+    @Benchmark
+    public void parseJSON() {
+        V8Object result = v8.parseJSON(json);
+        result.close();
+    }
+
+    @Benchmark
+    public ByteBuffer toJSON() {
+        return array.toJSON();
+    }
+
+}
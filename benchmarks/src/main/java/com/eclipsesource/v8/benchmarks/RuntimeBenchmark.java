@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8SnapshotCreator;
+import com.eclipsesource.v8.utils.V8RuntimePool;
+
+/**
+ * Measures the cost of obtaining a runtime: from scratch, from a startup
+ * snapshot, and from a warm {@link V8RuntimePool}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuntimeBenchmark {
+
+    private static final String SETUP = "var config = {}; for (var i = 0; i < 1000; i++) { config['key' + i] = i; }";
+
+    private byte[]              snapshot;
+    private V8RuntimePool       pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        snapshot = new V8SnapshotCreator().addScript(SETUP).createSnapshot();
+        pool = new V8RuntimePool(1, 1).addWarmupScript(SETUP);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    public void createRuntime() {
+        V8 runtime = V8.createV8Runtime();
+        runtime.executeVoidScript(SETUP);
+        runtime.close();
+    }
+
+    @Benchmark
+    public void createRuntimeFromSnapshot() {
+        V8.createV8Runtime(snapshot).close();
+    }
+
+    @Benchmark
+    public void checkoutFromPool() throws InterruptedException {
+        pool.checkin(pool.checkout());
+    }
+
+}
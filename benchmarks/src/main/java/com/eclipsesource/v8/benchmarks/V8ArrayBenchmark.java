@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import com.eclipsesource.v8.V8Array;
+
+/**
+ * Compares reading array elements one at a time with the bulk getters.
+ */
+public class V8ArrayBenchmark extends V8Benchmark {
+
+    @Param({ "10", "1000" })
+    private int      length;
+
+    private V8Array  integers;
+    private V8Array  doubles;
+    private int[]    integerBuffer;
+    private double[] doubleBuffer;
+
+    @Override
+    protected void setup() {
+        integers = v8.executeArrayScript("Array.from({length: " + length + "}, function(v, i) { return i; })");
+        doubles = v8.executeArrayScript("Array.from({length: " + length + "}, function(v, i) { return i + 0.5; })");
+        integerBuffer = new int[length];
+        doubleBuffer = new double[length];
+    }
+
+    @Override
+    protected void tearDown() {
+        integers.close();
+        doubles.close();
+    }
+
+    @Benchmark
+    public int getIntegerLoop() {
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += integers.getInteger(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int[] getIntegersBulk() {
+        integers.getIntegers(0, length, integerBuffer);
+        return integerBuffer;
+    }
+
+    @Benchmark
+    public double getDoubleLoop() {
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += doubles.getDouble(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double[] getDoublesBulk() {
+        doubles.getDoubles(0, length, doubleBuffer);
+        return doubleBuffer;
+    }
+
+}
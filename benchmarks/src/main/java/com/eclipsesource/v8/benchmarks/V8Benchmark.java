@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eclipsesource.v8.V8;
+
+/**
+ * Base class for benchmarks that run against a single runtime.
+ *
+ * The state is scoped to the benchmark thread and the runtime is created
+ * in the trial setup, which JMH runs on that same thread. This keeps the
+ * runtime's thread checks satisfied without any locker juggling.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class V8Benchmark {
+
+    protected V8 v8;
+
+    @Setup(Level.Trial)
+    public void setupRuntime() {
+        v8 = V8.createV8Runtime();
+        setup();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownRuntime() {
+        try {
+            tearDown();
+        } finally {
+            v8.release(false);
+        }
+    }
+
+    /**
+     * Called once the runtime has been created. Subclasses create the
+     * values they operate on here.
+     */
+    protected void setup() {
+    }
+
+    /**
+     * Called before the runtime is released. Subclasses release the
+     * values they created in {@link #setup()} here.
+     */
+    protected void tearDown() {
+    }
+
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import com.eclipsesource.v8.V8Key;
+import com.eclipsesource.v8.V8Object;
+
+/**
+ * Compares per-property access by name, by {@link V8Key} and in bulk
+ * on an object with a typical number of fields.
+ */
+public class V8ObjectBenchmark extends V8Benchmark {
+
+    private static final int FIELDS = 30;
+
+    private V8Object         object;
+    private String[]         names;
+    private V8Key[]          keys;
+    private int[]            types;
+    private Object[]         values;
+
+    @Override
+    protected void setup() {
+        names = new String[FIELDS];
+        keys = new V8Key[FIELDS];
+        types = new int[FIELDS];
+        values = new Object[FIELDS];
+        object = new V8Object(v8);
+        for (int i = 0; i < FIELDS; i++) {
+            names[i] = "field" + i;
+            keys[i] = v8.createKey(names[i]);
+            values[i] = i;
+            object.add(names[i], i);
+        }
+    }
+
+    @Override
+    protected void tearDown() {
+        object.close();
+        for (V8Key key : keys) {
+            key.close();
+        }
+    }
+
+    @Benchmark
+    public int getIntegerByName() {
+        return object.getInteger(names[0]);
+    }
+
+    @Benchmark
+    public int getIntegerByKey() {
+        return object.getInteger(keys[0]);
+    }
+
+    @Benchmark
+    public V8Object addByName() {
+        return object.add(names[0], 42);
+    }
+
+    @Benchmark
+    public V8Object addByKey() {
+        return object.add(keys[0], 42);
+    }
+
+    @Benchmark
+    public int getAllByName() {
+        int sum = 0;
+        for (int i = 0; i < FIELDS; i++) {
+            sum += object.getInteger(names[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int getAllByKey() {
+        int sum = 0;
+        for (int i = 0; i < FIELDS; i++) {
+            sum += object.getInteger(keys[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Object[] getAllBulk() {
+        object.getValues(names, types, values);
+        return values;
+    }
+
+    @Benchmark
+    public V8Object addAllByName() {
+        for (int i = 0; i < FIELDS; i++) {
+            object.add(names[i], i);
+        }
+        return object;
+    }
+
+    @Benchmark
+    public V8Object addAllBulk() {
+        return object.setValues(names, values);
+    }
+
+}
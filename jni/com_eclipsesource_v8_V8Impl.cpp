@@ -13,10 +13,14 @@
 #include <iostream>
 #include <v8.h>
 #include <v8-inspector.h>
+#include <v8-profiler.h>
 #include <functional>
 #include <string.h>
 #include <map>
+#include <algorithm>
+#include <vector>
 #include <cstdlib>
+#include <memory>
 #include "com_eclipsesource_v8_V8Impl.h"
 
 #define TAG "J2V8_V8Impl"
@@ -52,6 +56,7 @@ class MethodDescriptor {
 public:
   jlong methodID;
   jlong v8RuntimePtr;
+  jint returnType;
   Persistent<External> obj;
 };
 
@@ -194,17 +199,116 @@ public:
   void waitFrontendMessage();
 };
 
+/*
+ * The persistent handles backing V8Values. Handles are taken from slabs
+ * owned by the runtime and recycled through a free list, so creating and
+ * releasing a V8Value does not allocate. The handle passed to Java is the
+ * address of the slot, which stays valid as slabs are never moved.
+ */
+class HandleTable {
+public:
+  HandleTable() : freeSlots(nullptr) {
+  }
+
+  ~HandleTable() {
+    for (Slot* slab : slabs) {
+      delete[] slab;
+    }
+  }
+
+  Persistent<Object>* allocate() {
+    if (freeSlots == nullptr) {
+      grow();
+    }
+    Slot* slot = freeSlots;
+    freeSlots = slot->nextFree;
+    slot->nextFree = nullptr;
+    slot->live = true;
+    return &slot->handle;
+  }
+
+  void release(Persistent<Object>* handle) {
+    Slot* slot = reinterpret_cast<Slot*>(handle);
+    slot->handle.Reset();
+    slot->live = false;
+    slot->nextFree = freeSlots;
+    freeSlots = slot;
+  }
+
+  // Resets the handles that were never released, before the isolate goes away
+  void releaseAll() {
+    for (Slot* slab : slabs) {
+      for (int i = 0; i < SLAB_SIZE; i++) {
+        if (slab[i].live) {
+          slab[i].handle.Reset();
+          slab[i].live = false;
+        }
+      }
+    }
+  }
+
+private:
+  static const int SLAB_SIZE = 256;
+
+  struct Slot {
+    Persistent<Object> handle;
+    Slot* nextFree;
+    bool live;
+  };
+
+  void grow() {
+    Slot* slab = new Slot[SLAB_SIZE];
+    slabs.push_back(slab);
+    for (int i = SLAB_SIZE - 1; i >= 0; i--) {
+      slab[i].live = false;
+      slab[i].nextFree = freeSlots;
+      freeSlots = &slab[i];
+    }
+  }
+
+  std::vector<Slot*> slabs;
+  Slot* freeSlots;
+};
+
 class V8Runtime {
 public:
   Isolate* isolate;
   Persistent<Context> context_;
   Persistent<Object>* globalObject;
+  HandleTable handles;
   Locker* locker;
   jobject v8;
   jthrowable pendingException;
   V8Inspector* inspector;
+  StartupData* snapshotBlob;
+  char* callbackArguments;
+  int callbackDepth;
+  size_t stackSize;
+  bool heapLimitExceeded;
+  CpuProfiler* cpuProfiler;
 };
 
+// The extra heap given to a script that reached the heap limit, so that it
+// can unwind after being terminated
+const size_t HEAP_LIMIT_HEADROOM = 8 * 1024 * 1024;
+
+size_t nearHeapLimit(void* data, size_t currentHeapLimit, size_t) {
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(data);
+  runtime->heapLimitExceeded = true;
+  runtime->isolate->TerminateExecution();
+  return currentHeapLimit + std::max(currentHeapLimit / 8, HEAP_LIMIT_HEADROOM);
+}
+
+// The stack limit is per thread, so it is set whenever a thread enters the isolate
+void setStackLimit(V8Runtime* runtime) {
+  if (runtime->stackSize == 0) {
+    return;
+  }
+  uintptr_t stackPosition = reinterpret_cast<uintptr_t>(&stackPosition);
+  uintptr_t stackLimit = stackPosition > runtime->stackSize ? stackPosition - runtime->stackSize : 0;
+  runtime->isolate->SetStackLimit(stackLimit);
+}
+
 std::unique_ptr<v8::Platform> v8Platform = nullptr;
 
 const char* ToCString(const String::Utf8Value& value) {
@@ -227,6 +331,8 @@ jclass v8ScriptCompilationCls = nullptr;
 jclass v8ScriptExecutionException = nullptr;
 jclass v8RuntimeExceptionCls = nullptr;
 jclass throwableCls = nullptr;
+jclass objectCls = nullptr;
+jclass outputStreamCls = nullptr;
 jclass stringCls = nullptr;
 jclass integerCls = nullptr;
 jclass doubleCls = nullptr;
@@ -241,6 +347,9 @@ jmethodID v8CallVoidMethodID = nullptr;
 jmethodID v8ObjectReleaseMethodID = nullptr;
 jmethodID v8DisposeMethodID = nullptr;
 jmethodID v8WeakReferenceReleased = nullptr;
+jmethodID v8RunInterruptsMethodID = nullptr;
+jmethodID v8HeapStatisticsUpdatedMethodID = nullptr;
+jmethodID outputStreamWriteMethodID = nullptr;
 jmethodID v8ArrayReleaseMethodID = nullptr;
 jmethodID v8ObjectIsUndefinedMethodID = nullptr;
 jmethodID v8ObjectGetHandleMethodID = nullptr;
@@ -249,6 +358,11 @@ jmethodID integerIntValueMethodID = nullptr;
 jmethodID booleanBoolValueMethodID = nullptr;
 jmethodID doubleDoubleValueMethodID = nullptr;
 jmethodID v8CallObjectJavaMethodMethodID = nullptr;
+jmethodID v8CallFastJavaMethodMethodID = nullptr;
+jmethodID v8CallIntJavaMethodMethodID = nullptr;
+jmethodID v8CallDoubleJavaMethodMethodID = nullptr;
+jmethodID v8CallBooleanJavaMethodMethodID = nullptr;
+jmethodID v8CallStringJavaMethodMethodID = nullptr;
 jmethodID v8ScriptCompilationInitMethodID = nullptr;
 jmethodID v8ScriptExecutionExceptionInitMethodID = nullptr;
 jmethodID undefinedV8ArrayInitMethodID = nullptr;
@@ -264,6 +378,7 @@ jmethodID v8InspectorDelegateWaitFrontendMessageMethodID = nullptr;
 
 void throwParseException(JNIEnv *env, const Local<Context>& context, Isolate* isolate, TryCatch* tryCatch);
 void throwExecutionException(JNIEnv *env, const Local<Context>& context, Isolate* isolate, TryCatch* tryCatch, jlong v8RuntimePtr);
+void throwHeapLimitException(JNIEnv *env, jlong v8RuntimePtr);
 void throwError(JNIEnv *env, const char *message);
 void disposeMethod(v8::WeakCallbackInfo<MethodDescriptor> const& data);
 void weakReferenceReleased(v8::WeakCallbackInfo<WeakReferenceDescriptor> const& data);
@@ -271,6 +386,8 @@ void throwV8RuntimeException(JNIEnv *env,  String::Value *message);
 void throwResultUndefinedException(JNIEnv *env, const char *message);
 Isolate* getIsolate(JNIEnv *env, jlong handle);
 int getType(Handle<Value> v8Value);
+bool compileScript(const Local<Context>& context, Isolate *isolate, jstring &jscript, JNIEnv *env, jstring jscriptName, jint &jlineNumber, Local<Script> &script, TryCatch* tryCatch);
+bool runScript(const Local<Context>& context, Isolate* isolate, JNIEnv *env, Local<Script> *script, TryCatch* tryCatch, jlong v8RuntimePtr);
 jobject getResult(JNIEnv *env, const Local<Context>& context, jobject &v8, jlong v8RuntimePtr, Handle<Value> &result, jint expectedType);
 
 #define SETUP(env, v8RuntimePtr, errorReturnResult) getIsolate(env, v8RuntimePtr);\
@@ -358,6 +475,18 @@ Handle<Value> getValueWithKey(JNIEnv* env, const Local<Context>& context, Isolat
   return object->Get(context, v8Key).ToLocalChecked();
 }
 
+Handle<Value> getValueWithKeyHandle(const Local<Context>& context, Isolate* isolate, jlong &objectHandle, jlong &keyHandle) {
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<PersistentBase<Object>*>(objectHandle));
+  Local<String> v8Key = Local<String>::New(isolate, *reinterpret_cast<Persistent<String>*>(keyHandle));
+  return object->Get(context, v8Key).ToLocalChecked();
+}
+
+void addValueWithKeyHandle(const Local<Context>& context, Isolate* isolate, jlong &objectHandle, jlong &keyHandle, Handle<Value> value) {
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<PersistentBase<Object>*>(objectHandle));
+  Local<String> v8Key = Local<String>::New(isolate, *reinterpret_cast<Persistent<String>*>(keyHandle));
+  object->Set(context, v8Key, value);
+}
+
 void addValueWithKey(JNIEnv* env, const Local<Context> context, Isolate* isolate, jlong &v8RuntimePtr, jlong &objectHandle, jstring &key, Handle<Value> value) {
   Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<PersistentBase<Object>*>(objectHandle));
   const uint16_t* unicodeString_key = env->GetStringChars(key, NULL);
@@ -385,6 +514,56 @@ void getJNIEnv(JNIEnv*& env) {
   }
 }
 
+void collectHeapStatistics(JNIEnv* env, Isolate* isolate, jlongArray result) {
+  HeapStatistics heapStatistics;
+  isolate->GetHeapStatistics(&heapStatistics);
+  // in the order of the constants in V8HeapStatistics
+  jsize length = env->GetArrayLength(result);
+  std::vector<jlong> values(length);
+  values[0] = heapStatistics.total_heap_size();
+  values[1] = heapStatistics.total_heap_size_executable();
+  values[2] = heapStatistics.total_physical_size();
+  values[3] = heapStatistics.total_available_size();
+  values[4] = heapStatistics.used_heap_size();
+  values[5] = heapStatistics.heap_size_limit();
+  values[6] = heapStatistics.malloced_memory();
+  values[7] = heapStatistics.peak_malloced_memory();
+  values[8] = heapStatistics.external_memory();
+  values[9] = heapStatistics.total_global_handles_size();
+  values[10] = heapStatistics.used_global_handles_size();
+  HeapSpaceStatistics spaceStatistics;
+  for (jsize i = 11, space = 0; i + 3 < length; i += 4, space++) {
+    isolate->GetHeapSpaceStatistics(&spaceStatistics, space);
+    values[i] = spaceStatistics.space_size();
+    values[i + 1] = spaceStatistics.space_used_size();
+    values[i + 2] = spaceStatistics.space_available_size();
+    values[i + 3] = spaceStatistics.physical_space_size();
+  }
+  env->SetLongArrayRegion(result, 0, length, values.data());
+}
+
+// Garbage collections run on the thread that holds the lock, so the end of
+// each collection is where a fresh snapshot of the heap statistics is taken
+// for threads that poll the runtime while scripts are executing.
+void heapStatisticsEpilogue(Isolate* isolate, GCType, GCCallbackFlags, void* data) {
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(data);
+  JNIEnv* env;
+  getJNIEnv(env);
+  if (env->ExceptionCheck()) {
+    // a Java exception is on its way back to the script
+    return;
+  }
+  jsize length = static_cast<jsize>(11 + (isolate->NumberOfHeapSpaces() * 4));
+  jlongArray values = env->NewLongArray(length);
+  if (values != nullptr) {
+    collectHeapStatistics(env, isolate, values);
+    env->CallVoidMethod(runtime->v8, v8HeapStatisticsUpdatedMethodID, values);
+    env->DeleteLocalRef(values);
+  }
+  // the snapshot is best effort, a failure must not reach the script
+  env->ExceptionClear();
+}
+
 static void jsWindowObjectAccessor(Local<String> property,
   const PropertyCallbackInfo<Value>& info) {
   info.GetReturnValue().Set(info.GetIsolate()->GetCurrentContext()->Global());
@@ -427,6 +606,8 @@ JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void*) {
     v8FunctionCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Function"));
     undefinedV8ObjectCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Object$Undefined"));
     undefinedV8ArrayCls = (jclass)env->NewGlobalRef((env)->FindClass("com/eclipsesource/v8/V8Array$Undefined"));
+    objectCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/Object"));
+    outputStreamCls = (jclass)env->NewGlobalRef((env)->FindClass("java/io/OutputStream"));
     stringCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/String"));
     integerCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/Integer"));
     doubleCls = (jclass)env->NewGlobalRef((env)->FindClass("java/lang/Double"));
@@ -454,8 +635,16 @@ JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void*) {
     booleanBoolValueMethodID = env->GetMethodID(booleanCls, "booleanValue", "()Z");
     doubleDoubleValueMethodID = env->GetMethodID(doubleCls, "doubleValue", "()D");
     v8CallObjectJavaMethodMethodID = (env)->GetMethodID(v8cls, "callObjectJavaMethod", "(JLcom/eclipsesource/v8/V8Object;Lcom/eclipsesource/v8/V8Array;)Ljava/lang/Object;");
+    v8CallFastJavaMethodMethodID = (env)->GetMethodID(v8cls, "callFastJavaMethod", "(JJII)Ljava/lang/Object;");
+    v8CallIntJavaMethodMethodID = (env)->GetMethodID(v8cls, "callIntJavaMethod", "(JJII)I");
+    v8CallDoubleJavaMethodMethodID = (env)->GetMethodID(v8cls, "callDoubleJavaMethod", "(JJII)D");
+    v8CallBooleanJavaMethodMethodID = (env)->GetMethodID(v8cls, "callBooleanJavaMethod", "(JJII)Z");
+    v8CallStringJavaMethodMethodID = (env)->GetMethodID(v8cls, "callStringJavaMethod", "(JJII)Ljava/lang/String;");
     v8DisposeMethodID = (env)->GetMethodID(v8cls, "disposeMethodID", "(J)V");
     v8WeakReferenceReleased = (env)->GetMethodID(v8cls, "weakReferenceReleased", "(J)V");
+    v8RunInterruptsMethodID = (env)->GetMethodID(v8cls, "runInterrupts", "()V");
+    v8HeapStatisticsUpdatedMethodID = (env)->GetMethodID(v8cls, "heapStatisticsUpdated", "([J)V");
+    outputStreamWriteMethodID = env->GetMethodID(outputStreamCls, "write", "([BII)V");
     v8ScriptCompilationInitMethodID = env->GetMethodID(v8ScriptCompilationCls, "<init>", "(Ljava/lang/String;ILjava/lang/String;Ljava/lang/String;II)V");
     v8ScriptExecutionExceptionInitMethodID = env->GetMethodID(v8ScriptExecutionException, "<init>", "(Ljava/lang/String;ILjava/lang/String;Ljava/lang/String;IILjava/lang/String;Ljava/lang/Throwable;)V");
     undefinedV8ArrayInitMethodID = env->GetMethodID(undefinedV8ArrayCls, "<init>", "()V");
@@ -524,13 +713,53 @@ JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1isNodeCompatible
 }
 
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createIsolate
- (JNIEnv *env, jobject v8, jstring globalAlias) {
+ (JNIEnv *env, jobject v8, jstring globalAlias, jbyteArray snapshotBlob, jlong maxOldGenerationSize, jlong maxYoungGenerationSize,
+  jlong initialOldGenerationSize, jlong initialYoungGenerationSize, jlong stackSize) {
     V8Runtime* runtime = new V8Runtime();
+    runtime->snapshotBlob = nullptr;
+    runtime->callbackArguments = nullptr;
+    runtime->callbackDepth = 0;
+    runtime->stackSize = static_cast<size_t>(stackSize);
+    runtime->heapLimitExceeded = false;
+    runtime->cpuProfiler = nullptr;
     v8::Isolate::CreateParams create_params;
     create_params.array_buffer_allocator = v8::ArrayBuffer::Allocator::NewDefaultAllocator();
+    if (maxOldGenerationSize > 0) {
+      create_params.constraints.set_max_old_generation_size_in_bytes(static_cast<size_t>(maxOldGenerationSize));
+    }
+    if (maxYoungGenerationSize > 0) {
+      create_params.constraints.set_max_young_generation_size_in_bytes(static_cast<size_t>(maxYoungGenerationSize));
+    }
+    if (initialOldGenerationSize > 0) {
+      create_params.constraints.set_initial_old_generation_size_in_bytes(static_cast<size_t>(initialOldGenerationSize));
+    }
+    if (initialYoungGenerationSize > 0) {
+      create_params.constraints.set_initial_young_generation_size_in_bytes(static_cast<size_t>(initialYoungGenerationSize));
+    }
+    if (snapshotBlob != nullptr) {
+      // V8 reads from the blob for the lifetime of the isolate, so keep a copy
+      jsize length = env->GetArrayLength(snapshotBlob);
+      char* data = new char[length];
+      env->GetByteArrayRegion(snapshotBlob, 0, length, reinterpret_cast<jbyte*>(data));
+      runtime->snapshotBlob = new StartupData();
+      runtime->snapshotBlob->data = data;
+      runtime->snapshotBlob->raw_size = length;
+      if (!runtime->snapshotBlob->IsValid()) {
+        delete[] data;
+        delete(runtime->snapshotBlob);
+        delete(runtime);
+        env->ThrowNew(v8RuntimeExceptionCls, "Invalid snapshot");
+        return 0;
+      }
+      create_params.snapshot_blob = runtime->snapshotBlob;
+    }
     runtime->isolate = v8::Isolate::New(create_params);
+    // terminate scripts that exhaust the heap, rather than aborting the process
+    runtime->isolate->AddNearHeapLimitCallback(nearHeapLimit, runtime);
+    runtime->isolate->AutomaticallyRestoreInitialHeapLimit();
     Locker locker(runtime->isolate);
     v8::Isolate::Scope isolate_scope(runtime->isolate);
+    setStackLimit(runtime);
     runtime->v8 = env->NewGlobalRef(v8);
     runtime->pendingException = nullptr;
     HandleScope handle_scope(runtime->isolate);
@@ -538,7 +767,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createIsolate
     if (globalAlias == nullptr) {
       Handle<Context> context = Context::New(runtime->isolate, nullptr, globalObject);
       runtime->context_.Reset(runtime->isolate, context);
-      runtime->globalObject = new Persistent<Object>;
+      runtime->globalObject = runtime->handles.allocate();
       runtime->globalObject->Reset(runtime->isolate, context->Global()->GetPrototype()->ToObject(context).ToLocalChecked());
     }
     else {
@@ -546,12 +775,58 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createIsolate
       globalObject->SetAccessor(utfAlias, jsWindowObjectAccessor);
       Handle<Context> context = Context::New(runtime->isolate, nullptr, globalObject);
       runtime->context_.Reset(runtime->isolate, context);
-      runtime->globalObject = new Persistent<Object>;
+      runtime->globalObject = runtime->handles.allocate();
       runtime->globalObject->Reset(runtime->isolate, context->Global()->GetPrototype()->ToObject(context).ToLocalChecked());
     }
+    runtime->isolate->AddGCEpilogueCallback(heapStatisticsEpilogue, runtime);
     return reinterpret_cast<jlong>(runtime);
 }
 
+JNIEXPORT jbyteArray JNICALL Java_com_eclipsesource_v8_V8__1createSnapshot
+ (JNIEnv *env, jclass, jobjectArray jscripts, jobjectArray jscriptNames) {
+    SnapshotCreator creator;
+    Isolate* isolate = creator.GetIsolate();
+    // only used to report script errors, the isolate is owned by the creator
+    V8Runtime runtime;
+    runtime.isolate = isolate;
+    runtime.pendingException = nullptr;
+    runtime.callbackDepth = 0;
+    runtime.heapLimitExceeded = false;
+    bool success = true;
+    {
+      HandleScope handle_scope(isolate);
+      Local<Context> context = Context::New(isolate);
+      {
+        Context::Scope context_scope(context);
+        TryCatch tryCatch(isolate);
+        jsize length = env->GetArrayLength(jscripts);
+        for (jsize i = 0; success && i < length; i++) {
+          jstring jscript = static_cast<jstring>(env->GetObjectArrayElement(jscripts, i));
+          jstring jscriptName = static_cast<jstring>(env->GetObjectArrayElement(jscriptNames, i));
+          jint lineNumber = 0;
+          Local<Script> script;
+          success = compileScript(context, isolate, jscript, env, jscriptName, lineNumber, script, &tryCatch)
+              && runScript(context, isolate, env, &script, &tryCatch, reinterpret_cast<jlong>(&runtime));
+          env->DeleteLocalRef(jscript);
+          if (jscriptName != nullptr) {
+            env->DeleteLocalRef(jscriptName);
+          }
+        }
+      }
+      // the creator cannot be disposed without creating a blob, even on failure
+      creator.SetDefaultContext(context);
+    }
+    StartupData blob = creator.CreateBlob(SnapshotCreator::FunctionCodeHandling::kKeep);
+    if (!success || (blob.data == nullptr)) {
+      delete[] blob.data;
+      return nullptr;
+    }
+    jbyteArray result = env->NewByteArray(blob.raw_size);
+    env->SetByteArrayRegion(result, 0, blob.raw_size, reinterpret_cast<const jbyte*>(blob.data));
+    delete[] blob.data;
+    return result;
+}
+
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createInspector
   (JNIEnv *env, jobject, jlong v8RuntimePtr, jobject inspectorDelegateObj, jstring jcontextName) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
@@ -595,6 +870,7 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1acquireLock
     return;
   }
   runtime->locker = new Locker(runtime->isolate);
+  setStackLimit(runtime);
 }
 
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseLock
@@ -617,10 +893,50 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1lowMemoryNotification
   runtime->isolate->LowMemoryNotification();
 }
 
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1getHeapSpaceNames
+  (JNIEnv *env, jobject, jlong v8RuntimePtr) {
+  Isolate* isolate = reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate;
+  size_t count = isolate->NumberOfHeapSpaces();
+  jobjectArray result = env->NewObjectArray(static_cast<jsize>(count), stringCls, nullptr);
+  HeapSpaceStatistics spaceStatistics;
+  for (size_t i = 0; i < count; i++) {
+    isolate->GetHeapSpaceStatistics(&spaceStatistics, i);
+    jstring name = env->NewStringUTF(spaceStatistics.space_name());
+    env->SetObjectArrayElement(result, static_cast<jsize>(i), name);
+    env->DeleteLocalRef(name);
+  }
+  return result;
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getHeapStatistics
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlongArray result) {
+  // Reading the statistics walks the contexts of the isolate, so this needs
+  // the lock. Other threads read the snapshot published by the Java side.
+  Isolate* isolate = SETUP(env, v8RuntimePtr, )
+  collectHeapStatistics(env, isolate, result);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getHeapCodeStatistics
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlongArray result) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, )
+  HeapCodeStatistics codeStatistics;
+  HeapStatistics heapStatistics;
+  isolate->GetHeapCodeAndMetadataStatistics(&codeStatistics);
+  isolate->GetHeapStatistics(&heapStatistics);
+  // in the order of the constants in V8HeapCodeStatistics
+  jlong values[5];
+  values[0] = codeStatistics.code_and_metadata_size();
+  values[1] = codeStatistics.bytecode_and_metadata_size();
+  values[2] = codeStatistics.external_script_source_size();
+  values[3] = heapStatistics.number_of_native_contexts();
+  values[4] = heapStatistics.number_of_detached_contexts();
+  env->SetLongArrayRegion(result, 0, 5, values);
+}
+
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initEmptyContainer
 (JNIEnv *env, jobject, jlong v8RuntimePtr) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   return reinterpret_cast<jlong>(container);
 }
 
@@ -628,7 +944,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Object
 (JNIEnv *env, jobject, jlong v8RuntimePtr) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   Local<Object> obj = Object::New(isolate);
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, obj);
   return reinterpret_cast<jlong>(container);
 }
@@ -650,7 +966,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Array
 (JNIEnv *env, jobject, jlong v8RuntimePtr) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   Local<Array> array = Array::New(isolate);
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
 }
@@ -660,7 +976,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Int8Array
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
   Local<Int8Array> array = Int8Array::New(arrayBuffer, static_cast<size_t>(offset), static_cast<size_t>(length));
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
 }
@@ -670,7 +986,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt8Array
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
   Local<Uint8Array> array = Uint8Array::New(arrayBuffer, static_cast<size_t>(offset), static_cast<size_t>(length));
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
 }
@@ -680,7 +996,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt8ClampedArra
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
   Local<Uint8ClampedArray> array = Uint8ClampedArray::New(arrayBuffer, static_cast<size_t>(offset), static_cast<size_t>(length));
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
 }
@@ -690,7 +1006,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Int32Array
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
   Local<Int32Array> array = Int32Array::New(arrayBuffer, static_cast<size_t>(offset), static_cast<size_t>(length));
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
 }
@@ -700,7 +1016,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt32Array
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
   Local<Uint32Array> array = Uint32Array::New(arrayBuffer, static_cast<size_t>(offset), static_cast<size_t>(length));
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
 }
@@ -710,7 +1026,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8UInt16Array
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
   Local<Uint16Array> array = Uint16Array::New(arrayBuffer, static_cast<size_t>(offset), static_cast<size_t>(length));
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
 }
@@ -720,7 +1036,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Int16Array
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
   Local<Int16Array> array = Int16Array::New(arrayBuffer, static_cast<size_t>(offset), static_cast<size_t>(length));
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
 }
@@ -730,7 +1046,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Float32Array
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
   Local<Float32Array> array = Float32Array::New(arrayBuffer, static_cast<size_t>(offset), static_cast<size_t>(length));
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
 }
@@ -740,7 +1056,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Float64Array
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   Handle<ArrayBuffer> arrayBuffer = Local<ArrayBuffer>::New(isolate, *reinterpret_cast<Persistent<ArrayBuffer>*>(bufferHandle));
   Local<Float64Array> array = Float64Array::New(arrayBuffer, static_cast<size_t>(offset), static_cast<size_t>(length));
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, array);
   return reinterpret_cast<jlong>(container);
 }
@@ -750,7 +1066,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8ArrayBuffer__JI
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
   std::unique_ptr<v8::BackingStore> backing_store = v8::ArrayBuffer::NewBackingStore(isolate, static_cast<size_t>(capacity));
   Local<ArrayBuffer> arrayBuffer = ArrayBuffer::New(isolate, std::move(backing_store));
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, arrayBuffer);
   return reinterpret_cast<jlong>(container);
 }
@@ -765,7 +1081,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1initNewV8ArrayBuffer__JLj
     nullptr
   );
   Local<ArrayBuffer> arrayBuffer = ArrayBuffer::New(isolate, std::move(backing_store));
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, arrayBuffer);
   return reinterpret_cast<jlong>(container);
 }
@@ -784,11 +1100,21 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1release
   if (v8RuntimePtr == 0) {
     return;
   }
-  Isolate* isolate = getIsolate(env, v8RuntimePtr);
-  Locker locker(isolate);
-  HandleScope handle_scope(isolate);
-  reinterpret_cast<Persistent<Object>*>(objectHandle)->Reset();
-  delete(reinterpret_cast<Persistent<Object>*>(objectHandle));
+  // the calling thread holds the lock of the runtime
+  reinterpret_cast<V8Runtime*>(v8RuntimePtr)->handles.release(reinterpret_cast<Persistent<Object>*>(objectHandle));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseHandles
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlongArray objectHandles, jint length) {
+  if (v8RuntimePtr == 0) {
+    return;
+  }
+  HandleTable& handles = reinterpret_cast<V8Runtime*>(v8RuntimePtr)->handles;
+  jlong* elements = env->GetLongArrayElements(objectHandles, nullptr);
+  for (jint i = 0; i < length; i++) {
+    handles.release(reinterpret_cast<Persistent<Object>*>(elements[i]));
+  }
+  env->ReleaseLongArrayElements(objectHandles, elements, JNI_ABORT);
 }
 
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1terminateExecution
@@ -801,16 +1127,263 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1terminateExecution
 	return;
 }
 
+void runInterrupts(Isolate* isolate, void* data) {
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(data);
+  JNIEnv* env;
+  getJNIEnv(env);
+  HandleScope handle_scope(isolate);
+  env->CallVoidMethod(runtime->v8, v8RunInterruptsMethodID);
+  // the script resumes after the interrupt, so nothing may be left pending
+  env->ExceptionClear();
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1requestInterrupt
+  (JNIEnv * env, jobject, jlong v8RuntimePtr) {
+  if (v8RuntimePtr == 0) {
+    return;
+  }
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  isolate->RequestInterrupt(runInterrupts, reinterpret_cast<void*>(v8RuntimePtr));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1runMicrotasks
+  (JNIEnv *env, jobject, jlong v8RuntimePtr) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  isolate->PerformMicrotaskCheckpoint();
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setMicrotasksPolicy
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jint policy) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  isolate->SetMicrotasksPolicy(policy == com_eclipsesource_v8_V8_MICROTASKS_EXPLICIT ? MicrotasksPolicy::kExplicit : MicrotasksPolicy::kAuto);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1cancelTerminateExecution
+  (JNIEnv * env, jobject, jlong v8RuntimePtr) {
+  if (v8RuntimePtr == 0) {
+    return;
+  }
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  isolate->CancelTerminateExecution();
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1startCpuProfiling
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jstring title, jint samplingInterval) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  if (runtime->cpuProfiler == nullptr) {
+    runtime->cpuProfiler = CpuProfiler::New(isolate);
+  }
+  CpuProfilingOptions options(kLeafNodeLineNumbers, CpuProfilingOptions::kNoSampleLimit, samplingInterval);
+  runtime->cpuProfiler->StartProfiling(createV8String(env, isolate, title), options);
+}
+
+jstring createJavaString(JNIEnv *env, Isolate *isolate, Local<String> string) {
+  String::Value unicodeString(isolate, string);
+  return env->NewString(*unicodeString, unicodeString.length());
+}
+
+void collectProfileNodes(const CpuProfileNode* node, std::vector<const CpuProfileNode*>& nodes) {
+  nodes.push_back(node);
+  int childrenCount = node->GetChildrenCount();
+  for (int i = 0; i < childrenCount; i++) {
+    collectProfileNodes(node->GetChild(i), nodes);
+  }
+}
+
+// Returns the profile in the layout read by V8CpuProfile:
+// {long[] {startTime, endTime}, int[] nodes, String[] functionNames, String[] urls, int[] samples, long[] timestamps}
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1stopCpuProfiling
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jstring title) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr);
+  if (runtime->cpuProfiler == nullptr) {
+    return nullptr;
+  }
+  CpuProfile* profile = runtime->cpuProfiler->StopProfiling(createV8String(env, isolate, title));
+  if (profile == nullptr) {
+    return nullptr;
+  }
+  std::vector<const CpuProfileNode*> nodes;
+  collectProfileNodes(profile->GetTopDownRoot(), nodes);
+  jsize nodeCount = static_cast<jsize>(nodes.size());
+  std::vector<jint> nodeData(nodes.size() * 6);
+  jobjectArray functionNames = env->NewObjectArray(nodeCount, stringCls, nullptr);
+  jobjectArray urls = env->NewObjectArray(nodeCount, stringCls, nullptr);
+  for (jsize i = 0; i < nodeCount; i++) {
+    const CpuProfileNode* node = nodes[i];
+    const CpuProfileNode* parent = node->GetParent();
+    // in the order of the constants in V8CpuProfile
+    nodeData[i * 6] = static_cast<jint>(node->GetNodeId());
+    nodeData[i * 6 + 1] = parent == nullptr ? 0 : static_cast<jint>(parent->GetNodeId());
+    nodeData[i * 6 + 2] = static_cast<jint>(node->GetHitCount());
+    nodeData[i * 6 + 3] = node->GetLineNumber();
+    nodeData[i * 6 + 4] = node->GetColumnNumber();
+    nodeData[i * 6 + 5] = node->GetScriptId();
+    jstring functionName = createJavaString(env, isolate, node->GetFunctionName());
+    env->SetObjectArrayElement(functionNames, i, functionName);
+    env->DeleteLocalRef(functionName);
+    jstring url = createJavaString(env, isolate, node->GetScriptResourceName());
+    env->SetObjectArrayElement(urls, i, url);
+    env->DeleteLocalRef(url);
+  }
+  jsize sampleCount = static_cast<jsize>(profile->GetSamplesCount());
+  std::vector<jint> samples(sampleCount);
+  std::vector<jlong> timestamps(sampleCount);
+  for (jsize i = 0; i < sampleCount; i++) {
+    samples[i] = static_cast<jint>(profile->GetSample(i)->GetNodeId());
+    timestamps[i] = static_cast<jlong>(profile->GetSampleTimestamp(i));
+  }
+  jlong times[2] = { static_cast<jlong>(profile->GetStartTime()), static_cast<jlong>(profile->GetEndTime()) };
+  profile->Delete();
+
+  jlongArray timesArray = env->NewLongArray(2);
+  env->SetLongArrayRegion(timesArray, 0, 2, times);
+  jintArray nodesArray = env->NewIntArray(nodeCount * 6);
+  env->SetIntArrayRegion(nodesArray, 0, nodeCount * 6, nodeData.data());
+  jintArray samplesArray = env->NewIntArray(sampleCount);
+  env->SetIntArrayRegion(samplesArray, 0, sampleCount, samples.data());
+  jlongArray timestampsArray = env->NewLongArray(sampleCount);
+  env->SetLongArrayRegion(timestampsArray, 0, sampleCount, timestamps.data());
+  jobjectArray result = env->NewObjectArray(6, objectCls, nullptr);
+  env->SetObjectArrayElement(result, 0, timesArray);
+  env->SetObjectArrayElement(result, 1, nodesArray);
+  env->SetObjectArrayElement(result, 2, functionNames);
+  env->SetObjectArrayElement(result, 3, urls);
+  env->SetObjectArrayElement(result, 4, samplesArray);
+  env->SetObjectArrayElement(result, 5, timestampsArray);
+  return result;
+}
+
+// Streams a heap snapshot to a java.io.OutputStream in chunks, so that
+// the snapshot is never held in memory as a whole
+class JavaOutputStream : public v8::OutputStream {
+public:
+  JavaOutputStream(JNIEnv* env, jobject stream) : env(env), stream(stream) {
+    buffer = env->NewByteArray(CHUNK_SIZE);
+  }
+  ~JavaOutputStream() {
+    env->DeleteLocalRef(buffer);
+  }
+  int GetChunkSize() override {
+    return CHUNK_SIZE;
+  }
+  WriteResult WriteAsciiChunk(char* data, int size) override {
+    env->SetByteArrayRegion(buffer, 0, size, reinterpret_cast<jbyte*>(data));
+    env->CallVoidMethod(stream, outputStreamWriteMethodID, buffer, 0, size);
+    // stop serializing if the stream failed, the exception is rethrown in Java
+    return env->ExceptionCheck() ? kAbort : kContinue;
+  }
+  void EndOfStream() override {
+  }
+private:
+  static const int CHUNK_SIZE = 64 * 1024;
+  JNIEnv* env;
+  jobject stream;
+  jbyteArray buffer;
+};
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1takeHeapSnapshot
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jobject stream) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  const HeapSnapshot* snapshot = isolate->GetHeapProfiler()->TakeHeapSnapshot();
+  JavaOutputStream outputStream(env, stream);
+  snapshot->Serialize(&outputStream, HeapSnapshot::kJSON);
+  const_cast<HeapSnapshot*>(snapshot)->Delete();
+}
+
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1startSamplingHeapProfiler
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong samplingInterval, jint stackDepth) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  return isolate->GetHeapProfiler()->StartSamplingHeapProfiler(static_cast<uint64_t>(samplingInterval), stackDepth);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1stopSamplingHeapProfiler
+  (JNIEnv *env, jobject, jlong v8RuntimePtr) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  isolate->GetHeapProfiler()->StopSamplingHeapProfiler();
+}
+
+void collectAllocationNodes(AllocationProfile::Node* node, int parentIndex, std::vector<AllocationProfile::Node*>& nodes, std::vector<int>& parents) {
+  int index = static_cast<int>(nodes.size());
+  nodes.push_back(node);
+  parents.push_back(parentIndex);
+  for (size_t i = 0; i < node->children.size(); i++) {
+    collectAllocationNodes(node->children[i], index, nodes, parents);
+  }
+}
+
+// Returns the profile in the layout read by V8AllocationProfile:
+// {int[] nodes, long[] sizes, String[] functionNames, String[] urls}
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1getAllocationProfile
+  (JNIEnv *env, jobject, jlong v8RuntimePtr) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr);
+  std::unique_ptr<AllocationProfile> profile(isolate->GetHeapProfiler()->GetAllocationProfile());
+  if (!profile) {
+    return nullptr;
+  }
+  std::vector<AllocationProfile::Node*> nodes;
+  std::vector<int> parents;
+  collectAllocationNodes(profile->GetRootNode(), -1, nodes, parents);
+  jsize nodeCount = static_cast<jsize>(nodes.size());
+  std::vector<jint> nodeData(nodes.size() * 4);
+  std::vector<jlong> sizes(nodes.size() * 2);
+  jobjectArray functionNames = env->NewObjectArray(nodeCount, stringCls, nullptr);
+  jobjectArray urls = env->NewObjectArray(nodeCount, stringCls, nullptr);
+  for (jsize i = 0; i < nodeCount; i++) {
+    AllocationProfile::Node* node = nodes[i];
+    // in the order of the constants in V8AllocationProfile
+    nodeData[i * 4] = parents[i];
+    nodeData[i * 4 + 1] = node->line_number;
+    nodeData[i * 4 + 2] = node->column_number;
+    nodeData[i * 4 + 3] = node->script_id;
+    jlong size = 0;
+    jlong count = 0;
+    for (size_t j = 0; j < node->allocations.size(); j++) {
+      size += static_cast<jlong>(node->allocations[j].size) * node->allocations[j].count;
+      count += node->allocations[j].count;
+    }
+    sizes[i * 2] = size;
+    sizes[i * 2 + 1] = count;
+    jstring functionName = createJavaString(env, isolate, node->name);
+    env->SetObjectArrayElement(functionNames, i, functionName);
+    env->DeleteLocalRef(functionName);
+    jstring url = createJavaString(env, isolate, node->script_name);
+    env->SetObjectArrayElement(urls, i, url);
+    env->DeleteLocalRef(url);
+  }
+  jintArray nodesArray = env->NewIntArray(nodeCount * 4);
+  env->SetIntArrayRegion(nodesArray, 0, nodeCount * 4, nodeData.data());
+  jlongArray sizesArray = env->NewLongArray(nodeCount * 2);
+  env->SetLongArrayRegion(sizesArray, 0, nodeCount * 2, sizes.data());
+  jobjectArray result = env->NewObjectArray(4, objectCls, nullptr);
+  env->SetObjectArrayElement(result, 0, nodesArray);
+  env->SetObjectArrayElement(result, 1, sizesArray);
+  env->SetObjectArrayElement(result, 2, functionNames);
+  env->SetObjectArrayElement(result, 3, urls);
+  return result;
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseRuntime
 (JNIEnv *env, jobject, jlong v8RuntimePtr) {
   if (v8RuntimePtr == 0) {
     return;
   }
   Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  isolate->RemoveGCEpilogueCallback(heapStatisticsEpilogue, reinterpret_cast<void*>(v8RuntimePtr));
+  if (reinterpret_cast<V8Runtime*>(v8RuntimePtr)->cpuProfiler != nullptr) {
+    reinterpret_cast<V8Runtime*>(v8RuntimePtr)->cpuProfiler->Dispose();
+  }
+  reinterpret_cast<V8Runtime*>(v8RuntimePtr)->handles.releaseAll();
   reinterpret_cast<V8Runtime*>(v8RuntimePtr)->context_.Reset();
   reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate->Dispose();
   env->DeleteGlobalRef(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->v8);
   V8Runtime* runtime = reinterpret_cast<V8Runtime*>(v8RuntimePtr);
+  if (runtime->snapshotBlob != nullptr) {
+    delete[] runtime->snapshotBlob->data;
+    delete(runtime->snapshotBlob);
+  }
+  if (runtime->callbackArguments != nullptr) {
+    delete[] runtime->callbackArguments;
+  }
   delete(runtime);
 }
 
@@ -892,6 +1465,222 @@ bool runScript(const Local<Context>& context, Isolate* isolate, JNIEnv *env, Loc
   return true;
 }
 
+bool runCompiledScript(const Local<Context>& context, Isolate* isolate, JNIEnv *env, jlong scriptHandle, TryCatch* tryCatch, Local<Value> &result, jlong v8RuntimePtr) {
+  Local<UnboundScript> unboundScript = Local<UnboundScript>::New(isolate, *reinterpret_cast<Persistent<UnboundScript>*>(scriptHandle));
+  Local<Script> script = unboundScript->BindToCurrentContext();
+  return runScript(context, isolate, env, &script, tryCatch, result, v8RuntimePtr);
+}
+
+JNIEXPORT jlongArray JNICALL Java_com_eclipsesource_v8_V8__1compileScript
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jstring jscript, jstring jscriptName, jint jlineNumber, jbyteArray jcachedData) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr)
+  TryCatch tryCatch(isolate);
+  Local<String> sourceString = createV8String(env, isolate, jscript);
+  ScriptCompiler::CachedData* cachedData = nullptr;
+  if (jcachedData != nullptr) {
+    int length = env->GetArrayLength(jcachedData);
+    uint8_t* buffer = new uint8_t[length];
+    env->GetByteArrayRegion(jcachedData, 0, length, reinterpret_cast<jbyte*>(buffer));
+    cachedData = new ScriptCompiler::CachedData(buffer, length, ScriptCompiler::CachedData::BufferOwned);
+  }
+  ScriptCompiler::Source* source = nullptr;
+  if (jscriptName != nullptr) {
+    ScriptOrigin* scriptOriginPtr = createScriptOrigin(env, isolate, jscriptName, jlineNumber);
+    source = new ScriptCompiler::Source(sourceString, *scriptOriginPtr, cachedData);
+    delete(scriptOriginPtr);
+  } else {
+    source = new ScriptCompiler::Source(sourceString, cachedData);
+  }
+  ScriptCompiler::CompileOptions options = cachedData != nullptr ? ScriptCompiler::kConsumeCodeCache : ScriptCompiler::kNoCompileOptions;
+  MaybeLocal<UnboundScript> script_result = ScriptCompiler::CompileUnboundScript(isolate, source, options);
+  bool rejected = cachedData != nullptr && source->GetCachedData()->rejected;
+  // the source owns the cached data and deletes it
+  delete(source);
+  if (script_result.IsEmpty()) {
+    if (tryCatch.HasCaught()) {
+      throwParseException(env, context, isolate, &tryCatch);
+    }
+    return nullptr;
+  }
+  Persistent<UnboundScript>* container = new Persistent<UnboundScript>;
+  container->Reset(isolate, script_result.ToLocalChecked());
+
+  // Position 0 is the pointer to the script, position 1 is set if the cached data was rejected
+  jlongArray result = env->NewLongArray(2);
+  jlong fill[2];
+  fill[0] = reinterpret_cast<jlong>(container);
+  fill[1] = rejected ? 1 : 0;
+  (env)->SetLongArrayRegion(result, 0, 2, fill);
+  return result;
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeCompiledScript
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jint expectedType, jlong scriptHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, NULL)
+  TryCatch tryCatch(isolate);
+  Local<Value> result;
+  if (!runCompiledScript(context, isolate, env, scriptHandle, &tryCatch, result, v8RuntimePtr)) { return nullptr; }
+  return getResult(env, context, v8, v8RuntimePtr, result, expectedType);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidCompiledScript
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong scriptHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, )
+  TryCatch tryCatch(isolate);
+  Local<Value> result;
+  runCompiledScript(context, isolate, env, scriptHandle, &tryCatch, result, v8RuntimePtr);
+}
+
+JNIEXPORT jbyteArray JNICALL Java_com_eclipsesource_v8_V8__1createCodeCache
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong scriptHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr)
+  Local<UnboundScript> unboundScript = Local<UnboundScript>::New(isolate, *reinterpret_cast<Persistent<UnboundScript>*>(scriptHandle));
+  ScriptCompiler::CachedData* cachedData = ScriptCompiler::CreateCodeCache(unboundScript);
+  if (cachedData == nullptr) {
+    return nullptr;
+  }
+  jbyteArray result = env->NewByteArray(cachedData->length);
+  env->SetByteArrayRegion(result, 0, cachedData->length, reinterpret_cast<const jbyte*>(cachedData->data));
+  delete(cachedData);
+  return result;
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseCompiledScript
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong scriptHandle) {
+  if (v8RuntimePtr == 0) {
+    return;
+  }
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  Locker locker(isolate);
+  HandleScope handle_scope(isolate);
+  reinterpret_cast<Persistent<UnboundScript>*>(scriptHandle)->Reset();
+  delete(reinterpret_cast<Persistent<UnboundScript>*>(scriptHandle));
+}
+
+// exceptions thrown by the runtime outside of any script, such as JSON syntax errors
+// or values that cannot be cloned, may have no source location to report
+void throwApiException(JNIEnv *env, const Local<Context>& context, Isolate* isolate, TryCatch* tryCatch, jlong v8RuntimePtr) {
+  Handle<Message> message = tryCatch->Message();
+  if (!message.IsEmpty() && !message->GetSourceLine(context).IsEmpty()) {
+    throwExecutionException(env, context, isolate, tryCatch, v8RuntimePtr);
+    return;
+  }
+  String::Value exception(isolate, tryCatch->Exception());
+  throwV8RuntimeException(env, &exception);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1serialize
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr);
+  Local<Value> value = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  TryCatch tryCatch(isolate);
+  ValueSerializer serializer(isolate);
+  serializer.WriteHeader();
+  if (!serializer.WriteValue(context, value).FromMaybe(false)) {
+    throwApiException(env, context, isolate, &tryCatch, v8RuntimePtr);
+    return nullptr;
+  }
+  // the buffer is handed to Java without copying, and freed by _releaseSerializedData
+  std::pair<uint8_t*, size_t> data = serializer.Release();
+  return env->NewDirectByteBuffer(data.first, data.second);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseSerializedData
+  (JNIEnv *env, jobject, jobject data) {
+  free(env->GetDirectBufferAddress(data));
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1deserialize
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jobject data, jint offset, jint length) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr);
+  const uint8_t* buffer = static_cast<const uint8_t*>(env->GetDirectBufferAddress(data)) + offset;
+  TryCatch tryCatch(isolate);
+  ValueDeserializer deserializer(isolate, buffer, length);
+  Local<Value> result;
+  if (!deserializer.ReadHeader(context).FromMaybe(false) || !deserializer.ReadValue(context).ToLocal(&result)) {
+    if (tryCatch.HasCaught()) {
+      throwApiException(env, context, isolate, &tryCatch, v8RuntimePtr);
+    } else {
+      env->ThrowNew(v8RuntimeExceptionCls, "Invalid serialized data");
+    }
+    return nullptr;
+  }
+  return getResult(env, context, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
+jobject parseJSON(JNIEnv *env, jobject &v8, jlong v8RuntimePtr, Isolate* isolate, const Local<Context>& context, MaybeLocal<String> json) {
+  TryCatch tryCatch(isolate);
+  Local<String> jsonString;
+  Local<Value> result;
+  if (!json.ToLocal(&jsonString) || !JSON::Parse(context, jsonString).ToLocal(&result)) {
+    throwApiException(env, context, isolate, &tryCatch, v8RuntimePtr);
+    return nullptr;
+  }
+  return getResult(env, context, v8, v8RuntimePtr, result, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1parseJSON__JLjava_lang_String_2
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jstring json) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr);
+  return parseJSON(env, v8, v8RuntimePtr, isolate, context, createV8String(env, isolate, json));
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1parseJSON__JLjava_nio_ByteBuffer_2II
+  (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jobject json, jint offset, jint length) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr);
+  const char* data = static_cast<const char*>(env->GetDirectBufferAddress(json)) + offset;
+  return parseJSON(env, v8, v8RuntimePtr, isolate, context, String::NewFromUtf8(isolate, data, v8::NewStringType::kNormal, length));
+}
+
+JNIEXPORT jbyteArray JNICALL Java_com_eclipsesource_v8_V8__1toJSON
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr);
+  Local<Value> value = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  TryCatch tryCatch(isolate);
+  Local<String> json;
+  if (!JSON::Stringify(context, value).ToLocal(&json)) {
+    throwApiException(env, context, isolate, &tryCatch, v8RuntimePtr);
+    return nullptr;
+  }
+  int length = json->Utf8Length(isolate);
+  jbyteArray result = env->NewByteArray(length);
+  void* bytes = env->GetPrimitiveArrayCritical(result, nullptr);
+  json->WriteUtf8(isolate, static_cast<char*>(bytes), length, nullptr, String::NO_NULL_TERMINATION);
+  // values without a JSON representation are stringified as undefined, which is never valid JSON
+  bool undefined = (length == 9) && (memcmp(bytes, "undefined", 9) == 0);
+  env->ReleasePrimitiveArrayCritical(result, bytes, 0);
+  if (undefined) {
+    env->DeleteLocalRef(result);
+    return nullptr;
+  }
+  return result;
+}
+
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createKey
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jstring name) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  const uint16_t* unicodeString = env->GetStringChars(name, NULL);
+  int length = env->GetStringLength(name);
+  // internalized strings are hashed once and compared by identity on property lookup
+  Local<String> v8Key = String::NewFromTwoByte(isolate, unicodeString, v8::NewStringType::kInternalized, length).ToLocalChecked();
+  env->ReleaseStringChars(name, unicodeString);
+  Persistent<String>* container = new Persistent<String>;
+  container->Reset(isolate, v8Key);
+  return reinterpret_cast<jlong>(container);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseKey
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong keyHandle) {
+  if (v8RuntimePtr == 0) {
+    return;
+  }
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  Locker locker(isolate);
+  HandleScope handle_scope(isolate);
+  reinterpret_cast<Persistent<String>*>(keyHandle)->Reset();
+  delete(reinterpret_cast<Persistent<String>*>(keyHandle));
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidScript
 (JNIEnv * env, jobject v8, jlong v8RuntimePtr, jstring jjstring, jstring jscriptName = nullptr, jint jlineNumber = 0) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, )
@@ -1144,6 +1933,53 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addObject
   addValueWithKey(env, context, isolate, v8RuntimePtr, objectHandle, key, value);
 }
 
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setValues
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jobjectArray keys, jintArray types, jdoubleArray numbers, jlongArray handles, jobjectArray values) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  jsize length = env->GetArrayLength(keys);
+  jint* typeElements = env->GetIntArrayElements(types, nullptr);
+  jdouble* numberElements = env->GetDoubleArrayElements(numbers, nullptr);
+  jlong* handleElements = env->GetLongArrayElements(handles, nullptr);
+  for (jsize i = 0; i < length; i++) {
+    HandleScope innerScope(isolate);
+    jstring key = (jstring) env->GetObjectArrayElement(keys, i);
+    Local<String> v8Key = createV8String(env, isolate, key);
+    env->DeleteLocalRef(key);
+    Local<Value> value;
+    switch (typeElements[i]) {
+      case com_eclipsesource_v8_V8_INTEGER:
+        value = Int32::New(isolate, (int32_t) numberElements[i]);
+        break;
+      case com_eclipsesource_v8_V8_DOUBLE:
+        value = Number::New(isolate, numberElements[i]);
+        break;
+      case com_eclipsesource_v8_V8_BOOLEAN:
+        value = Boolean::New(isolate, numberElements[i] != 0);
+        break;
+      case com_eclipsesource_v8_V8_STRING: {
+        jstring string = (jstring) env->GetObjectArrayElement(values, i);
+        value = createV8String(env, isolate, string);
+        env->DeleteLocalRef(string);
+        break;
+      }
+      case com_eclipsesource_v8_V8_V8_OBJECT:
+        value = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(handleElements[i]));
+        break;
+      case com_eclipsesource_v8_V8_UNDEFINED:
+        value = Undefined(isolate);
+        break;
+      default:
+        value = Null(isolate);
+        break;
+    }
+    object->Set(context, v8Key, value);
+  }
+  env->ReleaseLongArrayElements(handles, handleElements, JNI_ABORT);
+  env->ReleaseDoubleArrayElements(numbers, numberElements, JNI_ABORT);
+  env->ReleaseIntArrayElements(types, typeElements, JNI_ABORT);
+}
+
 JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1get
 (JNIEnv *env, jobject v8, jlong v8RuntimePtr, jint expectedType, jlong objectHandle, jstring key) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr)
@@ -1151,6 +1987,39 @@ JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1get
   return getResult(env, context, v8, v8RuntimePtr, result, expectedType);
 }
 
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getValues
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jlong objectHandle, jobjectArray keys, jintArray types, jobjectArray values) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  jsize length = env->GetArrayLength(keys);
+  jint* typeElements = env->GetIntArrayElements(types, nullptr);
+  for (jsize i = 0; i < length; i++) {
+    // each property gets its own scope, so large batches do not pile up handles
+    HandleScope innerScope(isolate);
+    jstring key = (jstring) env->GetObjectArrayElement(keys, i);
+    Local<String> v8Key = createV8String(env, isolate, key);
+    env->DeleteLocalRef(key);
+    Local<Value> value;
+    if (!object->Get(context, v8Key).ToLocal(&value)) {
+      value = Undefined(isolate);
+    }
+    int type = getType(value);
+    typeElements[i] = type;
+    if ((type == com_eclipsesource_v8_V8_UNDEFINED) || (type == com_eclipsesource_v8_V8_NULL)) {
+      env->SetObjectArrayElement(values, i, nullptr);
+      continue;
+    }
+    jobject result = getResult(env, context, v8, v8RuntimePtr, value, com_eclipsesource_v8_V8_UNKNOWN);
+    if (env->ExceptionCheck()) {
+      env->ReleaseIntArrayElements(types, typeElements, JNI_ABORT);
+      return;
+    }
+    env->SetObjectArrayElement(values, i, result);
+    env->DeleteLocalRef(result);
+  }
+  env->ReleaseIntArrayElements(types, typeElements, 0);
+}
+
 JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getInteger
 (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring key) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
@@ -1196,6 +2065,110 @@ JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getType__JJLjava_lang_Stri
   return type;
 }
 
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1containsKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
+  Local<String> v8Key = Local<String>::New(isolate, *reinterpret_cast<Persistent<String>*>(keyHandle));
+  return object->Has(context, v8Key).FromMaybe(false);
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getTypeByKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getValueWithKeyHandle(context, isolate, objectHandle, keyHandle);
+  int type = getType(v8Value);
+  if (type < 0) {
+    throwResultUndefinedException(env, "");
+  }
+  return type;
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getByKey
+(JNIEnv *env, jobject v8, jlong v8RuntimePtr, jint expectedType, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr);
+  Handle<Value> result = getValueWithKeyHandle(context, isolate, objectHandle, keyHandle);
+  return getResult(env, context, v8, v8RuntimePtr, result, expectedType);
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getIntegerByKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getValueWithKeyHandle(context, isolate, objectHandle, keyHandle);
+  ASSERT_IS_NUMBER(v8Value);
+  return v8Value->Int32Value(context).FromJust();
+}
+
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1getDoubleByKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getValueWithKeyHandle(context, isolate, objectHandle, keyHandle);
+  ASSERT_IS_NUMBER(v8Value);
+  return v8Value->NumberValue(context).FromJust();
+}
+
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1getBooleanByKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, false);
+  Handle<Value> v8Value = getValueWithKeyHandle(context, isolate, objectHandle, keyHandle);
+  ASSERT_IS_BOOLEAN(v8Value);
+  return v8Value->BooleanValue(isolate);
+}
+
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1getStringByKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  Handle<Value> v8Value = getValueWithKeyHandle(context, isolate, objectHandle, keyHandle);
+  ASSERT_IS_STRING(v8Value);
+  String::Value unicode(isolate, v8Value);
+
+  return env->NewString(*unicode, unicode.length());
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addByKey__JJJI
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jint value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  addValueWithKeyHandle(context, isolate, objectHandle, keyHandle, Int32::New(isolate, value));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addByKey__JJJD
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jdouble value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  addValueWithKeyHandle(context, isolate, objectHandle, keyHandle, Number::New(isolate, value));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addByKey__JJJZ
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jboolean value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  addValueWithKeyHandle(context, isolate, objectHandle, keyHandle, Boolean::New(isolate, value));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addByKey__JJJLjava_lang_String_2
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jstring value) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Value> v8Value = createV8String(env, isolate, value);
+  addValueWithKeyHandle(context, isolate, objectHandle, keyHandle, v8Value);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addObjectByKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle, jlong valueHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  Handle<Value> value = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(valueHandle));
+  addValueWithKeyHandle(context, isolate, objectHandle, keyHandle, value);
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addNullByKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  addValueWithKeyHandle(context, isolate, objectHandle, keyHandle, Null(isolate));
+}
+
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addUndefinedByKey
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jlong keyHandle) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, );
+  addValueWithKeyHandle(context, isolate, objectHandle, keyHandle, Undefined(isolate));
+}
+
 bool isNumber(int type) {
   return type == com_eclipsesource_v8_V8_DOUBLE || type == com_eclipsesource_v8_V8_INTEGER;
 }
@@ -1672,6 +2645,20 @@ jobject createParameterArray(JNIEnv* env, const Local<Context>& context, jlong v
   return result;
 }
 
+void throwPendingJavaException(JNIEnv* env, jlong v8RuntimePtr) {
+  Isolate* isolate = getIsolate(env, v8RuntimePtr);
+  reinterpret_cast<V8Runtime*>(v8RuntimePtr)->pendingException = env->ExceptionOccurred();
+  env->ExceptionClear();
+  jstring exceptionMessage = static_cast<jstring>(env->CallObjectMethod(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->pendingException, throwableGetMessageMethodID));
+  if (exceptionMessage != nullptr) {
+    Local<String> v8String = createV8String(env, isolate, exceptionMessage);
+    isolate->ThrowException(v8String);
+  }
+  else {
+    isolate->ThrowException(String::NewFromUtf8(isolate, "Unhandled Java Exception").ToLocalChecked());
+  }
+}
+
 void voidCallback(const FunctionCallbackInfo<Value>& args) {
   int size = args.Length();
   Local<External> data = Local<External>::Cast(args.Data());
@@ -1687,19 +2674,13 @@ void voidCallback(const FunctionCallbackInfo<Value>& args) {
   jobject parameters = createParameterArray(env, context, md->v8RuntimePtr, v8, size, args);
   Handle<Value> receiver = args.This();
   jobject jreceiver = getResult(env, context, v8, md->v8RuntimePtr, receiver, com_eclipsesource_v8_V8_UNKNOWN);
+  // counted, so that a termination reported in the callback is not cancelled
+  // while the script that called it is still on the stack
+  v8Runtime->callbackDepth++;
   env->CallVoidMethod(v8, v8CallVoidMethodID, md->methodID, jreceiver, parameters);
+  v8Runtime->callbackDepth--;
   if (env->ExceptionCheck()) {
-    Isolate* isolate = getIsolate(env, md->v8RuntimePtr);
-    reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->pendingException = env->ExceptionOccurred();
-    env->ExceptionClear();
-    jstring exceptionMessage = static_cast<jstring>(env->CallObjectMethod(reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->pendingException, throwableGetMessageMethodID));
-    if (exceptionMessage != nullptr) {
-      Local<String> v8String = createV8String(env, isolate, exceptionMessage);
-      isolate->ThrowException(v8String);
-    }
-    else {
-      isolate->ThrowException(String::NewFromUtf8(isolate, "Unhandled Java Exception").ToLocalChecked());
-    }
+    throwPendingJavaException(env, md->v8RuntimePtr);
   }
   env->CallVoidMethod(parameters, v8ArrayReleaseMethodID);
   env->CallVoidMethod(jreceiver, v8ObjectReleaseMethodID);
@@ -1745,37 +2726,8 @@ double getDouble(JNIEnv* env, jobject &object) {
   return env->CallDoubleMethod(object, doubleDoubleValueMethodID);
 }
 
-void objectCallback(const FunctionCallbackInfo<Value>& args) {
-  int size = args.Length();
-  Local<External> data = Local<External>::Cast(args.Data());
-  void *methodDescriptorPtr = data->Value();
-  MethodDescriptor* md = static_cast<MethodDescriptor*>(methodDescriptorPtr);
-  V8Runtime* v8Runtime = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr);
-  jobject v8 = v8Runtime->v8;
-  Isolate* isolate = v8Runtime->isolate;
-  Isolate::Scope isolateScope(isolate);
-  Local<Context> context = v8Runtime->context_.Get(isolate);
-  JNIEnv * env;
-  getJNIEnv(env);
-  jobject parameters = createParameterArray(env, context, md->v8RuntimePtr, v8, size, args);
-  Handle<Value> receiver = args.This();
-  jobject jreceiver = getResult(env, context, v8, md->v8RuntimePtr, receiver, com_eclipsesource_v8_V8_UNKNOWN);
-  jobject resultObject = env->CallObjectMethod(v8, v8CallObjectJavaMethodMethodID, md->methodID, jreceiver, parameters);
-  if (env->ExceptionCheck()) {
-    resultObject = nullptr;
-    Isolate* isolate = getIsolate(env, md->v8RuntimePtr);
-    reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->pendingException = env->ExceptionOccurred();
-    env->ExceptionClear();
-    jstring exceptionMessage = (jstring)env->CallObjectMethod(reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->pendingException, throwableGetMessageMethodID);
-    if (exceptionMessage != nullptr) {
-      Local<String> v8String = createV8String(env, isolate, exceptionMessage);
-      isolate->ThrowException(v8String);
-    }
-    else {
-      isolate->ThrowException(String::NewFromUtf8(isolate, "Unhandled Java Exception").ToLocalChecked());
-    }
-  }
-  else if (resultObject == nullptr) {
+void setCallbackResult(JNIEnv* env, Isolate* isolate, const FunctionCallbackInfo<Value>& args, jobject &resultObject) {
+  if (resultObject == nullptr) {
     args.GetReturnValue().SetNull();
   }
   else {
@@ -1791,7 +2743,7 @@ void objectCallback(const FunctionCallbackInfo<Value>& args) {
     }
     else if (returnType == com_eclipsesource_v8_V8_STRING) {
       jstring stringResult = (jstring)resultObject;
-      Local<String> result = createV8String(env, reinterpret_cast<V8Runtime*>(md->v8RuntimePtr)->isolate, stringResult);
+      Local<String> result = createV8String(env, isolate, stringResult);
       args.GetReturnValue().Set(result);
     }
     else if (returnType == com_eclipsesource_v8_V8_V8_ARRAY) {
@@ -1831,6 +2783,33 @@ void objectCallback(const FunctionCallbackInfo<Value>& args) {
       args.GetReturnValue().SetUndefined();
     }
   }
+}
+
+void objectCallback(const FunctionCallbackInfo<Value>& args) {
+  int size = args.Length();
+  Local<External> data = Local<External>::Cast(args.Data());
+  void *methodDescriptorPtr = data->Value();
+  MethodDescriptor* md = static_cast<MethodDescriptor*>(methodDescriptorPtr);
+  V8Runtime* v8Runtime = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr);
+  jobject v8 = v8Runtime->v8;
+  Isolate* isolate = v8Runtime->isolate;
+  Isolate::Scope isolateScope(isolate);
+  Local<Context> context = v8Runtime->context_.Get(isolate);
+  JNIEnv * env;
+  getJNIEnv(env);
+  jobject parameters = createParameterArray(env, context, md->v8RuntimePtr, v8, size, args);
+  Handle<Value> receiver = args.This();
+  jobject jreceiver = getResult(env, context, v8, md->v8RuntimePtr, receiver, com_eclipsesource_v8_V8_UNKNOWN);
+  v8Runtime->callbackDepth++;
+  jobject resultObject = env->CallObjectMethod(v8, v8CallObjectJavaMethodMethodID, md->methodID, jreceiver, parameters);
+  v8Runtime->callbackDepth--;
+  if (env->ExceptionCheck()) {
+    resultObject = nullptr;
+    throwPendingJavaException(env, md->v8RuntimePtr);
+  }
+  else {
+    setCallbackResult(env, isolate, args, resultObject);
+  }
   if (resultObject != nullptr) {
     env->DeleteLocalRef(resultObject);
   }
@@ -1840,6 +2819,121 @@ void objectCallback(const FunctionCallbackInfo<Value>& args) {
   env->DeleteLocalRef(parameters);
 }
 
+// The callback argument buffer holds one frame per nested fast callback. Each
+// frame stores the types followed by the numeric values of the first arguments.
+// The layout must match V8CallbackArguments.
+#define CALLBACK_ARGUMENT_FRAMES 32
+#define CALLBACK_ARGUMENT_SLOTS 8
+#define CALLBACK_ARGUMENT_FRAME_SIZE (CALLBACK_ARGUMENT_SLOTS * (sizeof(jint) + sizeof(jdouble)))
+
+void fastCallback(const FunctionCallbackInfo<Value>& args) {
+  int size = args.Length();
+  Local<External> data = Local<External>::Cast(args.Data());
+  void *methodDescriptorPtr = data->Value();
+  MethodDescriptor* md = static_cast<MethodDescriptor*>(methodDescriptorPtr);
+  V8Runtime* v8Runtime = reinterpret_cast<V8Runtime*>(md->v8RuntimePtr);
+  jobject v8 = v8Runtime->v8;
+  Isolate* isolate = v8Runtime->isolate;
+  Isolate::Scope isolateScope(isolate);
+  Local<Context> context = v8Runtime->context_.Get(isolate);
+  JNIEnv * env;
+  getJNIEnv(env);
+  int frame = v8Runtime->callbackDepth++;
+  if (frame < CALLBACK_ARGUMENT_FRAMES && v8Runtime->callbackArguments != nullptr) {
+    char* base = v8Runtime->callbackArguments + frame * CALLBACK_ARGUMENT_FRAME_SIZE;
+    jint* types = reinterpret_cast<jint*>(base);
+    jdouble* values = reinterpret_cast<jdouble*>(base + CALLBACK_ARGUMENT_SLOTS * sizeof(jint));
+    int buffered = size < CALLBACK_ARGUMENT_SLOTS ? size : CALLBACK_ARGUMENT_SLOTS;
+    for (int i = 0; i < buffered; i++) {
+      Local<Value> value = args[i];
+      types[i] = getType(value);
+      if (types[i] == com_eclipsesource_v8_V8_INTEGER || types[i] == com_eclipsesource_v8_V8_DOUBLE) {
+        values[i] = value->NumberValue(context).FromJust();
+      }
+      else if (types[i] == com_eclipsesource_v8_V8_BOOLEAN) {
+        values[i] = value->BooleanValue(isolate) ? 1 : 0;
+      }
+    }
+  }
+  else {
+    frame = -1;
+  }
+  jlong callbackInfoPtr = reinterpret_cast<jlong>(&args);
+  if (md->returnType == com_eclipsesource_v8_V8_INTEGER) {
+    jint result = env->CallIntMethod(v8, v8CallIntJavaMethodMethodID, md->methodID, callbackInfoPtr, size, frame);
+    if (!env->ExceptionCheck()) {
+      args.GetReturnValue().Set(result);
+    }
+  }
+  else if (md->returnType == com_eclipsesource_v8_V8_DOUBLE) {
+    jdouble result = env->CallDoubleMethod(v8, v8CallDoubleJavaMethodMethodID, md->methodID, callbackInfoPtr, size, frame);
+    if (!env->ExceptionCheck()) {
+      args.GetReturnValue().Set(result);
+    }
+  }
+  else if (md->returnType == com_eclipsesource_v8_V8_BOOLEAN) {
+    jboolean result = env->CallBooleanMethod(v8, v8CallBooleanJavaMethodMethodID, md->methodID, callbackInfoPtr, size, frame);
+    if (!env->ExceptionCheck()) {
+      args.GetReturnValue().Set(result == JNI_TRUE);
+    }
+  }
+  else if (md->returnType == com_eclipsesource_v8_V8_STRING) {
+    jstring result = static_cast<jstring>(env->CallObjectMethod(v8, v8CallStringJavaMethodMethodID, md->methodID, callbackInfoPtr, size, frame));
+    if (!env->ExceptionCheck()) {
+      if (result == nullptr) {
+        args.GetReturnValue().SetNull();
+      }
+      else {
+        args.GetReturnValue().Set(createV8String(env, isolate, result));
+        env->DeleteLocalRef(result);
+      }
+    }
+  }
+  else {
+    jobject resultObject = env->CallObjectMethod(v8, v8CallFastJavaMethodMethodID, md->methodID, callbackInfoPtr, size, frame);
+    if (!env->ExceptionCheck()) {
+      setCallbackResult(env, isolate, args, resultObject);
+      if (resultObject != nullptr) {
+        env->DeleteLocalRef(resultObject);
+      }
+    }
+  }
+  v8Runtime->callbackDepth--;
+  if (env->ExceptionCheck()) {
+    throwPendingJavaException(env, md->v8RuntimePtr);
+  }
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getCallbackArgumentBuffer
+  (JNIEnv *env, jobject, jlong v8RuntimePtr) {
+  V8Runtime* runtime = reinterpret_cast<V8Runtime*>(v8RuntimePtr);
+  if (runtime->callbackArguments == nullptr) {
+    runtime->callbackArguments = new char[CALLBACK_ARGUMENT_FRAMES * CALLBACK_ARGUMENT_FRAME_SIZE];
+  }
+  return env->NewDirectByteBuffer(runtime->callbackArguments, CALLBACK_ARGUMENT_FRAMES * CALLBACK_ARGUMENT_FRAME_SIZE);
+}
+
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getCallbackArgumentType
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong callbackInfoPtr, jint index) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
+  const FunctionCallbackInfo<Value>* args = reinterpret_cast<const FunctionCallbackInfo<Value>*>(callbackInfoPtr);
+  return getType((*args)[index]);
+}
+
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getCallbackArgument
+  (JNIEnv *env, jobject, jlong v8RuntimePtr, jlong callbackInfoPtr, jint index, jint expectedType) {
+  Isolate* isolate = SETUP(env, v8RuntimePtr, nullptr);
+  const FunctionCallbackInfo<Value>* args = reinterpret_cast<const FunctionCallbackInfo<Value>*>(callbackInfoPtr);
+  Handle<Value> value;
+  if (index < 0) {
+    value = args->This();
+  }
+  else {
+    value = (*args)[index];
+  }
+  return getResult(env, context, runtime->v8, v8RuntimePtr, value, expectedType);
+}
+
 JNIEXPORT jlongArray JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Function
 (JNIEnv *env, jobject, jlong v8RuntimePtr) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0);
@@ -1849,7 +2943,7 @@ JNIEXPORT jlongArray JNICALL Java_com_eclipsesource_v8_V8__1initNewV8Function
 
   Local<Function> function = Function::New(context, objectCallback, ext).ToLocalChecked();
   md->v8RuntimePtr = v8RuntimePtr;
-  Persistent<Object>* container = new Persistent<Object>;
+  Persistent<Object>* container = runtime->handles.allocate();
   container->Reset(reinterpret_cast<V8Runtime*>(v8RuntimePtr)->isolate, function);
   md->methodID = reinterpret_cast<jlong>(md);
   md->obj.Reset(isolate, ext);
@@ -1885,13 +2979,8 @@ JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1isWeak
     return reinterpret_cast<Persistent<Object>*>(objectHandle)->IsWeak();
 }
 
-JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerJavaMethod
-(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring functionName, jboolean voidMethod) {
+jlong registerCallback(JNIEnv *env, jlong v8RuntimePtr, jlong objectHandle, jstring functionName, FunctionCallback callback, jint returnType) {
   Isolate* isolate = SETUP(env, v8RuntimePtr, 0)
-  FunctionCallback callback = voidCallback;
-  if (!voidMethod) {
-    callback = objectCallback;
-  }
   Handle<Object> object = Local<Object>::New(isolate, *reinterpret_cast<Persistent<Object>*>(objectHandle));
   Local<String> v8FunctionName = createV8String(env, isolate, functionName);
   isolate->IdleNotificationDeadline(1);
@@ -1900,6 +2989,7 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerJavaMethod
 
   md->methodID = reinterpret_cast<jlong>(md);
   md->v8RuntimePtr = v8RuntimePtr;
+  md->returnType = returnType;
 
   MaybeLocal<Function> func = Function::New(context, callback, ext);
   if (!func.IsEmpty()) {
@@ -1913,6 +3003,20 @@ JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerJavaMethod
   return md->methodID;
 }
 
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerJavaMethod
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring functionName, jboolean voidMethod) {
+  FunctionCallback callback = voidCallback;
+  if (!voidMethod) {
+    callback = objectCallback;
+  }
+  return registerCallback(env, v8RuntimePtr, objectHandle, functionName, callback, com_eclipsesource_v8_V8_UNKNOWN);
+}
+
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerFastJavaMethod
+(JNIEnv *env, jobject, jlong v8RuntimePtr, jlong objectHandle, jstring functionName, jint returnType) {
+  return registerCallback(env, v8RuntimePtr, objectHandle, functionName, fastCallback, returnType);
+}
+
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseMethodDescriptor
   (JNIEnv *, jobject, jlong, jlong methodDescriptorPtr) {
   MethodDescriptor* md = reinterpret_cast<MethodDescriptor*>(methodDescriptorPtr);
@@ -2042,6 +3146,22 @@ void throwExecutionException(JNIEnv *env, const char* fileName, int lineNumber,
   (env)->Throw(result);
 }
 
+void throwHeapLimitException(JNIEnv *env, jlong v8RuntimePtr) {
+  jstring jfileName = env->NewStringUTF("");
+  jstring jmessage = env->NewStringUTF("RangeError: Script terminated, the heap limit was reached");
+  jstring jsourceLine = env->NewStringUTF("");
+  jthrowable wrappedException = nullptr;
+  if (reinterpret_cast<V8Runtime*>(v8RuntimePtr)->pendingException != nullptr) {
+    wrappedException = reinterpret_cast<V8Runtime*>(v8RuntimePtr)->pendingException;
+    reinterpret_cast<V8Runtime*>(v8RuntimePtr)->pendingException = nullptr;
+  }
+  jthrowable result = static_cast<jthrowable>(env->NewObject(v8ScriptExecutionException, v8ScriptExecutionExceptionInitMethodID, jfileName, 0, jmessage, jsourceLine, 0, 0, nullptr, wrappedException));
+  env->DeleteLocalRef(jfileName);
+  env->DeleteLocalRef(jmessage);
+  env->DeleteLocalRef(jsourceLine);
+  (env)->Throw(result);
+}
+
 void throwParseException(JNIEnv *env, const Local<Context>& context, Isolate* isolate, TryCatch* tryCatch) {
  String::Value exception(isolate, tryCatch->Exception());
  Handle<Message> message = tryCatch->Message();
@@ -2060,6 +3180,16 @@ void throwParseException(JNIEnv *env, const Local<Context>& context, Isolate* is
 }
 
 void throwExecutionException(JNIEnv *env, const Local<Context>& context, Isolate* isolate, TryCatch* tryCatch, jlong v8RuntimePtr) {
+ V8Runtime* runtime = reinterpret_cast<V8Runtime*>(v8RuntimePtr);
+ if (tryCatch->HasTerminated() && runtime->heapLimitExceeded) {
+   // report it to every Java frame the termination unwinds through
+   if (runtime->callbackDepth == 0) {
+     runtime->heapLimitExceeded = false;
+     isolate->CancelTerminateExecution();
+   }
+   throwHeapLimitException(env, v8RuntimePtr);
+   return;
+ }
  String::Value exception(isolate, tryCatch->Exception());
  Handle<Message> message = tryCatch->Message();
  if (message.IsEmpty()) {
@@ -51,6 +51,10 @@ extern "C" {
 #define com_eclipsesource_v8_V8_FLOAT_32_ARRAY 16L
 #undef com_eclipsesource_v8_V8_UNDEFINED
 #define com_eclipsesource_v8_V8_UNDEFINED 99L
+#undef com_eclipsesource_v8_V8_MICROTASKS_AUTO
+#define com_eclipsesource_v8_V8_MICROTASKS_AUTO 0L
+#undef com_eclipsesource_v8_V8_MICROTASKS_EXPLICIT
+#define com_eclipsesource_v8_V8_MICROTASKS_EXPLICIT 1L
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _initNewV8Object
@@ -91,6 +95,30 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseLock
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1lowMemoryNotification
   (JNIEnv *, jobject, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getHeapSpaceNames
+ * Signature: (J)[Ljava/lang/String;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1getHeapSpaceNames
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getHeapStatistics
+ * Signature: (J[J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getHeapStatistics
+  (JNIEnv *, jobject, jlong, jlongArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getHeapCodeStatistics
+ * Signature: (J[J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getHeapCodeStatistics
+  (JNIEnv *, jobject, jlong, jlongArray);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _createTwin
@@ -110,10 +138,18 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseRuntime
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _createIsolate
- * Signature: (Ljava/lang/String;)J
+ * Signature: (Ljava/lang/String;[BJJJJJ)J
  */
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createIsolate
-  (JNIEnv *, jobject, jstring);
+  (JNIEnv *, jobject, jstring, jbyteArray, jlong, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _createSnapshot
+ * Signature: ([Ljava/lang/String;[Ljava/lang/String;)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_com_eclipsesource_v8_V8__1createSnapshot
+  (JNIEnv *, jclass, jobjectArray, jobjectArray);
 
 /*
  * Class:     com_eclipsesource_v8_V8
@@ -187,6 +223,222 @@ JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeScript
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidScript
   (JNIEnv *, jobject, jlong, jstring, jstring, jint);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _compileScript
+ * Signature: (JLjava/lang/String;Ljava/lang/String;I[B)[J
+ */
+JNIEXPORT jlongArray JNICALL Java_com_eclipsesource_v8_V8__1compileScript
+  (JNIEnv *, jobject, jlong, jstring, jstring, jint, jbyteArray);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeCompiledScript
+ * Signature: (JIJ)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1executeCompiledScript
+  (JNIEnv *, jobject, jlong, jint, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _executeVoidCompiledScript
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidCompiledScript
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _createCodeCache
+ * Signature: (JJ)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_com_eclipsesource_v8_V8__1createCodeCache
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _releaseCompiledScript
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseCompiledScript
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _serialize
+ * Signature: (JJ)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1serialize
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _releaseSerializedData
+ * Signature: (Ljava/nio/ByteBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseSerializedData
+  (JNIEnv *, jobject, jobject);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _deserialize
+ * Signature: (JLjava/nio/ByteBuffer;II)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1deserialize
+  (JNIEnv *, jobject, jlong, jobject, jint, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _parseJSON
+ * Signature: (JLjava/lang/String;)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1parseJSON__JLjava_lang_String_2
+  (JNIEnv *, jobject, jlong, jstring);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _parseJSON
+ * Signature: (JLjava/nio/ByteBuffer;II)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1parseJSON__JLjava_nio_ByteBuffer_2II
+  (JNIEnv *, jobject, jlong, jobject, jint, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _toJSON
+ * Signature: (JJ)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_com_eclipsesource_v8_V8__1toJSON
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _createKey
+ * Signature: (JLjava/lang/String;)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1createKey
+  (JNIEnv *, jobject, jlong, jstring);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _releaseKey
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseKey
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _containsKey
+ * Signature: (JJJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1containsKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getTypeByKey
+ * Signature: (JJJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getTypeByKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getByKey
+ * Signature: (JIJJ)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getByKey
+  (JNIEnv *, jobject, jlong, jint, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getIntegerByKey
+ * Signature: (JJJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getIntegerByKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getDoubleByKey
+ * Signature: (JJJ)D
+ */
+JNIEXPORT jdouble JNICALL Java_com_eclipsesource_v8_V8__1getDoubleByKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getBooleanByKey
+ * Signature: (JJJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1getBooleanByKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getStringByKey
+ * Signature: (JJJ)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1getStringByKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addByKey
+ * Signature: (JJJI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addByKey__JJJI
+  (JNIEnv *, jobject, jlong, jlong, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addByKey
+ * Signature: (JJJD)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addByKey__JJJD
+  (JNIEnv *, jobject, jlong, jlong, jlong, jdouble);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addByKey
+ * Signature: (JJJZ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addByKey__JJJZ
+  (JNIEnv *, jobject, jlong, jlong, jlong, jboolean);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addByKey
+ * Signature: (JJJLjava/lang/String;)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addByKey__JJJLjava_lang_String_2
+  (JNIEnv *, jobject, jlong, jlong, jlong, jstring);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addObjectByKey
+ * Signature: (JJJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addObjectByKey
+  (JNIEnv *, jobject, jlong, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addNullByKey
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addNullByKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _addUndefinedByKey
+ * Signature: (JJJ)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addUndefinedByKey
+  (JNIEnv *, jobject, jlong, jlong, jlong);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _release
@@ -195,6 +447,14 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1executeVoidScript
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1release
   (JNIEnv *, jobject, jlong, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _releaseHandles
+ * Signature: (J[JI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1releaseHandles
+  (JNIEnv *, jobject, jlong, jlongArray, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _releaseMethodDescriptor
@@ -259,6 +519,14 @@ JNIEXPORT jstring JNICALL Java_com_eclipsesource_v8_V8__1getString
 JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1get
   (JNIEnv *, jobject, jlong, jint, jlong, jstring);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getValues
+ * Signature: (JJ[Ljava/lang/String;[I[Ljava/lang/Object;)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1getValues
+  (JNIEnv *, jobject, jlong, jlong, jobjectArray, jintArray, jobjectArray);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _executeIntegerFunction
@@ -371,6 +639,14 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1add__JJLjava_lang_String_2
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addObject
   (JNIEnv *, jobject, jlong, jlong, jstring, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setValues
+ * Signature: (JJ[Ljava/lang/String;[I[D[J[Ljava/lang/Object;)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setValues
+  (JNIEnv *, jobject, jlong, jlong, jobjectArray, jintArray, jdoubleArray, jlongArray, jobjectArray);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _add
@@ -419,6 +695,38 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1addNull
 JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerJavaMethod
   (JNIEnv *, jobject, jlong, jlong, jstring, jboolean);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _registerFastJavaMethod
+ * Signature: (JJLjava/lang/String;I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_eclipsesource_v8_V8__1registerFastJavaMethod
+  (JNIEnv *, jobject, jlong, jlong, jstring, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getCallbackArgumentBuffer
+ * Signature: (J)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getCallbackArgumentBuffer
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getCallbackArgument
+ * Signature: (JJII)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_eclipsesource_v8_V8__1getCallbackArgument
+  (JNIEnv *, jobject, jlong, jlong, jint, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getCallbackArgumentType
+ * Signature: (JJI)I
+ */
+JNIEXPORT jint JNICALL Java_com_eclipsesource_v8_V8__1getCallbackArgumentType
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _initNewV8Array
@@ -835,6 +1143,86 @@ JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setFlags
 JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1terminateExecution
   (JNIEnv *, jobject, jlong);
 
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _cancelTerminateExecution
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1cancelTerminateExecution
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _requestInterrupt
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1requestInterrupt
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _runMicrotasks
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1runMicrotasks
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _setMicrotasksPolicy
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1setMicrotasksPolicy
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _startCpuProfiling
+ * Signature: (JLjava/lang/String;I)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1startCpuProfiling
+  (JNIEnv *, jobject, jlong, jstring, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _stopCpuProfiling
+ * Signature: (JLjava/lang/String;)[Ljava/lang/Object;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1stopCpuProfiling
+  (JNIEnv *, jobject, jlong, jstring);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _takeHeapSnapshot
+ * Signature: (JLjava/io/OutputStream;)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1takeHeapSnapshot
+  (JNIEnv *, jobject, jlong, jobject);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _startSamplingHeapProfiler
+ * Signature: (JJI)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_eclipsesource_v8_V8__1startSamplingHeapProfiler
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _stopSamplingHeapProfiler
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_eclipsesource_v8_V8__1stopSamplingHeapProfiler
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     com_eclipsesource_v8_V8
+ * Method:    _getAllocationProfile
+ * Signature: (J)[Ljava/lang/Object;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_eclipsesource_v8_V8__1getAllocationProfile
+  (JNIEnv *, jobject, jlong);
+
 /*
  * Class:     com_eclipsesource_v8_V8
  * Method:    _getGlobalObject
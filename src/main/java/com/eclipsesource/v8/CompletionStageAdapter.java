@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+
+/**
+ * Adapts a CompletionStage returned from a Java callback to a JavaScript
+ * promise. CompletionStage is not available on older Android releases,
+ * so this class must only be used if SUPPORTED is true.
+ */
+final class CompletionStageAdapter {
+
+    static final boolean SUPPORTED = isSupported();
+
+    private CompletionStageAdapter() {
+    }
+
+    static boolean isCompletionStage(final Object object) {
+        return object instanceof CompletionStage;
+    }
+
+    static void whenComplete(final Object stage, final V8 v8, final PromiseCompletion completion) {
+        ((CompletionStage<?>) stage).whenComplete(new BiConsumer<Object, Throwable>() {
+
+            @Override
+            public void accept(final Object value, final Throwable error) {
+                Throwable cause = error;
+                if ((cause instanceof CompletionException) && (cause.getCause() != null)) {
+                    cause = cause.getCause();
+                }
+                v8.completePromise(completion, value, cause);
+            }
+        });
+    }
+
+    private static boolean isSupported() {
+        try {
+            Class.forName("java.util.concurrent.CompletionStage");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * Classes that implement this interface provide a method
+ * which can be invoked from JavaScript and returns a String.
+ * The result is passed back to JavaScript directly, without
+ * its type being inspected by the native runtime.
+ *
+ * The arguments are passed as for a {@link JavaFastCallback}.
+ *
+ * After creating an instance of a class that implements this
+ * interface it can be registered as a Callback on a V8Object.
+ */
+public interface JavaStringCallback {
+
+    /**
+     * Called when a JS Function invokes a the registered Java
+     * method.
+     *
+     * @param arguments The arguments passed to the JS Function. The
+     * arguments are only valid until this method returns, and must not
+     * be retained. Any objects accessed from the arguments must be released.
+     *
+     * @return The result that should be passed back to JavaScript. A null
+     * result is passed back as null.
+     */
+    public String invoke(V8CallbackArguments arguments);
+
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A JavaScript promise that is settled from Java once an asynchronous
+ * Java computation completes. The promise is settled on the runtime
+ * thread, when the runtime processes its completion queue.
+ */
+final class PromiseCompletion {
+
+    private final V8Object resolver;
+    private Object         value;
+    private Throwable      error;
+
+    PromiseCompletion(final V8Object resolver) {
+        this.resolver = resolver;
+    }
+
+    void setResult(final Object value, final Throwable error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    V8Object getPromise() {
+        return resolver.getObject("promise");
+    }
+
+    void settle() {
+        V8 v8 = resolver.getRuntime();
+        V8Array parameters = new V8Array(v8);
+        try {
+            if (error != null) {
+                parameters.push(getMessage(error));
+                resolver.executeVoidFunction("reject", parameters);
+            } else if ((value == null) || (value instanceof Integer) || (value instanceof Double) || (value instanceof Float)
+                    || (value instanceof Boolean) || (value instanceof String) || (value instanceof V8Value)) {
+                parameters.push(value);
+                resolver.executeVoidFunction("resolve", parameters);
+            } else {
+                parameters.push("Unknown return type: " + value.getClass());
+                resolver.executeVoidFunction("reject", parameters);
+            }
+        } finally {
+            parameters.close();
+            release();
+        }
+    }
+
+    void release() {
+        resolver.close();
+        if (value instanceof Releasable) {
+            ((Releasable) value).close();
+        }
+    }
+
+    private static String getMessage(final Throwable error) {
+        return error.getMessage() != null ? error.getMessage() : error.getClass().getName();
+    }
+
+}
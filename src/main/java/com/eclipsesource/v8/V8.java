@@ -10,20 +10,27 @@
  ******************************************************************************/
 package com.eclipsesource.v8;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import com.eclipsesource.v8.inspector.V8InspectorDelegate;
 import com.eclipsesource.v8.utils.V8Executor;
 import com.eclipsesource.v8.utils.V8Map;
 import com.eclipsesource.v8.utils.V8Runnable;
+import com.eclipsesource.v8.utils.collections.LongMap;
 
 /**
  * An isolated V8Runtime. All JavaScript execution must exist
@@ -40,11 +47,23 @@ import com.eclipsesource.v8.utils.V8Runnable;
  */
 public class V8 extends V8Object {
 
+    /**
+     * Microtasks, such as promise reactions, run automatically once the
+     * outermost script or function call on the runtime returns. This is
+     * the default policy.
+     */
+    public static final int              MICROTASKS_AUTO         = 0;
+
+    /**
+     * Microtasks only run when {@link #runMicrotasks()} is called.
+     */
+    public static final int              MICROTASKS_EXPLICIT     = 1;
+
     private static Object                lock                    = new Object();
     private volatile static int          runtimeCounter          = 0;
     private static String                v8Flags                 = null;
     private static boolean               initialized             = false;
-    protected Map<Long, V8Value>         v8WeakReferences        = new HashMap<Long, V8Value>();
+    protected LongMap<V8Value>           v8WeakReferences        = new LongMap<V8Value>();
 
     private Map<String, Object>          data                    = null;
     private final V8Locker               locker;
@@ -52,11 +71,27 @@ public class V8 extends V8Object {
     private long                         objectReferences        = 0;
     private long                         v8RuntimePtr            = 0;
     private List<Releasable>             resources               = null;
+    private List<V8Script>               compiledScripts         = null;
+    private List<V8Key>                  keys                    = null;
+    private V8Scope                      scope                   = null;
+    private final Object                 runtimeLock             = new Object();
+    private String[]                     heapSpaceNames          = null;
+    private volatile V8HeapStatistics    heapStatistics          = null;
+    private ByteBuffer                   callbackArgumentBuffer  = null;
+    private V8CallbackArguments[]        callbackArguments       = null;
     private V8Map<V8Executor>            executors               = null;
     private boolean                      forceTerminateExecutors = false;
-    private Map<Long, MethodDescriptor>  functionRegistry        = new HashMap<Long, MethodDescriptor>();
+    private final V8Watchdog.Timer       watchdogTimer           = new WatchdogTimer();
+    private LongMap<MethodDescriptor>    functionRegistry        = new LongMap<MethodDescriptor>();
     private LinkedList<ReferenceHandler> referenceHandlers       = new LinkedList<ReferenceHandler>();
     private LinkedList<V8Runnable>       releaseHandlers         = new LinkedList<V8Runnable>();
+    private LinkedList<V8Runnable>       interrupts              = new LinkedList<V8Runnable>();
+    private Set<V8Future>                pendingFutures          = Collections.newSetFromMap(new IdentityHashMap<V8Future, Boolean>());
+    private V8Function                   promiseAdapter          = null;
+    private V8Function                   promiseFactory          = null;
+    private LinkedList<PromiseCompletion> completions            = new LinkedList<PromiseCompletion>();
+    private Set<PromiseCompletion>       pendingCompletions      = Collections.newSetFromMap(new IdentityHashMap<PromiseCompletion, Boolean>());
+    private boolean                      completionsClosed       = false;
 
     private static boolean               nativeLibraryLoaded     = false;
     private static Error                 nativeLoadError         = null;
@@ -64,12 +99,32 @@ public class V8 extends V8Object {
     private static V8Value               undefined               = new V8Object.Undefined();
     private static Object                invalid                 = new Object();
 
+    private class WatchdogTimer extends V8Watchdog.Timer {
+
+        @Override
+        protected void onTimeout() {
+            synchronized (runtimeLock) {
+                terminateExecution(v8RuntimePtr);
+            }
+        }
+
+    }
+
     private class MethodDescriptor {
         Object           object;
         Method           method;
         JavaCallback     callback;
         JavaVoidCallback voidCallback;
+        JavaFastCallback    fastCallback;
+        JavaIntCallback     intCallback;
+        JavaDoubleCallback  doubleCallback;
+        JavaBooleanCallback booleanCallback;
+        JavaStringCallback  stringCallback;
         boolean          includeReceiver;
+        // reflection metadata computed once when the method is registered
+        Class<?>[]       parameterTypes;
+        boolean          varArgs;
+        Class<?>         varArgType;
     }
 
     private synchronized static void load(final String tmpDirectory) {
@@ -113,7 +168,7 @@ public class V8 extends V8Object {
      * @return A new isolated V8 Runtime.
      */
     public static V8 createV8Runtime() {
-        return createV8Runtime(null, null);
+        return createV8Runtime(null, null, null);
     }
 
     /**
@@ -145,6 +200,71 @@ public class V8 extends V8Object {
      * @return A new isolated V8 Runtime.
      */
     public static V8 createV8Runtime(final String globalAlias, final String tempDirectory) {
+        return createV8Runtime(globalAlias, tempDirectory, null);
+    }
+
+    /**
+     * Creates a new V8Runtime from a startup snapshot and loads the required
+     * native libraries if they are not already loaded. The global scope of the
+     * runtime is initialized with the state captured in the snapshot, so any
+     * libraries loaded when the snapshot was created are available immediately.
+     *
+     * The current thread is given the lock to this runtime.
+     *
+     * @param snapshotBlob A snapshot created with {@link V8SnapshotCreator}.
+     *
+     * @return A new isolated V8 Runtime.
+     */
+    public static V8 createV8Runtime(final byte[] snapshotBlob) {
+        return createV8Runtime(null, null, snapshotBlob);
+    }
+
+    /**
+     * Creates a new V8Runtime from a startup snapshot and loads the required
+     * native libraries if they are not already loaded. An alias is also set
+     * for the global scope. For example, 'window' can be set as the global
+     * scope name.
+     *
+     * The current thread is given the lock to this runtime.
+     *
+     * @param globalAlias The name to associate with the global scope.
+     * @param tempDirectory The name of the directory to extract the native
+     * libraries too.
+     * @param snapshotBlob A snapshot created with {@link V8SnapshotCreator},
+     * or null to create an empty runtime.
+     *
+     * @return A new isolated V8 Runtime.
+     */
+    public static V8 createV8Runtime(final String globalAlias, final String tempDirectory, final byte[] snapshotBlob) {
+        return createV8Runtime(new V8RuntimeOptions().setGlobalAlias(globalAlias).setTempDirectory(tempDirectory).setSnapshotBlob(snapshotBlob));
+    }
+
+    /**
+     * Creates a new V8Runtime with the given options and loads the required
+     * native libraries if they are not already loaded. The options can limit
+     * the heap and stack the runtime may use.
+     *
+     * The current thread is given the lock to this runtime.
+     *
+     * @param options The options of the runtime.
+     *
+     * @return A new isolated V8 Runtime.
+     */
+    public static V8 createV8Runtime(final V8RuntimeOptions options) {
+        initialize(options.getTempDirectory());
+        V8 runtime = new V8(options);
+        synchronized (lock) {
+            runtimeCounter++;
+        }
+        return runtime;
+    }
+
+    static byte[] createSnapshot(final String[] scripts, final String[] scriptNames) {
+        initialize(null);
+        return _createSnapshot(scripts, scriptNames);
+    }
+
+    private static void initialize(final String tempDirectory) {
         if (!nativeLibraryLoaded) {
             synchronized (lock) {
                 if (!nativeLibraryLoaded) {
@@ -157,11 +277,6 @@ public class V8 extends V8Object {
             _setFlags(v8Flags);
             initialized = true;
         }
-        V8 runtime = new V8(globalAlias);
-        synchronized (lock) {
-            runtimeCounter++;
-        }
-        return runtime;
     }
 
     public void setSignatureProvider(final SignatureProvider signatureProvider) {
@@ -270,16 +385,28 @@ public class V8 extends V8Object {
     }
 
     protected V8() {
-        this(null);
+        this((String) null);
     }
 
     protected V8(final String globalAlias) {
+        this(globalAlias, null);
+    }
+
+    protected V8(final String globalAlias, final byte[] snapshotBlob) {
+        this(new V8RuntimeOptions().setGlobalAlias(globalAlias).setSnapshotBlob(snapshotBlob));
+    }
+
+    protected V8(final V8RuntimeOptions options) {
         super(null);
         released = false;
-        v8RuntimePtr = _createIsolate(globalAlias);
+        v8RuntimePtr = _createIsolate(options.getGlobalAlias(), options.getSnapshotBlob(), options.getMaxOldGenerationSize(),
+                options.getMaxYoungGenerationSize(), options.getInitialOldGenerationSize(), options.getInitialYoungGenerationSize(),
+                options.getStackSize());
         locker = new V8Locker(this);
         checkThread();
         objectHandle = _getGlobalObject(v8RuntimePtr);
+        heapSpaceNames = getHeapSpaceNames(v8RuntimePtr);
+        updateHeapStatistics();
     }
 
     public long createInspector(final V8InspectorDelegate inspectorDelegate, final String contextName) {
@@ -385,6 +512,33 @@ public class V8 extends V8Object {
         terminateExecution(v8RuntimePtr);
     }
 
+    /**
+     * Requests that the runnable is executed on the thread that is currently
+     * executing JavaScript on this runtime, once that script reaches a safe
+     * point. Unlike other methods of the runtime, this method can be called
+     * from any thread, which makes it possible to act on a long running
+     * script without polling from within the script.
+     *
+     * The runnable is executed while the script is paused, so it must not
+     * execute JavaScript on the runtime. It can inspect the runtime, for
+     * example by reading its heap statistics, or terminate the execution.
+     * If no JavaScript is executing, the runnable is executed once JavaScript
+     * is next executed on this runtime. Exceptions thrown by the runnable
+     * are ignored.
+     *
+     * @param runnable The runnable to execute on the runtime.
+     */
+    public void requestInterrupt(final V8Runnable runnable) {
+        if (runnable == null) {
+            throw new IllegalArgumentException("Runnable cannot be null");
+        }
+        synchronized (runtimeLock) {
+            checkReleased();
+            interrupts.add(runnable);
+            requestInterrupt(v8RuntimePtr);
+        }
+    }
+
     /**
      * Release native resources associated with this runtime. Once
      * released, a runtime cannot be reused.
@@ -401,7 +555,10 @@ public class V8 extends V8Object {
         try {
             notifyReleaseHandlers(this);
         } finally {
+            releasePromises();
             releaseResources();
+            releaseCompiledScripts();
+            releaseKeys();
             shutdownExecutors(forceTerminateExecutors);
             if (executors != null) {
                 executors.clear();
@@ -410,18 +567,45 @@ public class V8 extends V8Object {
             synchronized (lock) {
                 runtimeCounter--;
             }
-            _releaseRuntime(v8RuntimePtr);
-            v8RuntimePtr = 0L;
-            released = true;
+            synchronized (runtimeLock) {
+                interrupts.clear();
+                _releaseRuntime(v8RuntimePtr);
+                v8RuntimePtr = 0L;
+                released = true;
+            }
             if (reportMemoryLeaks && (getObjectReferenceCount() > 0)) {
                 throw new IllegalStateException(getObjectReferenceCount() + " Object(s) still exist in runtime");
             }
         }
     }
 
+    private void releasePromises() {
+        if (promiseAdapter != null) {
+            promiseAdapter.close();
+            promiseAdapter = null;
+        }
+        if (promiseFactory != null) {
+            promiseFactory.close();
+            promiseFactory = null;
+        }
+        synchronized (completions) {
+            completionsClosed = true;
+            completions.clear();
+        }
+        for (PromiseCompletion completion : pendingCompletions) {
+            completion.release();
+        }
+        pendingCompletions.clear();
+        V8Future[] futures = pendingFutures.toArray(new V8Future[pendingFutures.size()]);
+        pendingFutures.clear();
+        for (V8Future future : futures) {
+            future.complete(null, new V8RuntimeException("Runtime released"));
+        }
+    }
+
     private void releaseNativeMethodDescriptors() {
-        Set<Long> nativeMethodDescriptors = functionRegistry.keySet();
-        for (Long nativeMethodDescriptor : nativeMethodDescriptors) {
+        long[] nativeMethodDescriptors = functionRegistry.keys();
+        for (long nativeMethodDescriptor : nativeMethodDescriptors) {
             releaseMethodDescriptor(v8RuntimePtr, nativeMethodDescriptor);
         }
     }
@@ -436,6 +620,32 @@ public class V8 extends V8Object {
         }
     }
 
+    private void releaseCompiledScripts() {
+        if (compiledScripts != null) {
+            for (V8Script script : new ArrayList<V8Script>(compiledScripts)) {
+                script.close();
+            }
+            compiledScripts = null;
+        }
+    }
+
+    V8Scope getScope() {
+        return scope;
+    }
+
+    void setScope(final V8Scope scope) {
+        this.scope = scope;
+    }
+
+    private void releaseKeys() {
+        if (keys != null) {
+            for (V8Key key : new ArrayList<V8Key>(keys)) {
+                key.close();
+            }
+            keys = null;
+        }
+    }
+
     /**
      * Registers an executor with this runtime. An executor is another
      * runtime with its own thread. By registering an executor, it can be
@@ -803,6 +1013,462 @@ public class V8 extends V8Object {
         executeVoidScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
+    /**
+     * Executes a JS Script on this runtime and returns the result as a Java Object.
+     * Primitives will be boxed. If the script does not complete within the given
+     * time, it is terminated and a V8TimeoutException is thrown.
+     *
+     * @param script The script to execute.
+     * @param timeout The maximum time the script may execute.
+     * @param unit The unit of the timeout.
+     *
+     * @return The result of the script as a Java Object.
+     */
+    public Object executeScript(final String script, final long timeout, final TimeUnit unit) {
+        return executeScript(script, null, 0, timeout, unit);
+    }
+
+    /**
+     * Executes a JS Script on this runtime and returns the result as a Java Object.
+     * Primitives will be boxed. If the script does not complete within the given
+     * time, it is terminated and a V8TimeoutException is thrown.
+     *
+     * @param script The script to execute.
+     * @param scriptName The name of the script
+     * @param lineNumber The line number that is considered to be the first line of
+     * the script. Typically 0, but could be set to another value for exception stack trace purposes.
+     * @param timeout The maximum time the script may execute.
+     * @param unit The unit of the timeout.
+     *
+     * @return The result of the script as a Java Object.
+     */
+    public Object executeScript(final String script, final String scriptName, final int lineNumber, final long timeout, final TimeUnit unit) {
+        checkThread();
+        checkScript(script);
+        long previousDeadline = startTimeout(timeout, unit);
+        try {
+            return executeScript(getV8RuntimePtr(), UNKNOWN, script, scriptName, lineNumber);
+        } catch (V8RuntimeException e) {
+            throw checkTimeout(e, timeout, unit);
+        } finally {
+            stopTimeout(previousDeadline);
+        }
+    }
+
+    /**
+     * Executes a JS Script on this runtime. If the script does not complete
+     * within the given time, it is terminated and a V8TimeoutException is thrown.
+     *
+     * @param script The script to execute.
+     * @param timeout The maximum time the script may execute.
+     * @param unit The unit of the timeout.
+     */
+    public void executeVoidScript(final String script, final long timeout, final TimeUnit unit) {
+        checkThread();
+        checkScript(script);
+        long previousDeadline = startTimeout(timeout, unit);
+        try {
+            executeVoidScript(v8RuntimePtr, script, null, 0);
+        } catch (V8RuntimeException e) {
+            throw checkTimeout(e, timeout, unit);
+        } finally {
+            stopTimeout(previousDeadline);
+        }
+    }
+
+    /**
+     * Executes a JS Script on this runtime and returns a future that completes
+     * when the promise the script evaluates to settles. If the script does not
+     * evaluate to a promise, the future completes with the result of the script.
+     *
+     * @param script The script to execute.
+     *
+     * @return A future for the value of the promise.
+     */
+    public V8Future executeAsync(final String script) {
+        return executeAsync(script, null, 0);
+    }
+
+    /**
+     * Executes a JS Script on this runtime and returns a future that completes
+     * when the promise the script evaluates to settles. If the script does not
+     * evaluate to a promise, the future completes with the result of the script.
+     *
+     * @param script The script to execute.
+     * @param scriptName The name of the script
+     * @param lineNumber The line number that is considered to be the first line of
+     * the script. Typically 0, but could be set to another value for exception stack trace purposes.
+     *
+     * @return A future for the value of the promise.
+     */
+    public V8Future executeAsync(final String script, final String scriptName, final int lineNumber) {
+        return createFuture(executeScript(script, scriptName, lineNumber));
+    }
+
+    /**
+     * Settles the promises of Java callbacks whose CompletionStage has
+     * completed, and then runs all pending microtasks, such as promise
+     * reactions, on this runtime. This is required to settle promises when
+     * the microtasks policy is MICROTASKS_EXPLICIT.
+     */
+    public void runMicrotasks() {
+        checkThread();
+        checkReleased();
+        while (true) {
+            PromiseCompletion completion;
+            synchronized (completions) {
+                if (completions.isEmpty()) {
+                    break;
+                }
+                completion = completions.removeFirst();
+            }
+            pendingCompletions.remove(completion);
+            completion.settle();
+        }
+        runMicrotasks(v8RuntimePtr);
+    }
+
+    /**
+     * Determines if promises returned to JavaScript by Java callbacks are
+     * still waiting for their CompletionStage to complete, or for the
+     * runtime to settle them with {@link #runMicrotasks()}.
+     *
+     * @return True if there are pending promises of Java callbacks, false otherwise.
+     */
+    public boolean hasPendingCompletions() {
+        checkThread();
+        return !pendingCompletions.isEmpty();
+    }
+
+    /*
+     * Waits until a completed CompletionStage is queued, or the timeout
+     * elapsed. A timeout of 0 waits forever. Returns false if there are
+     * no pending promises that could complete.
+     */
+    boolean awaitCompletions(final long timeoutNanos) throws InterruptedException {
+        if (pendingCompletions.isEmpty()) {
+            return false;
+        }
+        synchronized (completions) {
+            if (completions.isEmpty()) {
+                if (timeoutNanos == 0) {
+                    completions.wait();
+                } else {
+                    TimeUnit.NANOSECONDS.timedWait(completions, timeoutNanos);
+                }
+            }
+        }
+        return true;
+    }
+
+    void completePromise(final PromiseCompletion completion, final Object value, final Throwable error) {
+        synchronized (completions) {
+            if (completionsClosed) {
+                return;
+            }
+            completion.setResult(value, error);
+            completions.add(completion);
+            completions.notifyAll();
+        }
+    }
+
+    /*
+     * Returns a promise that is settled once the CompletionStage completed
+     * and the runtime processed its completion queue.
+     */
+    private V8Object createPromise(final Object stage) {
+        if (promiseFactory == null) {
+            promiseFactory = (V8Function) executeScript("(function() {\n"
+                    + "  var resolver = {};\n"
+                    + "  resolver.promise = new Promise(function(resolve, reject) {\n"
+                    + "    resolver.resolve = resolve;\n"
+                    + "    resolver.reject = function(message) { reject(new Error(message)); };\n"
+                    + "  });\n"
+                    + "  return resolver;\n"
+                    + "})");
+        }
+        PromiseCompletion completion = new PromiseCompletion((V8Object) promiseFactory.call(null, null));
+        pendingCompletions.add(completion);
+        CompletionStageAdapter.whenComplete(stage, this, completion);
+        return completion.getPromise();
+    }
+
+    /**
+     * Sets when the microtasks of this runtime are run.
+     *
+     * @param policy Either MICROTASKS_AUTO or MICROTASKS_EXPLICIT.
+     */
+    public void setMicrotasksPolicy(final int policy) {
+        if ((policy != MICROTASKS_AUTO) && (policy != MICROTASKS_EXPLICIT)) {
+            throw new IllegalArgumentException("Invalid microtasks policy: " + policy);
+        }
+        checkThread();
+        checkReleased();
+        setMicrotasksPolicy(v8RuntimePtr, policy);
+    }
+
+    /*
+     * Adapts the result of a script or function call to a future, by
+     * resolving it as a promise. The value is released.
+     */
+    V8Future createFuture(final Object value) {
+        final V8Future future = new V8Future(this);
+        pendingFutures.add(future);
+        V8Function onFulfilled = new V8Function(this, new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                pendingFutures.remove(future);
+                future.complete(parameters.get(0), null);
+                return null;
+            }
+        });
+        V8Function onRejected = new V8Function(this, new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                Object reason = parameters.get(0);
+                String message = String.valueOf(reason);
+                if (reason instanceof Releasable) {
+                    ((Releasable) reason).close();
+                }
+                pendingFutures.remove(future);
+                future.complete(null, new V8RuntimeException(message));
+                return null;
+            }
+        });
+        V8Array parameters = new V8Array(this);
+        try {
+            if (promiseAdapter == null) {
+                promiseAdapter = (V8Function) executeScript("(function(value, onFulfilled, onRejected) { Promise.resolve(value).then(onFulfilled, onRejected); })");
+            }
+            parameters.push(value).push(onFulfilled).push(onRejected);
+            promiseAdapter.call(null, parameters);
+        } catch (RuntimeException e) {
+            pendingFutures.remove(future);
+            future.complete(null, e);
+        } finally {
+            parameters.close();
+            onFulfilled.close();
+            onRejected.close();
+            if (value instanceof Releasable) {
+                ((Releasable) value).close();
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Compiles a JS Script on this runtime without executing it. The
+     * compiled script can be executed many times and must be released
+     * when no longer needed.
+     *
+     * @param script The script to compile.
+     *
+     * @return The compiled script.
+     */
+    public V8Script compileScript(final String script) {
+        return compileScript(script, null, 0, null);
+    }
+
+    /**
+     * Compiles a JS Script on this runtime without executing it. The
+     * compiled script can be executed many times and must be released
+     * when no longer needed.
+     *
+     * @param script The script to compile.
+     * @param scriptName The name of the script
+     * @param lineNumber The line number that is considered to be the first line of
+     * the script. Typically 0, but could be set to another value for exception stack trace purposes.
+     *
+     * @return The compiled script.
+     */
+    public V8Script compileScript(final String script, final String scriptName, final int lineNumber) {
+        return compileScript(script, scriptName, lineNumber, null);
+    }
+
+    /**
+     * Compiles a JS Script on this runtime without executing it, using the
+     * given code cache. If the cache holds code for this source that V8
+     * accepts, parsing and compilation are skipped. Otherwise the script is
+     * compiled and its code cache is stored for subsequent compilations.
+     *
+     * @param script The script to compile.
+     * @param scriptName The name of the script
+     * @param lineNumber The line number that is considered to be the first line of
+     * the script. Typically 0, but could be set to another value for exception stack trace purposes.
+     * @param codeCache The code cache to consult and populate, or null.
+     *
+     * @return The compiled script.
+     */
+    public V8Script compileScript(final String script, final String scriptName, final int lineNumber, final V8CodeCache codeCache) {
+        checkThread();
+        checkScript(script);
+        String cacheKey = null;
+        byte[] cachedData = null;
+        if (codeCache != null) {
+            cacheKey = V8Script.computeCacheKey(script);
+            cachedData = codeCache.get(cacheKey);
+        }
+        // position 0 is the script handle, position 1 is non-zero if the cached data was rejected
+        long[] result = compileScript(v8RuntimePtr, script, scriptName, lineNumber, cachedData);
+        if (result == null) {
+            throw new V8RuntimeException("Script could not be compiled");
+        }
+        V8Script compiledScript = new V8Script(this, result[0], scriptName);
+        if (compiledScripts == null) {
+            compiledScripts = new ArrayList<V8Script>();
+        }
+        compiledScripts.add(compiledScript);
+        if ((codeCache != null) && ((cachedData == null) || (result[1] != 0))) {
+            byte[] data = compiledScript.createCodeCache();
+            if (data != null) {
+                codeCache.put(cacheKey, data);
+            }
+        }
+        return compiledScript;
+    }
+
+    void removeCompiledScript(final V8Script script) {
+        if (compiledScripts != null) {
+            compiledScripts.remove(script);
+        }
+    }
+
+    /**
+     * Creates a key for the given property name on this runtime. Keys can be
+     * used to access properties without converting the name on every access.
+     *
+     * @param name The property name.
+     *
+     * @return The key, which must be released.
+     */
+    public V8Key createKey(final String name) {
+        return new V8Key(this, name);
+    }
+
+    void addKey(final V8Key key) {
+        if (keys == null) {
+            keys = new ArrayList<V8Key>();
+        }
+        keys.add(key);
+    }
+
+    void removeKey(final V8Key key) {
+        if (keys != null) {
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * Serializes a JavaScript value and its whole object graph with V8's
+     * structured clone format, in a single call into V8. The serialized
+     * data is passed to the reader without being copied, and is released
+     * once the reader returns.
+     *
+     * Values that cannot be cloned, such as functions, cause a
+     * V8RuntimeException to be thrown.
+     *
+     * @param <T> The type of the result produced by the reader.
+     * @param value The value to serialize.
+     * @param reader The reader that consumes the serialized data.
+     *
+     * @return The result of the reader.
+     *
+     * @throws V8RuntimeException If the value cannot be serialized.
+     */
+    public <T> T serialize(final V8Value value, final V8SerializedDataReader<T> reader) {
+        checkThread();
+        checkRuntime(value);
+        if ((value == null) || value.isUndefined()) {
+            throw new IllegalArgumentException("Value cannot be null or undefined");
+        }
+        ByteBuffer data = serialize(v8RuntimePtr, value.getHandle());
+        try {
+            return reader.read(data.order(ByteOrder.nativeOrder()));
+        } finally {
+            releaseSerializedData(data);
+        }
+    }
+
+    /**
+     * Creates a JavaScript value from data in V8's structured clone format,
+     * in a single call into V8. The data is read from the position to the
+     * limit of the buffer. Direct buffers are read in place; other buffers
+     * are copied first.
+     *
+     * @param data The serialized value.
+     *
+     * @return The deserialized value as a Java Object. Primitives will be
+     * boxed, and V8Values must be released.
+     *
+     * @throws V8RuntimeException If the data is not a valid serialized value.
+     */
+    public Object deserialize(final ByteBuffer data) {
+        checkThread();
+        ByteBuffer buffer = data;
+        if (!buffer.isDirect()) {
+            buffer = ByteBuffer.allocateDirect(data.remaining());
+            buffer.put(data.duplicate());
+            buffer.flip();
+        }
+        return deserialize(v8RuntimePtr, buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Parses a JSON string into a JavaScript object or array using V8's
+     * JSON parser. Unlike executing the JSON as a script, this does not
+     * compile anything. If the JSON does not describe an object or an array
+     * then a V8ResultUndefined exception is thrown.
+     *
+     * @param json The JSON to parse.
+     *
+     * @return The parsed V8Object or V8Array, which must be released.
+     *
+     * @throws V8RuntimeException If the JSON cannot be parsed.
+     */
+    public V8Object parseJSON(final String json) {
+        checkThread();
+        if (json == null) {
+            throw new NullPointerException("JSON is null");
+        }
+        return checkJSONResult(parseJSON(v8RuntimePtr, json));
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON into a JavaScript object or array using V8's
+     * JSON parser. The JSON is read from the position to the limit of the
+     * buffer; direct buffers are read in place, other buffers are copied first.
+     * If the JSON does not describe an object or an array then a
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param json The UTF-8 encoded JSON to parse.
+     *
+     * @return The parsed V8Object or V8Array, which must be released.
+     *
+     * @throws V8RuntimeException If the JSON cannot be parsed.
+     */
+    public V8Object parseJSON(final ByteBuffer json) {
+        checkThread();
+        if (json == null) {
+            throw new NullPointerException("JSON is null");
+        }
+        ByteBuffer buffer = json;
+        if (!buffer.isDirect()) {
+            buffer = ByteBuffer.allocateDirect(json.remaining());
+            buffer.put(json.duplicate());
+            buffer.flip();
+        }
+        return checkJSONResult(parseJSON(v8RuntimePtr, buffer, buffer.position(), buffer.remaining()));
+    }
+
+    private static V8Object checkJSONResult(final Object result) {
+        if (result instanceof V8Object) {
+            return (V8Object) result;
+        }
+        throw new V8ResultUndefined();
+    }
+
     /**
      * Returns the locker associated with this runtime. The locker allows
      * threads to give up control of the runtime and other threads to acquire
@@ -815,22 +1481,86 @@ public class V8 extends V8Object {
     }
 
     /**
-     * Returns the unique build ID of the native library.
+     * Returns the unique build ID of the native library.
+     *
+     * @return The unique build ID of the Native library.
+     */
+    public static long getBuildID() {
+        return _getBuildID();
+    }
+
+    /**
+     * Indicates to V8 that the system is low on memory.
+     * V8 may use this to attempt to recover space by running
+     * the garbage collector.
+     */
+    public void lowMemoryNotification() {
+        checkThread();
+        lowMemoryNotification(getV8RuntimePtr());
+    }
+
+    /**
+     * Returns the memory usage of this runtime. Unlike other methods of the
+     * runtime, this method can be called from any thread, so it can be used
+     * to poll the runtime from a monitoring thread while scripts are
+     * executing. V8 only allows the heap to be read by the thread that holds
+     * the lock of the runtime, so that thread gets the current statistics,
+     * while other threads get the snapshot taken after the last garbage
+     * collection or the last call on the owning thread. Statistics that
+     * require walking the heap are available through
+     * {@link #getHeapCodeStatistics()}.
+     *
+     * @return The heap statistics of this runtime.
+     */
+    public V8HeapStatistics getHeapStatistics() {
+        synchronized (runtimeLock) {
+            checkReleased();
+        }
+        if (locker.hasLock()) {
+            updateHeapStatistics();
+        }
+        return heapStatistics;
+    }
+
+    private void updateHeapStatistics() {
+        long[] values = new long[V8HeapStatistics.HEAP_SPACES + (heapSpaceNames.length * V8HeapStatistics.HEAP_SPACE_FIELDS)];
+        getHeapStatistics(v8RuntimePtr, values);
+        heapStatisticsUpdated(values);
+    }
+
+    /**
+     * Returns statistics about the code and the contexts of this runtime.
+     * Collecting them walks the heap, so unlike {@link #getHeapStatistics()}
+     * this method must be called on the thread that holds the lock of the
+     * runtime.
      *
-     * @return The unique build ID of the Native library.
+     * @return The code statistics of this runtime.
      */
-    public static long getBuildID() {
-        return _getBuildID();
+    public V8HeapCodeStatistics getHeapCodeStatistics() {
+        checkThread();
+        long[] values = new long[V8HeapCodeStatistics.FIELDS];
+        getHeapCodeStatistics(v8RuntimePtr, values);
+        return new V8HeapCodeStatistics(values);
     }
 
     /**
-     * Indicates to V8 that the system is low on memory.
-     * V8 may use this to attempt to recover space by running
-     * the garbage collector.
+     * Takes a snapshot of the heap of this runtime and writes it to the given
+     * stream in the .heapsnapshot JSON format, which can be loaded into the
+     * Chrome DevTools to analyze memory leaks. The snapshot is written in
+     * chunks while it is serialized, so it is never held in memory as a whole.
+     * The stream is not closed.
+     *
+     * @param out The stream to write the snapshot to.
+     *
+     * @throws IOException If the snapshot could not be written.
      */
-    public void lowMemoryNotification() {
+    public void takeHeapSnapshot(final OutputStream out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("Stream cannot be null");
+        }
         checkThread();
-        lowMemoryNotification(getV8RuntimePtr());
+        checkReleased();
+        takeHeapSnapshot(v8RuntimePtr, out);
     }
 
     void checkRuntime(final V8Value value) {
@@ -846,7 +1576,7 @@ public class V8 extends V8Object {
     }
 
     void checkThread() {
-        locker.checkThread();
+        locker.checkAccess();
         if (isReleased()) {
             throw new Error("Runtime disposed error");
         }
@@ -863,6 +1593,11 @@ public class V8 extends V8Object {
         methodDescriptor.object = object;
         methodDescriptor.method = method;
         methodDescriptor.includeReceiver = includeReceiver;
+        methodDescriptor.parameterTypes = method.getParameterTypes();
+        methodDescriptor.varArgs = method.isVarArgs();
+        if (methodDescriptor.varArgs) {
+            methodDescriptor.varArgType = methodDescriptor.parameterTypes[methodDescriptor.parameterTypes.length - 1].getComponentType();
+        }
         long methodID = registerJavaMethod(getV8RuntimePtr(), objectHandle, jsFunctionName, isVoidMethod(method));
         functionRegistry.put(methodID, methodDescriptor);
     }
@@ -879,6 +1614,45 @@ public class V8 extends V8Object {
         createAndRegisterMethodDescriptor(callback, methodID);
     }
 
+    void registerFastCallback(final JavaFastCallback callback, final long objectHandle, final String jsFunctionName) {
+        MethodDescriptor methodDescriptor = new MethodDescriptor();
+        methodDescriptor.fastCallback = callback;
+        registerFastMethodDescriptor(methodDescriptor, objectHandle, jsFunctionName, UNKNOWN);
+    }
+
+    void registerIntCallback(final JavaIntCallback callback, final long objectHandle, final String jsFunctionName) {
+        MethodDescriptor methodDescriptor = new MethodDescriptor();
+        methodDescriptor.intCallback = callback;
+        registerFastMethodDescriptor(methodDescriptor, objectHandle, jsFunctionName, INTEGER);
+    }
+
+    void registerDoubleCallback(final JavaDoubleCallback callback, final long objectHandle, final String jsFunctionName) {
+        MethodDescriptor methodDescriptor = new MethodDescriptor();
+        methodDescriptor.doubleCallback = callback;
+        registerFastMethodDescriptor(methodDescriptor, objectHandle, jsFunctionName, DOUBLE);
+    }
+
+    void registerBooleanCallback(final JavaBooleanCallback callback, final long objectHandle, final String jsFunctionName) {
+        MethodDescriptor methodDescriptor = new MethodDescriptor();
+        methodDescriptor.booleanCallback = callback;
+        registerFastMethodDescriptor(methodDescriptor, objectHandle, jsFunctionName, BOOLEAN);
+    }
+
+    void registerStringCallback(final JavaStringCallback callback, final long objectHandle, final String jsFunctionName) {
+        MethodDescriptor methodDescriptor = new MethodDescriptor();
+        methodDescriptor.stringCallback = callback;
+        registerFastMethodDescriptor(methodDescriptor, objectHandle, jsFunctionName, STRING);
+    }
+
+    private void registerFastMethodDescriptor(final MethodDescriptor methodDescriptor, final long objectHandle, final String jsFunctionName, final int returnType) {
+        if (callbackArgumentBuffer == null) {
+            callbackArgumentBuffer = getCallbackArgumentBuffer(getV8RuntimePtr()).order(ByteOrder.nativeOrder());
+            callbackArguments = new V8CallbackArguments[V8CallbackArguments.FRAMES];
+        }
+        long methodID = registerFastJavaMethod(getV8RuntimePtr(), objectHandle, jsFunctionName, returnType);
+        functionRegistry.put(methodID, methodDescriptor);
+    }
+
     void createAndRegisterMethodDescriptor(final JavaCallback callback, final long methodID) {
         MethodDescriptor methodDescriptor = new MethodDescriptor();
         methodDescriptor.callback = callback;
@@ -906,10 +1680,35 @@ public class V8 extends V8Object {
         functionRegistry.remove(methodID);
     }
 
+    protected void runInterrupts() {
+        while (true) {
+            V8Runnable runnable;
+            synchronized (runtimeLock) {
+                if (interrupts.isEmpty()) {
+                    return;
+                }
+                runnable = interrupts.removeFirst();
+            }
+            try {
+                runnable.run(this);
+            } catch (Throwable t) {
+                // Swallow these exceptions and errors. The script is paused
+                // at an interrupt and cannot handle a pending Java exception.
+            }
+        }
+    }
+
+    protected void heapStatisticsUpdated(final long[] values) {
+        if (heapSpaceNames == null) {
+            // the runtime is still being created
+            return;
+        }
+        heapStatistics = new V8HeapStatistics(values, heapSpaceNames);
+    }
+
     protected void weakReferenceReleased(final long objectID) {
-        V8Value v8Value = v8WeakReferences.get(objectID);
+        V8Value v8Value = v8WeakReferences.remove(objectID);
         if (v8Value != null) {
-            v8WeakReferences.remove(objectID);
             try {
                 v8Value.close();
             } catch (Exception e) {
@@ -925,8 +1724,7 @@ public class V8 extends V8Object {
         if (methodDescriptor.callback != null) {
             return checkResult(methodDescriptor.callback.invoke(receiver, parameters));
         }
-        boolean hasVarArgs = methodDescriptor.method.isVarArgs();
-        Object[] args = getArgs(receiver, methodDescriptor, parameters, hasVarArgs);
+        Object[] args = getArgs(receiver, methodDescriptor, parameters);
         checkArgs(args);
         try {
             Object result = methodDescriptor.method.invoke(methodDescriptor.object, args);
@@ -938,8 +1736,72 @@ public class V8 extends V8Object {
         } catch (IllegalArgumentException e) {
             throw e;
         } finally {
-            releaseArguments(args, hasVarArgs);
+            releaseArguments(args, methodDescriptor.varArgs);
+        }
+    }
+
+    protected Object callFastJavaMethod(final long methodID, final long callbackInfoPtr, final int length, final int frame) throws Throwable {
+        MethodDescriptor methodDescriptor = functionRegistry.get(methodID);
+        V8CallbackArguments arguments = getCallbackArguments(callbackInfoPtr, length, frame);
+        try {
+            return checkResult(methodDescriptor.fastCallback.invoke(arguments));
+        } finally {
+            arguments.invalidate();
+        }
+    }
+
+    protected int callIntJavaMethod(final long methodID, final long callbackInfoPtr, final int length, final int frame) throws Throwable {
+        MethodDescriptor methodDescriptor = functionRegistry.get(methodID);
+        V8CallbackArguments arguments = getCallbackArguments(callbackInfoPtr, length, frame);
+        try {
+            return methodDescriptor.intCallback.invoke(arguments);
+        } finally {
+            arguments.invalidate();
+        }
+    }
+
+    protected double callDoubleJavaMethod(final long methodID, final long callbackInfoPtr, final int length, final int frame) throws Throwable {
+        MethodDescriptor methodDescriptor = functionRegistry.get(methodID);
+        V8CallbackArguments arguments = getCallbackArguments(callbackInfoPtr, length, frame);
+        try {
+            return methodDescriptor.doubleCallback.invoke(arguments);
+        } finally {
+            arguments.invalidate();
+        }
+    }
+
+    protected boolean callBooleanJavaMethod(final long methodID, final long callbackInfoPtr, final int length, final int frame) throws Throwable {
+        MethodDescriptor methodDescriptor = functionRegistry.get(methodID);
+        V8CallbackArguments arguments = getCallbackArguments(callbackInfoPtr, length, frame);
+        try {
+            return methodDescriptor.booleanCallback.invoke(arguments);
+        } finally {
+            arguments.invalidate();
+        }
+    }
+
+    protected String callStringJavaMethod(final long methodID, final long callbackInfoPtr, final int length, final int frame) throws Throwable {
+        MethodDescriptor methodDescriptor = functionRegistry.get(methodID);
+        V8CallbackArguments arguments = getCallbackArguments(callbackInfoPtr, length, frame);
+        try {
+            return methodDescriptor.stringCallback.invoke(arguments);
+        } finally {
+            arguments.invalidate();
+        }
+    }
+
+    private V8CallbackArguments getCallbackArguments(final long callbackInfoPtr, final int length, final int frame) {
+        V8CallbackArguments arguments;
+        if (frame < 0) {
+            arguments = new V8CallbackArguments(this, callbackArgumentBuffer);
+        } else {
+            if (callbackArguments[frame] == null) {
+                callbackArguments[frame] = new V8CallbackArguments(this, callbackArgumentBuffer);
+            }
+            arguments = callbackArguments[frame];
         }
+        arguments.reset(callbackInfoPtr, length, frame);
+        return arguments;
     }
 
     private Object checkResult(final Object result) {
@@ -959,6 +1821,9 @@ public class V8 extends V8Object {
             }
             return result;
         }
+        if (CompletionStageAdapter.SUPPORTED && CompletionStageAdapter.isCompletionStage(result)) {
+            return createPromise(result);
+        }
         throw new V8RuntimeException("Unknown return type: " + result.getClass());
     }
 
@@ -968,8 +1833,7 @@ public class V8 extends V8Object {
             methodDescriptor.voidCallback.invoke(receiver, parameters);
             return;
         }
-        boolean hasVarArgs = methodDescriptor.method.isVarArgs();
-        Object[] args = getArgs(receiver, methodDescriptor, parameters, hasVarArgs);
+        Object[] args = getArgs(receiver, methodDescriptor, parameters);
         checkArgs(args);
         try {
             methodDescriptor.method.invoke(methodDescriptor.object, args);
@@ -980,7 +1844,7 @@ public class V8 extends V8Object {
         } catch (IllegalArgumentException e) {
             throw e;
         } finally {
-            releaseArguments(args, hasVarArgs);
+            releaseArguments(args, methodDescriptor.varArgs);
         }
     }
 
@@ -1008,41 +1872,45 @@ public class V8 extends V8Object {
         }
     }
 
-    private Object[] getArgs(final V8Object receiver, final MethodDescriptor methodDescriptor, final V8Array parameters, final boolean hasVarArgs) {
-        int numberOfParameters = methodDescriptor.method.getParameterTypes().length;
-        int varArgIndex = hasVarArgs ? numberOfParameters - 1 : numberOfParameters;
-        Object[] args = setDefaultValues(new Object[numberOfParameters], methodDescriptor.method.getParameterTypes(), receiver, methodDescriptor.includeReceiver);
-        List<Object> varArgs = new ArrayList<Object>();
-        populateParamters(parameters, varArgIndex, args, varArgs, methodDescriptor.includeReceiver);
-        if (hasVarArgs) {
-            Object varArgContainer = getVarArgContainer(methodDescriptor.method.getParameterTypes(), varArgs.size());
-            System.arraycopy(varArgs.toArray(), 0, varArgContainer, 0, varArgs.size());
-            args[varArgIndex] = varArgContainer;
+    private Object[] getArgs(final V8Object receiver, final MethodDescriptor methodDescriptor, final V8Array parameters) {
+        Class<?>[] parameterTypes = methodDescriptor.parameterTypes;
+        int numberOfParameters = parameterTypes.length;
+        int varArgIndex = methodDescriptor.varArgs ? numberOfParameters - 1 : numberOfParameters;
+        Object[] args = setDefaultValues(new Object[numberOfParameters], parameterTypes, receiver, methodDescriptor.includeReceiver);
+        int start = methodDescriptor.includeReceiver ? 1 : 0;
+        int length = parameters.length();
+        int end = length + start;
+        if (methodDescriptor.varArgs) {
+            args[varArgIndex] = populateVarArgs(parameters, varArgIndex - start, length, methodDescriptor.varArgType);
+        } else if (end > numberOfParameters) {
+            // surplus arguments cannot be passed to the method
+            end = numberOfParameters;
         }
-        return args;
-    }
-
-    private Object getVarArgContainer(final Class<?>[] parameterTypes, final int size) {
-        Class<?> clazz = parameterTypes[parameterTypes.length - 1];
-        if (clazz.isArray()) {
-            clazz = clazz.getComponentType();
+        for (int i = start; i < Math.min(end, varArgIndex); i++) {
+            args[i] = getArrayItem(parameters, i - start);
         }
-        Object result = java.lang.reflect.Array.newInstance(clazz, size);
-        return result;
+        return args;
     }
 
-    private void populateParamters(final V8Array parameters, final int varArgIndex, final Object[] args, final List<Object> varArgs, final boolean includeReceiver) {
-        int start = 0;
-        if (includeReceiver) {
-            start = 1;
-        }
-        for (int i = start; i < (parameters.length() + start); i++) {
-            if (i >= varArgIndex) {
-                varArgs.add(getArrayItem(parameters, i - start));
-            } else {
-                args[i] = getArrayItem(parameters, i - start);
+    private Object populateVarArgs(final V8Array parameters, final int from, final int length, final Class<?> varArgType) {
+        int size = Math.max(0, length - from);
+        Object result = java.lang.reflect.Array.newInstance(varArgType, size);
+        for (int i = 0; i < size; i++) {
+            Object item = getArrayItem(parameters, from + i);
+            try {
+                java.lang.reflect.Array.set(result, i, item);
+            } catch (IllegalArgumentException e) {
+                // the argument does not match the varargs type
+                if (item instanceof V8Value) {
+                    ((V8Value) item).close();
+                }
+                if (!varArgType.isPrimitive()) {
+                    releaseArguments(new Object[] { result }, true);
+                }
+                throw new IllegalArgumentException("argument type mismatch");
             }
         }
+        return result;
     }
 
     private Object[] setDefaultValues(final Object[] parameters, final Class<?>[] parameterTypes, final V8Object receiver, final boolean includeReceiver) {
@@ -1119,6 +1987,18 @@ public class V8 extends V8Object {
         _lowMemoryNotification(v8RuntimePtr);
     }
 
+    protected String[] getHeapSpaceNames(final long v8RuntimePtr) {
+        return _getHeapSpaceNames(v8RuntimePtr);
+    }
+
+    protected void getHeapStatistics(final long v8RuntimePtr, final long[] values) {
+        _getHeapStatistics(v8RuntimePtr, values);
+    }
+
+    protected void getHeapCodeStatistics(final long v8RuntimePtr, final long[] values) {
+        _getHeapCodeStatistics(v8RuntimePtr, values);
+    }
+
     protected void createTwin(final long v8RuntimePtr, final long objectHandle, final long twinHandle) {
         _createTwin(v8RuntimePtr, objectHandle, twinHandle);
     }
@@ -1147,6 +2027,114 @@ public class V8 extends V8Object {
         _executeVoidScript(v8RuntimePtr, script, scriptName, lineNumber);
     }
 
+    protected long[] compileScript(final long v8RuntimePtr, final String script, final String scriptName, final int lineNumber, final byte[] cachedData) {
+        return _compileScript(v8RuntimePtr, script, scriptName, lineNumber, cachedData);
+    }
+
+    protected Object executeCompiledScript(final long v8RuntimePtr, final int expectedType, final long scriptHandle) {
+        return _executeCompiledScript(v8RuntimePtr, expectedType, scriptHandle);
+    }
+
+    protected void executeVoidCompiledScript(final long v8RuntimePtr, final long scriptHandle) {
+        _executeVoidCompiledScript(v8RuntimePtr, scriptHandle);
+    }
+
+    protected byte[] createCodeCache(final long v8RuntimePtr, final long scriptHandle) {
+        return _createCodeCache(v8RuntimePtr, scriptHandle);
+    }
+
+    protected void releaseCompiledScript(final long v8RuntimePtr, final long scriptHandle) {
+        _releaseCompiledScript(v8RuntimePtr, scriptHandle);
+    }
+
+    protected ByteBuffer serialize(final long v8RuntimePtr, final long objectHandle) {
+        return _serialize(v8RuntimePtr, objectHandle);
+    }
+
+    protected void releaseSerializedData(final ByteBuffer data) {
+        _releaseSerializedData(data);
+    }
+
+    protected Object deserialize(final long v8RuntimePtr, final ByteBuffer data, final int offset, final int length) {
+        return _deserialize(v8RuntimePtr, data, offset, length);
+    }
+
+    protected Object parseJSON(final long v8RuntimePtr, final String json) {
+        return _parseJSON(v8RuntimePtr, json);
+    }
+
+    protected Object parseJSON(final long v8RuntimePtr, final ByteBuffer json, final int offset, final int length) {
+        return _parseJSON(v8RuntimePtr, json, offset, length);
+    }
+
+    protected byte[] toJSON(final long v8RuntimePtr, final long objectHandle) {
+        return _toJSON(v8RuntimePtr, objectHandle);
+    }
+
+    protected long createKey(final long v8RuntimePtr, final String name) {
+        return _createKey(v8RuntimePtr, name);
+    }
+
+    protected void releaseKey(final long v8RuntimePtr, final long keyHandle) {
+        _releaseKey(v8RuntimePtr, keyHandle);
+    }
+
+    protected boolean containsKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _containsKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected int getTypeByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _getTypeByKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected Object getByKey(final long v8RuntimePtr, final int expectedType, final long objectHandle, final long keyHandle) {
+        return _getByKey(v8RuntimePtr, expectedType, objectHandle, keyHandle);
+    }
+
+    protected int getIntegerByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _getIntegerByKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected double getDoubleByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _getDoubleByKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected boolean getBooleanByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _getBooleanByKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected String getStringByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        return _getStringByKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected void addByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final int value) {
+        _addByKey(v8RuntimePtr, objectHandle, keyHandle, value);
+    }
+
+    protected void addByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final double value) {
+        _addByKey(v8RuntimePtr, objectHandle, keyHandle, value);
+    }
+
+    protected void addByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final boolean value) {
+        _addByKey(v8RuntimePtr, objectHandle, keyHandle, value);
+    }
+
+    protected void addByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final String value) {
+        _addByKey(v8RuntimePtr, objectHandle, keyHandle, value);
+    }
+
+    protected void addObjectByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle, final long value) {
+        _addObjectByKey(v8RuntimePtr, objectHandle, keyHandle, value);
+    }
+
+    protected void addNullByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        _addNullByKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
+    protected void addUndefinedByKey(final long v8RuntimePtr, final long objectHandle, final long keyHandle) {
+        _addUndefinedByKey(v8RuntimePtr, objectHandle, keyHandle);
+    }
+
     protected void setWeak(final long v8RuntimePtr, final long objectHandle) {
         _setWeak(v8RuntimePtr, objectHandle);
     }
@@ -1163,6 +2151,10 @@ public class V8 extends V8Object {
         _release(v8RuntimePtr, objectHandle);
     }
 
+    protected void releaseHandles(final long v8RuntimePtr, final long[] objectHandles, final int length) {
+        _releaseHandles(v8RuntimePtr, objectHandles, length);
+    }
+
     protected boolean contains(final long v8RuntimePtr, final long objectHandle, final String key) {
         return _contains(v8RuntimePtr, objectHandle, key);
     }
@@ -1191,6 +2183,10 @@ public class V8 extends V8Object {
         return _get(v8RuntimePtr, expectedType, objectHandle, key);
     }
 
+    protected void getValues(final long v8RuntimePtr, final long objectHandle, final String[] keys, final int[] types, final Object[] values) {
+        _getValues(v8RuntimePtr, objectHandle, keys, types, values);
+    }
+
     protected int executeIntegerFunction(final long v8RuntimePtr, final long objectHandle, final String name, final long parametersHandle) {
         return _executeIntegerFunction(v8RuntimePtr, objectHandle, name, parametersHandle);
     }
@@ -1247,6 +2243,10 @@ public class V8 extends V8Object {
         _addObject(v8RuntimePtr, objectHandle, key, value);
     }
 
+    protected void setValues(final long v8RuntimePtr, final long objectHandle, final String[] keys, final int[] types, final double[] numbers, final long[] handles, final Object[] values) {
+        _setValues(v8RuntimePtr, objectHandle, keys, types, numbers, handles, values);
+    }
+
     protected void add(final long v8RuntimePtr, final long objectHandle, final String key, final boolean value) {
         _add(v8RuntimePtr, objectHandle, key, value);
     }
@@ -1271,6 +2271,22 @@ public class V8 extends V8Object {
         return _registerJavaMethod(v8RuntimePtr, objectHandle, functionName, voidMethod);
     }
 
+    protected long registerFastJavaMethod(final long v8RuntimePtr, final long objectHandle, final String functionName, final int returnType) {
+        return _registerFastJavaMethod(v8RuntimePtr, objectHandle, functionName, returnType);
+    }
+
+    protected ByteBuffer getCallbackArgumentBuffer(final long v8RuntimePtr) {
+        return _getCallbackArgumentBuffer(v8RuntimePtr);
+    }
+
+    protected Object getCallbackArgument(final long v8RuntimePtr, final long callbackInfoPtr, final int index, final int expectedType) {
+        return _getCallbackArgument(v8RuntimePtr, callbackInfoPtr, index, expectedType);
+    }
+
+    protected int getCallbackArgumentType(final long v8RuntimePtr, final long callbackInfoPtr, final int index) {
+        return _getCallbackArgumentType(v8RuntimePtr, callbackInfoPtr, index);
+    }
+
     protected long initNewV8ArrayBuffer(final long v8RuntimePtr, final ByteBuffer buffer, final int capacity) {
         return _initNewV8ArrayBuffer(v8RuntimePtr, buffer, capacity);
     }
@@ -1457,6 +2473,89 @@ public class V8 extends V8Object {
         _terminateExecution(v8RuntimePtr);
     }
 
+    protected void takeHeapSnapshot(final long v8RuntimePtr, final OutputStream out) throws IOException {
+        _takeHeapSnapshot(v8RuntimePtr, out);
+    }
+
+    protected boolean startSamplingHeapProfiler(final long v8RuntimePtr, final long samplingInterval, final int stackDepth) {
+        return _startSamplingHeapProfiler(v8RuntimePtr, samplingInterval, stackDepth);
+    }
+
+    protected void stopSamplingHeapProfiler(final long v8RuntimePtr) {
+        _stopSamplingHeapProfiler(v8RuntimePtr);
+    }
+
+    protected Object[] getAllocationProfile(final long v8RuntimePtr) {
+        return _getAllocationProfile(v8RuntimePtr);
+    }
+
+    protected void startCpuProfiling(final long v8RuntimePtr, final String title, final int samplingInterval) {
+        _startCpuProfiling(v8RuntimePtr, title, samplingInterval);
+    }
+
+    protected Object[] stopCpuProfiling(final long v8RuntimePtr, final String title) {
+        return _stopCpuProfiling(v8RuntimePtr, title);
+    }
+
+    protected void runMicrotasks(final long v8RuntimePtr) {
+        _runMicrotasks(v8RuntimePtr);
+    }
+
+    protected void setMicrotasksPolicy(final long v8RuntimePtr, final int policy) {
+        _setMicrotasksPolicy(v8RuntimePtr, policy);
+    }
+
+    protected void requestInterrupt(final long v8RuntimePtr) {
+        _requestInterrupt(v8RuntimePtr);
+    }
+
+    protected void cancelTerminateExecution(final long v8RuntimePtr) {
+        _cancelTerminateExecution(v8RuntimePtr);
+    }
+
+    /*
+     * Arms the watchdog for this runtime. Timeouts can be nested, in which
+     * case the earliest deadline wins. As termination unwinds the entire
+     * JavaScript stack, it also times out every enclosing execution.
+     * Returns the deadline that was in effect before, which must be passed
+     * to stopTimeout.
+     */
+    long startTimeout(final long timeout, final TimeUnit unit) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        V8Watchdog watchdog = V8Watchdog.getDefault();
+        long previousDeadline = watchdog.getDeadline(watchdogTimer);
+        watchdog.schedule(watchdogTimer, timeout, unit);
+        long deadline = watchdog.getDeadline(watchdogTimer);
+        if ((previousDeadline != 0) && (previousDeadline < deadline)) {
+            watchdog.scheduleAt(watchdogTimer, previousDeadline);
+        }
+        return previousDeadline;
+    }
+
+    void stopTimeout(final long previousDeadline) {
+        V8Watchdog watchdog = V8Watchdog.getDefault();
+        boolean expired = watchdog.cancel(watchdogTimer);
+        if (previousDeadline == 0) {
+            if (expired) {
+                // the timer may have fired after the script completed
+                cancelTerminateExecution(v8RuntimePtr);
+            }
+        } else if (expired) {
+            watchdog.expire(watchdogTimer);
+        } else {
+            watchdog.scheduleAt(watchdogTimer, previousDeadline);
+        }
+    }
+
+    RuntimeException checkTimeout(final V8RuntimeException e, final long timeout, final TimeUnit unit) {
+        if (V8Watchdog.getDefault().hasExpired(watchdogTimer)) {
+            return new V8TimeoutException("Script execution timed out after " + unit.toMillis(timeout) + " ms");
+        }
+        return e;
+    }
+
     protected void releaseMethodDescriptor(final long v8RuntimePtr, final long methodDescriptor) {
         _releaseMethodDescriptor(v8RuntimePtr, methodDescriptor);
     }
@@ -1471,11 +2570,20 @@ public class V8 extends V8Object {
 
     private native void _lowMemoryNotification(long v8RuntimePtr);
 
+    private native String[] _getHeapSpaceNames(long v8RuntimePtr);
+
+    private native void _getHeapStatistics(long v8RuntimePtr, long[] values);
+
+    private native void _getHeapCodeStatistics(long v8RuntimePtr, long[] values);
+
     private native void _createTwin(long v8RuntimePtr, long objectHandle, long twinHandle);
 
     private native void _releaseRuntime(long v8RuntimePtr);
 
-    private native long _createIsolate(String globalAlias);
+    private native long _createIsolate(String globalAlias, byte[] snapshotBlob, long maxOldGenerationSize, long maxYoungGenerationSize,
+            long initialOldGenerationSize, long initialYoungGenerationSize, long stackSize);
+
+    private native static byte[] _createSnapshot(String[] scripts, String[] scriptNames);
 
     private native long _createInspector(long v8RuntimePtr, final V8InspectorDelegate inspectorDelegate, final String contextName);
 
@@ -1495,8 +2603,64 @@ public class V8 extends V8Object {
 
     private native void _executeVoidScript(long v8RuntimePtr, String script, String scriptName, int lineNumber);
 
+    private native long[] _compileScript(long v8RuntimePtr, String script, String scriptName, int lineNumber, byte[] cachedData);
+
+    private native Object _executeCompiledScript(long v8RuntimePtr, int expectedType, long scriptHandle);
+
+    private native void _executeVoidCompiledScript(long v8RuntimePtr, long scriptHandle);
+
+    private native byte[] _createCodeCache(long v8RuntimePtr, long scriptHandle);
+
+    private native void _releaseCompiledScript(long v8RuntimePtr, long scriptHandle);
+
+    private native ByteBuffer _serialize(long v8RuntimePtr, long objectHandle);
+
+    private native void _releaseSerializedData(ByteBuffer data);
+
+    private native Object _deserialize(long v8RuntimePtr, ByteBuffer data, int offset, int length);
+
+    private native Object _parseJSON(long v8RuntimePtr, String json);
+
+    private native Object _parseJSON(long v8RuntimePtr, ByteBuffer json, int offset, int length);
+
+    private native byte[] _toJSON(long v8RuntimePtr, long objectHandle);
+
+    private native long _createKey(long v8RuntimePtr, String name);
+
+    private native void _releaseKey(long v8RuntimePtr, long keyHandle);
+
+    private native boolean _containsKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native int _getTypeByKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native Object _getByKey(long v8RuntimePtr, int expectedType, long objectHandle, long keyHandle);
+
+    private native int _getIntegerByKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native double _getDoubleByKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native boolean _getBooleanByKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native String _getStringByKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native void _addByKey(long v8RuntimePtr, long objectHandle, long keyHandle, int value);
+
+    private native void _addByKey(long v8RuntimePtr, long objectHandle, long keyHandle, double value);
+
+    private native void _addByKey(long v8RuntimePtr, long objectHandle, long keyHandle, boolean value);
+
+    private native void _addByKey(long v8RuntimePtr, long objectHandle, long keyHandle, String value);
+
+    private native void _addObjectByKey(long v8RuntimePtr, long objectHandle, long keyHandle, long value);
+
+    private native void _addNullByKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
+    private native void _addUndefinedByKey(long v8RuntimePtr, long objectHandle, long keyHandle);
+
     private native void _release(long v8RuntimePtr, long objectHandle);
 
+    private native void _releaseHandles(long v8RuntimePtr, long[] objectHandles, int length);
+
     private native void _releaseMethodDescriptor(long v8RuntimePtr, long methodDescriptor);
 
     private native boolean _contains(long v8RuntimePtr, long objectHandle, final String key);
@@ -1513,6 +2677,8 @@ public class V8 extends V8Object {
 
     private native Object _get(long v8RuntimePtr, int expectedType, long objectHandle, final String key);
 
+    private native void _getValues(long v8RuntimePtr, long objectHandle, String[] keys, int[] types, Object[] values);
+
     private native int _executeIntegerFunction(long v8RuntimePtr, long objectHandle, String name, long parametersHandle);
 
     private native double _executeDoubleFunction(long v8RuntimePtr, long objectHandle, String name, long parametersHandle);
@@ -1541,6 +2707,8 @@ public class V8 extends V8Object {
 
     private native void _addObject(long v8RuntimePtr, long objectHandle, final String key, final long value);
 
+    private native void _setValues(long v8RuntimePtr, long objectHandle, String[] keys, int[] types, double[] numbers, long[] handles, Object[] values);
+
     private native void _add(long v8RuntimePtr, long objectHandle, final String key, final boolean value);
 
     private native void _add(long v8RuntimePtr, long objectHandle, final String key, final double value);
@@ -1553,6 +2721,14 @@ public class V8 extends V8Object {
 
     private native long _registerJavaMethod(long v8RuntimePtr, long objectHandle, final String functionName, final boolean voidMethod);
 
+    private native long _registerFastJavaMethod(long v8RuntimePtr, long objectHandle, final String functionName, final int returnType);
+
+    private native ByteBuffer _getCallbackArgumentBuffer(long v8RuntimePtr);
+
+    private native Object _getCallbackArgument(long v8RuntimePtr, long callbackInfoPtr, int index, int expectedType);
+
+    private native int _getCallbackArgumentType(long v8RuntimePtr, long callbackInfoPtr, int index);
+
     private native long _initNewV8Array(long v8RuntimePtr);
 
     private native long[] _initNewV8Function(long v8RuntimePtr);
@@ -1657,6 +2833,26 @@ public class V8 extends V8Object {
 
     private native void _terminateExecution(final long v8RuntimePtr);
 
+    private native void _cancelTerminateExecution(final long v8RuntimePtr);
+
+    private native void _requestInterrupt(final long v8RuntimePtr);
+
+    private native void _runMicrotasks(final long v8RuntimePtr);
+
+    private native void _setMicrotasksPolicy(final long v8RuntimePtr, final int policy);
+
+    private native void _startCpuProfiling(final long v8RuntimePtr, final String title, final int samplingInterval);
+
+    private native Object[] _stopCpuProfiling(final long v8RuntimePtr, final String title);
+
+    private native void _takeHeapSnapshot(final long v8RuntimePtr, final OutputStream out) throws IOException;
+
+    private native boolean _startSamplingHeapProfiler(final long v8RuntimePtr, final long samplingInterval, final int stackDepth);
+
+    private native void _stopSamplingHeapProfiler(final long v8RuntimePtr);
+
+    private native Object[] _getAllocationProfile(final long v8RuntimePtr);
+
     private native long _getGlobalObject(final long v8RuntimePtr);
 
     private native static long _getBuildID();
@@ -1682,16 +2878,25 @@ public class V8 extends V8Object {
 
     void addObjRef(final V8Value reference) {
         objectReferences++;
+        if (scope != null) {
+            scope.add(reference);
+        }
         if (!referenceHandlers.isEmpty()) {
             notifyReferenceCreated(reference);
         }
     }
 
     void releaseObjRef(final V8Value reference) {
-        if (!referenceHandlers.isEmpty()) {
-            notifyReferenceDisposed(reference);
+        if (reference.owningScope != null) {
+            reference.owningScope.remove(reference);
+        }
+        try {
+            if (!referenceHandlers.isEmpty()) {
+                notifyReferenceDisposed(reference);
+            }
+        } finally {
+            objectReferences--;
         }
-        objectReferences--;
     }
 
 }
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The live allocations sampled by a {@link V8HeapProfiler}, as a tree of
+ * the call stacks that allocated them. All sizes are in bytes, and are
+ * estimates derived from the sampled allocations.
+ */
+public class V8AllocationProfile {
+
+    static final int         NODE_PARENT_INDEX = 0;
+    static final int         NODE_LINE         = 1;
+    static final int         NODE_COLUMN       = 2;
+    static final int         NODE_SCRIPT_ID    = 3;
+    static final int         NODE_FIELDS       = 4;
+    static final int         SIZE_FIELDS       = 2;
+
+    private final List<Node> nodes;
+
+    /**
+     * A call frame in the allocation tree.
+     */
+    public static class Node {
+
+        private final Node       parent;
+        private final String     functionName;
+        private final String     url;
+        private final int        scriptId;
+        private final int        lineNumber;
+        private final int        columnNumber;
+        private final long       selfSize;
+        private final long       allocationCount;
+        private final List<Node> children = new ArrayList<Node>();
+        private long             totalSize;
+
+        Node(final Node parent, final String functionName, final String url, final int scriptId, final int lineNumber,
+                final int columnNumber, final long selfSize, final long allocationCount) {
+            this.parent = parent;
+            this.functionName = functionName;
+            this.url = url;
+            this.scriptId = scriptId;
+            this.lineNumber = lineNumber;
+            this.columnNumber = columnNumber;
+            this.selfSize = selfSize;
+            this.allocationCount = allocationCount;
+        }
+
+        /**
+         * Returns the caller of this node, or null for the root.
+         *
+         * @return The parent node.
+         */
+        public Node getParent() {
+            return parent;
+        }
+
+        /**
+         * Returns the functions called from this node.
+         *
+         * @return The child nodes.
+         */
+        public List<Node> getChildren() {
+            return Collections.unmodifiableList(children);
+        }
+
+        /**
+         * Returns the name of the function, which is empty for anonymous functions.
+         *
+         * @return The function name.
+         */
+        public String getFunctionName() {
+            return functionName;
+        }
+
+        /**
+         * Returns the name of the script the function was defined in.
+         *
+         * @return The script name, or an empty string if unknown.
+         */
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * Returns the id of the script the function was defined in.
+         *
+         * @return The script id.
+         */
+        public int getScriptId() {
+            return scriptId;
+        }
+
+        /**
+         * Returns the line the function was defined at, starting at 1.
+         *
+         * @return The line number, or 0 if unknown.
+         */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Returns the column the function was defined at, starting at 1.
+         *
+         * @return The column number, or 0 if unknown.
+         */
+        public int getColumnNumber() {
+            return columnNumber;
+        }
+
+        /**
+         * Returns the size of the live objects allocated by this function
+         * itself.
+         *
+         * @return The self size in bytes.
+         */
+        public long getSelfSize() {
+            return selfSize;
+        }
+
+        /**
+         * Returns the size of the live objects allocated by this function
+         * and the functions it called.
+         *
+         * @return The total size in bytes.
+         */
+        public long getTotalSize() {
+            return totalSize;
+        }
+
+        /**
+         * Returns the number of sampled allocations of this function itself.
+         *
+         * @return The allocation count.
+         */
+        public long getAllocationCount() {
+            return allocationCount;
+        }
+
+    }
+
+    V8AllocationProfile(final Object[] profile) {
+        int[] nodeData = (int[]) profile[0];
+        long[] sizes = (long[]) profile[1];
+        String[] functionNames = (String[]) profile[2];
+        String[] urls = (String[]) profile[3];
+        // the nodes are in depth first order, so parents precede their children
+        Node[] nodeArray = new Node[functionNames.length];
+        for (int i = 0; i < nodeArray.length; i++) {
+            int offset = i * NODE_FIELDS;
+            int parentIndex = nodeData[offset + NODE_PARENT_INDEX];
+            Node parent = parentIndex < 0 ? null : nodeArray[parentIndex];
+            nodeArray[i] = new Node(parent, functionNames[i], urls[i], nodeData[offset + NODE_SCRIPT_ID], nodeData[offset + NODE_LINE],
+                    nodeData[offset + NODE_COLUMN], sizes[i * SIZE_FIELDS], sizes[(i * SIZE_FIELDS) + 1]);
+            if (parent != null) {
+                parent.children.add(nodeArray[i]);
+            }
+        }
+        for (int i = nodeArray.length - 1; i >= 0; i--) {
+            Node node = nodeArray[i];
+            node.totalSize += node.selfSize;
+            if (node.parent != null) {
+                node.parent.totalSize += node.totalSize;
+            }
+        }
+        List<Node> nodeList = new ArrayList<Node>(nodeArray.length);
+        Collections.addAll(nodeList, nodeArray);
+        nodes = Collections.unmodifiableList(nodeList);
+    }
+
+    /**
+     * Returns the root of the allocation tree.
+     *
+     * @return The root node.
+     */
+    public Node getRoot() {
+        return nodes.get(0);
+    }
+
+    /**
+     * Returns all nodes of the allocation tree, in depth first order.
+     *
+     * @return The nodes of the profile.
+     */
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the size of all live objects in the profile.
+     *
+     * @return The total size in bytes.
+     */
+    public long getTotalSize() {
+        return getRoot().getTotalSize();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "[AllocationProfile: " + nodes.size() + " nodes, " + getTotalSize() + " bytes]";
+    }
+
+}
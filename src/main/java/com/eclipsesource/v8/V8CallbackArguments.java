@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The arguments of a call to a {@link JavaFastCallback}. The types and the
+ * values of numeric and boolean arguments are copied into a buffer that is
+ * shared with the native runtime before the callback is invoked, so reading
+ * them does not require a call into V8. Strings and objects are fetched from
+ * the JavaScript call on demand.
+ *
+ * Instances are reused between calls and are only valid for the duration
+ * of the callback they were passed to.
+ */
+public final class V8CallbackArguments {
+
+    // must match the layout of the callback argument buffer in the native runtime
+    static final int FRAMES     = 32;
+    static final int SLOTS      = 8;
+    static final int FRAME_SIZE = SLOTS * (4 + 8);
+
+    private final V8         v8;
+    private final ByteBuffer buffer;
+    private long             callbackInfoPtr;
+    private int              length;
+    private int              buffered;
+    private int              typeOffset;
+    private int              valueOffset;
+    private boolean          valid;
+
+    V8CallbackArguments(final V8 v8, final ByteBuffer buffer) {
+        this.v8 = v8;
+        this.buffer = buffer;
+    }
+
+    void reset(final long callbackInfoPtr, final int length, final int frame) {
+        this.callbackInfoPtr = callbackInfoPtr;
+        this.length = length;
+        if (frame < 0) {
+            buffered = 0;
+        } else {
+            buffered = Math.min(length, SLOTS);
+            typeOffset = frame * FRAME_SIZE;
+            valueOffset = typeOffset + (SLOTS * 4);
+        }
+        valid = true;
+    }
+
+    void invalidate() {
+        valid = false;
+        callbackInfoPtr = 0;
+    }
+
+    /**
+     * Returns the runtime on which the callback was invoked.
+     *
+     * @return The V8 runtime.
+     */
+    public V8 getRuntime() {
+        return v8;
+    }
+
+    /**
+     * Returns the number of arguments passed to the function.
+     *
+     * @return The number of arguments.
+     */
+    public int length() {
+        checkValid();
+        return length;
+    }
+
+    /**
+     * Returns the type of the argument at the given index. If the index is
+     * out of bounds, UNDEFINED is returned.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The type of the argument.
+     */
+    public int getType(final int index) {
+        checkValid();
+        if (isBuffered(index)) {
+            return buffer.getInt(typeOffset + (index * 4));
+        }
+        if (isOutOfBounds(index)) {
+            return V8Value.UNDEFINED;
+        }
+        return v8.getCallbackArgumentType(v8.getV8RuntimePtr(), callbackInfoPtr, index);
+    }
+
+    /**
+     * Returns the argument at the given index as an integer. If the argument
+     * is not a number, a V8ResultUndefined exception is thrown.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The integer value of the argument.
+     */
+    public int getInteger(final int index) {
+        return (int) getNumber(index);
+    }
+
+    /**
+     * Returns the argument at the given index as a double. If the argument
+     * is not a number, a V8ResultUndefined exception is thrown.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The double value of the argument.
+     */
+    public double getDouble(final int index) {
+        return getNumber(index);
+    }
+
+    /**
+     * Returns the argument at the given index as a boolean. If the argument
+     * is not a boolean, a V8ResultUndefined exception is thrown.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The boolean value of the argument.
+     */
+    public boolean getBoolean(final int index) {
+        checkValid();
+        if (isBuffered(index)) {
+            if (buffer.getInt(typeOffset + (index * 4)) != V8Value.BOOLEAN) {
+                throw new V8ResultUndefined();
+            }
+            return buffer.getDouble(valueOffset + (index * 8)) != 0;
+        }
+        Object result = get(index);
+        if (result instanceof Boolean) {
+            return (Boolean) result;
+        }
+        releaseIfValue(result);
+        throw new V8ResultUndefined();
+    }
+
+    /**
+     * Returns the argument at the given index as a String. If the argument
+     * is null, null is returned. If the argument is not a String, a
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The String value of the argument.
+     */
+    public String getString(final int index) {
+        checkValid();
+        Object result = !isOutOfBounds(index) ? v8.getCallbackArgument(v8.getV8RuntimePtr(), callbackInfoPtr, index, V8Value.STRING) : null;
+        if ((result == null) && (getType(index) == V8Value.NULL)) {
+            return null;
+        }
+        if (result instanceof String) {
+            return (String) result;
+        }
+        releaseIfValue(result);
+        throw new V8ResultUndefined();
+    }
+
+    /**
+     * Returns the argument at the given index. Primitives are boxed, and
+     * objects are returned as V8Values that must be released. Undefined
+     * arguments are returned as {@link V8#getUndefined()}.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The argument.
+     */
+    public Object get(final int index) {
+        checkValid();
+        if (isBuffered(index)) {
+            int type = buffer.getInt(typeOffset + (index * 4));
+            switch (type) {
+                case V8Value.INTEGER:
+                    return (int) buffer.getDouble(valueOffset + (index * 8));
+                case V8Value.DOUBLE:
+                    return buffer.getDouble(valueOffset + (index * 8));
+                case V8Value.BOOLEAN:
+                    return buffer.getDouble(valueOffset + (index * 8)) != 0;
+                case V8Value.NULL:
+                    return null;
+                case V8Value.UNDEFINED:
+                    return V8.getUndefined();
+            }
+        }
+        if (isOutOfBounds(index)) {
+            return V8.getUndefined();
+        }
+        return v8.getCallbackArgument(v8.getV8RuntimePtr(), callbackInfoPtr, index, V8Value.V8_OBJECT);
+    }
+
+    /**
+     * Returns the argument at the given index as a V8Object, which must be
+     * released. If the argument is undefined an undefined V8Object is
+     * returned. If it is not an object, a V8ResultUndefined exception is thrown.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The V8Object value of the argument.
+     */
+    public V8Object getObject(final int index) {
+        Object result = get(index);
+        if ((result == null) || (result instanceof V8Object)) {
+            return (V8Object) result;
+        }
+        releaseIfValue(result);
+        throw new V8ResultUndefined();
+    }
+
+    /**
+     * Returns the argument at the given index as a V8Array, which must be
+     * released. If the argument is undefined an undefined V8Array is
+     * returned. If it is not an array, a V8ResultUndefined exception is thrown.
+     *
+     * @param index The index of the argument.
+     *
+     * @return The V8Array value of the argument.
+     */
+    public V8Array getArray(final int index) {
+        checkValid();
+        Object result = !isOutOfBounds(index) ? v8.getCallbackArgument(v8.getV8RuntimePtr(), callbackInfoPtr, index, V8Value.V8_ARRAY) : new V8Array.Undefined();
+        if ((result == null) || (result instanceof V8Array)) {
+            return (V8Array) result;
+        }
+        releaseIfValue(result);
+        throw new V8ResultUndefined();
+    }
+
+    /**
+     * Returns the receiver of the call, the object on which the function
+     * was invoked. The receiver must be released.
+     *
+     * @return The receiver of the call.
+     */
+    public V8Object getReceiver() {
+        checkValid();
+        Object result = v8.getCallbackArgument(v8.getV8RuntimePtr(), callbackInfoPtr, -1, V8Value.V8_OBJECT);
+        if (result instanceof V8Object) {
+            return (V8Object) result;
+        }
+        releaseIfValue(result);
+        return new V8Object.Undefined();
+    }
+
+    private double getNumber(final int index) {
+        checkValid();
+        if (isBuffered(index)) {
+            int type = buffer.getInt(typeOffset + (index * 4));
+            if ((type != V8Value.INTEGER) && (type != V8Value.DOUBLE)) {
+                throw new V8ResultUndefined();
+            }
+            return buffer.getDouble(valueOffset + (index * 8));
+        }
+        Object result = get(index);
+        if (result instanceof Number) {
+            return ((Number) result).doubleValue();
+        }
+        releaseIfValue(result);
+        throw new V8ResultUndefined();
+    }
+
+    private boolean isBuffered(final int index) {
+        return (index >= 0) && (index < buffered);
+    }
+
+    private boolean isOutOfBounds(final int index) {
+        return (index < 0) || (index >= length);
+    }
+
+    private void releaseIfValue(final Object value) {
+        if (value instanceof Releasable) {
+            ((Releasable) value).release();
+        }
+    }
+
+    private void checkValid() {
+        v8.checkThread();
+        if (!valid) {
+            throw new IllegalStateException("Callback arguments are only valid during the callback");
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        if (!valid) {
+            return "[Callback arguments released]";
+        }
+        return "[Callback arguments: " + length + "]";
+    }
+
+}
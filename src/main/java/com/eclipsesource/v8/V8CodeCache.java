@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A store for V8 code cache data. When a script is compiled with a
+ * code cache, the cache is consulted before the script is parsed. If
+ * cached data exists and is accepted by V8, parsing and compilation are
+ * skipped. Otherwise the script is compiled and the resulting code cache
+ * is stored for the next compilation.
+ *
+ * Keys are computed by J2V8 from the V8 version and the script source.
+ * Implementations must be safe to use from any thread that owns a runtime.
+ */
+public interface V8CodeCache {
+
+    /**
+     * Returns the cached data associated with the given key.
+     *
+     * @param key The key computed for the script source.
+     *
+     * @return The cached data, or null if nothing is cached for this key.
+     */
+    public byte[] get(String key);
+
+    /**
+     * Stores the cached data for the given key.
+     *
+     * @param key The key computed for the script source.
+     * @param data The code cache produced by V8.
+     */
+    public void put(String key, byte[] data);
+
+}
@@ -0,0 +1,525 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.eclipsesource.v8.utils.collections.LongMap;
+
+/**
+ * A CPU profile recorded by a {@link V8CpuProfiler}. The profile is a tree
+ * of call frames, and a list of samples that refer to the frame that was
+ * executing when the sample was taken. All times are in microseconds.
+ *
+ * Profiles can be written in the .cpuprofile format, which can be loaded
+ * into the Chrome DevTools, or summarized as the time spent per function
+ * or per script.
+ */
+public class V8CpuProfile {
+
+    static final int           NODE_ID          = 0;
+    static final int           NODE_PARENT_ID   = 1;
+    static final int           NODE_HIT_COUNT   = 2;
+    static final int           NODE_LINE        = 3;
+    static final int           NODE_COLUMN      = 4;
+    static final int           NODE_SCRIPT_ID   = 5;
+    static final int           NODE_FIELDS      = 6;
+
+    private final String       title;
+    private final long         startTime;
+    private final long         endTime;
+    private final List<Node>   nodes;
+    private final Node[]       samples;
+    private final long[]       timestamps;
+
+    /**
+     * A call frame in the tree of a profile.
+     */
+    public static class Node {
+
+        private final int        id;
+        private final Node       parent;
+        private final String     functionName;
+        private final String     url;
+        private final int        scriptId;
+        private final int        lineNumber;
+        private final int        columnNumber;
+        private final int        hitCount;
+        private final List<Node> children = new ArrayList<Node>();
+        private long             selfTime;
+
+        Node(final int id, final Node parent, final String functionName, final String url, final int scriptId,
+                final int lineNumber, final int columnNumber, final int hitCount) {
+            this.id = id;
+            this.parent = parent;
+            this.functionName = functionName;
+            this.url = url;
+            this.scriptId = scriptId;
+            this.lineNumber = lineNumber;
+            this.columnNumber = columnNumber;
+            this.hitCount = hitCount;
+        }
+
+        /**
+         * Returns the id of this node, which is unique within the profile.
+         *
+         * @return The id of the node.
+         */
+        public int getId() {
+            return id;
+        }
+
+        /**
+         * Returns the caller of this node, or null for the root.
+         *
+         * @return The parent node.
+         */
+        public Node getParent() {
+            return parent;
+        }
+
+        /**
+         * Returns the functions called from this node.
+         *
+         * @return The child nodes.
+         */
+        public List<Node> getChildren() {
+            return Collections.unmodifiableList(children);
+        }
+
+        /**
+         * Returns the name of the function, which is empty for anonymous
+         * functions. Nodes that do not represent JavaScript, such as
+         * (root), (program) or (garbage collector), are named in brackets.
+         *
+         * @return The function name.
+         */
+        public String getFunctionName() {
+            return functionName;
+        }
+
+        /**
+         * Returns the name of the script the function was defined in.
+         *
+         * @return The script name, or an empty string if unknown.
+         */
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * Returns the id of the script the function was defined in.
+         *
+         * @return The script id.
+         */
+        public int getScriptId() {
+            return scriptId;
+        }
+
+        /**
+         * Returns the line the function was defined at, starting at 1.
+         *
+         * @return The line number, or 0 if unknown.
+         */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Returns the column the function was defined at, starting at 1.
+         *
+         * @return The column number, or 0 if unknown.
+         */
+        public int getColumnNumber() {
+            return columnNumber;
+        }
+
+        /**
+         * Returns the number of samples taken while this node was executing.
+         *
+         * @return The hit count.
+         */
+        public int getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * Returns the time spent executing this node, not counting
+         * the time spent in its children.
+         *
+         * @return The self time in microseconds.
+         */
+        public long getSelfTime() {
+            return selfTime;
+        }
+
+    }
+
+    /**
+     * The time spent in a function or a script, summed over all call
+     * frames of the profile in which it was executing.
+     */
+    public static class Statistics {
+
+        private final String functionName;
+        private final String url;
+        private final int    lineNumber;
+        private final int    columnNumber;
+        private long         selfTime;
+        private long         totalTime;
+        private int          lastSample = -1;
+
+        Statistics(final String functionName, final String url, final int lineNumber, final int columnNumber) {
+            this.functionName = functionName;
+            this.url = url;
+            this.lineNumber = lineNumber;
+            this.columnNumber = columnNumber;
+        }
+
+        /**
+         * Returns the name of the function, or null for script statistics.
+         *
+         * @return The function name.
+         */
+        public String getFunctionName() {
+            return functionName;
+        }
+
+        /**
+         * Returns the name of the script.
+         *
+         * @return The script name, or an empty string if unknown.
+         */
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * Returns the line the function was defined at, starting at 1.
+         *
+         * @return The line number, or 0 for script statistics.
+         */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Returns the column the function was defined at, starting at 1.
+         *
+         * @return The column number, or 0 for script statistics.
+         */
+        public int getColumnNumber() {
+            return columnNumber;
+        }
+
+        /**
+         * Returns the time spent executing the function or script itself.
+         *
+         * @return The self time in microseconds.
+         */
+        public long getSelfTime() {
+            return selfTime;
+        }
+
+        /**
+         * Returns the time spent executing the function or script, including
+         * the functions it called. Recursive calls are only counted once.
+         *
+         * @return The total time in microseconds.
+         */
+        public long getTotalTime() {
+            return totalTime;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString() {
+            StringBuilder result = new StringBuilder();
+            if (functionName != null) {
+                result.append(functionName.length() == 0 ? "(anonymous)" : functionName).append(' ');
+            }
+            result.append(url.length() == 0 ? "(unknown)" : url);
+            if (lineNumber > 0) {
+                result.append(':').append(lineNumber).append(':').append(columnNumber);
+            }
+            return result.append(" self=").append(selfTime).append("us total=").append(totalTime).append("us").toString();
+        }
+
+    }
+
+    V8CpuProfile(final String title, final Object[] profile) {
+        this.title = title;
+        long[] times = (long[]) profile[0];
+        int[] nodeData = (int[]) profile[1];
+        String[] functionNames = (String[]) profile[2];
+        String[] urls = (String[]) profile[3];
+        int[] sampleIds = (int[]) profile[4];
+        startTime = times[0];
+        endTime = times[1];
+        timestamps = (long[]) profile[5];
+        // the nodes are in depth first order, so parents precede their children
+        LongMap<Node> nodesById = new LongMap<Node>();
+        List<Node> nodeList = new ArrayList<Node>(functionNames.length);
+        for (int i = 0; i < functionNames.length; i++) {
+            int offset = i * NODE_FIELDS;
+            Node parent = nodesById.get(nodeData[offset + NODE_PARENT_ID]);
+            Node node = new Node(nodeData[offset + NODE_ID], parent, functionNames[i], urls[i], nodeData[offset + NODE_SCRIPT_ID],
+                    nodeData[offset + NODE_LINE], nodeData[offset + NODE_COLUMN], nodeData[offset + NODE_HIT_COUNT]);
+            if (parent != null) {
+                parent.children.add(node);
+            }
+            nodesById.put(node.id, node);
+            nodeList.add(node);
+        }
+        nodes = Collections.unmodifiableList(nodeList);
+        samples = new Node[sampleIds.length];
+        for (int i = 0; i < sampleIds.length; i++) {
+            samples[i] = nodesById.get(sampleIds[i]);
+            samples[i].selfTime += getSampleDuration(i);
+        }
+    }
+
+    /**
+     * Returns the title the profile was recorded with.
+     *
+     * @return The title of the profile.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the time at which the profile was started.
+     *
+     * @return The start time in microseconds.
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the time at which the profile was stopped.
+     *
+     * @return The end time in microseconds.
+     */
+    public long getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * Returns the root of the call tree.
+     *
+     * @return The root node.
+     */
+    public Node getRoot() {
+        return nodes.get(0);
+    }
+
+    /**
+     * Returns all nodes of the call tree, in depth first order.
+     *
+     * @return The nodes of the profile.
+     */
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the number of samples in the profile.
+     *
+     * @return The sample count.
+     */
+    public int getSampleCount() {
+        return samples.length;
+    }
+
+    /**
+     * Returns the time spent in each function, ordered by self time
+     * with the most expensive function first.
+     *
+     * @return The statistics of all functions in the profile.
+     */
+    public List<Statistics> getFunctionStatistics() {
+        return aggregate(true);
+    }
+
+    /**
+     * Returns the time spent in each script, ordered by self time
+     * with the most expensive script first.
+     *
+     * @return The statistics of all scripts in the profile.
+     */
+    public List<Statistics> getScriptStatistics() {
+        return aggregate(false);
+    }
+
+    /**
+     * Writes the profile in the .cpuprofile JSON format of the Chrome DevTools.
+     * The stream is not closed.
+     *
+     * @param out The stream to write to.
+     *
+     * @throws IOException If the profile could not be written.
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, "UTF-8"));
+        writer.write("{\"nodes\":[");
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write("{\"id\":" + node.id + ",\"callFrame\":{\"functionName\":");
+            writeString(writer, node.functionName);
+            writer.write(",\"scriptId\":\"" + node.scriptId + "\",\"url\":");
+            writeString(writer, node.url);
+            // the DevTools count lines and columns from 0
+            writer.write(",\"lineNumber\":" + (node.lineNumber - 1) + ",\"columnNumber\":" + (node.columnNumber - 1));
+            writer.write("},\"hitCount\":" + node.hitCount);
+            if (!node.children.isEmpty()) {
+                writer.write(",\"children\":[");
+                for (int j = 0; j < node.children.size(); j++) {
+                    if (j > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(Integer.toString(node.children.get(j).id));
+                }
+                writer.write(']');
+            }
+            writer.write('}');
+        }
+        writer.write("],\"startTime\":" + startTime + ",\"endTime\":" + endTime + ",\"samples\":[");
+        for (int i = 0; i < samples.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(Integer.toString(samples[i].id));
+        }
+        writer.write("],\"timeDeltas\":[");
+        for (int i = 0; i < timestamps.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(Long.toString(timestamps[i] - (i == 0 ? startTime : timestamps[i - 1])));
+        }
+        writer.write("]}");
+        writer.flush();
+    }
+
+    /**
+     * Writes the profile in the .cpuprofile JSON format of the Chrome DevTools
+     * to the given file.
+     *
+     * @param file The file to write to.
+     *
+     * @throws IOException If the profile could not be written.
+     */
+    public void writeTo(final File file) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            writeTo(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "[CpuProfile " + title + ": " + samples.length + " samples, " + (endTime - startTime) + "us]";
+    }
+
+    private long getSampleDuration(final int sample) {
+        long end = sample + 1 < timestamps.length ? timestamps[sample + 1] : endTime;
+        return Math.max(0, end - timestamps[sample]);
+    }
+
+    private List<Statistics> aggregate(final boolean byFunction) {
+        Map<String, Statistics> statisticsByKey = new HashMap<String, Statistics>();
+        LongMap<Statistics> statisticsById = new LongMap<Statistics>();
+        // the root spans the entire profile, so it is not reported
+        for (int i = 1; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            String key = byFunction ? node.functionName + '\0' + node.url + '\0' + node.lineNumber + '\0' + node.columnNumber : node.url;
+            Statistics statistics = statisticsByKey.get(key);
+            if (statistics == null) {
+                statistics = byFunction ? new Statistics(node.functionName, node.url, node.lineNumber, node.columnNumber)
+                        : new Statistics(null, node.url, 0, 0);
+                statisticsByKey.put(key, statistics);
+            }
+            statistics.selfTime += node.selfTime;
+            statisticsById.put(node.id, statistics);
+        }
+        for (int i = 0; i < samples.length; i++) {
+            long duration = getSampleDuration(i);
+            for (Node node = samples[i]; node.parent != null; node = node.parent) {
+                Statistics statistics = statisticsById.get(node.id);
+                // a function that is on the stack several times is only counted once
+                if (statistics.lastSample != i) {
+                    statistics.lastSample = i;
+                    statistics.totalTime += duration;
+                }
+            }
+        }
+        List<Statistics> result = new ArrayList<Statistics>(statisticsByKey.values());
+        Collections.sort(result, new Comparator<Statistics>() {
+
+            @Override
+            public int compare(final Statistics s1, final Statistics s2) {
+                if (s1.selfTime != s2.selfTime) {
+                    return s1.selfTime < s2.selfTime ? 1 : -1;
+                }
+                return s1.totalTime < s2.totalTime ? 1 : (s1.totalTime == s2.totalTime ? 0 : -1);
+            }
+        });
+        return result;
+    }
+
+    private static void writeString(final Writer writer, final String string) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if ((c == '"') || (c == '\\')) {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < 0x20) {
+                String hex = Integer.toHexString(c);
+                writer.write("\\u");
+                for (int j = hex.length(); j < 4; j++) {
+                    writer.write('0');
+                }
+                writer.write(hex);
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
+}
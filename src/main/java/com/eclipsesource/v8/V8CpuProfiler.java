@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records CPU profiles of the JavaScript executed on a runtime, using
+ * V8's sampling CPU profiler.
+ *
+ * A profile is started and stopped by title, and several profiles can be
+ * recorded at once. The profiler must be used on the thread that holds
+ * the lock of the runtime.
+ */
+public class V8CpuProfiler {
+
+    private final V8 v8;
+    private int      samplingInterval = 0;
+
+    /**
+     * Creates a CPU profiler for the given runtime.
+     *
+     * @param v8 The runtime to profile.
+     */
+    public V8CpuProfiler(final V8 v8) {
+        this.v8 = v8;
+    }
+
+    /**
+     * Sets the interval at which the executing JavaScript is sampled for
+     * profiles that are started after this call. Shorter intervals give
+     * more accurate profiles at a higher overhead. If no interval is set,
+     * V8's default interval is used.
+     *
+     * @param interval The sampling interval.
+     * @param unit The unit of the interval.
+     *
+     * @return The receiver.
+     */
+    public V8CpuProfiler setSamplingInterval(final long interval, final TimeUnit unit) {
+        long micros = unit.toMicros(interval);
+        if ((micros <= 0) || (micros > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("Invalid sampling interval: " + interval + " " + unit);
+        }
+        samplingInterval = (int) micros;
+        return this;
+    }
+
+    /**
+     * Returns the runtime this profiler records.
+     *
+     * @return The V8 runtime.
+     */
+    public V8 getRuntime() {
+        return v8;
+    }
+
+    /**
+     * Starts recording a profile with the given title. If a profile with the
+     * same title is already being recorded, this call has no effect.
+     *
+     * @param title The title of the profile.
+     */
+    public void startProfiling(final String title) {
+        checkTitle(title);
+        v8.checkThread();
+        v8.checkReleased();
+        v8.startCpuProfiling(v8.getV8RuntimePtr(), title, samplingInterval);
+    }
+
+    /**
+     * Stops recording the profile with the given title and returns it.
+     *
+     * @param title The title of the profile.
+     *
+     * @return The recorded profile.
+     */
+    public V8CpuProfile stopProfiling(final String title) {
+        checkTitle(title);
+        v8.checkThread();
+        v8.checkReleased();
+        Object[] profile = v8.stopCpuProfiling(v8.getV8RuntimePtr(), title);
+        if (profile == null) {
+            throw new IllegalStateException("No profile is being recorded with the title: " + title);
+        }
+        return new V8CpuProfile(title, profile);
+    }
+
+    private void checkTitle(final String title) {
+        if (title == null) {
+            throw new IllegalArgumentException("Title cannot be null");
+        }
+    }
+
+}
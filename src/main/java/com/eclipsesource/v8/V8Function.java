@@ -10,6 +10,8 @@
  ******************************************************************************/
 package com.eclipsesource.v8;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * A V8Value that represents a JavaScript function.
  * JavaScript functions cannot be created in Java, but
@@ -95,4 +97,53 @@ public class V8Function extends V8Object {
         return v8.executeFunction(v8.getV8RuntimePtr(), receiverHandle, objectHandle, parametersHandle);
     }
 
+    /**
+     * Invoke the JavaScript function on the current runtime and returns a future
+     * that completes when the promise returned by the function settles. If the
+     * function does not return a promise, the future completes with its result.
+     *
+     * @param receiver The object on which to call the function on. The
+     * receiver will be mapped to 'this' in JavaScript. If receiver is null
+     * or undefined, then the V8 runtime will be used instead.
+     * @param parameters The parameters passed to the JS Function.
+     *
+     * @return A future for the value of the promise.
+     */
+    public V8Future callAsync(final V8Object receiver, final V8Array parameters) {
+        return v8.createFuture(call(receiver, parameters));
+    }
+
+    /**
+     * Invoke the JavaScript function on the current runtime. If the function
+     * does not return within the given time, it is terminated and a
+     * V8TimeoutException is thrown.
+     *
+     * @param receiver The object on which to call the function on. The
+     * receiver will be mapped to 'this' in JavaScript. If receiver is null
+     * or undefined, then the V8 runtime will be used instead.
+     * @param parameters The parameters passed to the JS Function.
+     * @param timeout The maximum time the function may execute.
+     * @param unit The unit of the timeout.
+     *
+     * @return The result of JavaScript function.
+     */
+    @SuppressWarnings("resource")
+    public Object call(V8Object receiver, final V8Array parameters, final long timeout, final TimeUnit unit) {
+        v8.checkThread();
+        checkReleased();
+        v8.checkRuntime(receiver);
+        v8.checkRuntime(parameters);
+        receiver = receiver != null ? receiver : v8;
+        long parametersHandle = parameters == null ? 0 : parameters.getHandle();
+        long receiverHandle = receiver.isUndefined() ? v8.getHandle() : receiver.getHandle();
+        long previousDeadline = v8.startTimeout(timeout, unit);
+        try {
+            return v8.executeFunction(v8.getV8RuntimePtr(), receiverHandle, objectHandle, parametersHandle);
+        } catch (V8RuntimeException e) {
+            throw v8.checkTimeout(e, timeout, unit);
+        } finally {
+            v8.stopTimeout(previousDeadline);
+        }
+    }
+
 }
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The eventual result of an asynchronous JavaScript execution, which is
+ * settled when the JavaScript promise it represents settles. A future is
+ * obtained with {@link V8#executeAsync(String)} or
+ * {@link V8Function#callAsync(V8Object, V8Array)}.
+ *
+ * Promises settle while microtasks run on the thread that holds the lock
+ * of the runtime, so listeners are notified on that thread. If the result
+ * is a V8Value, it must be released by the caller.
+ */
+public class V8Future implements Future<Object> {
+
+    private final V8         v8;
+    private boolean          done;
+    private boolean          cancelled;
+    private Object           result;
+    private RuntimeException exception;
+    private List<Listener>   listeners;
+
+    /**
+     * Listeners are notified once a future has completed.
+     */
+    public interface Listener {
+
+        /**
+         * Called when the future has completed.
+         *
+         * @param future The future that completed.
+         */
+        public void onComplete(V8Future future);
+
+    }
+
+    V8Future(final V8 v8) {
+        this.v8 = v8;
+    }
+
+    /**
+     * Adds a listener that is notified once the future completed. If the
+     * future has already completed, the listener is notified immediately.
+     *
+     * @param listener The listener to notify.
+     */
+    public void addListener(final Listener listener) {
+        synchronized (this) {
+            if (!done) {
+                if (listeners == null) {
+                    listeners = new ArrayList<Listener>();
+                }
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.onComplete(this);
+    }
+
+    /**
+     * Returns the runtime on which the promise is executing.
+     *
+     * @return The V8 runtime.
+     */
+    public V8 getRuntime() {
+        return v8;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.Future#cancel(boolean)
+     */
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        synchronized (this) {
+            if (done) {
+                return false;
+            }
+            cancelled = true;
+        }
+        complete(null, null);
+        return true;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.Future#isCancelled()
+     */
+    @Override
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.Future#isDone()
+     */
+    @Override
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Determines if the promise was rejected.
+     *
+     * @return True if the promise was rejected, false otherwise.
+     */
+    public synchronized boolean isRejected() {
+        return exception != null;
+    }
+
+    /**
+     * Waits for the promise to settle and returns its value. When called
+     * on the thread that holds the lock of the runtime, the runtime keeps
+     * running microtasks and settling the promises of Java callbacks while
+     * waiting, as no other thread can settle the promise. If nothing is left
+     * that could settle the promise, an IllegalStateException is thrown.
+     *
+     * @return The value the promise was fulfilled with. Primitives are boxed.
+     *
+     * @throws ExecutionException If the promise was rejected, with a
+     * V8RuntimeException describing the reason as its cause.
+     * @throws InterruptedException If the thread was interrupted while waiting.
+     */
+    @Override
+    public Object get() throws InterruptedException, ExecutionException {
+        if (v8.getLocker().hasLock()) {
+            try {
+                runUntilDone(0);
+            } catch (TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        synchronized (this) {
+            while (!done) {
+                wait();
+            }
+            return getResult();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.Future#get(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public Object get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (v8.getLocker().hasLock()) {
+            runUntilDone(deadline);
+        }
+        synchronized (this) {
+            while (!done) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return getResult();
+        }
+    }
+
+    void complete(final Object value, final RuntimeException e) {
+        List<Listener> toNotify;
+        synchronized (this) {
+            if (done) {
+                // the promise settled after the future was cancelled
+                if (value instanceof Releasable) {
+                    ((Releasable) value).close();
+                }
+                return;
+            }
+            done = true;
+            result = value;
+            exception = e;
+            toNotify = listeners;
+            listeners = null;
+            notifyAll();
+        }
+        if (toNotify != null) {
+            for (Listener listener : toNotify) {
+                listener.onComplete(this);
+            }
+        }
+    }
+
+    private Object getResult() throws ExecutionException {
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        if (exception != null) {
+            throw new ExecutionException(exception);
+        }
+        return result;
+    }
+
+    /*
+     * Drives the runtime until the promise settled. A deadline of 0 waits forever.
+     */
+    private void runUntilDone(final long deadline) throws InterruptedException, TimeoutException {
+        while (!isDone()) {
+            v8.runMicrotasks();
+            if (isDone()) {
+                return;
+            }
+            long remaining = 0;
+            if (deadline != 0) {
+                remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+            }
+            if (!v8.awaitCompletions(remaining)) {
+                throw new IllegalStateException("Promise cannot settle while the runtime thread is waiting for it");
+            }
+        }
+    }
+
+}
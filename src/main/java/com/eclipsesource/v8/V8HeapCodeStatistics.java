@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * Statistics about the code and the contexts of a V8 runtime. Unlike
+ * {@link V8HeapStatistics}, these are computed by walking the heap, so they
+ * can only be obtained with {@link V8#getHeapCodeStatistics()} on the thread
+ * that holds the lock of the runtime, and are more expensive to collect.
+ * All sizes are in bytes.
+ */
+public class V8HeapCodeStatistics {
+
+    static final int     CODE_AND_METADATA_SIZE      = 0;
+    static final int     BYTECODE_AND_METADATA_SIZE  = 1;
+    static final int     EXTERNAL_SCRIPT_SOURCE_SIZE = 2;
+    static final int     NUMBER_OF_NATIVE_CONTEXTS   = 3;
+    static final int     NUMBER_OF_DETACHED_CONTEXTS = 4;
+    static final int     FIELDS                      = 5;
+
+    private final long[] values;
+
+    V8HeapCodeStatistics(final long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the memory used by compiled code and its metadata.
+     *
+     * @return The code and metadata size.
+     */
+    public long getCodeAndMetadataSize() {
+        return values[CODE_AND_METADATA_SIZE];
+    }
+
+    /**
+     * Returns the memory used by bytecode and its metadata.
+     *
+     * @return The bytecode and metadata size.
+     */
+    public long getBytecodeAndMetadataSize() {
+        return values[BYTECODE_AND_METADATA_SIZE];
+    }
+
+    /**
+     * Returns the size of script sources held outside of the heap.
+     *
+     * @return The external script source size.
+     */
+    public long getExternalScriptSourceSize() {
+        return values[EXTERNAL_SCRIPT_SOURCE_SIZE];
+    }
+
+    /**
+     * Returns the number of contexts that are alive in the runtime.
+     *
+     * @return The number of native contexts.
+     */
+    public long getNumberOfNativeContexts() {
+        return values[NUMBER_OF_NATIVE_CONTEXTS];
+    }
+
+    /**
+     * Returns the number of contexts that are no longer used but have not
+     * been collected yet. A number that keeps growing indicates a leak.
+     *
+     * @return The number of detached contexts.
+     */
+    public long getNumberOfDetachedContexts() {
+        return values[NUMBER_OF_DETACHED_CONTEXTS];
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "V8HeapCodeStatistics[code=" + getCodeAndMetadataSize() + ", bytecode=" + getBytecodeAndMetadataSize()
+                + ", contexts=" + getNumberOfNativeContexts() + "]";
+    }
+
+}
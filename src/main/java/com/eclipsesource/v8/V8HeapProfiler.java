@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * Attributes the memory allocated by JavaScript to the functions that
+ * allocated it, using V8's sampling heap profiler. As only a sample of
+ * the allocations is recorded, the profiler has a low overhead and can be
+ * left running in production.
+ *
+ * The profile reports the objects that are still alive, which makes it
+ * suitable to find the origin of a growing heap. For a complete view of
+ * the heap, use {@link V8#takeHeapSnapshot(java.io.OutputStream)}. The
+ * profiler must be used on the thread that holds the lock of the runtime.
+ */
+public class V8HeapProfiler {
+
+    /**
+     * The default average number of bytes between two samples.
+     */
+    public static final long DEFAULT_SAMPLING_INTERVAL = 512 * 1024;
+
+    /**
+     * The default maximum number of stack frames recorded for a sample.
+     */
+    public static final int  DEFAULT_STACK_DEPTH       = 16;
+
+    private final V8         v8;
+    private boolean          sampling                  = false;
+
+    /**
+     * Creates a heap profiler for the given runtime.
+     *
+     * @param v8 The runtime to profile.
+     */
+    public V8HeapProfiler(final V8 v8) {
+        this.v8 = v8;
+    }
+
+    /**
+     * Returns the runtime this profiler records.
+     *
+     * @return The V8 runtime.
+     */
+    public V8 getRuntime() {
+        return v8;
+    }
+
+    /**
+     * Starts sampling allocations with the default sampling interval
+     * and stack depth.
+     */
+    public void startSampling() {
+        startSampling(DEFAULT_SAMPLING_INTERVAL, DEFAULT_STACK_DEPTH);
+    }
+
+    /**
+     * Starts sampling allocations. Smaller intervals give more accurate
+     * profiles at a higher overhead.
+     *
+     * @param samplingInterval The average number of bytes between two samples.
+     * @param stackDepth The maximum number of stack frames recorded for a sample.
+     */
+    public void startSampling(final long samplingInterval, final int stackDepth) {
+        if (samplingInterval <= 0) {
+            throw new IllegalArgumentException("Sampling interval must be positive");
+        }
+        if (stackDepth <= 0) {
+            throw new IllegalArgumentException("Stack depth must be positive");
+        }
+        v8.checkThread();
+        v8.checkReleased();
+        if (!v8.startSamplingHeapProfiler(v8.getV8RuntimePtr(), samplingInterval, stackDepth)) {
+            throw new IllegalStateException("Sampling heap profiler is already running");
+        }
+        sampling = true;
+    }
+
+    /**
+     * Returns the allocations sampled since sampling was started, that
+     * are still alive. Sampling continues after this call.
+     *
+     * @return The allocation profile.
+     */
+    public V8AllocationProfile getAllocationProfile() {
+        v8.checkThread();
+        v8.checkReleased();
+        Object[] profile = sampling ? v8.getAllocationProfile(v8.getV8RuntimePtr()) : null;
+        if (profile == null) {
+            throw new IllegalStateException("Sampling heap profiler is not running");
+        }
+        return new V8AllocationProfile(profile);
+    }
+
+    /**
+     * Stops sampling allocations.
+     */
+    public void stopSampling() {
+        v8.checkThread();
+        v8.checkReleased();
+        if (sampling) {
+            v8.stopSamplingHeapProfiler(v8.getV8RuntimePtr());
+            sampling = false;
+        }
+    }
+
+    /**
+     * Determines if this profiler is sampling allocations.
+     *
+     * @return True if sampling was started and not yet stopped, false otherwise.
+     */
+    public boolean isSampling() {
+        return sampling;
+    }
+
+}
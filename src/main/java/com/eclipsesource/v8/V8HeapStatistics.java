@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A snapshot of the memory usage of a V8 runtime, as reported by the
+ * isolate's heap. All sizes are in bytes.
+ *
+ * Heap statistics can be obtained with {@link V8#getHeapStatistics()}
+ * from any thread, without holding the lock of the runtime. They are read
+ * from the counters of the heap and its spaces. Statistics that require
+ * walking the heap are provided by {@link V8HeapCodeStatistics}.
+ */
+public class V8HeapStatistics {
+
+    static final int     TOTAL_HEAP_SIZE             = 0;
+    static final int     TOTAL_HEAP_SIZE_EXECUTABLE  = 1;
+    static final int     TOTAL_PHYSICAL_SIZE         = 2;
+    static final int     TOTAL_AVAILABLE_SIZE        = 3;
+    static final int     USED_HEAP_SIZE              = 4;
+    static final int     HEAP_SIZE_LIMIT             = 5;
+    static final int     MALLOCED_MEMORY             = 6;
+    static final int     PEAK_MALLOCED_MEMORY        = 7;
+    static final int     EXTERNAL_MEMORY             = 8;
+    static final int     TOTAL_GLOBAL_HANDLES_SIZE   = 9;
+    static final int     USED_GLOBAL_HANDLES_SIZE    = 10;
+    static final int     HEAP_SPACES                 = 11;
+    static final int     HEAP_SPACE_FIELDS           = 4;
+
+    private final long[]          values;
+    private final List<HeapSpace> heapSpaces;
+
+    V8HeapStatistics(final long[] values, final String[] heapSpaceNames) {
+        this.values = values;
+        List<HeapSpace> spaces = new ArrayList<HeapSpace>(heapSpaceNames.length);
+        for (int i = 0; i < heapSpaceNames.length; i++) {
+            spaces.add(new HeapSpace(heapSpaceNames[i], values, HEAP_SPACES + (i * HEAP_SPACE_FIELDS)));
+        }
+        heapSpaces = Collections.unmodifiableList(spaces);
+    }
+
+    /**
+     * Returns the size of the heap, including memory that has been
+     * reserved but is not currently used.
+     *
+     * @return The total heap size.
+     */
+    public long getTotalHeapSize() {
+        return values[TOTAL_HEAP_SIZE];
+    }
+
+    /**
+     * Returns the part of the heap that holds executable code.
+     *
+     * @return The executable heap size.
+     */
+    public long getTotalHeapSizeExecutable() {
+        return values[TOTAL_HEAP_SIZE_EXECUTABLE];
+    }
+
+    /**
+     * Returns the amount of memory committed for the heap.
+     *
+     * @return The physical heap size.
+     */
+    public long getTotalPhysicalSize() {
+        return values[TOTAL_PHYSICAL_SIZE];
+    }
+
+    /**
+     * Returns the amount of memory the heap can still grow by before
+     * reaching its limit.
+     *
+     * @return The available heap size.
+     */
+    public long getTotalAvailableSize() {
+        return values[TOTAL_AVAILABLE_SIZE];
+    }
+
+    /**
+     * Returns the amount of memory used by live and not yet collected
+     * objects.
+     *
+     * @return The used heap size.
+     */
+    public long getUsedHeapSize() {
+        return values[USED_HEAP_SIZE];
+    }
+
+    /**
+     * Returns the maximum size of the heap.
+     *
+     * @return The heap size limit.
+     */
+    public long getHeapSizeLimit() {
+        return values[HEAP_SIZE_LIMIT];
+    }
+
+    /**
+     * Returns the amount of memory V8 has allocated with malloc.
+     *
+     * @return The malloced memory.
+     */
+    public long getMallocedMemory() {
+        return values[MALLOCED_MEMORY];
+    }
+
+    /**
+     * Returns the highest amount of memory V8 has allocated with malloc.
+     *
+     * @return The peak malloced memory.
+     */
+    public long getPeakMallocedMemory() {
+        return values[PEAK_MALLOCED_MEMORY];
+    }
+
+    /**
+     * Returns the amount of memory held outside of the heap by JavaScript
+     * objects, such as the backing stores of ArrayBuffers.
+     *
+     * @return The external memory.
+     */
+    public long getExternalMemory() {
+        return values[EXTERNAL_MEMORY];
+    }
+
+    /**
+     * Returns the memory reserved for global handles, which back all
+     * V8Values held by Java.
+     *
+     * @return The global handles size.
+     */
+    public long getTotalGlobalHandlesSize() {
+        return values[TOTAL_GLOBAL_HANDLES_SIZE];
+    }
+
+    /**
+     * Returns the memory used by global handles.
+     *
+     * @return The used global handles size.
+     */
+    public long getUsedGlobalHandlesSize() {
+        return values[USED_GLOBAL_HANDLES_SIZE];
+    }
+
+    /**
+     * Returns the statistics of the individual spaces the heap is made of.
+     *
+     * @return An unmodifiable list of the heap spaces.
+     */
+    public List<HeapSpace> getHeapSpaces() {
+        return heapSpaces;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "V8HeapStatistics[used=" + getUsedHeapSize() + ", total=" + getTotalHeapSize() + ", limit=" + getHeapSizeLimit()
+                + ", external=" + getExternalMemory() + "]";
+    }
+
+    /**
+     * The statistics of a single space of the heap, such as the space for
+     * new objects or the space for code.
+     */
+    public static class HeapSpace {
+
+        private final String name;
+        private final long[] values;
+        private final int    offset;
+
+        HeapSpace(final String name, final long[] values, final int offset) {
+            this.name = name;
+            this.values = values;
+            this.offset = offset;
+        }
+
+        /**
+         * Returns the name of the space, e.g. "new_space".
+         *
+         * @return The name of the space.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the memory reserved for the space.
+         *
+         * @return The size of the space.
+         */
+        public long getSize() {
+            return values[offset];
+        }
+
+        /**
+         * Returns the memory used by objects in the space.
+         *
+         * @return The used size of the space.
+         */
+        public long getUsedSize() {
+            return values[offset + 1];
+        }
+
+        /**
+         * Returns the memory still available in the space.
+         *
+         * @return The available size of the space.
+         */
+        public long getAvailableSize() {
+            return values[offset + 2];
+        }
+
+        /**
+         * Returns the memory committed for the space.
+         *
+         * @return The physical size of the space.
+         */
+        public long getPhysicalSize() {
+            return values[offset + 3];
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString() {
+            return name + "[used=" + getUsedSize() + ", size=" + getSize() + "]";
+        }
+
+    }
+
+}
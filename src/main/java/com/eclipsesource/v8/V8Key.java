@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * A property name that has been converted to an internalized V8 string once,
+ * and can then be used to access properties of any V8Object on the same
+ * runtime without converting the name again. Use V8Keys for names that
+ * are accessed repeatedly in hot loops.
+ *
+ * V8Keys have native resources and must be released when they are
+ * no longer needed. Any keys that are still open when the runtime is
+ * released will be released with it.
+ */
+public class V8Key implements Releasable {
+
+    private final V8     v8;
+    private final String name;
+    private long         keyHandle;
+    private boolean      released = false;
+
+    /**
+     * Creates a new key for the given property name on the given runtime.
+     *
+     * @param v8 The runtime on which to create the key.
+     * @param name The property name.
+     */
+    public V8Key(final V8 v8, final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        this.v8 = v8;
+        this.name = name;
+        v8.checkThread();
+        keyHandle = v8.createKey(v8.getV8RuntimePtr(), name);
+        v8.addKey(this);
+    }
+
+    /**
+     * Gets the runtime this key was created on.
+     *
+     * @return Returns the V8 runtime this key is associated with.
+     */
+    public V8 getRuntime() {
+        return v8;
+    }
+
+    /**
+     * Returns the property name this key represents.
+     *
+     * @return The property name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    long getHandle() {
+        checkReleased();
+        return keyHandle;
+    }
+
+    /**
+     * Determine if the native resources have been released. Once released
+     * a key can no longer be used.
+     *
+     * @return Returns true if this key has been released, false otherwise.
+     */
+    public boolean isReleased() {
+        return released;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.Releasable#close()
+     */
+    @Override
+    public void close() {
+        if (released) {
+            return;
+        }
+        v8.checkThread();
+        try {
+            v8.removeKey(this);
+        } finally {
+            released = true;
+            v8.releaseKey(v8.getV8RuntimePtr(), keyHandle);
+            keyHandle = 0;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.Releasable#release()
+     */
+    @Override
+    @Deprecated
+    public void release() {
+        close();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        if (released) {
+            return "[Key released]";
+        }
+        return name;
+    }
+
+    private void checkReleased() {
+        if (released) {
+            throw new IllegalStateException("Key released");
+        }
+    }
+
+}
@@ -15,12 +15,17 @@ package com.eclipsesource.v8;
  * threads. When instantiated, the lock is automatically assigned
  * to the current thread. If another thread wishes to acquire the
  * lock, it must first be released.
+ *
+ * The owning thread is published through a volatile field, so that the
+ * thread check performed by every runtime call is a single volatile read
+ * and never takes the monitor used by acquire() and release().
  */
 public class V8Locker {
 
-    private Thread  thread   = null;
-    private boolean released = false;
-    private V8      runtime;
+    private volatile Thread  thread    = null;
+    private volatile boolean released  = false;
+    private volatile boolean unchecked = false;
+    private V8               runtime;
 
     V8Locker(final V8 runtime) {
         this.runtime = runtime;
@@ -42,14 +47,15 @@ public class V8Locker {
      * Error will be thrown.
      */
     public synchronized void acquire() {
-        if ((thread != null) && (thread != Thread.currentThread())) {
-            throw new Error("Invalid V8 thread access: current thread is " + Thread.currentThread() + " while the locker has thread " + thread);
-        } else if ((thread == Thread.currentThread())) {
+        Thread owner = thread;
+        if ((owner != null) && (owner != Thread.currentThread())) {
+            throw new Error("Invalid V8 thread access: current thread is " + Thread.currentThread() + " while the locker has thread " + owner);
+        } else if ((owner == Thread.currentThread())) {
             return;
         }
         runtime.acquireLock(runtime.getV8RuntimePtr());
-        thread = Thread.currentThread();
         released = false;
+        thread = Thread.currentThread();
     }
 
     /**
@@ -60,14 +66,15 @@ public class V8Locker {
      * @return Returns true if the lock was acquired, false otherwise.
      */
     public synchronized boolean tryAcquire() {
-        if ((thread != null) && (thread != Thread.currentThread())) {
+        Thread owner = thread;
+        if ((owner != null) && (owner != Thread.currentThread())) {
             return false;
-        } else if (thread == Thread.currentThread()) {
+        } else if (owner == Thread.currentThread()) {
             return true;
         }
         runtime.acquireLock(runtime.getV8RuntimePtr());
-        thread = Thread.currentThread();
         released = false;
+        thread = Thread.currentThread();
         return true;
     }
 
@@ -81,6 +88,7 @@ public class V8Locker {
             return;
         }
         checkThread();
+        unchecked = false;
         runtime.releaseLock(runtime.getV8RuntimePtr());
         thread = null;
         released = true;
@@ -92,12 +100,14 @@ public class V8Locker {
      * is thrown.
      */
     public void checkThread() {
-        if(released && (thread == null)){
-            throw new Error("Invalid V8 thread access: the locker has been released!");
+        Thread owner = thread;
+        if (owner == Thread.currentThread()) {
+            return;
         }
-        if ((thread != Thread.currentThread())) {
-            throw new Error("Invalid V8 thread access: current thread is " + Thread.currentThread() + " while the locker has thread " + thread);
+        if (released && (owner == null)) {
+            throw new Error("Invalid V8 thread access: the locker has been released!");
         }
+        throw new Error("Invalid V8 thread access: current thread is " + Thread.currentThread() + " while the locker has thread " + owner);
     }
 
     /**
@@ -110,4 +120,40 @@ public class V8Locker {
         return thread == Thread.currentThread();
     }
 
+    /**
+     * Disables or enables the thread check that the runtime and its values
+     * perform on every call. Only disable the check for runtimes that are
+     * known to be confined to the thread holding the lock, for example
+     * runtimes that are handed out by a pool. While the check is disabled,
+     * calls from other threads are not detected and can crash the VM.
+     *
+     * The check is enabled again when the lock is released, so a runtime
+     * that is not locked by any thread is always checked.
+     *
+     * Explicit calls to {@link #checkThread()}, as well as acquire()
+     * and release(), still check the owning thread. The calling thread
+     * must hold the lock.
+     *
+     * @param unchecked True to disable the thread check, false to enable it.
+     */
+    public void setUnchecked(final boolean unchecked) {
+        checkThread();
+        this.unchecked = unchecked;
+    }
+
+    /**
+     * Determines if the runtime skips the thread check on every call.
+     *
+     * @return True if the thread check is disabled, false otherwise.
+     */
+    public boolean isUnchecked() {
+        return unchecked;
+    }
+
+    void checkAccess() {
+        if (!unchecked) {
+            checkThread();
+        }
+    }
+
 }
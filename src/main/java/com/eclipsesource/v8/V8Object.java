@@ -77,6 +77,20 @@ public class V8Object extends V8Value {
         return v8.contains(v8.getV8RuntimePtr(), objectHandle, key);
     }
 
+    /**
+     * Determine if a key/value pair with this key exists in
+     * the Object.
+     *
+     * @param key The V8Key to check
+     * @return True if the key exists, false otherwise.
+     */
+    public boolean contains(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        return v8.containsKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle());
+    }
+
     /**
      * Returns all the keys associated with this JavaScript Object.
      * Keys associated with the objects prototype are not returned.
@@ -105,6 +119,22 @@ public class V8Object extends V8Value {
         return v8.getType(v8.getV8RuntimePtr(), objectHandle, key);
     }
 
+    /**
+     * Returns the type of the value associated with this Key, or
+     * UNDEFINED if the key does not exist. Types are specified as
+     * integer constants. The types are all defined in V8Value.
+     *
+     * @param key The V8Key whose type to lookup.
+     *
+     * @return The Type of the value associated with this key
+     */
+    public int getType(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        return v8.getTypeByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle());
+    }
+
     /**
      * Returns the value associated with this key. Values are Java Objects.
      * If the value is a primitive, its boxed type is returned. If the
@@ -121,6 +151,52 @@ public class V8Object extends V8Value {
         return v8.get(v8.getV8RuntimePtr(), V8_OBJECT, objectHandle, key);
     }
 
+    /**
+     * Returns the value associated with this key. Values are Java Objects.
+     * If the value is a primitive, its boxed type is returned. If the
+     * value is a V8Value, it must be released.
+     *
+     * @param key The V8Key whose value to return.
+     *
+     * @return The value associated with this key.
+     */
+    public Object get(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        return v8.getByKey(v8.getV8RuntimePtr(), V8_OBJECT, objectHandle, key.getHandle());
+    }
+
+    /**
+     * Reads the values associated with several keys in a single call. For
+     * each key, the type of the value is stored in the types array and the
+     * value itself is stored in the values array, at the same index as the
+     * key. Types are specified as integer constants defined in V8Value.
+     * Primitives are boxed, and missing keys are reported as UNDEFINED. Any
+     * V8Values returned must be released.
+     *
+     * @param keys The keys whose values to return.
+     * @param types An array of at least keys.length elements to store the types in.
+     * @param values An array of at least keys.length elements to store the values in.
+     */
+    public void getValues(final String[] keys, final int[] types, final Object[] values) {
+        v8.checkThread();
+        checkReleased();
+        checkKeys(keys);
+        if ((types == null) || (values == null)) {
+            throw new IllegalArgumentException("Types and values cannot be null");
+        }
+        if ((types.length < keys.length) || (values.length < keys.length)) {
+            throw new IllegalArgumentException("Types and values must have at least as many elements as keys");
+        }
+        v8.getValues(v8.getV8RuntimePtr(), objectHandle, keys, types, values);
+        for (int i = 0; i < keys.length; i++) {
+            if (types[i] == UNDEFINED) {
+                values[i] = V8.getUndefined();
+            }
+        }
+    }
+
     /**
      * Returns the integer value associated with this key. If the value
      * associated with this key does not exist, or if it's not an integer, then
@@ -138,6 +214,23 @@ public class V8Object extends V8Value {
         return v8.getInteger(v8.getV8RuntimePtr(), objectHandle, key);
     }
 
+    /**
+     * Returns the integer value associated with this key. If the value
+     * associated with this key does not exist, or if it's not an integer, then
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param key The V8Key whose value to return.
+     *
+     * @return The integer value associated with this key, or V8ResultUndefined
+     * if the key does not exist or the value is not an integer.
+     */
+    public int getInteger(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        return v8.getIntegerByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle());
+    }
+
     /**
      * Returns the boolean value associated with this key. If the value
      * associated with this key does not exist, or if it's not a boolean, then
@@ -155,6 +248,23 @@ public class V8Object extends V8Value {
         return v8.getBoolean(v8.getV8RuntimePtr(), objectHandle, key);
     }
 
+    /**
+     * Returns the boolean value associated with this key. If the value
+     * associated with this key does not exist, or if it's not a boolean, then
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param key The V8Key whose value to return.
+     *
+     * @return The boolean value associated with this key, or V8ResultUndefined
+     * if the key does not exist or the value is not a boolean.
+     */
+    public boolean getBoolean(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        return v8.getBooleanByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle());
+    }
+
     /**
      * Returns the double value associated with this key. If the value
      * associated with this key does not exist, or if it's not a double, then
@@ -172,6 +282,23 @@ public class V8Object extends V8Value {
         return v8.getDouble(v8.getV8RuntimePtr(), objectHandle, key);
     }
 
+    /**
+     * Returns the double value associated with this key. If the value
+     * associated with this key does not exist, or if it's not a double, then
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param key The V8Key whose value to return.
+     *
+     * @return The double value associated with this key, or V8ResultUndefined
+     * if the key does not exist or the value is not a double.
+     */
+    public double getDouble(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        return v8.getDoubleByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle());
+    }
+
     /**
      * Returns the String value associated with this key. If the value
      * associated with this key does not exist, or if it's not a String, then
@@ -189,6 +316,23 @@ public class V8Object extends V8Value {
         return v8.getString(v8.getV8RuntimePtr(), objectHandle, key);
     }
 
+    /**
+     * Returns the String value associated with this key. If the value
+     * associated with this key does not exist, or if it's not a String, then
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param key The V8Key whose value to return.
+     *
+     * @return The String value associated with this key, or V8ResultUndefined
+     * if the key does not exist or the value is not a String.
+     */
+    public String getString(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        return v8.getStringByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle());
+    }
+
     /**
      * Returns the V8Array value associated with this key. If the value
      * associated with this key does not exist then UNDEFINED is returned.
@@ -210,6 +354,27 @@ public class V8Object extends V8Value {
         throw new V8ResultUndefined();
     }
 
+    /**
+     * Returns the V8Array value associated with this key. If the value
+     * associated with this key does not exist then UNDEFINED is returned.
+     * If the value exists but is not an array then
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param key The V8Key whose value to return.
+     *
+     * @return The V8Array value associated with this key.
+     */
+    public V8Array getArray(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        Object result = v8.getByKey(v8.getV8RuntimePtr(), V8_ARRAY, objectHandle, key.getHandle());
+        if ((result == null) || (result instanceof V8Array)) {
+            return (V8Array) result;
+        }
+        throw new V8ResultUndefined();
+    }
+
     /**
      * Returns the V8Object value associated with this key. If the value
      * associated with this key does not exist then UNDEFINED is returned.
@@ -231,6 +396,27 @@ public class V8Object extends V8Value {
         throw new V8ResultUndefined();
     }
 
+    /**
+     * Returns the V8Object value associated with this key. If the value
+     * associated with this key does not exist then UNDEFINED is returned.
+     * If the value exists but is not an JS Object then
+     * V8ResultUndefined exception is thrown.
+     *
+     * @param key The V8Key whose value to return.
+     *
+     * @return The V8Object value associated with this key.
+     */
+    public V8Object getObject(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        Object result = v8.getByKey(v8.getV8RuntimePtr(), V8_OBJECT, objectHandle, key.getHandle());
+        if ((result == null) || (result instanceof V8Object)) {
+            return (V8Object) result;
+        }
+        throw new V8ResultUndefined();
+    }
+
     /**
      * Invoke a JavaScript function and return the result as a integer. If the
      * result is not an integer, or does not exist, then V8ResultUndefined is thrown.
@@ -450,6 +636,22 @@ public class V8Object extends V8Value {
         return this;
     }
 
+    /**
+     * Adds a key value pair to the receiver where the value is an integer.
+     *
+     * @param key The V8Key to associate the value with.
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object add(final V8Key key, final int value) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        v8.addByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle(), value);
+        return this;
+    }
+
     /**
      * Adds a key value pair to the receiver where the value is a boolean.
      *
@@ -465,6 +667,22 @@ public class V8Object extends V8Value {
         return this;
     }
 
+    /**
+     * Adds a key value pair to the receiver where the value is a boolean.
+     *
+     * @param key The V8Key to associate the value with.
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object add(final V8Key key, final boolean value) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        v8.addByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle(), value);
+        return this;
+    }
+
     /**
      * Adds a key value pair to the receiver where the value is a double.
      *
@@ -480,6 +698,22 @@ public class V8Object extends V8Value {
         return this;
     }
 
+    /**
+     * Adds a key value pair to the receiver where the value is a double.
+     *
+     * @param key The V8Key to associate the value with.
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object add(final V8Key key, final double value) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        v8.addByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle(), value);
+        return this;
+    }
+
     /**
      * Adds a key value pair to the receiver where the value is a String.
      *
@@ -501,6 +735,26 @@ public class V8Object extends V8Value {
         return this;
     }
 
+    /**
+     * Adds a key value pair to the receiver where the value is a String.
+     *
+     * @param key The V8Key to associate the value with.
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object add(final V8Key key, final String value) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        if (value == null) {
+            v8.addNullByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle());
+        } else {
+            v8.addByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle(), value);
+        }
+        return this;
+    }
+
     /**
      * Adds a key value pair to the receiver where the value is a V8Value.
      *
@@ -523,6 +777,29 @@ public class V8Object extends V8Value {
         return this;
     }
 
+    /**
+     * Adds a key value pair to the receiver where the value is a V8Value.
+     *
+     * @param key The V8Key to associate the value with.
+     * @param value The value to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object add(final V8Key key, final V8Value value) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        v8.checkRuntime(value);
+        if (value == null) {
+            v8.addNullByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle());
+        } else if (value.equals(V8.getUndefined())) {
+            v8.addUndefinedByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle());
+        } else {
+            v8.addObjectByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle(), value.getHandle());
+        }
+        return this;
+    }
+
     /**
      * Associate UNDEFINED with the given key.
      *
@@ -537,6 +814,21 @@ public class V8Object extends V8Value {
         return this;
     }
 
+    /**
+     * Associate UNDEFINED with the given key.
+     *
+     * @param key The V8Key to associate UNDEFINED with.
+     *
+     * @return The receiver.
+     */
+    public V8Object addUndefined(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        v8.addUndefinedByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle());
+        return this;
+    }
+
     /**
      * Associate NULL with the given key.
      *
@@ -551,6 +843,72 @@ public class V8Object extends V8Value {
         return this;
     }
 
+    /**
+     * Associate NULL with the given key.
+     *
+     * @param key The V8Key to associate NULL with.
+     *
+     * @return The receiver.
+     */
+    public V8Object addNull(final V8Key key) {
+        v8.checkThread();
+        checkReleased();
+        checkKey(key);
+        v8.addNullByKey(v8.getV8RuntimePtr(), objectHandle, key.getHandle());
+        return this;
+    }
+
+    /**
+     * Associates several values with their keys in a single call. The value
+     * at each index is associated with the key at the same index. Supported
+     * values are Integers, Doubles, Floats, Booleans, Strings, V8Values and null.
+     *
+     * @param keys The keys to associate the values with.
+     * @param values The values to add.
+     *
+     * @return The receiver.
+     */
+    public V8Object setValues(final String[] keys, final Object[] values) {
+        v8.checkThread();
+        checkReleased();
+        checkKeys(keys);
+        if ((values == null) || (values.length != keys.length)) {
+            throw new IllegalArgumentException("Keys and values must have the same number of elements");
+        }
+        int[] types = new int[keys.length];
+        double[] numbers = new double[keys.length];
+        long[] handles = new long[keys.length];
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                types[i] = NULL;
+            } else if (value instanceof Integer) {
+                types[i] = INTEGER;
+                numbers[i] = (Integer) value;
+            } else if ((value instanceof Double) || (value instanceof Float)) {
+                types[i] = DOUBLE;
+                numbers[i] = ((Number) value).doubleValue();
+            } else if (value instanceof Boolean) {
+                types[i] = BOOLEAN;
+                numbers[i] = ((Boolean) value) ? 1 : 0;
+            } else if (value instanceof String) {
+                types[i] = STRING;
+            } else if (value instanceof V8Value) {
+                v8.checkRuntime((V8Value) value);
+                if (((V8Value) value).isUndefined()) {
+                    types[i] = UNDEFINED;
+                } else {
+                    types[i] = V8_OBJECT;
+                    handles[i] = ((V8Value) value).getHandle();
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+            }
+        }
+        v8.setValues(v8.getV8RuntimePtr(), objectHandle, keys, types, numbers, handles, values);
+        return this;
+    }
+
     /**
      * Sets the prototype of the receiver.
      *
@@ -597,6 +955,91 @@ public class V8Object extends V8Value {
         return this;
     }
 
+    /**
+     * Register a Java method as a JavaScript function. When the JS Function is invoked
+     * the Java method will be called with direct access to the arguments of the call,
+     * without creating a V8Array for the parameters or a V8Object for the receiver.
+     *
+     * @param callback The JavaFastCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerFastMethod(final JavaFastCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerFastCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
+    /**
+     * Register a Java method that returns an int as a JavaScript function. When the
+     * JS Function is invoked the Java method will be called with direct access to the
+     * arguments of the call, and its result is passed back to JavaScript without boxing.
+     *
+     * @param callback The JavaIntCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerIntMethod(final JavaIntCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerIntCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
+    /**
+     * Register a Java method that returns a double as a JavaScript function. When the
+     * JS Function is invoked the Java method will be called with direct access to the
+     * arguments of the call, and its result is passed back to JavaScript without boxing.
+     *
+     * @param callback The JavaDoubleCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerDoubleMethod(final JavaDoubleCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerDoubleCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
+    /**
+     * Register a Java method that returns a boolean as a JavaScript function. When the
+     * JS Function is invoked the Java method will be called with direct access to the
+     * arguments of the call, and its result is passed back to JavaScript without boxing.
+     *
+     * @param callback The JavaBooleanCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerBooleanMethod(final JavaBooleanCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerBooleanCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
+    /**
+     * Register a Java method that returns a String as a JavaScript function. When the
+     * JS Function is invoked the Java method will be called with direct access to the
+     * arguments of the call, and its result is passed back to JavaScript without boxing.
+     *
+     * @param callback The JavaStringCallback to call when the JSFunction is invoked.
+     * @param jsFunctionName The name of the JSFunction.
+     *
+     * @return The receiver.
+     */
+    public V8Object registerStringMethod(final JavaStringCallback callback, final String jsFunctionName) {
+        v8.checkThread();
+        checkReleased();
+        v8.registerStringCallback(callback, getHandle(), jsFunctionName);
+        return this;
+    }
+
     /**
      * Register a Java method reflectively given it's name a signature.
      *
@@ -660,6 +1103,24 @@ public class V8Object extends V8Value {
         }
     }
 
+    private void checkKey(final V8Key key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        if (key.getRuntime() != v8) {
+            throw new Error("Invalid target runtime");
+        }
+    }
+
+    private void checkKeys(final String[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys cannot be null");
+        }
+        for (String key : keys) {
+            checkKey(key);
+        }
+    }
+
     static class Undefined extends V8Object {
 
         public Undefined() {
@@ -901,6 +1362,168 @@ public class V8Object extends V8Value {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#contains(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public boolean contains(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getType(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public int getType(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#get(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public Object get(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getInteger(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public int getInteger(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getBoolean(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public boolean getBoolean(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getDouble(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public double getDouble(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getString(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public String getString(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getArray(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Array getArray(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getObject(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Object getObject(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, int)
+         */
+        @Override
+        public V8Object add(final V8Key key, final int value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, boolean)
+         */
+        @Override
+        public V8Object add(final V8Key key, final boolean value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, double)
+         */
+        @Override
+        public V8Object add(final V8Key key, final double value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, java.lang.String)
+         */
+        @Override
+        public V8Object add(final V8Key key, final String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#add(com.eclipsesource.v8.V8Key, com.eclipsesource.v8.V8Value)
+         */
+        @Override
+        public V8Object add(final V8Key key, final V8Value value) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#addUndefined(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Object addUndefined(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#addNull(com.eclipsesource.v8.V8Key)
+         */
+        @Override
+        public V8Object addNull(final V8Key key) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#getValues(java.lang.String[], int[], java.lang.Object[])
+         */
+        @Override
+        public void getValues(final String[] keys, final int[] types, final Object[] values) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#setValues(java.lang.String[], java.lang.Object[])
+         */
+        @Override
+        public V8Object setValues(final String[] keys, final Object[] values) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#getBoolean(java.lang.String)
@@ -982,6 +1605,51 @@ public class V8Object extends V8Value {
             throw new UnsupportedOperationException();
         }
 
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerFastMethod(com.eclipsesource.v8.JavaFastCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerFastMethod(final JavaFastCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerIntMethod(com.eclipsesource.v8.JavaIntCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerIntMethod(final JavaIntCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerDoubleMethod(com.eclipsesource.v8.JavaDoubleCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerDoubleMethod(final JavaDoubleCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerBooleanMethod(com.eclipsesource.v8.JavaBooleanCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerBooleanMethod(final JavaBooleanCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see com.eclipsesource.v8.V8Object#registerStringMethod(com.eclipsesource.v8.JavaStringCallback, java.lang.String)
+         */
+        @Override
+        public V8Object registerStringMethod(final JavaStringCallback callback, final String jsFunctionName) {
+            throw new UnsupportedOperationException();
+        }
+
         /*
          * (non-Javadoc)
          * @see com.eclipsesource.v8.V8Object#registerJavaMethod(java.lang.Object, java.lang.String, java.lang.String, java.lang.Class[], boolean)
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * Options used to create a V8 runtime with {@link V8#createV8Runtime(V8RuntimeOptions)}.
+ *
+ * Besides the global alias and startup snapshot, the options configure the
+ * resources a runtime may use. When a script approaches the maximum heap
+ * size, its execution is terminated with a {@link V8ScriptExecutionException}
+ * instead of aborting the process, and the runtime can be used again.
+ * Sizes of 0 use V8's defaults.
+ */
+public class V8RuntimeOptions {
+
+    private String globalAlias;
+    private String tempDirectory;
+    private byte[] snapshotBlob;
+    private long   maxOldGenerationSize;
+    private long   maxYoungGenerationSize;
+    private long   initialOldGenerationSize;
+    private long   initialYoungGenerationSize;
+    private long   stackSize;
+
+    /**
+     * Sets the name to associate with the global scope, for example 'window'.
+     *
+     * @param globalAlias The alias of the global scope, or null for none.
+     *
+     * @return These options, for chaining.
+     */
+    public V8RuntimeOptions setGlobalAlias(final String globalAlias) {
+        this.globalAlias = globalAlias;
+        return this;
+    }
+
+    /**
+     * Sets the directory to extract the native libraries to, if they are
+     * not loaded yet.
+     *
+     * @param tempDirectory The directory, or null to use the default.
+     *
+     * @return These options, for chaining.
+     */
+    public V8RuntimeOptions setTempDirectory(final String tempDirectory) {
+        this.tempDirectory = tempDirectory;
+        return this;
+    }
+
+    /**
+     * Sets the startup snapshot to initialize the runtime from.
+     *
+     * @param snapshotBlob A snapshot created with {@link V8SnapshotCreator},
+     * or null to create an empty runtime.
+     *
+     * @return These options, for chaining.
+     */
+    public V8RuntimeOptions setSnapshotBlob(final byte[] snapshotBlob) {
+        this.snapshotBlob = snapshotBlob;
+        return this;
+    }
+
+    /**
+     * Sets the maximum size of the old generation, which holds the objects
+     * that survived several garbage collections. This is effectively the
+     * heap limit of the runtime.
+     *
+     * @param bytes The maximum size in bytes.
+     *
+     * @return These options, for chaining.
+     */
+    public V8RuntimeOptions setMaxOldGenerationSize(final long bytes) {
+        maxOldGenerationSize = checkSize(bytes);
+        return this;
+    }
+
+    /**
+     * Sets the maximum size of the young generation, which holds newly
+     * allocated objects.
+     *
+     * @param bytes The maximum size in bytes.
+     *
+     * @return These options, for chaining.
+     */
+    public V8RuntimeOptions setMaxYoungGenerationSize(final long bytes) {
+        maxYoungGenerationSize = checkSize(bytes);
+        return this;
+    }
+
+    /**
+     * Sets the initial size of the old generation.
+     *
+     * @param bytes The initial size in bytes.
+     *
+     * @return These options, for chaining.
+     */
+    public V8RuntimeOptions setInitialOldGenerationSize(final long bytes) {
+        initialOldGenerationSize = checkSize(bytes);
+        return this;
+    }
+
+    /**
+     * Sets the initial size of the young generation.
+     *
+     * @param bytes The initial size in bytes.
+     *
+     * @return These options, for chaining.
+     */
+    public V8RuntimeOptions setInitialYoungGenerationSize(final long bytes) {
+        initialYoungGenerationSize = checkSize(bytes);
+        return this;
+    }
+
+    /**
+     * Sets the amount of native stack scripts may use, measured from the
+     * point where the runtime is created or its lock is acquired. Scripts
+     * that recurse deeper fail with a RangeError. The size must leave
+     * room for J2V8 and the JVM on the thread's stack.
+     *
+     * @param bytes The stack size in bytes.
+     *
+     * @return These options, for chaining.
+     */
+    public V8RuntimeOptions setStackSize(final long bytes) {
+        stackSize = checkSize(bytes);
+        return this;
+    }
+
+    /**
+     * Returns the alias of the global scope, or null if not set.
+     *
+     * @return The alias of the global scope.
+     */
+    public String getGlobalAlias() {
+        return globalAlias;
+    }
+
+    /**
+     * Returns the directory to extract the native libraries to, or null if not set.
+     *
+     * @return The directory to extract the native libraries to.
+     */
+    public String getTempDirectory() {
+        return tempDirectory;
+    }
+
+    /**
+     * Returns the startup snapshot, or null if not set.
+     *
+     * @return The startup snapshot.
+     */
+    public byte[] getSnapshotBlob() {
+        return snapshotBlob;
+    }
+
+    /**
+     * Returns the maximum size of the old generation in bytes, or 0 if not set.
+     *
+     * @return The maximum size of the old generation in bytes.
+     */
+    public long getMaxOldGenerationSize() {
+        return maxOldGenerationSize;
+    }
+
+    /**
+     * Returns the maximum size of the young generation in bytes, or 0 if not set.
+     *
+     * @return The maximum size of the young generation in bytes.
+     */
+    public long getMaxYoungGenerationSize() {
+        return maxYoungGenerationSize;
+    }
+
+    /**
+     * Returns the initial size of the old generation in bytes, or 0 if not set.
+     *
+     * @return The initial size of the old generation in bytes.
+     */
+    public long getInitialOldGenerationSize() {
+        return initialOldGenerationSize;
+    }
+
+    /**
+     * Returns the initial size of the young generation in bytes, or 0 if not set.
+     *
+     * @return The initial size of the young generation in bytes.
+     */
+    public long getInitialYoungGenerationSize() {
+        return initialYoungGenerationSize;
+    }
+
+    /**
+     * Returns the stack size in bytes, or 0 if not set.
+     *
+     * @return The stack size in bytes.
+     */
+    public long getStackSize() {
+        return stackSize;
+    }
+
+    private static long checkSize(final long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + bytes);
+        }
+        return bytes;
+    }
+
+}
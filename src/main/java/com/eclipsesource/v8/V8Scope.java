@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.util.Arrays;
+
+/**
+ * A scope that tracks all V8Values created on a runtime while it is open,
+ * and releases them together when it is closed. Releasing the values of a
+ * scope costs a single native call, regardless of how many values were
+ * created, which makes scopes well suited for code that creates many
+ * short lived objects:
+ *
+ * <pre>
+ * try (V8Scope scope = new V8Scope(v8)) {
+ *     V8Array items = v8.executeArrayScript("items");
+ *     ...
+ * }
+ * </pre>
+ *
+ * Values that must outlive the scope can be removed from it with
+ * {@link #persist(V8Value)}, and must then be released explicitly.
+ *
+ * Scopes can be nested. Values are tracked by the innermost open scope,
+ * and closing a scope also closes any scopes that were opened after it.
+ */
+public class V8Scope implements Releasable {
+
+    private final V8      v8;
+    private final V8Scope parent;
+    private V8Value[]     values   = new V8Value[16];
+    private int           size     = 0;
+    private boolean       released = false;
+
+    /**
+     * Opens a new scope on the given runtime. All V8Values created on the
+     * runtime will be tracked by this scope until it is closed.
+     *
+     * @param v8 The runtime on which to open the scope.
+     */
+    public V8Scope(final V8 v8) {
+        v8.checkThread();
+        v8.checkReleased();
+        this.v8 = v8;
+        parent = v8.getScope();
+        v8.setScope(this);
+    }
+
+    /**
+     * Removes a value from this scope, so that it will not be released when
+     * the scope is closed. The value must then be released explicitly.
+     *
+     * @param value The value to persist.
+     *
+     * @return The value, for chaining.
+     */
+    public <T extends V8Value> T persist(final T value) {
+        v8.checkThread();
+        checkReleased();
+        if (value.owningScope == this) {
+            remove(value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of values tracked by this scope that have not been
+     * released or persisted.
+     *
+     * @return The number of values that will be released with this scope.
+     */
+    public int getObjectReferenceCount() {
+        checkReleased();
+        int result = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] != null) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Determine if this scope has been closed.
+     *
+     * @return Returns true if this scope has been closed, false otherwise.
+     */
+    public boolean isReleased() {
+        return released;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.Releasable#close()
+     */
+    @Override
+    public void close() {
+        v8.checkThread();
+        if (released) {
+            return;
+        }
+        if (v8.isReleased()) {
+            released = true;
+            values = null;
+            return;
+        }
+        while ((v8.getScope() != null) && (v8.getScope() != this)) {
+            v8.getScope().close();
+        }
+        long[] handles = new long[size];
+        int length = 0;
+        RuntimeException failure = null;
+        try {
+            for (int i = 0; i < size; i++) {
+                V8Value value = values[i];
+                if ((value == null) || value.isReleased()) {
+                    continue;
+                }
+                value.owningScope = null;
+                handles[length++] = value.objectHandle;
+                try {
+                    value.detach();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        } finally {
+            released = true;
+            values = null;
+            v8.setScope(parent);
+            v8.releaseHandles(v8.getV8RuntimePtr(), handles, length);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.Releasable#release()
+     */
+    @Override
+    @Deprecated
+    public void release() {
+        close();
+    }
+
+    void add(final V8Value value) {
+        if (size == values.length) {
+            compact();
+            if ((size * 2) > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+        }
+        value.owningScope = this;
+        value.scopeIndex = size;
+        values[size++] = value;
+    }
+
+    // called when a tracked value is released or persisted
+    void remove(final V8Value value) {
+        values[value.scopeIndex] = null;
+        value.owningScope = null;
+        while ((size > 0) && (values[size - 1] == null)) {
+            size--;
+        }
+    }
+
+    private void compact() {
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            V8Value value = values[i];
+            if (value != null) {
+                value.scopeIndex = length;
+                values[length++] = value;
+            }
+        }
+        Arrays.fill(values, length, size, null);
+        size = length;
+    }
+
+    private void checkReleased() {
+        if (released) {
+            throw new IllegalStateException("Scope released");
+        }
+    }
+
+}
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * A compiled JavaScript script. Scripts are compiled once using
+ * {@link V8#compileScript(String)} and can then be executed many times
+ * without being parsed or compiled again.
+ *
+ * V8Scripts have native resources and must be released when they are
+ * no longer needed. Any scripts that are still open when the runtime is
+ * released will be released with it.
+ */
+public class V8Script implements Releasable {
+
+    private final V8     v8;
+    private final String scriptName;
+    private long         scriptHandle;
+    private boolean      released = false;
+
+    V8Script(final V8 v8, final long scriptHandle, final String scriptName) {
+        this.v8 = v8;
+        this.scriptHandle = scriptHandle;
+        this.scriptName = scriptName;
+    }
+
+    /**
+     * Gets the runtime this script was compiled on.
+     *
+     * @return Returns the V8 runtime this script is associated with.
+     */
+    public V8 getRuntime() {
+        return v8;
+    }
+
+    /**
+     * Returns the name the script was compiled with, or null if no
+     * name was given.
+     *
+     * @return The name of the script.
+     */
+    public String getScriptName() {
+        return scriptName;
+    }
+
+    /**
+     * Executes the script and returns the result as a Java Object.
+     * Primitives will be boxed.
+     *
+     * @return The result of the script as a Java Object.
+     */
+    public Object execute() {
+        v8.checkThread();
+        checkReleased();
+        return v8.executeCompiledScript(v8.getV8RuntimePtr(), V8Value.UNKNOWN, scriptHandle);
+    }
+
+    /**
+     * Executes the script and returns the result as a V8Object.
+     * If the result is not a V8Object, then a V8ResultUndefinedException is thrown.
+     *
+     * @return The result of the script as a V8Object, or V8ResultUndefinedException if
+     * the result is not a V8Object.
+     */
+    public V8Object executeObject() {
+        Object result = execute();
+        if (result instanceof V8Object) {
+            return (V8Object) result;
+        }
+        throw new V8ResultUndefined();
+    }
+
+    /**
+     * Executes the script and discards the result.
+     */
+    public void executeVoid() {
+        v8.checkThread();
+        checkReleased();
+        v8.executeVoidCompiledScript(v8.getV8RuntimePtr(), scriptHandle);
+    }
+
+    /**
+     * Serializes the compiled code of this script. The result can be passed
+     * back to V8 (through a {@link V8CodeCache}) to skip compilation of the
+     * same source, even on a different runtime. Functions that have been
+     * lazily compiled by previous executions are included in the cache.
+     *
+     * @return The code cache for this script, or null if V8 could not
+     * produce one.
+     */
+    public byte[] createCodeCache() {
+        v8.checkThread();
+        checkReleased();
+        return v8.createCodeCache(v8.getV8RuntimePtr(), scriptHandle);
+    }
+
+    /**
+     * Determine if the native resources have been released. Once released
+     * a script can no longer be executed.
+     *
+     * @return Returns true if this script has been released, false otherwise.
+     */
+    public boolean isReleased() {
+        return released;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.Releasable#close()
+     */
+    @Override
+    public void close() {
+        if (released) {
+            return;
+        }
+        v8.checkThread();
+        try {
+            v8.removeCompiledScript(this);
+        } finally {
+            released = true;
+            v8.releaseCompiledScript(v8.getV8RuntimePtr(), scriptHandle);
+            scriptHandle = 0;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.Releasable#release()
+     */
+    @Override
+    @Deprecated
+    public void release() {
+        close();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        if (released) {
+            return "[Script released]";
+        }
+        return "[Script " + (scriptName == null ? "<anonymous>" : scriptName) + "]";
+    }
+
+    private void checkReleased() {
+        if (released) {
+            throw new IllegalStateException("Script released");
+        }
+    }
+
+    /**
+     * Computes the key used to look up the code cache for a script source.
+     * Code caches are only valid for the V8 version that produced them, so
+     * the version is part of the key.
+     *
+     * @param script The script source.
+     *
+     * @return A hex encoded SHA-256 hash of the V8 version and the script source.
+     */
+    static String computeCacheKey(final String script) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(V8.getV8Version().getBytes("UTF-8"));
+            digest.update((byte) 0);
+            byte[] hash = digest.digest(script.getBytes("UTF-8"));
+            StringBuilder result = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                result.append(Character.forDigit((b >> 4) & 0xF, 16));
+                result.append(Character.forDigit(b & 0xF, 16));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
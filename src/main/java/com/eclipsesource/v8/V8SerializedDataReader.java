@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the data produced by {@link V8#serialize(V8Value, V8SerializedDataReader)}.
+ *
+ * @param <T> The type of the result produced by the reader.
+ */
+public interface V8SerializedDataReader<T> {
+
+    /**
+     * Called with the serialized form of a value. The buffer refers to memory
+     * owned by V8 and is only valid for the duration of this call.
+     *
+     * @param data A buffer holding the serialized value, in native byte order.
+     *
+     * @return The result to return from serialize.
+     */
+    public T read(ByteBuffer data);
+
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds a V8 startup snapshot. The scripts added to the creator are
+ * executed in a fresh context, and the resulting heap is serialized.
+ * Runtimes created from the snapshot using {@link V8#createV8Runtime(byte[])}
+ * start with that state, without parsing or executing the scripts again.
+ *
+ * A snapshot can only be used with the same V8 version that created it.
+ *
+ * Snapshots can only capture pure JavaScript state. Scripts must not
+ * reference Java callbacks, and should not leave pending promises or
+ * timers behind.
+ *
+ * V8SnapshotCreator snapshotCreator = new V8SnapshotCreator();
+ * snapshotCreator.addScript(bootstrapSource, "bootstrap.js");
+ * byte[] snapshot = snapshotCreator.createSnapshot();
+ * V8 runtime = V8.createV8Runtime(snapshot);
+ */
+public class V8SnapshotCreator {
+
+    private final List<String> scripts     = new ArrayList<String>();
+    private final List<String> scriptNames = new ArrayList<String>();
+
+    /**
+     * Adds a script to be executed before the snapshot is taken.
+     * Scripts are executed in the order in which they are added.
+     *
+     * @param script The script to execute.
+     *
+     * @return This V8SnapshotCreator.
+     */
+    public V8SnapshotCreator addScript(final String script) {
+        return addScript(script, null);
+    }
+
+    /**
+     * Adds a script to be executed before the snapshot is taken.
+     * Scripts are executed in the order in which they are added.
+     *
+     * @param script The script to execute.
+     * @param scriptName The name of the script, used in error messages.
+     *
+     * @return This V8SnapshotCreator.
+     */
+    public V8SnapshotCreator addScript(final String script, final String scriptName) {
+        if (script == null) {
+            throw new IllegalArgumentException("Script cannot be null");
+        }
+        scripts.add(script);
+        scriptNames.add(scriptName);
+        return this;
+    }
+
+    /**
+     * Executes all scripts in a new isolate and serializes the resulting
+     * state. If any script fails to compile or execute, the corresponding
+     * V8ScriptException is thrown and no snapshot is created.
+     *
+     * @return The serialized snapshot.
+     */
+    public byte[] createSnapshot() {
+        return V8.createSnapshot(scripts.toArray(new String[scripts.size()]), scriptNames.toArray(new String[scriptNames.size()]));
+    }
+
+}
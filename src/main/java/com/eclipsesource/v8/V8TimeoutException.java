@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+/**
+ * An exception that indicates that a script was terminated because
+ * it exceeded its execution time budget. The runtime can still be
+ * used once this exception has been thrown.
+ */
+@SuppressWarnings("serial")
+public class V8TimeoutException extends V8RuntimeException {
+
+    V8TimeoutException(final String message) {
+        super(message);
+    }
+
+}
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package com.eclipsesource.v8;
 
+import java.nio.ByteBuffer;
+
 /**
  * A base class for all V8 resources. V8 resources must
  * be closed/released. The rules for releasing resources is as
@@ -51,6 +53,8 @@ abstract public class V8Value implements Releasable {
     protected V8      v8;
     protected long    objectHandle;
     protected boolean released = true;
+    V8Scope           owningScope;
+    int               scopeIndex;
 
     protected V8Value() {
         super();
@@ -154,6 +158,24 @@ abstract public class V8Value implements Releasable {
         return v8.getConstructorName(v8.getV8RuntimePtr(), objectHandle);
     }
 
+    /**
+     * Converts this value to JSON using V8's JSON serializer, as
+     * JSON.stringify would. The JSON is returned UTF-8 encoded, without
+     * being converted to a Java String.
+     *
+     * @return A buffer holding the UTF-8 encoded JSON, or null if the value
+     * has no JSON representation, such as undefined or a function.
+     */
+    public ByteBuffer toJSON() {
+        if (isUndefined()) {
+            return null;
+        }
+        v8.checkThread();
+        checkReleased();
+        byte[] json = v8.toJSON(v8.getV8RuntimePtr(), objectHandle);
+        return json == null ? null : ByteBuffer.wrap(json);
+    }
+
     /**
      * Determines if this value is undefined.
      *
@@ -280,6 +302,21 @@ abstract public class V8Value implements Releasable {
         }
     }
 
+    /*
+     * Marks this value as released without freeing its handle, so that the
+     * caller can free it together with others in a single native call.
+     */
+    void detach() {
+        if (released) {
+            return;
+        }
+        try {
+            v8.releaseObjRef(this);
+        } finally {
+            released = true;
+        }
+    }
+
     /**
      * Releases the native resources associated with this V8Value.
      *
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single daemon thread that fires timers for any number of runtimes,
+ * used to bound how long scripts may execute.
+ *
+ * Timers are kept in a hashed timer wheel with a resolution of a few
+ * milliseconds. Scheduling and cancelling a timer is constant time and
+ * does not allocate, as the timers themselves are the nodes of the wheel,
+ * so a timer can be reused for every execution.
+ */
+public final class V8Watchdog {
+
+    private static final long  TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final int   WHEEL_SIZE = 256;
+    private static final int   WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static V8Watchdog  defaultWatchdog;
+
+    private final Timer[]      wheel      = new Timer[WHEEL_SIZE];
+    private final long         startTime  = System.nanoTime();
+    private long               currentTick;
+    private int                size;
+    private Thread             thread;
+
+    /**
+     * A timer that can be scheduled on a watchdog. A timer can only be
+     * scheduled once at a time, but can be rescheduled any number of times.
+     */
+    public abstract static class Timer {
+
+        private Timer   previous;
+        private Timer   next;
+        private long    deadline;
+        private int     bucket;
+        private boolean expired;
+
+        /**
+         * Called on the watchdog thread when the timer expires. Implementations
+         * must return quickly and must not schedule timers, as the watchdog
+         * is locked while timers fire.
+         */
+        protected abstract void onTimeout();
+
+    }
+
+    /**
+     * Returns the watchdog shared by all runtimes.
+     *
+     * @return The shared watchdog.
+     */
+    public static synchronized V8Watchdog getDefault() {
+        if (defaultWatchdog == null) {
+            defaultWatchdog = new V8Watchdog();
+        }
+        return defaultWatchdog;
+    }
+
+    /**
+     * Schedules the timer to fire once the timeout elapsed. If the timer is
+     * already scheduled, it is rescheduled.
+     *
+     * @param timer The timer to schedule.
+     * @param timeout The time after which the timer fires.
+     * @param unit The unit of the timeout.
+     */
+    public void schedule(final Timer timer, final long timeout, final TimeUnit unit) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        scheduleAt(timer, (System.nanoTime() - startTime) + unit.toNanos(timeout));
+    }
+
+    /**
+     * Cancels the timer if it is scheduled.
+     *
+     * @param timer The timer to cancel.
+     *
+     * @return True if the timer had already fired, false otherwise.
+     */
+    public synchronized boolean cancel(final Timer timer) {
+        boolean expired = timer.expired;
+        if (timer.deadline != 0) {
+            unlink(timer);
+        }
+        timer.expired = false;
+        return expired;
+    }
+
+    /*
+     * Deadlines are measured from the start of the watchdog, so that 0 can
+     * mark a timer that is not scheduled.
+     */
+    synchronized void scheduleAt(final Timer timer, final long deadline) {
+        if (timer.deadline != 0) {
+            unlink(timer);
+        }
+        timer.deadline = Math.max(deadline, 1);
+        timer.expired = false;
+        // a timer is only expired once its tick has fully elapsed
+        int bucket = (int) (Math.max(ticks(timer.deadline), currentTick) & WHEEL_MASK);
+        timer.bucket = bucket;
+        timer.next = wheel[bucket];
+        if (timer.next != null) {
+            timer.next.previous = timer;
+        }
+        wheel[bucket] = timer;
+        size++;
+        if (thread == null) {
+            thread = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    watch();
+                }
+            }, "J2V8 Watchdog");
+            thread.setDaemon(true);
+            thread.start();
+        } else if (size == 1) {
+            notify();
+        }
+    }
+
+    synchronized void expire(final Timer timer) {
+        if (timer.deadline != 0) {
+            unlink(timer);
+        }
+        timer.expired = true;
+    }
+
+    synchronized long getDeadline(final Timer timer) {
+        return timer.deadline;
+    }
+
+    synchronized boolean hasExpired(final Timer timer) {
+        return timer.expired;
+    }
+
+    private synchronized void watch() {
+        while (true) {
+            try {
+                if (size == 0) {
+                    wait();
+                    continue;
+                }
+                long now = System.nanoTime() - startTime;
+                long nowTick = now / TICK_NANOS;
+                for (int i = 0; (currentTick <= nowTick) && (i < WHEEL_SIZE); i++, currentTick++) {
+                    expire((int) (currentTick & WHEEL_MASK), now);
+                }
+                currentTick = Math.max(currentTick, nowTick + 1);
+                long delay = (currentTick * TICK_NANOS) - now;
+                if (delay > 0) {
+                    wait(delay / 1000000, (int) (delay % 1000000));
+                }
+            } catch (InterruptedException e) {
+                // the watchdog runs for the lifetime of the process
+            } catch (RuntimeException e) {
+                // a failing timer must not stop the others from firing
+            }
+        }
+    }
+
+    private void expire(final int bucket, final long now) {
+        Timer timer = wheel[bucket];
+        while (timer != null) {
+            Timer next = timer.next;
+            if (timer.deadline <= now) {
+                unlink(timer);
+                timer.expired = true;
+                timer.onTimeout();
+            }
+            timer = next;
+        }
+    }
+
+    private void unlink(final Timer timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            wheel[timer.bucket] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.deadline = 0;
+        size--;
+    }
+
+    private static long ticks(final long nanos) {
+        return (nanos + TICK_NANOS - 1) / TICK_NANOS;
+    }
+
+}
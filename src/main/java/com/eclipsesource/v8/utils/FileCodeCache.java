@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import com.eclipsesource.v8.V8CodeCache;
+
+/**
+ * A V8CodeCache that stores code caches as files in a directory, so that
+ * compiled code survives restarts of the process. Each entry is stored in
+ * its own file named after the cache key.
+ *
+ * A missing or unreadable entry is treated as a cache miss, and failures to
+ * write an entry are ignored; V8 will simply compile the script again.
+ */
+public class FileCodeCache implements V8CodeCache {
+
+    private static final String SUFFIX = ".jsc";
+
+    private final File directory;
+
+    /**
+     * Creates a new FileCodeCache that stores its entries in the given
+     * directory. The directory is created if it does not exist.
+     *
+     * @param directory The directory in which to store the code caches.
+     */
+    public FileCodeCache(final File directory) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        this.directory = directory;
+        if (!directory.exists() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IllegalStateException("Cannot create code cache directory: " + directory);
+        }
+    }
+
+    /**
+     * Returns the directory in which the code caches are stored.
+     *
+     * @return The code cache directory.
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.V8CodeCache#get(java.lang.String)
+     */
+    @Override
+    public byte[] get(final String key) {
+        File file = new File(directory, key + SUFFIX);
+        if (!file.isFile()) {
+            return null;
+        }
+        FileInputStream input = null;
+        try {
+            input = new FileInputStream(file);
+            byte[] result = new byte[(int) file.length()];
+            int offset = 0;
+            while (offset < result.length) {
+                int read = input.read(result, offset, result.length - offset);
+                if (read < 0) {
+                    return null;
+                }
+                offset += read;
+            }
+            return result;
+        } catch (IOException e) {
+            return null;
+        } finally {
+            close(input);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.eclipsesource.v8.V8CodeCache#put(java.lang.String, byte[])
+     */
+    @Override
+    public void put(final String key, final byte[] data) {
+        File file = new File(directory, key + SUFFIX);
+        File tempFile = null;
+        FileOutputStream output = null;
+        try {
+            // write to a temporary file first, so that concurrent readers
+            // never see a partially written entry
+            tempFile = File.createTempFile(key, ".tmp", directory);
+            output = new FileOutputStream(tempFile);
+            output.write(data);
+            output.close();
+            output = null;
+            if (!tempFile.renameTo(file)) {
+                file.delete();
+                tempFile.renameTo(file);
+            }
+        } catch (IOException e) {
+            // caching is best effort
+        } finally {
+            close(output);
+            if ((tempFile != null) && tempFile.exists()) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    /**
+     * Removes all code caches stored by this FileCodeCache.
+     */
+    public void clear() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.getName().endsWith(SUFFIX)) {
+                file.delete();
+            }
+        }
+    }
+
+    private static void close(final Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // do nothing
+        }
+    }
+
+}
@@ -10,8 +10,9 @@
  ******************************************************************************/
 package com.eclipsesource.v8.utils;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import com.eclipsesource.v8.ReferenceHandler;
 import com.eclipsesource.v8.V8;
@@ -30,7 +31,7 @@ public class MemoryManager {
 
     private MemoryManagerReferenceHandler memoryManagerReferenceHandler;
     private V8                            v8;
-    private ArrayList<V8Value>            references = new ArrayList<V8Value>();
+    private Set<V8Value>                  references = Collections.newSetFromMap(new IdentityHashMap<V8Value, Boolean>());
     private boolean                       releasing = false;
     private boolean                       released   = false;
 
@@ -124,13 +125,7 @@ public class MemoryManager {
         @Override
         public void v8HandleDisposed(final V8Value object) {
             if (!releasing) {
-                Iterator<V8Value> iterator = references.iterator();
-                while (iterator.hasNext()) {
-                    if (iterator.next() == object) {
-                        iterator.remove();
-                        return;
-                    }
-                }
+                references.remove(object);
             }
         }
     }
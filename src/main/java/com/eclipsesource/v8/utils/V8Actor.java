@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.utils.collections.MpscBoundedQueue;
+
+/**
+ * An isolated V8 runtime that processes messages from a bounded mailbox,
+ * scheduled on the worker threads of a {@link V8ActorSystem}.
+ *
+ * Messages can be sent from any thread. Whenever an actor has messages, it
+ * is scheduled on a worker, which processes up to a batch of messages before
+ * giving the worker to the next actor. The runtime is created on the first
+ * message, and must only be used from within setup() and onMessage().
+ *
+ * If the mailbox is full, {@link #offer(Object)} fails and
+ * {@link #send(Object, long, TimeUnit)} waits for space, so that fast
+ * producers are slowed down to the speed of the actor.
+ *
+ * @param <T> The type of the messages.
+ */
+public abstract class V8Actor<T> {
+
+    /**
+     * The default capacity of the mailbox.
+     */
+    public static final int           DEFAULT_MAILBOX_CAPACITY = 1024;
+
+    /**
+     * The default number of messages processed per scheduling.
+     */
+    public static final int           DEFAULT_BATCH_SIZE       = 64;
+
+    private static final int          IDLE                     = 0;
+    private static final int          SCHEDULED                = 1;
+    private static final long         MAX_BACKOFF              = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final V8ActorSystem       system;
+    private final MpscBoundedQueue<T> mailbox;
+    private final int                 batchSize;
+    private final AtomicInteger       state                    = new AtomicInteger(IDLE);
+    private final CountDownLatch      termination              = new CountDownLatch(1);
+    private final Runnable            runner;
+    private volatile boolean          closed                   = false;
+    private volatile Exception        exception                = null;
+    private V8                        runtime;
+
+    /**
+     * Creates an actor with the default mailbox capacity and batch size.
+     *
+     * @param system The actor system to run on.
+     */
+    protected V8Actor(final V8ActorSystem system) {
+        this(system, DEFAULT_MAILBOX_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates an actor.
+     *
+     * @param system The actor system to run on.
+     * @param mailboxCapacity The maximum number of messages waiting to be processed.
+     * @param batchSize The maximum number of messages processed before the
+     * worker thread is given to the next actor.
+     */
+    protected V8Actor(final V8ActorSystem system, final int mailboxCapacity, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.system = system;
+        this.batchSize = batchSize;
+        mailbox = new MpscBoundedQueue<T>(mailboxCapacity);
+        runner = new Runnable() {
+
+            @Override
+            public void run() {
+                process();
+            }
+        };
+        system.register(this);
+    }
+
+    /**
+     * Override to provide a custom setup for the V8 runtime of this actor,
+     * for example to add callbacks or to execute the scripts that handle
+     * messages. Called on a worker thread before the first message.
+     *
+     * @param runtime The runtime to configure.
+     */
+    protected void setup(final V8 runtime) {
+
+    }
+
+    /**
+     * Processes a message. Called on a worker thread that holds the lock
+     * of the runtime. Exceptions are recorded and do not stop the actor.
+     *
+     * @param runtime The runtime of this actor.
+     * @param message The message to process.
+     */
+    protected abstract void onMessage(final V8 runtime, final T message);
+
+    /**
+     * Override to release resources that were created in setup(). Called on
+     * a worker thread before the runtime is released.
+     *
+     * @param runtime The runtime of this actor.
+     */
+    protected void teardown(final V8 runtime) {
+
+    }
+
+    /**
+     * Adds a message to the mailbox, unless the mailbox is full or the
+     * actor has been closed.
+     *
+     * @param message The message to send.
+     *
+     * @return True if the message was added, false otherwise.
+     */
+    public boolean offer(final T message) {
+        if (message == null) {
+            throw new IllegalArgumentException("Message cannot be null");
+        }
+        if (closed || !mailbox.offer(message)) {
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    /**
+     * Adds a message to the mailbox, waiting for space if the mailbox is full.
+     *
+     * @param message The message to send.
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     *
+     * @return True if the message was added, false if the timeout elapsed
+     * or the actor has been closed.
+     *
+     * @throws InterruptedException If the thread was interrupted while waiting.
+     */
+    public boolean send(final T message, final long timeout, final TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long backoff = 1000;
+        while (!offer(message)) {
+            if (closed) {
+                return false;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(Math.min(backoff, remaining));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF);
+        }
+        return true;
+    }
+
+    /**
+     * Closes the actor. No new messages are accepted, but messages already
+     * in the mailbox are processed before the runtime is released.
+     */
+    public void close() {
+        closed = true;
+        schedule();
+    }
+
+    /**
+     * Determines if the actor has been closed.
+     *
+     * @return True if close() was called, false otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Determines if the actor has processed all messages and released its runtime.
+     *
+     * @return True if the actor has terminated, false otherwise.
+     */
+    public boolean hasTerminated() {
+        return termination.getCount() == 0;
+    }
+
+    /**
+     * Waits until the actor has terminated.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     *
+     * @return True if the actor terminated, false if the timeout elapsed.
+     *
+     * @throws InterruptedException If the thread was interrupted while waiting.
+     */
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return termination.await(timeout, unit);
+    }
+
+    /**
+     * Returns the number of messages waiting to be processed.
+     *
+     * @return The number of messages in the mailbox.
+     */
+    public int getPendingMessageCount() {
+        return mailbox.size();
+    }
+
+    /**
+     * Gets the last exception that was thrown while processing a message.
+     *
+     * @return The last exception, or null if no exception was thrown.
+     */
+    public Exception getException() {
+        return exception;
+    }
+
+    /**
+     * Returns the actor system this actor runs on.
+     *
+     * @return The actor system.
+     */
+    public V8ActorSystem getSystem() {
+        return system;
+    }
+
+    private void schedule() {
+        if (state.compareAndSet(IDLE, SCHEDULED)) {
+            system.execute(runner);
+        }
+    }
+
+    private void process() {
+        try {
+            if (hasTerminated()) {
+                return;
+            }
+            if (runtime == null) {
+                if (closed && mailbox.isEmpty()) {
+                    termination.countDown();
+                    system.unregister(this);
+                    return;
+                }
+                runtime = V8.createV8Runtime();
+                try {
+                    setup(runtime);
+                } catch (Exception e) {
+                    exception = e;
+                    closed = true;
+                    mailbox.clear();
+                }
+            } else {
+                runtime.getLocker().acquire();
+            }
+            for (int i = 0; i < batchSize; i++) {
+                T message = mailbox.poll();
+                if (message == null) {
+                    break;
+                }
+                try {
+                    onMessage(runtime, message);
+                } catch (Exception e) {
+                    exception = e;
+                }
+            }
+            if (closed && mailbox.isEmpty()) {
+                terminate();
+            } else {
+                runtime.getLocker().release();
+            }
+        } finally {
+            state.set(IDLE);
+            if (!hasTerminated() && (closed || !mailbox.isEmpty())) {
+                schedule();
+            }
+        }
+    }
+
+    private void terminate() {
+        try {
+            teardown(runtime);
+        } catch (Exception e) {
+            exception = e;
+        } finally {
+            try {
+                runtime.close();
+            } catch (Exception e) {
+                exception = e;
+            }
+            runtime = null;
+            termination.countDown();
+            system.unregister(this);
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs any number of {@link V8Actor}s on a fixed pool of worker threads.
+ * Each actor owns a runtime, which is only ever used by one worker at a
+ * time, and is handed between workers through its
+ * {@link com.eclipsesource.v8.V8Locker}. Actors without messages do not
+ * occupy a thread, so thousands of mostly idle runtimes can share a few
+ * workers.
+ *
+ * V8ActorSystem system = new V8ActorSystem(4);
+ * V8ScriptActor actor = new V8ScriptActor(system, script, "onMessage");
+ * actor.offer("hello");
+ * ...
+ * system.shutdown();
+ */
+public class V8ActorSystem {
+
+    private final Executor          executor;
+    private final ExecutorService   pool;
+    private final Set<V8Actor<?>>   actors   = Collections.newSetFromMap(new IdentityHashMap<V8Actor<?>, Boolean>());
+    private boolean                 shutdown = false;
+
+    /**
+     * Creates an actor system with its own pool of daemon worker threads.
+     *
+     * @param threads The number of worker threads.
+     */
+    public V8ActorSystem(final int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        pool = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                Thread thread = new Thread(runnable, "J2V8 Actor " + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor = pool;
+    }
+
+    /**
+     * Creates an actor system that schedules its actors on the given executor.
+     * The executor is not shut down with the actor system.
+     *
+     * @param executor The executor that runs the actors.
+     */
+    public V8ActorSystem(final Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.executor = executor;
+        pool = null;
+    }
+
+    /**
+     * Closes all actors of this system. Actors finish processing the messages
+     * already in their mailbox before they release their runtime. Once all
+     * actors terminated, the worker threads of the system are stopped.
+     */
+    public void shutdown() {
+        V8Actor<?>[] toClose;
+        synchronized (this) {
+            shutdown = true;
+            toClose = actors.toArray(new V8Actor<?>[actors.size()]);
+            stopPoolIfIdle();
+        }
+        for (V8Actor<?> actor : toClose) {
+            actor.close();
+        }
+    }
+
+    /**
+     * Determines if shutdown() was called on this actor system.
+     *
+     * @return True if the actor system is shutting down, false otherwise.
+     */
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Returns the number of actors that have not yet terminated.
+     *
+     * @return The number of actors.
+     */
+    public synchronized int getActorCount() {
+        return actors.size();
+    }
+
+    synchronized void register(final V8Actor<?> actor) {
+        if (shutdown) {
+            throw new IllegalStateException("Actor system has been shut down");
+        }
+        actors.add(actor);
+    }
+
+    synchronized void unregister(final V8Actor<?> actor) {
+        actors.remove(actor);
+        if (shutdown) {
+            stopPoolIfIdle();
+        }
+    }
+
+    void execute(final Runnable runnable) {
+        executor.execute(runnable);
+    }
+
+    private void stopPoolIfIdle() {
+        if ((pool != null) && actors.isEmpty()) {
+            pool.shutdown();
+        }
+    }
+
+}
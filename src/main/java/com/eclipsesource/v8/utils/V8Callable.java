@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import com.eclipsesource.v8.V8;
+
+/**
+ * A task that computes a result on a V8 runtime. Instances can be submitted
+ * to a {@link V8Scheduler}.
+ *
+ * @param <T> The type of the result.
+ */
+public interface V8Callable<T> {
+
+    /**
+     * Computes the result on the provided runtime.
+     *
+     * @param runtime The V8 runtime assigned to this task.
+     *
+     * @return The result of the task.
+     *
+     * @throws Exception If the result cannot be computed.
+     */
+    public T call(final V8 runtime) throws Exception;
+
+}
@@ -11,12 +11,12 @@
 package com.eclipsesource.v8.utils;
 
 import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
 
-import com.eclipsesource.v8.JavaVoidCallback;
 import com.eclipsesource.v8.Releasable;
 import com.eclipsesource.v8.V8;
 import com.eclipsesource.v8.V8Array;
-import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8Watchdog;
 
 /**
  * Executes a JS Script on a new V8 runtime in its own thread, and once finished,
@@ -113,12 +113,11 @@ public class V8Executor extends Thread {
     public void run() {
         synchronized (this) {
             runtime = V8.createV8Runtime();
-            runtime.registerJavaMethod(new ExecutorTermination(), "__j2v8__checkThreadTerminate");
             setup(runtime);
         }
         try {
             if (!forceTerminating) {
-                Object scriptResult = runtime.executeScript("__j2v8__checkThreadTerminate();\n" + script, getName(), -1);
+                Object scriptResult = runtime.executeScript(script, getName(), 0);
                 if (scriptResult != null) {
                     result = scriptResult.toString();
                 }
@@ -204,6 +203,10 @@ public class V8Executor extends Thread {
             shuttingDown = true;
             if (runtime != null) {
                 runtime.terminateExecution();
+                if (!runtime.isReleased()) {
+                    // terminates the script even if it has not started executing yet
+                    runtime.requestInterrupt(new ExecutorTermination());
+                }
             }
             notify();
         }
@@ -222,6 +225,27 @@ public class V8Executor extends Thread {
         }
     }
 
+    /**
+     * Indicates to the executor that it should shutdown, as with shutdown(),
+     * but forces the termination of the executor if it has not finished
+     * within the given time.
+     *
+     * @param timeout The time after which the executor is force terminated.
+     * @param unit The unit of the timeout.
+     */
+    public void shutdown(final long timeout, final TimeUnit unit) {
+        shutdown();
+        V8Watchdog.getDefault().schedule(new V8Watchdog.Timer() {
+
+            @Override
+            protected void onTimeout() {
+                if (!terminated) {
+                    forceTermination();
+                }
+            }
+        }, timeout, unit);
+    }
+
     /**
      * Returns true if shutdown() or forceTermination() was called to
      * shutdown this executor.
@@ -242,12 +266,10 @@ public class V8Executor extends Thread {
         return forceTerminating;
     }
 
-    class ExecutorTermination implements JavaVoidCallback {
+    class ExecutorTermination implements V8Runnable {
         @Override
-        public void invoke(final V8Object receiver, final V8Array parameters) {
-            if (forceTerminating) {
-                throw new RuntimeException("V8Thread Termination");
-            }
+        public void run(final V8 runtime) {
+            runtime.terminateExecution();
         }
     }
 }
\ No newline at end of file
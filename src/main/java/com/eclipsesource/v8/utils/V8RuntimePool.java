@@ -0,0 +1,509 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8ScriptExecutionException;
+
+/**
+ * A pool of V8 runtimes that can be shared between threads. Runtimes are
+ * checked out by a thread, used exclusively by that thread, and then
+ * returned to the pool. The V8 lock is handed off through the runtime's
+ * {@link com.eclipsesource.v8.V8Locker}: a checked out runtime is locked to
+ * the thread that checked it out, and idle runtimes hold no lock at all.
+ *
+ * New runtimes are created on demand up to the maximum size, and are
+ * initialized by executing the warm-up scripts (or by loading a startup
+ * snapshot). Runtimes that have been idle for longer than the idle timeout
+ * are closed, as long as at least the minimum number of runtimes remain.
+ *
+ * Runtimes are discarded instead of being returned to the pool if they are
+ * no longer healthy. By default a runtime is considered unhealthy if it
+ * leaked V8 handles while it was checked out, or if a
+ * V8ScriptExecutionException was thrown while running a V8Runnable through
+ * {@link #run(V8Runnable)}. Runtimes whose heap keeps growing can be
+ * recycled with {@link #setMaxHeapGrowth(long)}.
+ *
+ * V8RuntimePool pool = new V8RuntimePool(2, 8);
+ * pool.addWarmupScript(librarySource);
+ * pool.prestartRuntimes();
+ * V8 runtime = pool.checkout();
+ * try {
+ *   runtime.executeScript(...);
+ * } finally {
+ *   pool.checkin(runtime);
+ * }
+ */
+public class V8RuntimePool {
+
+    private static class PooledRuntime {
+        final V8 runtime;
+        long     idleSince;
+        long     referenceCount;
+        long     baselineHeapSize;
+
+        PooledRuntime(final V8 runtime) {
+            this.runtime = runtime;
+        }
+    }
+
+    private final int                       minSize;
+    private final int                       maxSize;
+    private final List<String>              warmupScripts   = new ArrayList<String>();
+    private final List<String>              warmupNames     = new ArrayList<String>();
+    private byte[]                          snapshot        = null;
+    private long                            idleTimeout     = TimeUnit.MINUTES.toMillis(1);
+    private boolean                         unchecked       = false;
+    private long                            maxHeapGrowth   = 0;
+    private final LinkedList<PooledRuntime> idle            = new LinkedList<PooledRuntime>();
+    private final Map<V8, PooledRuntime>    checkedOut      = new IdentityHashMap<V8, PooledRuntime>();
+    private int                             size            = 0;
+    private boolean                         closed          = false;
+
+    /**
+     * Creates a new V8RuntimePool. No runtimes are created until they are
+     * needed, or until {@link #prestartRuntimes()} is called.
+     *
+     * @param minSize The number of runtimes that are kept even when idle.
+     * @param maxSize The maximum number of runtimes in the pool.
+     */
+    public V8RuntimePool(final int minSize, final int maxSize) {
+        if ((minSize < 0) || (maxSize < 1) || (minSize > maxSize)) {
+            throw new IllegalArgumentException("Invalid pool size: min " + minSize + ", max " + maxSize);
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds a script that is executed on every new runtime before it is
+     * first checked out.
+     *
+     * @param script The script to execute.
+     *
+     * @return This V8RuntimePool.
+     */
+    public V8RuntimePool addWarmupScript(final String script) {
+        return addWarmupScript(script, null);
+    }
+
+    /**
+     * Adds a script that is executed on every new runtime before it is
+     * first checked out.
+     *
+     * @param script The script to execute.
+     * @param scriptName The name of the script, used in error messages.
+     *
+     * @return This V8RuntimePool.
+     */
+    public synchronized V8RuntimePool addWarmupScript(final String script, final String scriptName) {
+        if (script == null) {
+            throw new IllegalArgumentException("Script cannot be null");
+        }
+        warmupScripts.add(script);
+        warmupNames.add(scriptName);
+        return this;
+    }
+
+    /**
+     * Sets a startup snapshot from which new runtimes are created. The
+     * warm-up scripts are executed after the snapshot has been loaded.
+     *
+     * @param snapshot A snapshot created with {@link com.eclipsesource.v8.V8SnapshotCreator},
+     * or null to create empty runtimes.
+     *
+     * @return This V8RuntimePool.
+     */
+    public synchronized V8RuntimePool setSnapshot(final byte[] snapshot) {
+        this.snapshot = snapshot;
+        return this;
+    }
+
+    /**
+     * Sets by how much the used heap of a runtime may grow beyond its size
+     * after the warm-up scripts ran. Runtimes that exceed the limit when
+     * they are checked in are closed instead of being returned to the pool,
+     * which bounds the memory held by scripts that accumulate state in
+     * global variables. A limit of 0, the default, disables the check.
+     *
+     * Garbage that has not yet been collected counts towards the used heap,
+     * so the limit should be well above the allocations of a single checkout.
+     *
+     * @param bytes The maximum heap growth in bytes, or 0 for no limit.
+     *
+     * @return This V8RuntimePool.
+     */
+    public synchronized V8RuntimePool setMaxHeapGrowth(final long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Heap growth cannot be negative");
+        }
+        maxHeapGrowth = bytes;
+        return this;
+    }
+
+    /**
+     * Disables the thread check that runtimes perform on every call while
+     * they are checked out. The pool still verifies the owning thread when
+     * a runtime is checked in, but a checked out runtime (or any of its
+     * values) that is used from another thread is no longer detected and
+     * can crash the VM. Only use this if runtimes never leave the thread
+     * that checked them out.
+     *
+     * @param unchecked True to disable the thread check, false to enable it.
+     *
+     * @return This V8RuntimePool.
+     *
+     * @see com.eclipsesource.v8.V8Locker#setUnchecked(boolean)
+     */
+    public synchronized V8RuntimePool setUncheckedRuntimes(final boolean unchecked) {
+        this.unchecked = unchecked;
+        return this;
+    }
+
+    /**
+     * Sets how long a runtime may stay idle before it is closed. Runtimes
+     * are only closed while the pool holds more than the minimum number.
+     * The default timeout is one minute.
+     *
+     * @param timeout The idle timeout.
+     * @param unit The unit of the timeout.
+     *
+     * @return This V8RuntimePool.
+     */
+    public synchronized V8RuntimePool setIdleTimeout(final long timeout, final TimeUnit unit) {
+        idleTimeout = unit.toMillis(timeout);
+        return this;
+    }
+
+    /**
+     * Creates runtimes until the pool holds the minimum number of runtimes.
+     */
+    public void prestartRuntimes() {
+        while (true) {
+            synchronized (this) {
+                checkClosed();
+                if (size >= minSize) {
+                    return;
+                }
+                size++;
+            }
+            PooledRuntime pooledRuntime = createPooledRuntime();
+            synchronized (this) {
+                if (closed) {
+                    close(pooledRuntime);
+                    throw new IllegalStateException("Pool closed");
+                }
+                pooledRuntime.runtime.getLocker().release();
+                pooledRuntime.idleSince = System.currentTimeMillis();
+                idle.addFirst(pooledRuntime);
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Checks out a runtime, waiting until one becomes available if all
+     * runtimes are in use. The runtime is locked to the calling thread
+     * and must be returned with {@link #checkin(V8)} or {@link #discard(V8)}.
+     *
+     * @return A runtime locked to the current thread.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public V8 checkout() throws InterruptedException {
+        return checkout(0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks out a runtime, waiting up to the given timeout until one
+     * becomes available if all runtimes are in use. A timeout of 0 waits
+     * indefinitely.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     *
+     * @return A runtime locked to the current thread, or null if the
+     * timeout elapsed before a runtime became available.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public V8 checkout(final long timeout, final TimeUnit unit) throws InterruptedException {
+        evictIdle();
+        long deadline = timeout > 0 ? System.currentTimeMillis() + unit.toMillis(timeout) : 0;
+        PooledRuntime pooledRuntime = null;
+        synchronized (this) {
+            while (true) {
+                checkClosed();
+                if (!idle.isEmpty()) {
+                    pooledRuntime = idle.removeFirst();
+                    break;
+                }
+                if (size < maxSize) {
+                    size++;
+                    break;
+                }
+                if (deadline == 0) {
+                    wait();
+                } else {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        return null;
+                    }
+                    wait(remaining);
+                }
+            }
+        }
+        if (pooledRuntime == null) {
+            pooledRuntime = createPooledRuntime();
+        } else {
+            pooledRuntime.runtime.getLocker().acquire();
+        }
+        pooledRuntime.referenceCount = pooledRuntime.runtime.getObjectReferenceCount();
+        synchronized (this) {
+            pooledRuntime.runtime.getLocker().setUnchecked(unchecked);
+            checkedOut.put(pooledRuntime.runtime, pooledRuntime);
+        }
+        return pooledRuntime.runtime;
+    }
+
+    /**
+     * Returns a runtime to the pool. The calling thread must hold the lock
+     * of the runtime. If the runtime is no longer healthy, or the pool has
+     * been closed, the runtime is closed instead.
+     *
+     * @param runtime A runtime checked out from this pool.
+     */
+    public void checkin(final V8 runtime) {
+        runtime.getLocker().checkThread();
+        PooledRuntime pooledRuntime = remove(runtime);
+        boolean keep;
+        long heapGrowth;
+        synchronized (this) {
+            keep = !closed;
+            heapGrowth = maxHeapGrowth;
+        }
+        if (!keep || runtime.isReleased() || !isHealthy(runtime, pooledRuntime.referenceCount)
+                || ((heapGrowth > 0) && (getUsedHeapSize(runtime) - pooledRuntime.baselineHeapSize > heapGrowth))) {
+            close(pooledRuntime);
+            return;
+        }
+        runtime.getLocker().release();
+        synchronized (this) {
+            if (closed) {
+                runtime.getLocker().acquire();
+                close(pooledRuntime);
+                return;
+            }
+            pooledRuntime.idleSince = System.currentTimeMillis();
+            idle.addFirst(pooledRuntime);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Closes a checked out runtime instead of returning it to the pool,
+     * making room for a new runtime. The calling thread must hold the
+     * lock of the runtime.
+     *
+     * @param runtime A runtime checked out from this pool.
+     */
+    public void discard(final V8 runtime) {
+        close(remove(runtime));
+    }
+
+    /**
+     * Runs a V8Runnable on a pooled runtime. The runtime is checked out for
+     * the duration of the call. If the runnable throws a
+     * V8ScriptExecutionException the runtime is discarded, since its
+     * global state may be left inconsistent.
+     *
+     * @param runnable The V8Runnable to run.
+     *
+     * @throws InterruptedException If the thread is interrupted while
+     * waiting for a runtime.
+     */
+    public void run(final V8Runnable runnable) throws InterruptedException {
+        V8 runtime = checkout();
+        try {
+            runnable.run(runtime);
+        } catch (V8ScriptExecutionException e) {
+            discard(runtime);
+            runtime = null;
+            throw e;
+        } finally {
+            if (runtime != null) {
+                checkin(runtime);
+            }
+        }
+    }
+
+    /**
+     * Closes all runtimes that have been idle for longer than the idle
+     * timeout, as long as the pool keeps its minimum number of runtimes.
+     * This is done automatically whenever a runtime is checked out.
+     */
+    public void evictIdle() {
+        List<PooledRuntime> evicted = new ArrayList<PooledRuntime>();
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            Iterator<PooledRuntime> iterator = idle.descendingIterator();
+            while (iterator.hasNext() && (size > minSize)) {
+                PooledRuntime pooledRuntime = iterator.next();
+                if ((now - pooledRuntime.idleSince) < idleTimeout) {
+                    break;
+                }
+                iterator.remove();
+                evicted.add(pooledRuntime);
+                size--;
+            }
+        }
+        for (PooledRuntime pooledRuntime : evicted) {
+            pooledRuntime.runtime.getLocker().acquire();
+            pooledRuntime.runtime.release(false);
+        }
+    }
+
+    /**
+     * Returns the number of runtimes owned by the pool, including the
+     * runtimes that are currently checked out.
+     *
+     * @return The number of runtimes in the pool.
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of runtimes that are available for checkout.
+     *
+     * @return The number of idle runtimes.
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Closes the pool and all idle runtimes. Runtimes that are currently
+     * checked out are closed when they are returned.
+     */
+    public void close() {
+        List<PooledRuntime> runtimes;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            runtimes = new ArrayList<PooledRuntime>(idle);
+            size -= idle.size();
+            idle.clear();
+            notifyAll();
+        }
+        for (PooledRuntime pooledRuntime : runtimes) {
+            pooledRuntime.runtime.getLocker().acquire();
+            pooledRuntime.runtime.release(false);
+        }
+    }
+
+    /**
+     * Determines if the pool has been closed.
+     *
+     * @return Returns true if the pool has been closed, false otherwise.
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Determines if a runtime can be returned to the pool. This is called
+     * on the thread that holds the lock of the runtime. By default a runtime
+     * is unhealthy if more V8 handles are open than when it was checked out.
+     *
+     * @param runtime The runtime being returned.
+     * @param referenceCount The number of open V8 handles when the runtime was
+     * checked out.
+     *
+     * @return Returns true if the runtime can be reused, false if it should be
+     * closed.
+     */
+    protected boolean isHealthy(final V8 runtime, final long referenceCount) {
+        return runtime.getObjectReferenceCount() <= referenceCount;
+    }
+
+    private static long getUsedHeapSize(final V8 runtime) {
+        return runtime.getHeapStatistics().getUsedHeapSize();
+    }
+
+    private PooledRuntime createPooledRuntime() {
+        String[] scripts;
+        String[] names;
+        byte[] snapshotBlob;
+        synchronized (this) {
+            scripts = warmupScripts.toArray(new String[warmupScripts.size()]);
+            names = warmupNames.toArray(new String[warmupNames.size()]);
+            snapshotBlob = snapshot;
+        }
+        V8 runtime = null;
+        try {
+            runtime = V8.createV8Runtime(null, null, snapshotBlob);
+            for (int i = 0; i < scripts.length; i++) {
+                runtime.executeVoidScript(scripts[i], names[i], 0);
+            }
+            PooledRuntime pooledRuntime = new PooledRuntime(runtime);
+            pooledRuntime.baselineHeapSize = getUsedHeapSize(runtime);
+            return pooledRuntime;
+        } catch (RuntimeException e) {
+            if (runtime != null) {
+                runtime.release(false);
+            }
+            synchronized (this) {
+                size--;
+                notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    private synchronized PooledRuntime remove(final V8 runtime) {
+        PooledRuntime pooledRuntime = checkedOut.remove(runtime);
+        if (pooledRuntime == null) {
+            throw new IllegalArgumentException("Runtime was not checked out from this pool");
+        }
+        return pooledRuntime;
+    }
+
+    private void close(final PooledRuntime pooledRuntime) {
+        try {
+            if (!pooledRuntime.runtime.isReleased()) {
+                pooledRuntime.runtime.release(false);
+            }
+        } finally {
+            synchronized (this) {
+                size--;
+                notifyAll();
+            }
+        }
+    }
+
+    private void checkClosed() {
+        if (closed) {
+            throw new IllegalStateException("Pool closed");
+        }
+    }
+
+}
@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.eclipsesource.v8.Releasable;
+import com.eclipsesource.v8.V8;
+
+/**
+ * Runs tasks on a fixed set of threads that each own a V8 runtime. The
+ * runtime of a thread is created and initialized by its first task; if the
+ * initializer fails, that task fails and the next task tries again.
+ *
+ * A runtime is created on each worker thread and never leaves it, so the
+ * V8 lock is never handed between threads. Submitting threads only enqueue
+ * a task and wait on the returned Future, which parks through
+ * {@link java.util.concurrent.locks.LockSupport} rather than holding a
+ * monitor. This makes the scheduler suitable for callers that should not
+ * block on a native call themselves, such as virtual threads: the JNI calls
+ * into V8 only ever happen on the worker threads.
+ *
+ * V8Scheduler scheduler = new V8Scheduler(4);
+ * Future<Integer> result = scheduler.submit(new V8Callable<Integer>() {
+ *   public Integer call(V8 runtime) {
+ *     return runtime.executeIntegerScript("1 + 1");
+ *   }
+ * });
+ * result.get();
+ * scheduler.shutdown();
+ *
+ * Tasks must not return V8Values, since those are bound to the worker's
+ * runtime. Use {@link V8ObjectUtils} to convert results to Java objects.
+ */
+public class V8Scheduler {
+
+    private final ThreadPoolExecutor executor;
+    private final V8Runnable         initializer;
+    private final ThreadLocal<V8>    currentRuntime = new ThreadLocal<V8>();
+    private final Set<V8>            runtimes       = Collections.newSetFromMap(new IdentityHashMap<V8, Boolean>());
+    private int                      workers        = 0;
+
+    /**
+     * Creates a scheduler with the given number of worker threads.
+     *
+     * @param threads The number of worker threads, and therefore runtimes.
+     */
+    public V8Scheduler(final int threads) {
+        this(threads, null);
+    }
+
+    /**
+     * Creates a scheduler with the given number of worker threads. Each
+     * runtime is prepared by the initializer before it runs any task, for
+     * example to execute library scripts or register callbacks.
+     *
+     * @param threads The number of worker threads, and therefore runtimes.
+     * @param initializer The code to run on each new runtime, or null.
+     */
+    public V8Scheduler(final int threads, final V8Runnable initializer) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        this.initializer = initializer;
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(final Runnable runnable) {
+                        Thread thread = new Thread(new Worker(runnable), "J2V8 Scheduler " + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+
+    /**
+     * Submits a task to be run on one of the runtimes of this scheduler.
+     * This method does not block, and can be called from any thread.
+     *
+     * @param task The task to run.
+     *
+     * @return A Future that completes with the result of the task. If the
+     * task throws an exception, Future.get() throws an ExecutionException
+     * with that exception as its cause.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException If the
+     * scheduler has been shut down.
+     */
+    public <T> Future<T> submit(final V8Callable<T> task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        return executor.submit(new Callable<T>() {
+
+            @Override
+            public T call() throws Exception {
+                T result = task.call(getRuntime());
+                if (result instanceof Releasable) {
+                    ((Releasable) result).close();
+                    throw new IllegalStateException("V8Values cannot be returned from a scheduled task");
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Runs a task that produces no result on one of the runtimes of this
+     * scheduler. This method does not block, and can be called from any thread.
+     *
+     * @param task The task to run.
+     *
+     * @return A Future that completes when the task has run.
+     */
+    public Future<?> run(final V8Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        return submit(new V8Callable<Object>() {
+
+            @Override
+            public Object call(final V8 runtime) {
+                task.run(runtime);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Returns the number of tasks that are waiting for a runtime.
+     *
+     * @return The number of queued tasks.
+     */
+    public int getQueuedTaskCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops accepting new tasks. Tasks that were already submitted are
+     * still run, after which the runtimes are released.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Stops accepting new tasks, discards the queued tasks and terminates
+     * any JavaScript that is currently executing.
+     *
+     * @return The number of tasks that were discarded.
+     */
+    public int shutdownNow() {
+        List<Runnable> discarded = executor.shutdownNow();
+        synchronized (runtimes) {
+            for (V8 runtime : runtimes) {
+                runtime.terminateExecution();
+            }
+        }
+        return discarded.size();
+    }
+
+    /**
+     * Determines if the scheduler has been shut down.
+     *
+     * @return True if shutdown() or shutdownNow() was called, false otherwise.
+     */
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Waits until all tasks have run and all runtimes have been released
+     * after a shutdown.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     *
+     * @return True if the scheduler terminated, false if the timeout elapsed.
+     *
+     * @throws InterruptedException If the thread was interrupted while waiting.
+     */
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (!executor.awaitTermination(timeout, unit)) {
+            return false;
+        }
+        // the executor terminates before the workers have released their runtimes
+        synchronized (runtimes) {
+            while (workers > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(runtimes, remaining);
+            }
+        }
+        return true;
+    }
+
+    private V8 getRuntime() {
+        V8 runtime = currentRuntime.get();
+        if (runtime == null) {
+            runtime = V8.createV8Runtime();
+            try {
+                if (initializer != null) {
+                    initializer.run(runtime);
+                }
+            } catch (RuntimeException e) {
+                runtime.close();
+                throw e;
+            }
+            synchronized (runtimes) {
+                runtimes.add(runtime);
+            }
+            currentRuntime.set(runtime);
+        }
+        return runtime;
+    }
+
+    private class Worker implements Runnable {
+
+        private final Runnable target;
+
+        Worker(final Runnable target) {
+            this.target = target;
+        }
+
+        @Override
+        public void run() {
+            synchronized (runtimes) {
+                workers++;
+            }
+            try {
+                target.run();
+            } finally {
+                try {
+                    V8 runtime = currentRuntime.get();
+                    if (runtime != null) {
+                        currentRuntime.remove();
+                        synchronized (runtimes) {
+                            runtimes.remove(runtime);
+                        }
+                        runtime.close();
+                    }
+                } finally {
+                    synchronized (runtimes) {
+                        workers--;
+                        runtimes.notifyAll();
+                    }
+                }
+            }
+        }
+    }
+
+}
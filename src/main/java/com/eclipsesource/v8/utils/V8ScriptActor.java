@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Function;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8Value;
+
+/**
+ * An actor that executes a script once, and then passes each message to a
+ * global JavaScript function defined by that script.
+ *
+ * Messages of type String[] are passed as a JavaScript array, as with
+ * {@link V8Executor#postMessage(String...)}. Any other message, such as a
+ * String, Number, Boolean, List or Map, is converted with
+ * {@link V8ObjectUtils#pushValue(V8, V8Array, Object)}.
+ */
+public class V8ScriptActor extends V8Actor<Object> {
+
+    private final String script;
+    private final String messageHandler;
+    private V8Function   handler;
+
+    /**
+     * Creates an actor with the default mailbox capacity and batch size.
+     *
+     * @param system The actor system to run on.
+     * @param script The script to execute when the runtime is created.
+     * @param messageHandler The name of the global function that handles messages.
+     */
+    public V8ScriptActor(final V8ActorSystem system, final String script, final String messageHandler) {
+        this(system, script, messageHandler, DEFAULT_MAILBOX_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates an actor.
+     *
+     * @param system The actor system to run on.
+     * @param script The script to execute when the runtime is created.
+     * @param messageHandler The name of the global function that handles messages.
+     * @param mailboxCapacity The maximum number of messages waiting to be processed.
+     * @param batchSize The maximum number of messages processed per scheduling.
+     */
+    public V8ScriptActor(final V8ActorSystem system, final String script, final String messageHandler,
+            final int mailboxCapacity, final int batchSize) {
+        super(system, mailboxCapacity, batchSize);
+        this.script = script;
+        this.messageHandler = messageHandler;
+    }
+
+    /**
+     * Sends a message to the actor's handler as a JavaScript array of strings.
+     *
+     * @param message The message to send.
+     *
+     * @return True if the message was added to the mailbox, false otherwise.
+     */
+    public boolean postMessage(final String... message) {
+        return offer(message);
+    }
+
+    @Override
+    protected void setup(final V8 runtime) {
+        runtime.executeVoidScript(script, getClass().getSimpleName(), 0);
+        Object function = runtime.get(messageHandler);
+        if (!(function instanceof V8Function)) {
+            if (function instanceof V8Value) {
+                ((V8Value) function).close();
+            }
+            throw new IllegalStateException("Message handler is not a function: " + messageHandler);
+        }
+        handler = (V8Function) function;
+    }
+
+    @Override
+    protected void onMessage(final V8 runtime, final Object message) {
+        V8Array parameters = new V8Array(runtime);
+        try {
+            if (message instanceof String[]) {
+                V8Array strings = new V8Array(runtime);
+                for (String string : (String[]) message) {
+                    strings.push(string);
+                }
+                parameters.push(strings);
+                strings.close();
+            } else {
+                V8ObjectUtils.pushValue(runtime, parameters, message);
+            }
+            Object result = handler.call(runtime, parameters);
+            if (result instanceof V8Value) {
+                ((V8Value) result).close();
+            }
+        } finally {
+            parameters.close();
+        }
+    }
+
+    @Override
+    protected void teardown(final V8 runtime) {
+        if (handler != null) {
+            handler.close();
+            handler = null;
+        }
+    }
+
+}
@@ -0,0 +1,721 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8SerializedDataReader;
+import com.eclipsesource.v8.V8Value;
+
+/**
+ * Reads JavaScript values in V8's structured clone format, as produced by
+ * {@link V8#serialize(V8Value, V8SerializedDataReader)}. A whole object graph
+ * is transferred from V8 in a single call, and then decoded here without
+ * any further calls into the runtime.
+ *
+ * Values can either be read incrementally, using beginObject/nextName/endObject,
+ * beginArray/endArray and the nextXXX methods (which allows Java objects to be
+ * populated directly), or at once using {@link #readValue()}, which returns
+ * Maps, Lists, Dates and boxed primitives.
+ *
+ * Objects that occur several times in the graph (including cycles) are only
+ * supported by readValue.
+ */
+public class V8ValueReader {
+
+    /**
+     * The type reported by {@link #peek()} for JavaScript Dates.
+     */
+    public static final int        DATE         = 100;
+
+    private static final int       OBJECT       = 1;
+    private static final int       DENSE_ARRAY  = 2;
+    private static final int       SPARSE_ARRAY = 3;
+    private static final long      NO_KEY       = -1;
+    private static final long      NO_MORE_KEYS = Long.MAX_VALUE;
+    private static final Object    STREAMED     = new Object();
+    private static final Charset   LATIN1       = Charset.forName("ISO-8859-1");
+    private static final Charset   UTF8         = Charset.forName("UTF-8");
+
+    private final ByteBuffer       buffer;
+    private final int              version;
+    private final List<Object>     objects      = new ArrayList<Object>();
+    private int[]                  kinds        = new int[8];
+    private int[]                  lengths      = new int[8];
+    private int[]                  indices      = new int[8];
+    // for sparse arrays, the index of the next stored element if its key was already read
+    private long[]                 nextKeys     = new long[8];
+    private int                    depth        = 0;
+
+    /**
+     * Reads the value serialized in the given V8Value with a single call into
+     * its runtime, and returns it as Maps, Lists, Dates and boxed primitives.
+     *
+     * @param value The value to read.
+     *
+     * @return The value as a Java Object.
+     */
+    public static Object read(final V8Value value) {
+        return value.getRuntime().serialize(value, new V8SerializedDataReader<Object>() {
+
+            @Override
+            public Object read(final ByteBuffer data) {
+                return new V8ValueReader(data).readValue();
+            }
+        });
+    }
+
+    /**
+     * Creates a new reader for the serialized data between the position
+     * and the limit of the given buffer.
+     *
+     * @param data The serialized data.
+     */
+    public V8ValueReader(final ByteBuffer data) {
+        buffer = data.slice().order(ByteOrder.nativeOrder());
+        if (!buffer.hasRemaining() || (buffer.get() != V8ValueTags.HEADER)) {
+            throw new IllegalArgumentException("Invalid serialized data");
+        }
+        version = (int) readVarint();
+        if (version < V8ValueTags.VERSION) {
+            throw new IllegalArgumentException("Unsupported serialization format version: " + version);
+        }
+    }
+
+    /**
+     * Returns the version of the serialization format of the data.
+     *
+     * @return The format version.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the type of the next value without consuming it. Types are
+     * specified as the integer constants defined in V8Value, or {@link #DATE}.
+     *
+     * @return The type of the next value.
+     */
+    public int peek() {
+        if (isAtGap()) {
+            return V8Value.UNDEFINED;
+        }
+        byte tag = peekTag();
+        switch (tag) {
+            case V8ValueTags.UNDEFINED:
+            case V8ValueTags.THE_HOLE:
+                return V8Value.UNDEFINED;
+            case V8ValueTags.NULL:
+                return V8Value.NULL;
+            case V8ValueTags.TRUE:
+            case V8ValueTags.FALSE:
+            case V8ValueTags.TRUE_OBJECT:
+            case V8ValueTags.FALSE_OBJECT:
+                return V8Value.BOOLEAN;
+            case V8ValueTags.INT32:
+                return V8Value.INTEGER;
+            case V8ValueTags.UINT32:
+                int position = buffer.position();
+                buffer.get();
+                long value = readVarint();
+                buffer.position(position);
+                return value <= Integer.MAX_VALUE ? V8Value.INTEGER : V8Value.DOUBLE;
+            case V8ValueTags.DOUBLE:
+            case V8ValueTags.NUMBER_OBJECT:
+                return isInteger(buffer.getDouble(buffer.position() + 1)) ? V8Value.INTEGER : V8Value.DOUBLE;
+            case V8ValueTags.UTF8_STRING:
+            case V8ValueTags.ONE_BYTE_STRING:
+            case V8ValueTags.TWO_BYTE_STRING:
+            case V8ValueTags.STRING_OBJECT:
+                return V8Value.STRING;
+            case V8ValueTags.BEGIN_JS_OBJECT:
+                return V8Value.V8_OBJECT;
+            case V8ValueTags.BEGIN_DENSE_ARRAY:
+            case V8ValueTags.BEGIN_SPARSE_ARRAY:
+                return V8Value.V8_ARRAY;
+            case V8ValueTags.DATE:
+                return DATE;
+            case V8ValueTags.OBJECT_REFERENCE:
+                return peekReferenceType();
+            default:
+                throw unexpectedTag(tag);
+        }
+    }
+
+    /**
+     * Returns true if the current object or array has more elements.
+     *
+     * @return True if there are more elements, false otherwise.
+     */
+    public boolean hasNext() {
+        int i = currentContainer();
+        if (kinds[i] == OBJECT) {
+            return peekTag() != V8ValueTags.END_JS_OBJECT;
+        }
+        return indices[i] < lengths[i];
+    }
+
+    /**
+     * Consumes the beginning of an object. Its properties are then read
+     * as alternating calls to {@link #nextName()} and a method that reads
+     * the value.
+     */
+    public void beginObject() {
+        if (beforeValue()) {
+            throw new IllegalStateException("Expected an object but was undefined");
+        }
+        byte tag = readTag();
+        if (tag != V8ValueTags.BEGIN_JS_OBJECT) {
+            throw unexpectedTag(tag);
+        }
+        objects.add(STREAMED);
+        push(OBJECT, 0);
+    }
+
+    /**
+     * Consumes the end of the current object. Properties that were not
+     * read are skipped.
+     */
+    public void endObject() {
+        int i = currentContainer();
+        if (kinds[i] != OBJECT) {
+            throw new IllegalStateException("Not in an object");
+        }
+        while (peekTag() != V8ValueTags.END_JS_OBJECT) {
+            readTree();
+            readTree();
+        }
+        buffer.get();
+        readVarint();
+        depth--;
+        afterValue();
+    }
+
+    /**
+     * Consumes the beginning of an array and returns its length. The array
+     * then has exactly that many elements; missing elements are read as
+     * UNDEFINED.
+     *
+     * @return The length of the array.
+     */
+    public int beginArray() {
+        if (beforeValue()) {
+            throw new IllegalStateException("Expected an array but was undefined");
+        }
+        byte tag = readTag();
+        if ((tag != V8ValueTags.BEGIN_DENSE_ARRAY) && (tag != V8ValueTags.BEGIN_SPARSE_ARRAY)) {
+            throw unexpectedTag(tag);
+        }
+        int length = (int) readVarint();
+        objects.add(STREAMED);
+        push(tag == V8ValueTags.BEGIN_DENSE_ARRAY ? DENSE_ARRAY : SPARSE_ARRAY, length);
+        return length;
+    }
+
+    /**
+     * Consumes the end of the current array. Elements that were not read
+     * are skipped, as well as any named properties of the array.
+     */
+    public void endArray() {
+        int i = currentContainer();
+        if (kinds[i] == DENSE_ARRAY) {
+            for (; indices[i] < lengths[i]; indices[i]++) {
+                readTree();
+            }
+            while (peekTag() != V8ValueTags.END_DENSE_ARRAY) {
+                readTree();
+                readTree();
+            }
+        } else if (kinds[i] == SPARSE_ARRAY) {
+            if ((nextKeys[i] != NO_KEY) && (nextKeys[i] != NO_MORE_KEYS)) {
+                readTree();
+            }
+            while (peekTag() != V8ValueTags.END_SPARSE_ARRAY) {
+                readTree();
+                readTree();
+            }
+        } else {
+            throw new IllegalStateException("Not in an array");
+        }
+        buffer.get();
+        readVarint();
+        readVarint();
+        depth--;
+        afterValue();
+    }
+
+    /**
+     * Reads the name of the next property of the current object.
+     *
+     * @return The property name.
+     */
+    public String nextName() {
+        if (kinds[currentContainer()] != OBJECT) {
+            throw new IllegalStateException("Not in an object");
+        }
+        return toKey(readTree());
+    }
+
+    /**
+     * Reads the next value as an integer. If the value is not a number that
+     * fits into an integer, an IllegalStateException is thrown.
+     *
+     * @return The integer value.
+     */
+    public int nextInt() {
+        if (!isAtGap() && (peekTag() == V8ValueTags.INT32)) {
+            beforeValue();
+            buffer.get();
+            int result = readInt32();
+            afterValue();
+            return result;
+        }
+        Object result = nextPrimitive();
+        if (result instanceof Integer) {
+            return (Integer) result;
+        }
+        throw new IllegalStateException("Expected an integer but was " + result);
+    }
+
+    /**
+     * Reads the next value as a double. If the value is not a number, an
+     * IllegalStateException is thrown.
+     *
+     * @return The double value.
+     */
+    public double nextDouble() {
+        if (!isAtGap()) {
+            byte tag = peekTag();
+            if ((tag == V8ValueTags.INT32) || (tag == V8ValueTags.DOUBLE)) {
+                beforeValue();
+                buffer.get();
+                double result = tag == V8ValueTags.INT32 ? readInt32() : buffer.getDouble();
+                afterValue();
+                return result;
+            }
+        }
+        Object result = nextPrimitive();
+        if (result instanceof Number) {
+            return ((Number) result).doubleValue();
+        }
+        throw new IllegalStateException("Expected a number but was " + result);
+    }
+
+    /**
+     * Reads the next value as a boolean. If the value is not a boolean, an
+     * IllegalStateException is thrown.
+     *
+     * @return The boolean value.
+     */
+    public boolean nextBoolean() {
+        Object result = nextPrimitive();
+        if (result instanceof Boolean) {
+            return (Boolean) result;
+        }
+        throw new IllegalStateException("Expected a boolean but was " + result);
+    }
+
+    /**
+     * Reads the next value as a String. If the value is not a String, an
+     * IllegalStateException is thrown.
+     *
+     * @return The String value.
+     */
+    public String nextString() {
+        Object result = nextPrimitive();
+        if (result instanceof String) {
+            return (String) result;
+        }
+        throw new IllegalStateException("Expected a string but was " + result);
+    }
+
+    /**
+     * Reads the next value as a Date. If the value is not a Date, an
+     * IllegalStateException is thrown.
+     *
+     * @return The Date value.
+     */
+    public Date nextDate() {
+        Object result = nextPrimitive();
+        if (result instanceof Date) {
+            return (Date) result;
+        }
+        throw new IllegalStateException("Expected a date but was " + result);
+    }
+
+    /**
+     * Consumes the next value, which must be null.
+     */
+    public void nextNull() {
+        Object result = nextPrimitive();
+        if (result != null) {
+            throw new IllegalStateException("Expected null but was " + result);
+        }
+    }
+
+    /**
+     * Consumes the next value, which must be undefined.
+     */
+    public void nextUndefined() {
+        Object result = nextPrimitive();
+        if (result != V8.getUndefined()) {
+            throw new IllegalStateException("Expected undefined but was " + result);
+        }
+    }
+
+    /**
+     * Skips the next value, including all of its contents.
+     */
+    public void skipValue() {
+        nextPrimitive();
+    }
+
+    /**
+     * Reads the next value and all of its contents. Objects are returned as
+     * Maps, arrays as Lists, Dates as java.util.Date and primitives are boxed.
+     * Undefined is returned as V8.getUndefined().
+     *
+     * @return The next value as a Java Object.
+     */
+    public Object readValue() {
+        return nextPrimitive();
+    }
+
+    private Object nextPrimitive() {
+        Object result = beforeValue() ? V8.getUndefined() : readTree();
+        afterValue();
+        return result;
+    }
+
+    private Object readTree() {
+        byte tag = readTag();
+        switch (tag) {
+            case V8ValueTags.UNDEFINED:
+            case V8ValueTags.THE_HOLE:
+                return V8.getUndefined();
+            case V8ValueTags.NULL:
+                return null;
+            case V8ValueTags.TRUE:
+                return Boolean.TRUE;
+            case V8ValueTags.FALSE:
+                return Boolean.FALSE;
+            case V8ValueTags.INT32:
+                return readInt32();
+            case V8ValueTags.UINT32:
+                return toNumber(readVarint());
+            case V8ValueTags.DOUBLE:
+                return toNumber(buffer.getDouble());
+            case V8ValueTags.UTF8_STRING:
+            case V8ValueTags.ONE_BYTE_STRING:
+            case V8ValueTags.TWO_BYTE_STRING:
+                return readString(tag);
+            case V8ValueTags.TRUE_OBJECT:
+                return register(Boolean.TRUE);
+            case V8ValueTags.FALSE_OBJECT:
+                return register(Boolean.FALSE);
+            case V8ValueTags.NUMBER_OBJECT:
+                return register(toNumber(buffer.getDouble()));
+            case V8ValueTags.STRING_OBJECT:
+                return register(readString(readTag()));
+            case V8ValueTags.DATE:
+                return register(new Date((long) buffer.getDouble()));
+            case V8ValueTags.OBJECT_REFERENCE:
+                return resolveReference((int) readVarint());
+            case V8ValueTags.BEGIN_JS_OBJECT:
+                return readObject();
+            case V8ValueTags.BEGIN_DENSE_ARRAY:
+                return readDenseArray();
+            case V8ValueTags.BEGIN_SPARSE_ARRAY:
+                return readSparseArray();
+            default:
+                throw unexpectedTag(tag);
+        }
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> result = new V8PropertyMap<Object>();
+        register(result);
+        while (peekTag() != V8ValueTags.END_JS_OBJECT) {
+            String key = toKey(readTree());
+            result.put(key, readTree());
+        }
+        buffer.get();
+        readVarint();
+        return result;
+    }
+
+    private List<Object> readDenseArray() {
+        int length = (int) readVarint();
+        List<Object> result = new ArrayList<Object>(length);
+        register(result);
+        for (int i = 0; i < length; i++) {
+            result.add(readTree());
+        }
+        // named properties of the array are not represented in the list
+        while (peekTag() != V8ValueTags.END_DENSE_ARRAY) {
+            readTree();
+            readTree();
+        }
+        buffer.get();
+        readVarint();
+        readVarint();
+        return result;
+    }
+
+    private List<Object> readSparseArray() {
+        int length = (int) readVarint();
+        List<Object> result = new ArrayList<Object>();
+        register(result);
+        while (peekTag() != V8ValueTags.END_SPARSE_ARRAY) {
+            long index = toIndex(readTree());
+            Object value = readTree();
+            if ((index >= 0) && (index < length)) {
+                while (result.size() <= index) {
+                    result.add(V8.getUndefined());
+                }
+                result.set((int) index, value);
+            }
+        }
+        while (result.size() < length) {
+            result.add(V8.getUndefined());
+        }
+        buffer.get();
+        readVarint();
+        readVarint();
+        return result;
+    }
+
+    private boolean isAtGap() {
+        if (depth == 0) {
+            return false;
+        }
+        int i = depth - 1;
+        if (kinds[i] == OBJECT) {
+            return false;
+        }
+        if (indices[i] >= lengths[i]) {
+            throw new IllegalStateException("No more elements in the array");
+        }
+        return (kinds[i] == SPARSE_ARRAY) && (findNextKey(i) != indices[i]);
+    }
+
+    private boolean beforeValue() {
+        if (isAtGap()) {
+            return true;
+        }
+        if ((depth > 0) && (kinds[depth - 1] == SPARSE_ARRAY)) {
+            // the value of the stored element is consumed next
+            nextKeys[depth - 1] = NO_KEY;
+        }
+        return false;
+    }
+
+    private void afterValue() {
+        if ((depth > 0) && (kinds[depth - 1] != OBJECT)) {
+            indices[depth - 1]++;
+        }
+    }
+
+    private long findNextKey(final int i) {
+        while (nextKeys[i] == NO_KEY) {
+            if (peekTag() == V8ValueTags.END_SPARSE_ARRAY) {
+                nextKeys[i] = NO_MORE_KEYS;
+            } else {
+                long index = toIndex(readTree());
+                if (index < 0) {
+                    // named property of the array
+                    readTree();
+                } else {
+                    nextKeys[i] = index;
+                }
+            }
+        }
+        return nextKeys[i];
+    }
+
+    private void push(final int kind, final int length) {
+        if (depth == kinds.length) {
+            int newLength = depth * 2;
+            kinds = copyOf(kinds, newLength);
+            lengths = copyOf(lengths, newLength);
+            indices = copyOf(indices, newLength);
+            long[] newNextKeys = new long[newLength];
+            System.arraycopy(nextKeys, 0, newNextKeys, 0, depth);
+            nextKeys = newNextKeys;
+        }
+        kinds[depth] = kind;
+        lengths[depth] = length;
+        indices[depth] = 0;
+        nextKeys[depth] = NO_KEY;
+        depth++;
+    }
+
+    private int currentContainer() {
+        if (depth == 0) {
+            throw new IllegalStateException("Not in an object or array");
+        }
+        return depth - 1;
+    }
+
+    private Object register(final Object object) {
+        objects.add(object);
+        return object;
+    }
+
+    private Object resolveReference(final int id) {
+        if ((id < 0) || (id >= objects.size())) {
+            throw new IllegalStateException("Invalid object reference: " + id);
+        }
+        Object result = objects.get(id);
+        if (result == STREAMED) {
+            throw new IllegalStateException("Cannot resolve a reference to an object that was read incrementally");
+        }
+        return result;
+    }
+
+    private int peekReferenceType() {
+        int position = buffer.position();
+        buffer.get();
+        Object object = resolveReference((int) readVarint());
+        buffer.position(position);
+        if (object instanceof Map) {
+            return V8Value.V8_OBJECT;
+        } else if (object instanceof List) {
+            return V8Value.V8_ARRAY;
+        } else if (object instanceof Date) {
+            return DATE;
+        } else if (object instanceof Boolean) {
+            return V8Value.BOOLEAN;
+        } else if (object instanceof Integer) {
+            return V8Value.INTEGER;
+        } else if (object instanceof Double) {
+            return V8Value.DOUBLE;
+        }
+        return V8Value.STRING;
+    }
+
+    private String readString(final byte tag) {
+        int length = (int) readVarint();
+        switch (tag) {
+            case V8ValueTags.ONE_BYTE_STRING:
+                return readString(length, LATIN1);
+            case V8ValueTags.UTF8_STRING:
+                return readString(length, UTF8);
+            case V8ValueTags.TWO_BYTE_STRING:
+                char[] chars = new char[length / 2];
+                for (int i = 0; i < chars.length; i++) {
+                    chars[i] = buffer.getChar();
+                }
+                return new String(chars);
+            default:
+                throw unexpectedTag(tag);
+        }
+    }
+
+    private String readString(final int length, final Charset charset) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, charset);
+    }
+
+    private byte peekTag() {
+        while (true) {
+            byte tag = buffer.get(buffer.position());
+            if (tag == V8ValueTags.PADDING) {
+                buffer.get();
+            } else if (tag == V8ValueTags.VERIFY_OBJECT_COUNT) {
+                buffer.get();
+                readVarint();
+            } else {
+                return tag;
+            }
+        }
+    }
+
+    private byte readTag() {
+        peekTag();
+        return buffer.get();
+    }
+
+    private int readInt32() {
+        int value = (int) readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private long readVarint() {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    private static Object toNumber(final double value) {
+        if (isInteger(value)) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    private static boolean isInteger(final double value) {
+        return (value == (int) value) && !((value == 0) && ((1 / value) < 0));
+    }
+
+    private static String toKey(final Object key) {
+        if (key instanceof String) {
+            return (String) key;
+        } else if (key instanceof Integer) {
+            return key.toString();
+        } else if (key instanceof Double) {
+            double value = (Double) key;
+            if (value == Math.rint(value)) {
+                return Long.toString((long) value);
+            }
+            return key.toString();
+        }
+        throw new IllegalStateException("Invalid property key: " + key);
+    }
+
+    private static long toIndex(final Object key) {
+        if (key instanceof Integer) {
+            return (Integer) key;
+        } else if (key instanceof Double) {
+            double value = (Double) key;
+            if (value == Math.rint(value)) {
+                return (long) value;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] copyOf(final int[] array, final int length) {
+        int[] result = new int[length];
+        System.arraycopy(array, 0, result, 0, Math.min(array.length, length));
+        return result;
+    }
+
+    private static IllegalStateException unexpectedTag(final byte tag) {
+        return new IllegalStateException("Unsupported serialized value, tag: '" + (char) tag + "'");
+    }
+
+}
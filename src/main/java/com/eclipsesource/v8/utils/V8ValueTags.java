@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+/**
+ * The tags of V8's structured clone format, as written by v8::ValueSerializer.
+ *
+ * This class is not considered API.
+ */
+final class V8ValueTags {
+
+    static final int  VERSION             = 13;
+
+    static final byte HEADER              = (byte) 0xFF;
+    static final byte PADDING             = 0;
+    static final byte VERIFY_OBJECT_COUNT = '?';
+    static final byte THE_HOLE            = '-';
+    static final byte UNDEFINED           = '_';
+    static final byte NULL                = '0';
+    static final byte TRUE                = 'T';
+    static final byte FALSE               = 'F';
+    static final byte INT32               = 'I';
+    static final byte UINT32              = 'U';
+    static final byte DOUBLE              = 'N';
+    static final byte UTF8_STRING         = 'S';
+    static final byte ONE_BYTE_STRING     = '"';
+    static final byte TWO_BYTE_STRING     = 'c';
+    static final byte OBJECT_REFERENCE    = '^';
+    static final byte BEGIN_JS_OBJECT     = 'o';
+    static final byte END_JS_OBJECT       = '{';
+    static final byte BEGIN_SPARSE_ARRAY  = 'a';
+    static final byte END_SPARSE_ARRAY    = '@';
+    static final byte BEGIN_DENSE_ARRAY   = 'A';
+    static final byte END_DENSE_ARRAY     = '$';
+    static final byte DATE                = 'D';
+    static final byte TRUE_OBJECT         = 'y';
+    static final byte FALSE_OBJECT        = 'x';
+    static final byte NUMBER_OBJECT       = 'n';
+    static final byte STRING_OBJECT       = 's';
+
+    private V8ValueTags() {
+    }
+
+}
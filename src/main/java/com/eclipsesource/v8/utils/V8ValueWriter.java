@@ -0,0 +1,468 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Value;
+
+/**
+ * Writes values in V8's structured clone format into a direct ByteBuffer,
+ * which can be turned into JavaScript values with a single call to
+ * {@link V8#deserialize(ByteBuffer)}.
+ *
+ * Values can either be written incrementally, using beginObject/name/endObject,
+ * beginArray/endArray and the value methods (which allows Java objects to be
+ * written directly), or at once using {@link #writeValue(Object)}, which
+ * accepts Maps, Lists, Dates, Strings, Numbers, Booleans, null and undefined.
+ *
+ * A writer can be reused for several values by calling {@link #reset()}.
+ */
+public class V8ValueWriter {
+
+    private static final int            OBJECT   = 1;
+    private static final int            ARRAY    = 2;
+
+    private final Map<Object, Integer>  ids      = new IdentityHashMap<Object, Integer>();
+    private ByteBuffer                  buffer;
+    private int[]                       kinds    = new int[8];
+    private int[]                       lengths  = new int[8];
+    private int[]                       counts   = new int[8];
+    private boolean                     hasName  = false;
+    private boolean                     complete = false;
+    private int                         depth    = 0;
+    private int                         nextId   = 0;
+
+    /**
+     * Creates the JavaScript value for the given Java Object on the given
+     * runtime, using a single call into the runtime. See
+     * {@link #writeValue(Object)} for the supported types.
+     *
+     * @param v8 The runtime on which to create the value.
+     * @param value The value to write.
+     *
+     * @return The JavaScript value. Primitives will be boxed, and V8Values
+     * must be released.
+     */
+    public static Object write(final V8 v8, final Object value) {
+        V8ValueWriter writer = new V8ValueWriter();
+        writer.writeValue(value);
+        return v8.deserialize(writer.toByteBuffer());
+    }
+
+    /**
+     * Creates a new writer.
+     */
+    public V8ValueWriter() {
+        this(1024);
+    }
+
+    /**
+     * Creates a new writer with the given initial buffer capacity.
+     *
+     * @param initialCapacity The initial capacity of the buffer in bytes.
+     */
+    public V8ValueWriter(final int initialCapacity) {
+        buffer = ByteBuffer.allocateDirect(Math.max(initialCapacity, 16)).order(ByteOrder.nativeOrder());
+        writeHeader();
+    }
+
+    /**
+     * Returns the serialized data written so far, from position 0 to the
+     * limit of the returned buffer. The buffer shares its content with this
+     * writer, and is only valid until the writer is used again.
+     *
+     * @return The serialized data.
+     */
+    public ByteBuffer toByteBuffer() {
+        if (depth != 0) {
+            throw new IllegalStateException("Incomplete object or array");
+        }
+        ByteBuffer result = buffer.duplicate().order(ByteOrder.nativeOrder());
+        result.flip();
+        return result;
+    }
+
+    /**
+     * Clears this writer, so that it can be used to write another value.
+     */
+    public void reset() {
+        buffer.clear();
+        ids.clear();
+        depth = 0;
+        nextId = 0;
+        hasName = false;
+        complete = false;
+        writeHeader();
+    }
+
+    /**
+     * Writes the beginning of an object. Properties are then written as
+     * calls to {@link #name(String)}, each followed by a value.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter beginObject() {
+        beforeValue();
+        put(V8ValueTags.BEGIN_JS_OBJECT);
+        nextId++;
+        push(OBJECT, 0);
+        return this;
+    }
+
+    /**
+     * Writes the name of the next property of the current object.
+     *
+     * @param name The property name.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter name(final String name) {
+        if ((depth == 0) || (kinds[depth - 1] != OBJECT) || hasName) {
+            throw new IllegalStateException("Property names can only be written in objects");
+        }
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        writeString(name);
+        hasName = true;
+        return this;
+    }
+
+    /**
+     * Writes the end of the current object.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter endObject() {
+        if ((depth == 0) || (kinds[depth - 1] != OBJECT) || hasName) {
+            throw new IllegalStateException("Not in an object");
+        }
+        put(V8ValueTags.END_JS_OBJECT);
+        writeVarint(counts[depth - 1]);
+        depth--;
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes the beginning of an array. Exactly length values must be
+     * written before the array is ended.
+     *
+     * @param length The length of the array.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter beginArray(final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length cannot be negative");
+        }
+        beforeValue();
+        put(V8ValueTags.BEGIN_DENSE_ARRAY);
+        writeVarint(length);
+        nextId++;
+        push(ARRAY, length);
+        return this;
+    }
+
+    /**
+     * Writes the end of the current array.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter endArray() {
+        if ((depth == 0) || (kinds[depth - 1] != ARRAY)) {
+            throw new IllegalStateException("Not in an array");
+        }
+        int length = lengths[depth - 1];
+        if (counts[depth - 1] != length) {
+            throw new IllegalStateException("Expected " + length + " elements, but " + counts[depth - 1] + " were written");
+        }
+        put(V8ValueTags.END_DENSE_ARRAY);
+        writeVarint(0);
+        writeVarint(length);
+        depth--;
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes an integer value.
+     *
+     * @param value The value to write.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter value(final int value) {
+        beforeValue();
+        put(V8ValueTags.INT32);
+        writeVarint(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes a double value.
+     *
+     * @param value The value to write.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter value(final double value) {
+        beforeValue();
+        put(V8ValueTags.DOUBLE);
+        ensureCapacity(8);
+        buffer.putDouble(value);
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes a boolean value.
+     *
+     * @param value The value to write.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter value(final boolean value) {
+        beforeValue();
+        put(value ? V8ValueTags.TRUE : V8ValueTags.FALSE);
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes a String value, or null if the value is null.
+     *
+     * @param value The value to write.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter value(final String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(value);
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes a Date value, or null if the value is null.
+     *
+     * @param value The value to write.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter value(final Date value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        put(V8ValueTags.DATE);
+        ensureCapacity(8);
+        buffer.putDouble(value.getTime());
+        nextId++;
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes null.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter nullValue() {
+        beforeValue();
+        put(V8ValueTags.NULL);
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes undefined.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter undefinedValue() {
+        beforeValue();
+        put(V8ValueTags.UNDEFINED);
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes a Java Object and all of its contents. Maps are written as
+     * objects, Lists as arrays, Integers, Shorts and Bytes as integers, other
+     * Numbers as doubles, and V8.getUndefined() as undefined. Maps and Lists
+     * that occur several times, including cycles, are written as references
+     * to the first occurrence.
+     *
+     * @param value The value to write.
+     *
+     * @return The receiver.
+     */
+    public V8ValueWriter writeValue(final Object value) {
+        if (value == null) {
+            return nullValue();
+        } else if ((value instanceof V8Value) && ((V8Value) value).isUndefined()) {
+            return undefinedValue();
+        } else if ((value instanceof Integer) || (value instanceof Short) || (value instanceof Byte)) {
+            return value(((Number) value).intValue());
+        } else if (value instanceof Number) {
+            return value(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            return value((boolean) (Boolean) value);
+        } else if ((value instanceof String) || (value instanceof Character)) {
+            return value(value.toString());
+        } else if (value instanceof Date) {
+            return value((Date) value);
+        } else if ((value instanceof Map) || (value instanceof List)) {
+            Integer id = ids.get(value);
+            if (id != null) {
+                beforeValue();
+                put(V8ValueTags.OBJECT_REFERENCE);
+                writeVarint(id);
+                afterValue();
+                return this;
+            }
+            ids.put(value, nextId);
+            if (value instanceof Map) {
+                beginObject();
+                for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    name(String.valueOf(entry.getKey()));
+                    writeValue(entry.getValue());
+                }
+                return endObject();
+            }
+            List<?> list = (List<?>) value;
+            beginArray(list.size());
+            for (Object element : list) {
+                writeValue(element);
+            }
+            return endArray();
+        }
+        throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+    }
+
+    private void writeHeader() {
+        put(V8ValueTags.HEADER);
+        writeVarint(V8ValueTags.VERSION);
+    }
+
+    private void beforeValue() {
+        if (depth == 0) {
+            if (complete) {
+                throw new IllegalStateException("Only one top level value can be written");
+            }
+            return;
+        }
+        int i = depth - 1;
+        if ((kinds[i] == OBJECT) && !hasName) {
+            throw new IllegalStateException("Expected a property name");
+        }
+        if ((kinds[i] == ARRAY) && (counts[i] >= lengths[i])) {
+            throw new IllegalStateException("Too many elements for an array of length " + lengths[i]);
+        }
+    }
+
+    private void afterValue() {
+        if (depth == 0) {
+            complete = true;
+            return;
+        }
+        counts[depth - 1]++;
+        hasName = false;
+    }
+
+    private void push(final int kind, final int length) {
+        if (depth == kinds.length) {
+            kinds = copyOf(kinds, depth * 2);
+            lengths = copyOf(lengths, depth * 2);
+            counts = copyOf(counts, depth * 2);
+        }
+        kinds[depth] = kind;
+        lengths[depth] = length;
+        counts[depth] = 0;
+        hasName = false;
+        depth++;
+    }
+
+    private void writeString(final String value) {
+        int length = value.length();
+        boolean oneByte = true;
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) > 0xFF) {
+                oneByte = false;
+                break;
+            }
+        }
+        if (oneByte) {
+            put(V8ValueTags.ONE_BYTE_STRING);
+            writeVarint(length);
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+        } else {
+            put(V8ValueTags.TWO_BYTE_STRING);
+            writeVarint(length * 2L);
+            ensureCapacity(length * 2);
+            for (int i = 0; i < length; i++) {
+                buffer.putChar(value.charAt(i));
+            }
+        }
+    }
+
+    private void writeVarint(final long value) {
+        ensureCapacity(10);
+        long remaining = value;
+        do {
+            byte b = (byte) (remaining & 0x7F);
+            remaining >>>= 7;
+            if (remaining != 0) {
+                b |= 0x80;
+            }
+            buffer.put(b);
+        } while (remaining != 0);
+    }
+
+    private void put(final byte tag) {
+        ensureCapacity(1);
+        buffer.put(tag);
+    }
+
+    private void ensureCapacity(final int size) {
+        if (buffer.remaining() >= size) {
+            return;
+        }
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + size);
+        ByteBuffer newBuffer = ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+        buffer.flip();
+        newBuffer.put(buffer);
+        buffer = newBuffer;
+    }
+
+    private static int[] copyOf(final int[] array, final int length) {
+        int[] result = new int[length];
+        System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+
+}
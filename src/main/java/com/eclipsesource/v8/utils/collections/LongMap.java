@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils.collections;
+
+import java.util.Arrays;
+
+/**
+ * A map from primitive longs to Objects, using open addressing with
+ * linear probing. Unlike a HashMap&lt;Long, V&gt; the keys are never boxed,
+ * so lookups do not allocate.
+ *
+ * This class is not thread safe, and is not considered API.
+ */
+public class LongMap<V> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[]           keys;
+    private Object[]         values;
+    private int              size;
+    private int              mask;
+    private int              threshold;
+    private boolean          hasZeroKey;
+    private V                zeroValue;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map that can hold the given number of entries
+     * without growing.
+     *
+     * @param expectedSize The expected number of entries.
+     */
+    public LongMap(final int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity / 2 < expectedSize) {
+            capacity *= 2;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Returns the value associated with the given key.
+     *
+     * @param key The key to look up.
+     *
+     * @return The value, or null if the key is not in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final long key) {
+        if (key == 0) {
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * Returns true if the map contains the given key.
+     *
+     * @param key The key to look up.
+     *
+     * @return True if the key is in the map, false otherwise.
+     */
+    public boolean containsKey(final long key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Associates the value with the given key, replacing any previous value.
+     *
+     * @param key The key.
+     * @param value The value.
+     *
+     * @return The previous value, or null if the key was not in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final long key, final V value) {
+        if (key == 0) {
+            V previous = zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int index = hash(key) & mask;
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            rehash(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the given key from the map.
+     *
+     * @param key The key to remove.
+     *
+     * @return The value that was associated with the key, or null if the
+     * key was not in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(final long key) {
+        if (key == 0) {
+            V previous = zeroValue;
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = null;
+                size--;
+            }
+            return previous;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        removeAt(index);
+        size--;
+        return previous;
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the map has no entries.
+     *
+     * @return True if the map is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a copy of the keys in the map, in no particular order.
+     *
+     * @return The keys of the map.
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int i = 0;
+        if (hasZeroKey) {
+            result[i++] = 0;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all entries from the map.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    private int indexOf(final long key) {
+        int index = hash(key) & mask;
+        while (true) {
+            long current = keys[index];
+            if (current == key) {
+                return index;
+            }
+            if (current == 0) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    // Shifts the following entries back into the gap, so that lookups
+    // never need to skip over removed entries
+    private void removeAt(int gap) {
+        int index = (gap + 1) & mask;
+        while (keys[index] != 0) {
+            int ideal = hash(keys[index]) & mask;
+            if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    private void rehash(final int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int index = hash(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = capacity / 2;
+    }
+
+    // Native handles and method IDs are aligned pointers, so the low bits
+    // must be mixed with the high bits before masking
+    private static int hash(final long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils.collections;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue for many producers and a single consumer.
+ * Producers claim a slot with a compare-and-set on the producer index and
+ * never block; if the queue is full, offer fails instead.
+ *
+ * Only one thread at a time may call {@link #poll()}. This class is not
+ * considered API.
+ */
+public class MpscBoundedQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int                     capacity;
+    private final int                     mask;
+    private final AtomicLong              producerIndex = new AtomicLong();
+    private final AtomicLong              consumerIndex = new AtomicLong();
+
+    /**
+     * Creates an empty queue.
+     *
+     * @param capacity The maximum number of elements in the queue.
+     */
+    public MpscBoundedQueue(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity) {
+            length <<= 1;
+        }
+        this.capacity = capacity;
+        buffer = new AtomicReferenceArray<E>(length);
+        mask = length - 1;
+    }
+
+    /**
+     * Adds an element to the queue, unless the queue is full. Can be
+     * called from any thread.
+     *
+     * @param element The element to add.
+     *
+     * @return True if the element was added, false if the queue is full.
+     */
+    public boolean offer(final E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        while (true) {
+            long index = producerIndex.get();
+            if ((index - consumerIndex.get()) >= capacity) {
+                return false;
+            }
+            if (producerIndex.compareAndSet(index, index + 1)) {
+                buffer.lazySet((int) index & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element of the queue. Must only be called from
+     * the consuming thread.
+     *
+     * @return The oldest element, or null if the queue is empty.
+     */
+    public E poll() {
+        long index = consumerIndex.get();
+        int slot = (int) index & mask;
+        E element = buffer.get(slot);
+        if (element == null) {
+            if (index == producerIndex.get()) {
+                return null;
+            }
+            // a producer claimed the slot, but has not yet stored its element
+            do {
+                element = buffer.get(slot);
+            } while (element == null);
+        }
+        buffer.lazySet(slot, null);
+        consumerIndex.lazySet(index + 1);
+        return element;
+    }
+
+    /**
+     * Removes all elements from the queue. Like {@link #poll()}, this must
+     * only be called by the consumer.
+     */
+    public void clear() {
+        while (poll() != null) {
+            // discard
+        }
+    }
+
+    /**
+     * Determines if the queue is empty.
+     *
+     * @return True if the queue has no elements, false otherwise.
+     */
+    public boolean isEmpty() {
+        return consumerIndex.get() == producerIndex.get();
+    }
+
+    /**
+     * Returns the number of elements in the queue. The result is only an
+     * estimate while elements are added or removed concurrently.
+     *
+     * @return The number of elements.
+     */
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    /**
+     * Returns the maximum number of elements in the queue.
+     *
+     * @return The capacity.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+}
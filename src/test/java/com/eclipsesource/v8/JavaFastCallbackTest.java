@@ -0,0 +1,418 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JavaFastCallbackTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testIntegerArguments() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return arguments.getInteger(0) + arguments.getInteger(1);
+            }
+        }, "add");
+
+        assertEquals(7, v8.executeIntegerScript("add(3, 4);"));
+    }
+
+    @Test
+    public void testDoubleArguments() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return arguments.getDouble(0) * arguments.getDouble(1);
+            }
+        }, "mul");
+
+        assertEquals(3.75, v8.executeDoubleScript("mul(1.5, 2.5);"), 0.000001);
+    }
+
+    @Test
+    public void testIntegerAsDouble() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return arguments.getDouble(0);
+            }
+        }, "foo");
+
+        assertEquals(7, v8.executeDoubleScript("foo(7);"), 0.000001);
+    }
+
+    @Test
+    public void testBooleanArgument() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return !arguments.getBoolean(0);
+            }
+        }, "not");
+
+        assertFalse(v8.executeBooleanScript("not(true);"));
+    }
+
+    @Test
+    public void testStringArgument() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return arguments.getString(0).toUpperCase();
+            }
+        }, "upper");
+
+        assertEquals("FOO", v8.executeStringScript("upper('foo');"));
+    }
+
+    @Test
+    public void testNullStringArgument() {
+        final String[] result = new String[] { "" };
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                result[0] = arguments.getString(0);
+                return null;
+            }
+        }, "foo");
+
+        v8.executeVoidScript("foo(null);");
+
+        assertNull(result[0]);
+    }
+
+    @Test
+    public void testObjectArgument() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                V8Object object = arguments.getObject(0);
+                try {
+                    return object.getString("name");
+                } finally {
+                    object.close();
+                }
+            }
+        }, "getName");
+
+        assertEquals("joe", v8.executeStringScript("getName({name: 'joe'});"));
+    }
+
+    @Test
+    public void testArrayArgument() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                V8Array array = arguments.getArray(0);
+                try {
+                    return array.length();
+                } finally {
+                    array.close();
+                }
+            }
+        }, "size");
+
+        assertEquals(3, v8.executeIntegerScript("size([1, 2, 3]);"));
+    }
+
+    @Test
+    public void testLength() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return arguments.length();
+            }
+        }, "count");
+
+        assertEquals(3, v8.executeIntegerScript("count(1, 'a', {});"));
+    }
+
+    @Test
+    public void testTypes() {
+        final int[] types = new int[8];
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                for (int i = 0; i < types.length; i++) {
+                    types[i] = arguments.getType(i);
+                }
+                return null;
+            }
+        }, "foo");
+
+        v8.executeVoidScript("foo(1, 1.5, true, 'a', [], {}, null);");
+
+        assertEquals(V8Value.INTEGER, types[0]);
+        assertEquals(V8Value.DOUBLE, types[1]);
+        assertEquals(V8Value.BOOLEAN, types[2]);
+        assertEquals(V8Value.STRING, types[3]);
+        assertEquals(V8Value.V8_ARRAY, types[4]);
+        assertEquals(V8Value.V8_OBJECT, types[5]);
+        assertEquals(V8Value.NULL, types[6]);
+        assertEquals(V8Value.UNDEFINED, types[7]);
+    }
+
+    @Test
+    public void testManyArguments() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                int result = 0;
+                for (int i = 0; i < arguments.length(); i++) {
+                    result += arguments.getInteger(i);
+                }
+                return result;
+            }
+        }, "sum");
+
+        assertEquals(78, v8.executeIntegerScript("sum(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);"));
+    }
+
+    @Test
+    public void testGet() {
+        final Object[] result = new Object[4];
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = arguments.get(i);
+                }
+                return null;
+            }
+        }, "foo");
+
+        v8.executeVoidScript("foo(1, 2.5, false, 'bar');");
+
+        assertEquals(1, result[0]);
+        assertEquals(2.5, result[1]);
+        assertEquals(false, result[2]);
+        assertEquals("bar", result[3]);
+    }
+
+    @Test
+    public void testReceiver() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                V8Object receiver = arguments.getReceiver();
+                try {
+                    return receiver.getInteger("x");
+                } finally {
+                    receiver.close();
+                }
+            }
+        }, "getX");
+
+        assertEquals(7, v8.executeIntegerScript("var o = {x: 7, getX: getX}; o.getX();"));
+    }
+
+    @Test(expected = V8ScriptExecutionException.class)
+    public void testWrongArgumentType() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return arguments.getInteger(0);
+            }
+        }, "foo");
+
+        v8.executeVoidScript("foo('bar');");
+    }
+
+    @Test
+    public void testMissingArgument() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return arguments.getType(0);
+            }
+        }, "foo");
+
+        assertEquals(V8Value.UNDEFINED, v8.executeIntegerScript("foo();"));
+    }
+
+    @Test
+    public void testNegativeIndex() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                Object result = arguments.get(-1);
+                return (result instanceof V8Value) && ((V8Value) result).isUndefined()
+                        && (arguments.getType(-1) == V8Value.UNDEFINED);
+            }
+        }, "foo");
+
+        assertTrue(v8.executeBooleanScript("foo(1, 2);"));
+    }
+
+    @Test(expected = V8ScriptExecutionException.class)
+    public void testNegativeIndexWrongType() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return arguments.getInteger(-1);
+            }
+        }, "foo");
+
+        v8.executeVoidScript("foo(1);");
+    }
+
+    @Test
+    public void testNestedCallbacks() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                int value = arguments.getInteger(0);
+                if (value == 0) {
+                    return 0;
+                }
+                int result = value + v8.executeIntegerScript("sum(" + (value - 1) + ");");
+                // the arguments of the outer call are still valid
+                assertEquals(value, arguments.getInteger(0));
+                return result;
+            }
+        }, "sum");
+
+        assertEquals(55, v8.executeIntegerScript("sum(10);"));
+    }
+
+    @Test
+    public void testDeeplyNestedCallbacks() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                int value = arguments.getInteger(0);
+                if (value == 0) {
+                    return 0;
+                }
+                return value + v8.executeIntegerScript("sum(" + (value - 1) + ");");
+            }
+        }, "sum");
+
+        assertEquals(2080, v8.executeIntegerScript("sum(64);"));
+    }
+
+    @Test
+    public void testArgumentsInvalidAfterCallback() {
+        final V8CallbackArguments[] result = new V8CallbackArguments[1];
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                result[0] = arguments;
+                return null;
+            }
+        }, "foo");
+        v8.executeVoidScript("foo(1);");
+
+        try {
+            result[0].getInteger(0);
+            fail("Exception expected");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("only valid during the callback"));
+        }
+    }
+
+    @Test
+    public void testJavaExceptionPropagates() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                throw new RuntimeException("my exception");
+            }
+        }, "foo");
+
+        try {
+            v8.executeVoidScript("foo();");
+            fail("Exception expected");
+        } catch (V8ScriptExecutionException e) {
+            assertEquals("my exception", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testReturnObject() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return new V8Object(v8).add("foo", arguments.getInteger(0));
+            }
+        }, "create");
+
+        assertEquals(7, v8.executeIntegerScript("create(7).foo;"));
+    }
+
+    @Test
+    public void testNoObjectsLeaked() {
+        v8.registerFastMethod(new JavaFastCallback() {
+
+            @Override
+            public Object invoke(final V8CallbackArguments arguments) {
+                return arguments.getInteger(0);
+            }
+        }, "foo");
+
+        v8.executeVoidScript("for (var i = 0; i < 100; i++) { foo(i); }");
+
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+}
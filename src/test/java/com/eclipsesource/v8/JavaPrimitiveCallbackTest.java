@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JavaPrimitiveCallbackTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testIntCallback() {
+        v8.registerIntMethod(new JavaIntCallback() {
+
+            @Override
+            public int invoke(final V8CallbackArguments arguments) {
+                return arguments.getInteger(0) * 2;
+            }
+        }, "twice");
+
+        assertEquals(14, v8.executeIntegerScript("twice(7);"));
+    }
+
+    @Test
+    public void testIntCallbackResultType() {
+        v8.registerIntMethod(new JavaIntCallback() {
+
+            @Override
+            public int invoke(final V8CallbackArguments arguments) {
+                return 7;
+            }
+        }, "foo");
+
+        assertEquals("number", v8.executeStringScript("typeof foo();"));
+    }
+
+    @Test
+    public void testDoubleCallback() {
+        v8.registerDoubleMethod(new JavaDoubleCallback() {
+
+            @Override
+            public double invoke(final V8CallbackArguments arguments) {
+                return arguments.getDouble(0) / 2;
+            }
+        }, "half");
+
+        assertEquals(3.5, v8.executeDoubleScript("half(7);"), 0.000001);
+    }
+
+    @Test
+    public void testBooleanCallback() {
+        v8.registerBooleanMethod(new JavaBooleanCallback() {
+
+            @Override
+            public boolean invoke(final V8CallbackArguments arguments) {
+                return arguments.getInteger(0) > 0;
+            }
+        }, "isPositive");
+
+        assertTrue(v8.executeBooleanScript("isPositive(7);"));
+        assertFalse(v8.executeBooleanScript("isPositive(-7);"));
+    }
+
+    @Test
+    public void testStringCallback() {
+        v8.registerStringMethod(new JavaStringCallback() {
+
+            @Override
+            public String invoke(final V8CallbackArguments arguments) {
+                return "Hello, " + arguments.getString(0);
+            }
+        }, "greet");
+
+        assertEquals("Hello, joe", v8.executeStringScript("greet('joe');"));
+    }
+
+    @Test
+    public void testStringCallbackReturnsNull() {
+        v8.registerStringMethod(new JavaStringCallback() {
+
+            @Override
+            public String invoke(final V8CallbackArguments arguments) {
+                return null;
+            }
+        }, "foo");
+
+        assertTrue(v8.executeBooleanScript("foo() === null;"));
+    }
+
+    @Test
+    public void testExceptionInIntCallback() {
+        v8.registerIntMethod(new JavaIntCallback() {
+
+            @Override
+            public int invoke(final V8CallbackArguments arguments) {
+                throw new RuntimeException("my exception");
+            }
+        }, "foo");
+
+        try {
+            v8.executeVoidScript("foo();");
+            fail("Exception expected");
+        } catch (V8ScriptExecutionException e) {
+            assertEquals("my exception", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testCatchExceptionInJavaScript() {
+        v8.registerDoubleMethod(new JavaDoubleCallback() {
+
+            @Override
+            public double invoke(final V8CallbackArguments arguments) {
+                throw new RuntimeException("my exception");
+            }
+        }, "foo");
+
+        assertEquals("my exception", v8.executeStringScript("var r; try { foo(); } catch (e) { r = e; } r;"));
+    }
+
+    @Test
+    public void testCallbackOnObject() {
+        V8Object object = new V8Object(v8);
+        object.registerIntMethod(new JavaIntCallback() {
+
+            @Override
+            public int invoke(final V8CallbackArguments arguments) {
+                return arguments.length();
+            }
+        }, "count");
+        v8.add("obj", object);
+        object.close();
+
+        assertEquals(3, v8.executeIntegerScript("obj.count(1, 2, 3);"));
+    }
+
+    @Test
+    public void testManyCalls() {
+        v8.registerIntMethod(new JavaIntCallback() {
+
+            @Override
+            public int invoke(final V8CallbackArguments arguments) {
+                return arguments.getInteger(0) + 1;
+            }
+        }, "inc");
+
+        assertEquals(10000, v8.executeIntegerScript("var x = 0; for (var i = 0; i < 10000; i++) { x = inc(x); }; x;"));
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+}
@@ -26,6 +26,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.Date;
@@ -1948,6 +1949,83 @@ public class V8CallbackTest {
         };
     }
 
+    public static class Summer {
+        public int sum(final int... values) {
+            int result = 0;
+            for (int value : values) {
+                result += value;
+            }
+            return result;
+        }
+
+        public int first(final int value) {
+            return value;
+        }
+    }
+
+    @Test
+    public void testCallbackPrimitiveVarArgs() {
+        v8.registerJavaMethod(new Summer(), "sum", "sum", new Class<?>[] { int[].class });
+
+        int result = v8.executeIntegerScript("sum(1, 2, 3);");
+
+        assertEquals(6, result);
+    }
+
+    @Test
+    public void testCallbackPrimitiveVarArgsEmpty() {
+        v8.registerJavaMethod(new Summer(), "sum", "sum", new Class<?>[] { int[].class });
+
+        int result = v8.executeIntegerScript("sum();");
+
+        assertEquals(0, result);
+    }
+
+    @Test
+    public void testCallbackPrimitiveVarArgsTypeMismatch() {
+        v8.registerJavaMethod(new Summer(), "sum", "sum", new Class<?>[] { int[].class });
+
+        try {
+            v8.executeVoidScript("sum(1, {});");
+            fail("Expected exception");
+        } catch (V8ScriptExecutionException e) {
+            assertEquals(0, v8.getObjectReferenceCount());
+        }
+    }
+
+    @Test
+    public void testCallbackStringVarArgsTypeMismatch() {
+        ICallback callback = mock(ICallback.class);
+        v8.registerJavaMethod(callback, "voidMethodStringVarArgs", "foo", new Class<?>[] { String[].class });
+
+        try {
+            v8.executeVoidScript("foo('bar', [], {});");
+            fail("Expected exception");
+        } catch (V8ScriptExecutionException e) {
+            assertEquals(0, v8.getObjectReferenceCount());
+        }
+        verify(callback, never()).voidMethodStringVarArgs((String[]) any());
+    }
+
+    @Test
+    public void testCallbackIgnoresSurplusArguments() {
+        v8.registerJavaMethod(new Summer(), "first", "first", new Class<?>[] { int.class });
+
+        int result = v8.executeIntegerScript("first(7, {}, []);");
+
+        assertEquals(7, result);
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testCallbackCalledManyTimes() {
+        v8.registerJavaMethod(new Summer(), "sum", "sum", new Class<?>[] { int[].class });
+
+        int result = v8.executeIntegerScript("var x = 0; for (var i = 0; i < 1000; i++) { x += sum(i, 1); }; x;");
+
+        assertEquals(500500, result);
+    }
+
     private Answer<Object> constructReflectiveAnswer(final V8Object receiver, final V8Array parameters, final Object result) {
         return new Answer<Object>() {
 
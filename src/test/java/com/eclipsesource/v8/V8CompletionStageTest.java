@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8CompletionStageTest {
+
+    private V8              v8;
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCompletedFutureResolvesPromise() throws Exception {
+        v8.registerJavaMethod(new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                return CompletableFuture.completedFuture("cached");
+            }
+        }, "lookup");
+
+        V8Future future = v8.executeAsync("lookup()");
+
+        assertEquals("cached", future.get());
+    }
+
+    @Test
+    public void testReturnedValueIsPromise() {
+        v8.registerJavaMethod(new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                return new CompletableFuture<Object>();
+            }
+        }, "lookup");
+
+        assertTrue(v8.executeBooleanScript("lookup() instanceof Promise"));
+        assertTrue(v8.hasPendingCompletions());
+    }
+
+    @Test
+    public void testFutureCompletedOnOtherThread() throws Exception {
+        v8.registerJavaMethod(new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                final int key = parameters.getInteger(0);
+                return CompletableFuture.supplyAsync(new Supplier<Object>() {
+
+                    @Override
+                    public Object get() {
+                        return key * 2;
+                    }
+                }, executor);
+            }
+        }, "lookup");
+
+        V8Future future = v8.executeAsync("(async function() { var a = await lookup(1); var b = await lookup(2); return a + b; })()");
+
+        assertEquals(6, future.get(10, TimeUnit.SECONDS));
+        assertFalse(v8.hasPendingCompletions());
+    }
+
+    @Test
+    public void testManyOperationsInFlight() throws Exception {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        v8.registerJavaMethod(new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                final int key = parameters.getInteger(0);
+                inFlight.incrementAndGet();
+                return CompletableFuture.supplyAsync(new Supplier<Object>() {
+
+                    @Override
+                    public Object get() {
+                        int current = inFlight.get();
+                        if (current > maxInFlight.get()) {
+                            maxInFlight.set(current);
+                        }
+                        try {
+                            Thread.sleep(20);
+                        } catch (InterruptedException e) {
+                            // ignore
+                        }
+                        inFlight.decrementAndGet();
+                        return key;
+                    }
+                }, executor);
+            }
+        }, "lookup");
+
+        V8Future future = v8.executeAsync("var calls = []; for (var i = 0; i < 10; i++) { calls.push(lookup(i)); }\n"
+                + "Promise.all(calls).then(function(values) { return values.reduce(function(a, b) { return a + b; }, 0); })");
+
+        assertEquals(45, future.get(10, TimeUnit.SECONDS));
+        assertTrue(maxInFlight.get() > 1);
+    }
+
+    @Test
+    public void testFailedFutureRejectsPromise() throws InterruptedException {
+        v8.registerJavaMethod(new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                CompletableFuture<Object> result = new CompletableFuture<Object>();
+                result.completeExceptionally(new IllegalStateException("not found"));
+                return result;
+            }
+        }, "lookup");
+
+        V8Future future = v8.executeAsync("lookup().catch(function(e) { return e instanceof Error ? e.message : 'no error'; })");
+
+        try {
+            assertEquals("not found", future.get());
+        } catch (ExecutionException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testExplicitRunMicrotasksSettlesPromise() {
+        final CompletableFuture<Object> result = new CompletableFuture<Object>();
+        v8.registerJavaMethod(new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                return result;
+            }
+        }, "lookup");
+        v8.executeVoidScript("var value; lookup().then(function(v) { value = v; });");
+
+        result.complete(42);
+        assertTrue(v8.executeBooleanScript("value === undefined"));
+        v8.runMicrotasks();
+
+        assertEquals(42, v8.executeIntegerScript("value"));
+    }
+
+    @Test
+    public void testUnsupportedValueRejectsPromise() throws Exception {
+        v8.registerJavaMethod(new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                return CompletableFuture.completedFuture(new Object());
+            }
+        }, "lookup");
+
+        V8Future future = v8.executeAsync("lookup().then(function() { return 'resolved'; }, function() { return 'rejected'; })");
+
+        assertEquals("rejected", future.get());
+    }
+
+    @Test
+    public void testPendingPromisesReleasedWithRuntime() {
+        V8 runtime = V8.createV8Runtime();
+        runtime.registerJavaMethod(new JavaCallback() {
+
+            @Override
+            public Object invoke(final V8Object receiver, final V8Array parameters) {
+                return new CompletableFuture<Object>();
+            }
+        }, "lookup");
+        runtime.executeVoidScript("lookup()");
+
+        runtime.close();
+
+        assertTrue(runtime.isReleased());
+    }
+
+}
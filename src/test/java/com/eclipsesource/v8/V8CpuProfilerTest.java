@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8CpuProfilerTest {
+
+    private static final String BUSY_SCRIPT = "function busy() {\n"
+            + "  var result = 0;\n"
+            + "  for (var i = 0; i < 5000000; i++) { result += Math.sqrt(i); }\n"
+            + "  return result;\n"
+            + "}\n"
+            + "function run() { return busy(); }\n"
+            + "run();\n";
+
+    private V8            v8;
+    private V8CpuProfiler profiler;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+        profiler = new V8CpuProfiler(v8).setSamplingInterval(100, TimeUnit.MICROSECONDS);
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testProfile() {
+        profiler.startProfiling("test");
+        v8.executeVoidScript(BUSY_SCRIPT, "busy.js", 0);
+        V8CpuProfile profile = profiler.stopProfiling("test");
+
+        assertEquals("test", profile.getTitle());
+        assertTrue(profile.getSampleCount() > 0);
+        assertTrue(profile.getEndTime() > profile.getStartTime());
+        assertEquals("(root)", profile.getRoot().getFunctionName());
+        assertNull(profile.getRoot().getParent());
+    }
+
+    @Test
+    public void testProfileContainsFunction() {
+        profiler.startProfiling("test");
+        v8.executeVoidScript(BUSY_SCRIPT, "busy.js", 0);
+        V8CpuProfile profile = profiler.stopProfiling("test");
+
+        V8CpuProfile.Node busy = findNode(profile, "busy");
+        assertEquals("busy.js", busy.getUrl());
+        assertEquals(1, busy.getLineNumber());
+        assertEquals("run", busy.getParent().getFunctionName());
+    }
+
+    @Test
+    public void testFunctionStatistics() {
+        profiler.startProfiling("test");
+        v8.executeVoidScript(BUSY_SCRIPT, "busy.js", 0);
+        V8CpuProfile profile = profiler.stopProfiling("test");
+
+        List<V8CpuProfile.Statistics> statistics = profile.getFunctionStatistics();
+        V8CpuProfile.Statistics busy = findStatistics(statistics, "busy");
+        V8CpuProfile.Statistics run = findStatistics(statistics, "run");
+
+        assertTrue(busy.getSelfTime() > 0);
+        assertTrue(busy.getTotalTime() >= busy.getSelfTime());
+        assertTrue(run.getTotalTime() >= busy.getTotalTime());
+        for (int i = 1; i < statistics.size(); i++) {
+            assertTrue(statistics.get(i - 1).getSelfTime() >= statistics.get(i).getSelfTime());
+        }
+    }
+
+    @Test
+    public void testRecursiveFunctionCountedOnce() {
+        profiler.startProfiling("test");
+        v8.executeVoidScript("function fib(n) { return n < 2 ? n : fib(n - 1) + fib(n - 2); }\nfib(27);", "fib.js", 0);
+        V8CpuProfile profile = profiler.stopProfiling("test");
+
+        V8CpuProfile.Statistics fib = findStatistics(profile.getFunctionStatistics(), "fib");
+
+        assertTrue(fib.getTotalTime() <= (profile.getEndTime() - profile.getStartTime()));
+    }
+
+    @Test
+    public void testScriptStatistics() {
+        profiler.startProfiling("test");
+        v8.executeVoidScript(BUSY_SCRIPT, "busy.js", 0);
+        V8CpuProfile profile = profiler.stopProfiling("test");
+
+        boolean found = false;
+        for (V8CpuProfile.Statistics statistics : profile.getScriptStatistics()) {
+            assertNull(statistics.getFunctionName());
+            if ("busy.js".equals(statistics.getUrl())) {
+                found = true;
+                assertTrue(statistics.getTotalTime() > 0);
+            }
+        }
+        assertTrue(found);
+    }
+
+    @Test
+    public void testWriteCpuProfile() throws IOException {
+        profiler.startProfiling("test");
+        v8.executeVoidScript(BUSY_SCRIPT, "busy.js", 0);
+        V8CpuProfile profile = profiler.stopProfiling("test");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        profile.writeTo(out);
+
+        v8.add("json", out.toString("UTF-8"));
+        V8Object cpuProfile = v8.executeObjectScript("JSON.parse(json)");
+        V8Array nodes = cpuProfile.getArray("nodes");
+        V8Array samples = cpuProfile.getArray("samples");
+        V8Array timeDeltas = cpuProfile.getArray("timeDeltas");
+        assertEquals(profile.getNodes().size(), nodes.length());
+        assertEquals(profile.getSampleCount(), samples.length());
+        assertEquals(samples.length(), timeDeltas.length());
+        assertEquals(profile.getStartTime(), (long) cpuProfile.getDouble("startTime"));
+        assertTrue(v8.executeBooleanScript("JSON.parse(json).nodes.some(function(n) { return n.callFrame.functionName === 'busy' && n.callFrame.lineNumber === 0; })"));
+        nodes.close();
+        samples.close();
+        timeDeltas.close();
+        cpuProfile.close();
+    }
+
+    @Test
+    public void testSeveralProfiles() {
+        profiler.startProfiling("outer");
+        profiler.startProfiling("inner");
+        v8.executeVoidScript(BUSY_SCRIPT);
+        V8CpuProfile inner = profiler.stopProfiling("inner");
+        V8CpuProfile outer = profiler.stopProfiling("outer");
+
+        assertEquals("inner", inner.getTitle());
+        assertEquals("outer", outer.getTitle());
+        assertFalse(outer.getNodes().isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStopUnknownProfile() {
+        profiler.stopProfiling("unknown");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullTitle() {
+        profiler.startProfiling(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSamplingInterval() {
+        profiler.setSamplingInterval(0, TimeUnit.MILLISECONDS);
+    }
+
+    private V8CpuProfile.Node findNode(final V8CpuProfile profile, final String functionName) {
+        for (V8CpuProfile.Node node : profile.getNodes()) {
+            if (functionName.equals(node.getFunctionName())) {
+                return node;
+            }
+        }
+        throw new AssertionError("No node for " + functionName);
+    }
+
+    private V8CpuProfile.Statistics findStatistics(final List<V8CpuProfile.Statistics> statistics, final String functionName) {
+        for (V8CpuProfile.Statistics entry : statistics) {
+            if (functionName.equals(entry.getFunctionName())) {
+                return entry;
+            }
+        }
+        throw new AssertionError("No statistics for " + functionName);
+    }
+
+}
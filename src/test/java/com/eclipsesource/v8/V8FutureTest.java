@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8FutureTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testResolvedPromise() throws Exception {
+        V8Future future = v8.executeAsync("Promise.resolve(42)");
+
+        assertTrue(future.isDone());
+        assertEquals(42, future.get());
+    }
+
+    @Test
+    public void testAsyncFunction() throws Exception {
+        V8Future future = v8.executeAsync("(async function() { var a = await 1; var b = await 2; return a + b; })()");
+
+        assertEquals(3, future.get());
+    }
+
+    @Test
+    public void testNonPromiseResult() throws Exception {
+        V8Future future = v8.executeAsync("'hello'");
+
+        assertEquals("hello", future.get());
+    }
+
+    @Test
+    public void testObjectResult() throws Exception {
+        V8Future future = v8.executeAsync("Promise.resolve({x: 7})");
+
+        V8Object result = (V8Object) future.get();
+
+        assertEquals(7, result.getInteger("x"));
+        result.close();
+    }
+
+    @Test
+    public void testRejectedPromise() throws InterruptedException {
+        V8Future future = v8.executeAsync("Promise.reject(new Error('failed'))");
+
+        try {
+            future.get();
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertTrue(future.isRejected());
+            assertTrue(e.getCause() instanceof V8RuntimeException);
+            assertEquals("Error: failed", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testPendingPromiseSettledFromJava() throws Exception {
+        v8.executeVoidScript("var resolvePending; var pending = new Promise(function(resolve) { resolvePending = resolve; });");
+        V8Future future = v8.executeAsync("pending");
+
+        assertFalse(future.isDone());
+        v8.executeVoidScript("resolvePending('done')");
+
+        assertTrue(future.isDone());
+        assertEquals("done", future.get());
+    }
+
+    @Test
+    public void testGetOnRuntimeThreadFailsForPendingPromise() throws Exception {
+        V8Future future = v8.executeAsync("new Promise(function() {})");
+
+        try {
+            future.get();
+            fail("IllegalStateException expected");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testGetFromOtherThread() throws Exception {
+        v8.executeVoidScript("var resolvePending; var pending = new Promise(function(resolve) { resolvePending = resolve; });");
+        final V8Future future = v8.executeAsync("pending");
+        final Object[] result = new Object[1];
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    result[0] = future.get(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    result[0] = e;
+                }
+            }
+        });
+        thread.start();
+
+        v8.executeVoidScript("resolvePending(7)");
+        thread.join();
+
+        assertEquals(7, result[0]);
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void testGetTimeout() throws Exception {
+        final V8Future future = v8.executeAsync("new Promise(function() {})");
+        final Exception[] exception = new Exception[1];
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    future.get(10, TimeUnit.MILLISECONDS);
+                } catch (Exception e) {
+                    exception[0] = e;
+                }
+            }
+        });
+        thread.start();
+        thread.join();
+
+        throw exception[0];
+    }
+
+    @Test
+    public void testListener() {
+        final Object[] completed = new Object[1];
+        v8.executeVoidScript("var resolvePending; var pending = new Promise(function(resolve) { resolvePending = resolve; });");
+        V8Future future = v8.executeAsync("pending");
+
+        future.addListener(new V8Future.Listener() {
+
+            @Override
+            public void onComplete(final V8Future future) {
+                completed[0] = future;
+            }
+        });
+        v8.executeVoidScript("resolvePending()");
+
+        assertSame(future, completed[0]);
+    }
+
+    @Test
+    public void testCallAsync() throws Exception {
+        V8Function function = (V8Function) v8.executeScript("(async function(a, b) { return a * b; })");
+        V8Array parameters = new V8Array(v8).push(6).push(7);
+
+        V8Future future = function.callAsync(null, parameters);
+
+        assertEquals(42, future.get());
+        parameters.close();
+        function.close();
+    }
+
+    @Test
+    public void testExplicitMicrotasksPolicy() throws Exception {
+        v8.setMicrotasksPolicy(V8.MICROTASKS_EXPLICIT);
+
+        V8Future future = v8.executeAsync("Promise.resolve(1)");
+
+        assertFalse(future.isDone());
+        v8.runMicrotasks();
+        assertTrue(future.isDone());
+        assertEquals(1, future.get());
+    }
+
+    @Test
+    public void testGetRunsMicrotasksOnRuntimeThread() throws Exception {
+        v8.setMicrotasksPolicy(V8.MICROTASKS_EXPLICIT);
+
+        V8Future future = v8.executeAsync("Promise.resolve(1).then(function(x) { return x + 1; })");
+
+        assertEquals(2, future.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMicrotasksPolicy() {
+        v8.setMicrotasksPolicy(7);
+    }
+
+    @Test
+    public void testCancel() {
+        V8Future future = v8.executeAsync("new Promise(function() {})");
+
+        assertTrue(future.cancel(false));
+
+        assertTrue(future.isCancelled());
+        assertTrue(future.isDone());
+        assertFalse(future.cancel(false));
+    }
+
+    @Test
+    public void testPendingFutureFailsWhenRuntimeReleased() throws InterruptedException {
+        V8 runtime = V8.createV8Runtime();
+        V8Future future = runtime.executeAsync("new Promise(function() {})");
+
+        runtime.close();
+
+        try {
+            future.get();
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertEquals("Runtime released", e.getCause().getMessage());
+        }
+    }
+
+}
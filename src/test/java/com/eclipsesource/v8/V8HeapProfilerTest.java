@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8HeapProfilerTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testTakeHeapSnapshot() throws IOException {
+        v8.executeVoidScript("function Leaked() {}; var leaked = [new Leaked(), new Leaked()];");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        v8.takeHeapSnapshot(out);
+
+        v8.add("json", out.toString("UTF-8"));
+        assertTrue(v8.executeBooleanScript("JSON.parse(json).snapshot.node_count > 0"));
+        assertTrue(v8.executeBooleanScript("JSON.parse(json).strings.indexOf('Leaked') >= 0"));
+        v8.executeVoidScript("json = undefined");
+    }
+
+    @Test
+    public void testHeapSnapshotIsStreamedInChunks() throws IOException {
+        final int[] writes = new int[1];
+        final long[] size = new long[1];
+        OutputStream out = new OutputStream() {
+
+            @Override
+            public void write(final int b) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                writes[0]++;
+                size[0] += len;
+            }
+        };
+
+        v8.takeHeapSnapshot(out);
+
+        assertTrue(writes[0] > 1);
+        assertTrue(size[0] > 0);
+    }
+
+    @Test
+    public void testHeapSnapshotStreamFailure() {
+        OutputStream out = new OutputStream() {
+
+            @Override
+            public void write(final int b) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+
+        try {
+            v8.takeHeapSnapshot(out);
+            fail("IOException expected");
+        } catch (IOException e) {
+            assertEquals("disk full", e.getMessage());
+        }
+        assertEquals(3, v8.executeIntegerScript("1 + 2"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTakeHeapSnapshotNullStream() throws IOException {
+        v8.takeHeapSnapshot(null);
+    }
+
+    @Test
+    public void testSamplingHeapProfiler() {
+        V8HeapProfiler profiler = new V8HeapProfiler(v8);
+        profiler.startSampling(1024, 16);
+
+        v8.executeVoidScript("var retained = [];\n"
+                + "function allocate() { for (var i = 0; i < 10000; i++) { retained.push({ value: 'item' + i }); } }\n"
+                + "allocate();", "allocate.js", 0);
+        V8AllocationProfile profile = profiler.getAllocationProfile();
+        profiler.stopSampling();
+
+        assertNull(profile.getRoot().getParent());
+        assertTrue(profile.getTotalSize() > 0);
+        V8AllocationProfile.Node allocate = findNode(profile, "allocate");
+        assertEquals("allocate.js", allocate.getUrl());
+        assertEquals(2, allocate.getLineNumber());
+        assertTrue(allocate.getTotalSize() >= allocate.getSelfSize());
+        assertTrue(allocate.getTotalSize() > 0);
+        assertFalse(profiler.isSampling());
+    }
+
+    @Test
+    public void testTotalSizeIncludesChildren() {
+        V8HeapProfiler profiler = new V8HeapProfiler(v8);
+        profiler.startSampling(1024, 16);
+
+        v8.executeVoidScript("var retained = []; for (var i = 0; i < 10000; i++) { retained.push([i]); }");
+        V8AllocationProfile profile = profiler.getAllocationProfile();
+        profiler.stopSampling();
+
+        for (V8AllocationProfile.Node node : profile.getNodes()) {
+            long total = node.getSelfSize();
+            for (V8AllocationProfile.Node child : node.getChildren()) {
+                total += child.getTotalSize();
+            }
+            assertEquals(total, node.getTotalSize());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAllocationProfileRequiresSampling() {
+        new V8HeapProfiler(v8).getAllocationProfile();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSamplingInterval() {
+        new V8HeapProfiler(v8).startSampling(0, 16);
+    }
+
+    private V8AllocationProfile.Node findNode(final V8AllocationProfile profile, final String functionName) {
+        for (V8AllocationProfile.Node node : profile.getNodes()) {
+            if (functionName.equals(node.getFunctionName())) {
+                return node;
+            }
+        }
+        throw new AssertionError("No node for " + functionName);
+    }
+
+}
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8HeapStatistics.HeapSpace;
+
+public class V8HeapStatisticsTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testHeapSizes() {
+        V8HeapStatistics statistics = v8.getHeapStatistics();
+
+        assertTrue(statistics.getUsedHeapSize() > 0);
+        assertTrue(statistics.getTotalHeapSize() >= statistics.getUsedHeapSize());
+        assertTrue(statistics.getHeapSizeLimit() > statistics.getTotalHeapSize());
+        assertTrue(statistics.getTotalPhysicalSize() > 0);
+    }
+
+    @Test
+    public void testNativeContexts() {
+        V8HeapCodeStatistics statistics = v8.getHeapCodeStatistics();
+
+        assertTrue(statistics.getNumberOfNativeContexts() >= 1);
+    }
+
+    @Test
+    public void testHeapSpaces() {
+        V8HeapStatistics statistics = v8.getHeapStatistics();
+
+        assertFalse(statistics.getHeapSpaces().isEmpty());
+        for (HeapSpace space : statistics.getHeapSpaces()) {
+            assertNotNull(space.getName());
+            assertTrue(space.getSize() >= space.getUsedSize());
+        }
+    }
+
+    @Test
+    public void testUsedHeapSizeGrows() {
+        long before = v8.getHeapStatistics().getUsedHeapSize();
+
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 100000; i++) { data.push({value: i}); }");
+
+        assertTrue(v8.getHeapStatistics().getUsedHeapSize() > before);
+    }
+
+    @Test
+    public void testExternalMemory() {
+        long before = v8.getHeapStatistics().getExternalMemory();
+
+        V8ArrayBuffer buffer = new V8ArrayBuffer(v8, 1024 * 1024);
+
+        assertTrue(v8.getHeapStatistics().getExternalMemory() >= (before + (1024 * 1024)));
+        buffer.close();
+    }
+
+    @Test
+    public void testCodeStatistics() {
+        v8.executeVoidScript("function foo(a) { return a + 1; } foo(1);");
+
+        V8HeapCodeStatistics statistics = v8.getHeapCodeStatistics();
+
+        assertTrue(statistics.getBytecodeAndMetadataSize() > 0);
+    }
+
+    @Test(expected = Error.class)
+    public void testGetHeapCodeStatisticsFromAnotherThread() throws Throwable {
+        final Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    v8.getHeapCodeStatistics();
+                } catch (Throwable t) {
+                    failure[0] = t;
+                }
+            }
+        });
+
+        thread.start();
+        thread.join();
+
+        throw failure[0];
+    }
+
+    @Test
+    public void testGetHeapStatisticsFromAnotherThread() throws InterruptedException {
+        final V8HeapStatistics[] result = new V8HeapStatistics[1];
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                result[0] = v8.getHeapStatistics();
+            }
+        });
+
+        thread.start();
+        thread.join();
+
+        assertNotNull(result[0]);
+        assertTrue(result[0].getUsedHeapSize() > 0);
+    }
+
+    @Test
+    public void testGetHeapStatisticsFromAnotherThreadReturnsLastSnapshot() throws InterruptedException {
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 10000; i++) { data.push('' + i); }");
+        long usedHeapSize = v8.getHeapStatistics().getUsedHeapSize();
+        final V8HeapStatistics[] result = new V8HeapStatistics[1];
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                result[0] = v8.getHeapStatistics();
+            }
+        });
+
+        thread.start();
+        thread.join();
+
+        assertEquals(usedHeapSize, result[0].getUsedHeapSize());
+    }
+
+    @Test
+    public void testGetHeapStatisticsWhileScriptIsRunning() throws InterruptedException {
+        final Throwable[] failure = new Throwable[1];
+        Thread monitor = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    for (int i = 0; i < 100; i++) {
+                        v8.getHeapStatistics();
+                    }
+                } catch (Throwable t) {
+                    failure[0] = t;
+                }
+            }
+        });
+
+        monitor.start();
+        v8.executeVoidScript("var data = []; for (var i = 0; i < 100000; i++) { data.push('' + i); }");
+        monitor.join();
+
+        assertNull(failure[0]);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetHeapStatisticsAfterRelease() {
+        V8 runtime = V8.createV8Runtime();
+        runtime.close();
+
+        runtime.getHeapStatistics();
+    }
+
+}
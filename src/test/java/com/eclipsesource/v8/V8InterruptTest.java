@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.utils.V8Runnable;
+
+public class V8InterruptTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInterruptRunsOnExecutingThread() throws InterruptedException {
+        final Thread[] interruptThread = new Thread[1];
+        final CountDownLatch started = new CountDownLatch(1);
+        v8.registerJavaMethod(new JavaVoidCallback() {
+
+            @Override
+            public void invoke(final V8Object receiver, final V8Array parameters) {
+                started.countDown();
+            }
+        }, "started");
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    started.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                v8.requestInterrupt(new V8Runnable() {
+
+                    @Override
+                    public void run(final V8 runtime) {
+                        interruptThread[0] = Thread.currentThread();
+                        runtime.terminateExecution();
+                    }
+                });
+            }
+        });
+        thread.start();
+
+        try {
+            v8.executeVoidScript("started(); while(true) {}");
+        } catch (V8RuntimeException e) {
+            // terminated
+        }
+        thread.join();
+
+        assertSame(Thread.currentThread(), interruptThread[0]);
+    }
+
+    @Test
+    public void testInterruptCanReadRuntime() throws InterruptedException {
+        final long[] used = new long[1];
+        v8.requestInterrupt(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                used[0] = runtime.getHeapStatistics().getUsedHeapSize();
+            }
+        });
+
+        v8.executeVoidScript("for (var i = 0; i < 1000; i++) {}");
+
+        assertTrue(used[0] > 0);
+    }
+
+    @Test
+    public void testRequestedInterruptsRunInOrder() {
+        final StringBuilder result = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            final int index = i;
+            v8.requestInterrupt(new V8Runnable() {
+
+                @Override
+                public void run(final V8 runtime) {
+                    result.append(index);
+                }
+            });
+        }
+
+        v8.executeVoidScript("for (var i = 0; i < 1000; i++) {}");
+
+        assertEquals("012", result.toString());
+    }
+
+    @Test
+    public void testExceptionInInterruptIsIgnored() {
+        v8.requestInterrupt(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                throw new RuntimeException("ignored");
+            }
+        });
+
+        int result = v8.executeIntegerScript("var sum = 0; for (var i = 0; i < 1000; i++) { sum += i; } sum");
+
+        assertEquals(499500, result);
+    }
+
+    @Test
+    public void testErrorInInterruptIsIgnored() {
+        v8.requestInterrupt(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                throw new AssertionError("ignored");
+            }
+        });
+
+        int result = v8.executeIntegerScript("var sum = 0; for (var i = 0; i < 1000; i++) { sum += i; } sum");
+
+        assertEquals(499500, result);
+    }
+
+    @Test
+    public void testInterruptTerminatesExecutionFromOtherThread() throws InterruptedException {
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(50);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                v8.requestInterrupt(new V8Runnable() {
+
+                    @Override
+                    public void run(final V8 runtime) {
+                        runtime.terminateExecution();
+                    }
+                });
+            }
+        });
+        thread.start();
+
+        try {
+            v8.executeVoidScript("while(true) {}");
+        } catch (V8RuntimeException e) {
+            // terminated
+        }
+        thread.join();
+
+        assertEquals(3, v8.executeIntegerScript("1 + 2"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullRunnable() {
+        v8.requestInterrupt(null);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRequestInterruptOnReleasedRuntime() {
+        V8 runtime = V8.createV8Runtime();
+        runtime.close();
+
+        runtime.requestInterrupt(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+            }
+        });
+    }
+
+}
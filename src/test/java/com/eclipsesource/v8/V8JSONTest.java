@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8JSONTest {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private V8                   v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testParseJSONObject() {
+        V8Object object = v8.parseJSON("{\"a\": 1, \"b\": \"two\", \"c\": [true]}");
+
+        assertEquals(1, object.getInteger("a"));
+        assertEquals("two", object.getString("b"));
+        V8Array array = object.getArray("c");
+        assertTrue(array.getBoolean(0));
+        array.close();
+        object.close();
+    }
+
+    @Test
+    public void testParseJSONArray() {
+        V8Object result = v8.parseJSON("[1, 2, 3]");
+
+        assertTrue(result instanceof V8Array);
+        assertEquals(3, ((V8Array) result).length());
+        result.close();
+    }
+
+    @Test
+    public void testParseJSONDoesNotExecuteCode() {
+        v8.executeVoidScript("var called = false; function f() { called = true; return {}; }");
+
+        try {
+            v8.parseJSON("f()");
+        } catch (V8RuntimeException e) {
+            // expected
+        }
+
+        assertFalse(v8.getBoolean("called"));
+    }
+
+    @Test(expected = V8RuntimeException.class)
+    public void testParseInvalidJSON() {
+        v8.parseJSON("{a: 1}");
+    }
+
+    @Test(expected = V8ResultUndefined.class)
+    public void testParsePrimitiveJSON() {
+        v8.parseJSON("42");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testParseNullJSON() {
+        v8.parseJSON((String) null);
+    }
+
+    @Test
+    public void testParseJSONFromDirectBuffer() {
+        byte[] bytes = "{\"s\": \"日本\"}".getBytes(UTF8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+
+        V8Object object = v8.parseJSON(buffer);
+
+        assertEquals("日本", object.getString("s"));
+        object.close();
+    }
+
+    @Test
+    public void testParseJSONFromHeapBufferRange() {
+        ByteBuffer buffer = ByteBuffer.wrap("xx{\"a\": 1}yy".getBytes(UTF8));
+        buffer.position(2);
+        buffer.limit(buffer.limit() - 2);
+
+        V8Object object = v8.parseJSON(buffer);
+
+        assertEquals(1, object.getInteger("a"));
+        assertEquals(2, buffer.position());
+        object.close();
+    }
+
+    @Test
+    public void testToJSON() {
+        V8Object object = v8.executeObjectScript("({a: 1, s: '日本', l: [null, true]})");
+
+        ByteBuffer json = object.toJSON();
+
+        assertEquals("{\"a\":1,\"s\":\"日本\",\"l\":[null,true]}", UTF8.decode(json).toString());
+        object.close();
+    }
+
+    @Test
+    public void testToJSONUsesToJSONMethod() {
+        V8Object object = v8.executeObjectScript("({toJSON: function() { return 'custom'; }})");
+
+        assertEquals("\"custom\"", UTF8.decode(object.toJSON()).toString());
+        object.close();
+    }
+
+    @Test
+    public void testToJSONFunction() {
+        V8Object function = v8.executeObjectScript("(function() {})");
+
+        assertNull(function.toJSON());
+        function.close();
+    }
+
+    @Test
+    public void testToJSONUndefined() {
+        assertNull(V8.getUndefined().toJSON());
+    }
+
+    @Test(expected = V8RuntimeException.class)
+    public void testToJSONCycle() {
+        V8Object object = v8.executeObjectScript("var o = {}; o.self = o; o");
+
+        try {
+            object.toJSON();
+        } finally {
+            object.close();
+        }
+    }
+
+    @Test
+    public void testRoundTrip() {
+        V8Object object = v8.executeObjectScript("({a: [1, 2, {b: 'c'}]})");
+
+        V8Object copy = v8.parseJSON(object.toJSON());
+
+        assertEquals(UTF8.decode(object.toJSON()).toString(), UTF8.decode(copy.toJSON()).toString());
+        object.close();
+        copy.close();
+    }
+
+}
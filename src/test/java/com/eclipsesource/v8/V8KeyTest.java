@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8KeyTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetName() {
+        V8Key key = v8.createKey("foo");
+
+        assertEquals("foo", key.getName());
+        assertEquals(v8, key.getRuntime());
+        key.close();
+    }
+
+    @Test
+    public void testKeyReleasedWithRuntime() {
+        V8 runtime = V8.createV8Runtime();
+        V8Key key = runtime.createKey("foo");
+
+        runtime.close();
+
+        assertTrue(key.isReleased());
+    }
+
+    @Test
+    public void testCloseTwice() {
+        V8Key key = v8.createKey("foo");
+
+        key.close();
+        key.close();
+
+        assertTrue(key.isReleased());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReleasedKeyCannotBeUsed() {
+        V8Key key = v8.createKey("foo");
+        key.close();
+
+        v8.getInteger(key);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullName() {
+        v8.createKey(null);
+    }
+
+    @Test(expected = Error.class)
+    public void testKeyFromOtherRuntime() {
+        V8 runtime = V8.createV8Runtime();
+        V8Key key = runtime.createKey("foo");
+
+        try {
+            v8.contains(key);
+        } finally {
+            runtime.close();
+        }
+    }
+
+    @Test
+    public void testGetPrimitives() {
+        V8Object object = v8.executeObjectScript("({i: 7, d: 3.14, b: true, s: 'hello'})");
+        V8Key i = v8.createKey("i");
+        V8Key d = v8.createKey("d");
+        V8Key b = v8.createKey("b");
+        V8Key s = v8.createKey("s");
+
+        assertEquals(7, object.getInteger(i));
+        assertEquals(3.14, object.getDouble(d), 0.000001);
+        assertTrue(object.getBoolean(b));
+        assertEquals("hello", object.getString(s));
+        object.close();
+    }
+
+    @Test
+    public void testSameKeyOnSeveralObjects() {
+        V8Array objects = v8.executeArrayScript("[{x: 1}, {x: 2}, {x: 3}]");
+        V8Key x = v8.createKey("x");
+
+        int sum = 0;
+        for (int i = 0; i < objects.length(); i++) {
+            V8Object object = objects.getObject(i);
+            sum += object.getInteger(x);
+            object.close();
+        }
+
+        assertEquals(6, sum);
+        objects.close();
+    }
+
+    @Test
+    public void testGetTypeAndContains() {
+        V8Object object = v8.executeObjectScript("({a: [], n: null})");
+        V8Key a = v8.createKey("a");
+        V8Key n = v8.createKey("n");
+        V8Key missing = v8.createKey("missing");
+
+        assertEquals(V8Value.V8_ARRAY, object.getType(a));
+        assertEquals(V8Value.NULL, object.getType(n));
+        assertEquals(V8Value.UNDEFINED, object.getType(missing));
+        assertTrue(object.contains(a));
+        assertFalse(object.contains(missing));
+        object.close();
+    }
+
+    @Test
+    public void testGetObjectAndArray() {
+        V8Object object = v8.executeObjectScript("({o: {x: 1}, a: [1, 2]})");
+        V8Key o = v8.createKey("o");
+        V8Key a = v8.createKey("a");
+
+        V8Object child = object.getObject(o);
+        V8Array array = object.getArray(a);
+
+        assertEquals(1, child.getInteger("x"));
+        assertEquals(2, array.length());
+        child.close();
+        array.close();
+        object.close();
+    }
+
+    @Test
+    public void testGetMissingObjectIsUndefined() {
+        V8Object object = new V8Object(v8);
+        V8Key key = v8.createKey("missing");
+
+        V8Object result = object.getObject(key);
+
+        assertTrue(result.isUndefined());
+        object.close();
+    }
+
+    @Test(expected = V8ResultUndefined.class)
+    public void testGetIntegerWrongType() {
+        V8Object object = v8.executeObjectScript("({s: 'hello'})");
+        V8Key key = v8.createKey("s");
+
+        try {
+            object.getInteger(key);
+        } finally {
+            object.close();
+        }
+    }
+
+    @Test
+    public void testGet() {
+        V8Object object = v8.executeObjectScript("({i: 7})");
+        V8Key key = v8.createKey("i");
+
+        assertEquals(7, object.get(key));
+        object.close();
+    }
+
+    @Test
+    public void testAdd() {
+        V8Object object = new V8Object(v8);
+        V8Array array = new V8Array(v8);
+
+        object.add(v8.createKey("i"), 7)
+                .add(v8.createKey("d"), 3.14)
+                .add(v8.createKey("b"), true)
+                .add(v8.createKey("s"), "hello")
+                .add(v8.createKey("a"), array)
+                .addNull(v8.createKey("n"))
+                .addUndefined(v8.createKey("u"));
+
+        v8.add("object", object);
+        assertEquals(7, v8.executeIntegerScript("object.i"));
+        assertEquals(3.14, v8.executeDoubleScript("object.d"), 0.000001);
+        assertTrue(v8.executeBooleanScript("object.b"));
+        assertEquals("hello", v8.executeStringScript("object.s"));
+        assertTrue(v8.executeBooleanScript("Array.isArray(object.a)"));
+        assertTrue(v8.executeBooleanScript("object.n === null"));
+        assertTrue(v8.executeBooleanScript("object.hasOwnProperty('u') && object.u === undefined"));
+        array.close();
+        object.close();
+    }
+
+    @Test
+    public void testAddNullString() {
+        V8Object object = new V8Object(v8);
+        V8Key key = v8.createKey("s");
+
+        object.add(key, (String) null);
+
+        assertNull(object.getString(key));
+        object.close();
+    }
+
+    @Test
+    public void testKeyOnGlobalObject() {
+        V8Key key = v8.createKey("foo");
+
+        v8.add(key, 42);
+
+        assertEquals(42, v8.executeIntegerScript("foo"));
+    }
+
+}
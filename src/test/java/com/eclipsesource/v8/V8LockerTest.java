@@ -176,6 +176,99 @@ public class V8LockerTest {
         fail("Expected exception");
     }
 
+    @Test
+    public void testCheckedByDefault() {
+        assertFalse(v8.getLocker().isUnchecked());
+    }
+
+    @Test
+    public void testSetUnchecked() {
+        v8.getLocker().setUnchecked(true);
+
+        assertTrue(v8.getLocker().isUnchecked());
+        assertEquals(2, v8.executeIntegerScript("1 + 1"));
+    }
+
+    @Test
+    public void testUncheckedStillChecksExplicitly() throws InterruptedException {
+        v8.getLocker().setUnchecked(true);
+        passed = false;
+        Thread t = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    v8.getLocker().checkThread();
+                } catch (Error e) {
+                    assertTrue(e.getMessage().startsWith("Invalid V8 thread access"));
+                    passed = true;
+                }
+            }
+        });
+        t.start();
+        t.join();
+
+        assertTrue(passed);
+    }
+
+    @Test
+    public void testCannotSetUncheckedFromOtherThread() throws InterruptedException {
+        passed = false;
+        Thread t = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    v8.getLocker().setUnchecked(true);
+                } catch (Error e) {
+                    passed = true;
+                }
+            }
+        });
+        t.start();
+        t.join();
+
+        assertTrue(passed);
+        assertFalse(v8.getLocker().isUnchecked());
+    }
+
+    @Test
+    public void testReleaseEnablesThreadCheck() throws InterruptedException {
+        v8.getLocker().setUnchecked(true);
+        v8.getLocker().release();
+
+        assertFalse(v8.getLocker().isUnchecked());
+        try {
+            v8.executeIntegerScript("1 + 1");
+            fail("Expected exception");
+        } catch (Error e) {
+            assertTrue(e.getMessage().startsWith("Invalid V8 thread access"));
+        } finally {
+            v8.getLocker().acquire();
+        }
+    }
+
+    @Test
+    public void testUncheckedDoesNotPassToNextOwner() throws InterruptedException {
+        v8.getLocker().setUnchecked(true);
+        v8.getLocker().release();
+        passed = false;
+        Thread t = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                v8.getLocker().acquire();
+                passed = !v8.getLocker().isUnchecked();
+                v8.getLocker().release();
+            }
+        });
+        t.start();
+        t.join();
+        v8.getLocker().acquire();
+
+        assertTrue(passed);
+    }
+
     // TODO: frozen/deadlock on android
     @Test
     public void testBinarySemaphore() throws InterruptedException {
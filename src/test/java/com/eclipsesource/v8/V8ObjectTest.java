@@ -1106,7 +1106,7 @@ public class V8ObjectTest {
     public void testGetTypeNull() {
         V8Object v8Object = new V8Object(v8);
         try {
-            v8Object.getType(null);
+            v8Object.getType((String) null);
         } finally {
             v8Object.close();
         }
@@ -1116,7 +1116,7 @@ public class V8ObjectTest {
     public void testContainsNull() {
         V8Object v8Object = new V8Object(v8);
         try {
-            v8Object.contains(null);
+            v8Object.contains((String) null);
         } finally {
             v8Object.close();
         }
@@ -1126,7 +1126,7 @@ public class V8ObjectTest {
     public void testGetNullKey() {
         V8Object v8Object = new V8Object(v8);
         try {
-            v8Object.get(null);
+            v8Object.get((String) null);
         } finally {
             v8Object.close();
         }
@@ -1136,7 +1136,7 @@ public class V8ObjectTest {
     public void testGetNullKey_Integer() {
         V8Object v8Object = new V8Object(v8);
         try {
-            v8Object.getInteger(null);
+            v8Object.getInteger((String) null);
         } finally {
             v8Object.close();
         }
@@ -1146,7 +1146,7 @@ public class V8ObjectTest {
     public void testGetNullKey_String() {
         V8Object v8Object = new V8Object(v8);
         try {
-            v8Object.getString(null);
+            v8Object.getString((String) null);
         } finally {
             v8Object.close();
         }
@@ -1156,7 +1156,7 @@ public class V8ObjectTest {
     public void testGetNullKey_Double() {
         V8Object v8Object = new V8Object(v8);
         try {
-            v8Object.getDouble(null);
+            v8Object.getDouble((String) null);
         } finally {
             v8Object.close();
         }
@@ -1166,7 +1166,7 @@ public class V8ObjectTest {
     public void testGetNullKey_Boolean() {
         V8Object v8Object = new V8Object(v8);
         try {
-            v8Object.getBoolean(null);
+            v8Object.getBoolean((String) null);
         } finally {
             v8Object.close();
         }
@@ -1176,7 +1176,7 @@ public class V8ObjectTest {
     public void testGetNullKey_Object() {
         V8Object v8Object = new V8Object(v8);
         try {
-            v8Object.getObject(null);
+            v8Object.getObject((String) null);
         } finally {
             v8Object.close();
         }
@@ -1186,7 +1186,7 @@ public class V8ObjectTest {
     public void testGetNullKey_Array() {
         V8Object v8Object = new V8Object(v8);
         try {
-            v8Object.getArray(null);
+            v8Object.getArray((String) null);
         } finally {
             v8Object.close();
         }
@@ -1919,4 +1919,171 @@ public class V8ObjectTest {
         object.close();
     }
 
+    @Test
+    public void testGetValues() {
+        V8Object object = v8.executeObjectScript("({i: 7, d: 3.14, b: true, s: 'hello', n: null, o: {x: 1}})");
+        String[] keys = new String[] { "i", "d", "b", "s", "n", "o", "missing" };
+        int[] types = new int[keys.length];
+        Object[] values = new Object[keys.length];
+
+        object.getValues(keys, types, values);
+
+        assertEquals(INTEGER, types[0]);
+        assertEquals(7, values[0]);
+        assertEquals(DOUBLE, types[1]);
+        assertEquals(3.14, (Double) values[1], 0.000001);
+        assertEquals(BOOLEAN, types[2]);
+        assertEquals(true, values[2]);
+        assertEquals(STRING, types[3]);
+        assertEquals("hello", values[3]);
+        assertEquals(NULL, types[4]);
+        assertNull(values[4]);
+        assertEquals(V8_OBJECT, types[5]);
+        assertEquals(1, ((V8Object) values[5]).getInteger("x"));
+        assertEquals(UNDEFINED, types[6]);
+        assertEquals(V8.getUndefined(), values[6]);
+        ((V8Object) values[5]).close();
+        object.close();
+    }
+
+    @Test
+    public void testGetValuesArrayLongerThanKeys() {
+        V8Object object = v8.executeObjectScript("({a: 1})");
+        int[] types = new int[3];
+        Object[] values = new Object[3];
+
+        object.getValues(new String[] { "a" }, types, values);
+
+        assertEquals(INTEGER, types[0]);
+        assertEquals(1, values[0]);
+        assertNull(values[1]);
+        object.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetValuesArrayTooShort() {
+        V8Object object = v8.executeObjectScript("({a: 1, b: 2})");
+
+        try {
+            object.getValues(new String[] { "a", "b" }, new int[2], new Object[1]);
+        } finally {
+            object.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetValuesNullKey() {
+        V8Object object = new V8Object(v8);
+
+        try {
+            object.getValues(new String[] { "a", null }, new int[2], new Object[2]);
+        } finally {
+            object.close();
+        }
+    }
+
+    @Test
+    public void testSetValues() {
+        V8Object object = new V8Object(v8);
+        V8Array array = new V8Array(v8).push(1).push(2);
+
+        object.setValues(new String[] { "i", "d", "f", "b", "s", "n", "u", "a" },
+                new Object[] { 7, 3.14, 1.5f, false, "hello", null, V8.getUndefined(), array });
+
+        v8.add("object", object);
+        assertEquals(7, v8.executeIntegerScript("object.i"));
+        assertEquals(3.14, v8.executeDoubleScript("object.d"), 0.000001);
+        assertEquals(1.5, v8.executeDoubleScript("object.f"), 0.000001);
+        assertFalse(v8.executeBooleanScript("object.b"));
+        assertEquals("hello", v8.executeStringScript("object.s"));
+        assertTrue(v8.executeBooleanScript("object.n === null"));
+        assertTrue(v8.executeBooleanScript("object.hasOwnProperty('u') && object.u === undefined"));
+        assertEquals(2, v8.executeIntegerScript("object.a[1]"));
+        array.close();
+        object.close();
+    }
+
+    @Test
+    public void testSetValuesReturnsReceiver() {
+        V8Object object = new V8Object(v8);
+
+        V8Object result = object.setValues(new String[] { "a" }, new Object[] { 1 });
+
+        assertEquals(object, result);
+        object.close();
+    }
+
+    @Test
+    public void testSetValuesThenGetValues() {
+        V8Object object = new V8Object(v8);
+        String[] keys = new String[] { "a", "b", "c" };
+        int[] types = new int[keys.length];
+        Object[] values = new Object[keys.length];
+
+        object.setValues(keys, new Object[] { 1, "two", 3.5 });
+        object.getValues(keys, types, values);
+
+        assertEquals(1, values[0]);
+        assertEquals("two", values[1]);
+        assertEquals(3.5, (Double) values[2], 0.000001);
+        object.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetValuesLengthMismatch() {
+        V8Object object = new V8Object(v8);
+
+        try {
+            object.setValues(new String[] { "a", "b" }, new Object[] { 1 });
+        } finally {
+            object.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetValuesUnsupportedType() {
+        V8Object object = new V8Object(v8);
+
+        try {
+            object.setValues(new String[] { "a" }, new Object[] { new Object() });
+        } finally {
+            object.close();
+        }
+    }
+
+    @Test(expected = Error.class)
+    public void testSetValuesWrongRuntime() {
+        V8 otherRuntime = V8.createV8Runtime();
+        V8Object value = new V8Object(otherRuntime);
+        V8Object object = new V8Object(v8);
+
+        try {
+            object.setValues(new String[] { "a" }, new Object[] { value });
+        } finally {
+            object.close();
+            value.close();
+            otherRuntime.close();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSetValuesReleasedValue() {
+        V8Object value = new V8Object(v8);
+        V8Object object = new V8Object(v8);
+        value.close();
+
+        try {
+            object.setValues(new String[] { "a" }, new Object[] { value });
+        } finally {
+            object.close();
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSetValuesOnUndefined() {
+        V8Object undefined = new Undefined();
+
+        undefined.setValues(new String[] { "a" }, new Object[] { 1 });
+    }
+
 }
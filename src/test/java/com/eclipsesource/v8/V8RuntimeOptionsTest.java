@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class V8RuntimeOptionsTest {
+
+    private V8 v8;
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDefaultOptions() {
+        v8 = V8.createV8Runtime(new V8RuntimeOptions());
+
+        assertEquals(2, v8.executeIntegerScript("1 + 1"));
+    }
+
+    @Test
+    public void testGlobalAlias() {
+        v8 = V8.createV8Runtime(new V8RuntimeOptions().setGlobalAlias("window"));
+
+        assertTrue(v8.executeBooleanScript("window === this"));
+    }
+
+    @Test
+    public void testSnapshotBlob() {
+        byte[] snapshot = new V8SnapshotCreator().addScript("var answer = 42;").createSnapshot();
+
+        v8 = V8.createV8Runtime(new V8RuntimeOptions().setSnapshotBlob(snapshot));
+
+        assertEquals(42, v8.executeIntegerScript("answer"));
+    }
+
+    @Test
+    public void testMaxOldGenerationSize() {
+        v8 = V8.createV8Runtime(new V8RuntimeOptions().setMaxOldGenerationSize(64 * 1024 * 1024));
+
+        assertTrue(v8.getHeapStatistics().getHeapSizeLimit() < (128 * 1024 * 1024));
+    }
+
+    @Test
+    public void testHeapLimitTerminatesScript() {
+        v8 = V8.createV8Runtime(new V8RuntimeOptions().setMaxOldGenerationSize(32 * 1024 * 1024));
+
+        try {
+            v8.executeVoidScript("var data = []; while (true) { data.push(new Array(1000).fill(0)); }");
+            fail("Script should have been terminated");
+        } catch (V8ScriptExecutionException e) {
+            assertTrue(e.getJSMessage().contains("heap limit"));
+        }
+    }
+
+    @Test
+    public void testRuntimeUsableAfterHeapLimit() {
+        v8 = V8.createV8Runtime(new V8RuntimeOptions().setMaxOldGenerationSize(32 * 1024 * 1024));
+        try {
+            v8.executeVoidScript("var data = []; while (true) { data.push(new Array(1000).fill(0)); }");
+        } catch (V8ScriptExecutionException e) {
+            // expected
+        }
+
+        v8.executeVoidScript("data = null;");
+
+        assertEquals(2, v8.executeIntegerScript("1 + 1"));
+    }
+
+    @Test
+    public void testHeapLimitInCallback() {
+        v8 = V8.createV8Runtime(new V8RuntimeOptions().setMaxOldGenerationSize(32 * 1024 * 1024));
+        v8.registerJavaMethod(new JavaVoidCallback() {
+
+            @Override
+            public void invoke(final V8Object receiver, final V8Array parameters) {
+                v8.executeVoidScript("var data = []; while (true) { data.push(new Array(1000).fill(0)); }");
+            }
+        }, "allocate");
+
+        try {
+            v8.executeVoidScript("for (var i = 0; i < 3; i++) { try { allocate(); } catch (e) {} }");
+            fail("Script should have been terminated");
+        } catch (V8ScriptExecutionException e) {
+            assertTrue(e.getJSMessage().contains("heap limit"));
+        }
+        assertEquals(2, v8.executeIntegerScript("1 + 1"));
+    }
+
+    @Test(expected = V8ScriptExecutionException.class)
+    public void testStackSize() {
+        v8 = V8.createV8Runtime(new V8RuntimeOptions().setStackSize(64 * 1024));
+
+        v8.executeVoidScript("function recurse() { recurse(); } recurse();");
+    }
+
+    @Test
+    public void testStackSizeLimitsRecursion() {
+        V8 small = V8.createV8Runtime(new V8RuntimeOptions().setStackSize(128 * 1024));
+        v8 = V8.createV8Runtime();
+        String script = "var depth = 0; function recurse() { depth++; recurse(); } try { recurse(); } catch (e) {} depth";
+
+        try {
+            assertTrue(small.executeIntegerScript(script) < v8.executeIntegerScript(script));
+        } finally {
+            small.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSize() {
+        new V8RuntimeOptions().setMaxOldGenerationSize(-1);
+    }
+
+}
@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.utils.MemoryManager;
+
+public class V8ScopeTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testScopeReleasesObjects() {
+        V8Scope scope = new V8Scope(v8);
+
+        V8Object object = new V8Object(v8);
+        V8Array array = v8.executeArrayScript("[{}, {}]");
+        V8Object element = array.getObject(0);
+        scope.close();
+
+        assertTrue(object.isReleased());
+        assertTrue(array.isReleased());
+        assertTrue(element.isReleased());
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testTryWithResources() {
+        V8Object object;
+        try (V8Scope scope = new V8Scope(v8)) {
+            object = new V8Object(v8);
+        }
+
+        assertTrue(object.isReleased());
+    }
+
+    @Test
+    public void testManyObjects() {
+        V8Scope scope = new V8Scope(v8);
+
+        for (int i = 0; i < 10000; i++) {
+            new V8Object(v8);
+        }
+        assertEquals(10000, scope.getObjectReferenceCount());
+        scope.close();
+
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testObjectsCreatedBeforeScopeAreNotReleased() {
+        V8Object object = new V8Object(v8);
+
+        new V8Scope(v8).close();
+
+        assertFalse(object.isReleased());
+        object.close();
+    }
+
+    @Test
+    public void testObjectsCreatedAfterScopeAreNotReleased() {
+        V8Scope scope = new V8Scope(v8);
+        scope.close();
+
+        V8Object object = new V8Object(v8);
+
+        assertFalse(object.isReleased());
+        object.close();
+    }
+
+    @Test
+    public void testPersist() {
+        V8Scope scope = new V8Scope(v8);
+
+        V8Object object = scope.persist(new V8Object(v8));
+        scope.close();
+
+        assertFalse(object.isReleased());
+        assertEquals(1, v8.getObjectReferenceCount());
+        object.close();
+    }
+
+    @Test
+    public void testObjectClosedInScope() {
+        V8Scope scope = new V8Scope(v8);
+
+        new V8Object(v8).close();
+        V8Object object = new V8Object(v8);
+        assertEquals(1, scope.getObjectReferenceCount());
+        scope.close();
+
+        assertTrue(object.isReleased());
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testClosedObjectsAreRemovedFromScope() {
+        V8Scope scope = new V8Scope(v8);
+        V8Object first = new V8Object(v8);
+
+        for (int i = 0; i < 10000; i++) {
+            new V8Object(v8).close();
+        }
+        V8Object second = new V8Object(v8);
+        scope.persist(first);
+
+        assertEquals(1, scope.getObjectReferenceCount());
+        scope.close();
+        assertFalse(first.isReleased());
+        assertTrue(second.isReleased());
+        first.close();
+    }
+
+    @Test
+    public void testInterleavedObjectsAfterCompaction() {
+        V8Scope scope = new V8Scope(v8);
+        V8Object[] objects = new V8Object[100];
+
+        for (int i = 0; i < 1000; i++) {
+            V8Object object = new V8Object(v8);
+            if ((i % 10) == 0) {
+                objects[i / 10] = object;
+            } else {
+                object.close();
+            }
+        }
+
+        assertEquals(100, scope.getObjectReferenceCount());
+        scope.persist(objects[50]);
+        scope.close();
+        assertTrue(objects[0].isReleased());
+        assertFalse(objects[50].isReleased());
+        assertTrue(objects[99].isReleased());
+        objects[50].close();
+    }
+
+    @Test
+    public void testCloseReleasesAllObjectsIfHandlerFails() {
+        V8Scope scope = new V8Scope(v8);
+        final V8Object first = new V8Object(v8);
+        V8Object second = new V8Object(v8);
+        ReferenceHandler handler = new ReferenceHandler() {
+
+            @Override
+            public void v8HandleCreated(final V8Value object) {
+            }
+
+            @Override
+            public void v8HandleDisposed(final V8Value object) {
+                if (object == first) {
+                    throw new IllegalStateException("fail");
+                }
+            }
+        };
+        v8.addReferenceHandler(handler);
+
+        try {
+            scope.close();
+            fail("Expected exception");
+        } catch (IllegalStateException e) {
+            assertEquals("fail", e.getMessage());
+        } finally {
+            v8.removeReferenceHandler(handler);
+        }
+        assertTrue(first.isReleased());
+        assertTrue(second.isReleased());
+        assertEquals(0, v8.getObjectReferenceCount());
+    }
+
+    @Test
+    public void testNestedScopes() {
+        V8Scope outer = new V8Scope(v8);
+        V8Object outerObject = new V8Object(v8);
+        V8Scope inner = new V8Scope(v8);
+        V8Object innerObject = new V8Object(v8);
+
+        inner.close();
+
+        assertTrue(innerObject.isReleased());
+        assertFalse(outerObject.isReleased());
+        V8Object object = new V8Object(v8);
+        outer.close();
+        assertTrue(outerObject.isReleased());
+        assertTrue(object.isReleased());
+    }
+
+    @Test
+    public void testClosingOuterScopeClosesInnerScope() {
+        V8Scope outer = new V8Scope(v8);
+        V8Scope inner = new V8Scope(v8);
+        V8Object object = new V8Object(v8);
+
+        outer.close();
+
+        assertTrue(inner.isReleased());
+        assertTrue(object.isReleased());
+        assertNull(v8.getScope());
+    }
+
+    @Test
+    public void testCloseTwice() {
+        V8Scope scope = new V8Scope(v8);
+        new V8Object(v8);
+
+        scope.close();
+        scope.close();
+
+        assertTrue(scope.isReleased());
+    }
+
+    @Test
+    public void testCloseAfterRuntimeReleased() {
+        V8 runtime = V8.createV8Runtime();
+        V8Scope scope = new V8Scope(runtime);
+        new V8Object(runtime);
+        runtime.release(false);
+
+        scope.close();
+
+        assertTrue(scope.isReleased());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPersistAfterClose() {
+        V8Scope scope = new V8Scope(v8);
+        V8Object object = new V8Object(v8);
+        scope.close();
+
+        scope.persist(object);
+    }
+
+    @Test
+    public void testMemoryManagerNotifiedWhenScopeCloses() {
+        MemoryManager memoryManager = new MemoryManager(v8);
+        V8Scope scope = new V8Scope(v8);
+        new V8Object(v8);
+
+        scope.close();
+
+        assertEquals(0, memoryManager.getObjectReferenceCount());
+        memoryManager.release();
+    }
+
+    @Test
+    public void testScopeRestoredAfterClose() {
+        V8Scope outer = new V8Scope(v8);
+        V8Scope inner = new V8Scope(v8);
+
+        inner.close();
+
+        assertSame(outer, v8.getScope());
+        outer.close();
+    }
+
+}
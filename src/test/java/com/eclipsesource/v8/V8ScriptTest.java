@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8ScriptTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private static class MapCodeCache implements V8CodeCache {
+
+        Map<String, byte[]> entries = new HashMap<String, byte[]>();
+        int                 hits    = 0;
+
+        @Override
+        public byte[] get(final String key) {
+            byte[] result = entries.get(key);
+            if (result != null) {
+                hits++;
+            }
+            return result;
+        }
+
+        @Override
+        public void put(final String key, final byte[] data) {
+            entries.put(key, data);
+        }
+    }
+
+    @Test
+    public void testCompileAndExecute() {
+        V8Script script = v8.compileScript("1 + 2");
+
+        assertEquals(3, script.execute());
+        script.close();
+    }
+
+    @Test
+    public void testExecuteMultipleTimes() {
+        v8.executeVoidScript("var count = 0;");
+        V8Script script = v8.compileScript("++count;");
+
+        for (int i = 0; i < 10; i++) {
+            script.execute();
+        }
+
+        assertEquals(10, v8.getInteger("count"));
+        script.close();
+    }
+
+    @Test
+    public void testExecuteVoid() {
+        V8Script script = v8.compileScript("var x = 'foo';");
+
+        script.executeVoid();
+
+        assertEquals("foo", v8.getString("x"));
+        script.close();
+    }
+
+    @Test
+    public void testExecuteObject() {
+        V8Script script = v8.compileScript("({foo: 'bar'})");
+
+        V8Object result = script.executeObject();
+
+        assertEquals("bar", result.getString("foo"));
+        result.close();
+        script.close();
+    }
+
+    @Test(expected = V8ResultUndefined.class)
+    public void testExecuteObjectWithPrimitiveResult() {
+        V8Script script = v8.compileScript("7");
+
+        try {
+            script.executeObject();
+        } finally {
+            script.close();
+        }
+    }
+
+    @Test
+    public void testScriptName() {
+        V8Script script = v8.compileScript("1", "test.js", 0);
+
+        assertEquals("test.js", script.getScriptName());
+        assertSame(v8, script.getRuntime());
+        script.close();
+    }
+
+    @Test(expected = V8ScriptCompilationException.class)
+    public void testCompilationError() {
+        v8.compileScript("var x = ;");
+    }
+
+    @Test(expected = V8ScriptExecutionException.class)
+    public void testExecutionError() {
+        V8Script script = v8.compileScript("undefinedFunction();");
+
+        try {
+            script.execute();
+        } finally {
+            script.close();
+        }
+    }
+
+    @Test
+    public void testCloseScript() {
+        V8Script script = v8.compileScript("1");
+
+        script.close();
+
+        assertTrue(script.isReleased());
+    }
+
+    @Test
+    public void testCloseScriptTwice() {
+        V8Script script = v8.compileScript("1");
+
+        script.close();
+        script.close();
+
+        assertTrue(script.isReleased());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCannotExecuteReleasedScript() {
+        V8Script script = v8.compileScript("1");
+        script.close();
+
+        script.execute();
+    }
+
+    @Test
+    public void testScriptsReleasedWithRuntime() {
+        V8Script script = v8.compileScript("1");
+
+        v8.close();
+
+        assertTrue(script.isReleased());
+        v8 = null;
+    }
+
+    @Test
+    public void testCreateCodeCache() {
+        V8Script script = v8.compileScript("function foo() { return 7; } foo();");
+
+        byte[] cache = script.createCodeCache();
+
+        assertNotNull(cache);
+        assertTrue(cache.length > 0);
+        script.close();
+    }
+
+    @Test
+    public void testCodeCacheIsPopulated() {
+        MapCodeCache codeCache = new MapCodeCache();
+
+        V8Script script = v8.compileScript("1 + 1", null, 0, codeCache);
+
+        assertEquals(1, codeCache.entries.size());
+        assertEquals(0, codeCache.hits);
+        script.close();
+    }
+
+    @Test
+    public void testCodeCacheIsConsumed() {
+        MapCodeCache codeCache = new MapCodeCache();
+        v8.compileScript("function foo() { return 7; } foo();", null, 0, codeCache).close();
+        V8 other = V8.createV8Runtime();
+
+        try {
+            V8Script script = other.compileScript("function foo() { return 7; } foo();", null, 0, codeCache);
+
+            assertEquals(1, codeCache.hits);
+            assertEquals(7, script.execute());
+            script.close();
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void testRejectedCodeCacheIsReplaced() {
+        MapCodeCache codeCache = new MapCodeCache();
+        String key = V8Script.computeCacheKey("1 + 1");
+        codeCache.entries.put(key, new byte[] { 1, 2, 3 });
+
+        V8Script script = v8.compileScript("1 + 1", null, 0, codeCache);
+
+        assertEquals(2, script.execute());
+        assertFalse(codeCache.entries.get(key).length == 3);
+        script.close();
+    }
+
+    @Test
+    public void testCacheKeyDependsOnSource() {
+        assertEquals(V8Script.computeCacheKey("foo"), V8Script.computeCacheKey("foo"));
+        assertFalse(V8Script.computeCacheKey("foo").equals(V8Script.computeCacheKey("bar")));
+    }
+
+    @Test
+    public void testToString() {
+        V8Script script = v8.compileScript("1", "test.js", 0);
+
+        assertEquals("[Script test.js]", script.toString());
+        script.close();
+        assertEquals("[Script released]", script.toString());
+    }
+
+    @Test
+    public void testAnonymousScript() {
+        V8Script script = v8.compileScript("1");
+
+        assertNull(script.getScriptName());
+        script.close();
+    }
+
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class V8SnapshotCreatorTest {
+
+    private V8 v8;
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCreateEmptySnapshot() {
+        byte[] snapshot = new V8SnapshotCreator().createSnapshot();
+
+        assertNotNull(snapshot);
+        assertTrue(snapshot.length > 0);
+    }
+
+    @Test
+    public void testCreateRuntimeFromSnapshot() {
+        byte[] snapshot = new V8SnapshotCreator().addScript("var x = 7;").createSnapshot();
+
+        v8 = V8.createV8Runtime(snapshot);
+
+        assertEquals(7, v8.getInteger("x"));
+    }
+
+    @Test
+    public void testFunctionsAvailableFromSnapshot() {
+        byte[] snapshot = new V8SnapshotCreator()
+                .addScript("function add(a, b) { return a + b; }", "add.js")
+                .addScript("function twice(a) { return add(a, a); }", "twice.js")
+                .createSnapshot();
+
+        v8 = V8.createV8Runtime(snapshot);
+
+        assertEquals(10, v8.executeIntegerScript("twice(5)"));
+    }
+
+    @Test
+    public void testRuntimesFromSnapshotAreIsolated() {
+        byte[] snapshot = new V8SnapshotCreator().addScript("var counter = 0;").createSnapshot();
+        v8 = V8.createV8Runtime(snapshot);
+        v8.executeVoidScript("counter++;");
+
+        V8 other = V8.createV8Runtime(snapshot);
+        try {
+            assertEquals(0, other.getInteger("counter"));
+            assertEquals(1, v8.getInteger("counter"));
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void testCreateRuntimeFromSnapshotWithGlobalAlias() {
+        byte[] snapshot = new V8SnapshotCreator().addScript("var x = 7;").createSnapshot();
+
+        v8 = V8.createV8Runtime("window", null, snapshot);
+
+        assertEquals(7, v8.executeIntegerScript("window.x"));
+    }
+
+    @Test
+    public void testCreateRuntimeWithoutSnapshot() {
+        v8 = V8.createV8Runtime(null, null, null);
+
+        assertEquals(3, v8.executeIntegerScript("1 + 2"));
+    }
+
+    @Test(expected = V8ScriptCompilationException.class)
+    public void testCompilationErrorInSnapshotScript() {
+        new V8SnapshotCreator().addScript("var x = ;", "broken.js").createSnapshot();
+    }
+
+    @Test(expected = V8ScriptExecutionException.class)
+    public void testExecutionErrorInSnapshotScript() {
+        new V8SnapshotCreator().addScript("undefinedFunction();", "broken.js").createSnapshot();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullScript() {
+        new V8SnapshotCreator().addScript(null);
+    }
+
+    @Test(expected = V8RuntimeException.class)
+    public void testInvalidSnapshot() {
+        V8.createV8Runtime(new byte[] { 1, 2, 3 });
+    }
+
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class V8TimeoutTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test(expected = V8TimeoutException.class)
+    public void testInfiniteLoopTimesOut() {
+        v8.executeScript("while(true) {}", 50, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = V8TimeoutException.class)
+    public void testVoidScriptTimesOut() {
+        v8.executeVoidScript("while(true) {}", 50, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testRuntimeCanBeUsedAfterTimeout() {
+        try {
+            v8.executeScript("while(true) {}", 50, TimeUnit.MILLISECONDS);
+            fail("Timeout expected");
+        } catch (V8TimeoutException e) {
+            // expected
+        }
+
+        assertEquals(3, v8.executeIntegerScript("1 + 2"));
+    }
+
+    @Test
+    public void testFastScriptDoesNotTimeOut() {
+        Object result = v8.executeScript("1 + 2", 10, TimeUnit.SECONDS);
+
+        assertEquals(3, result);
+    }
+
+    @Test
+    public void testManyTimedExecutions() {
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, v8.executeScript(Integer.toString(i), 10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testScriptErrorIsNotTimeout() {
+        try {
+            v8.executeScript("throw 'error'", 10, TimeUnit.SECONDS);
+            fail("Exception expected");
+        } catch (V8TimeoutException e) {
+            fail("Unexpected timeout");
+        } catch (V8ScriptExecutionException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFunctionCallTimesOut() {
+        V8Function function = (V8Function) v8.executeScript("(function() { while(true) {} })");
+
+        try {
+            function.call(null, null, 50, TimeUnit.MILLISECONDS);
+            fail("Timeout expected");
+        } catch (V8TimeoutException e) {
+            // expected
+        } finally {
+            function.close();
+        }
+    }
+
+    @Test
+    public void testFunctionCallWithTimeout() {
+        V8Function function = (V8Function) v8.executeScript("(function(a, b) { return a + b; })");
+        V8Array parameters = new V8Array(v8).push(1).push(2);
+
+        Object result = function.call(null, parameters, 10, TimeUnit.SECONDS);
+
+        assertEquals(3, result);
+        parameters.close();
+        function.close();
+    }
+
+    @Test
+    public void testNestedTimeoutTerminatesOuterExecution() {
+        v8.registerJavaMethod(new JavaVoidCallback() {
+
+            @Override
+            public void invoke(final V8Object receiver, final V8Array parameters) {
+                v8.executeVoidScript("while(true) {}", 50, TimeUnit.MILLISECONDS);
+            }
+        }, "spin");
+
+        try {
+            v8.executeScript("try { spin(); } catch (e) {} 'done'", 10, TimeUnit.SECONDS);
+            fail("Timeout expected");
+        } catch (V8TimeoutException e) {
+            // expected
+        }
+        assertEquals(3, v8.executeIntegerScript("1 + 2"));
+    }
+
+    @Test
+    public void testOuterTimeoutAppliesToNestedExecution() {
+        v8.registerJavaMethod(new JavaVoidCallback() {
+
+            @Override
+            public void invoke(final V8Object receiver, final V8Array parameters) {
+                v8.executeVoidScript("while(true) {}", 10, TimeUnit.SECONDS);
+            }
+        }, "spin");
+
+        long start = System.currentTimeMillis();
+        try {
+            v8.executeScript("spin()", 50, TimeUnit.MILLISECONDS);
+            fail("Timeout expected");
+        } catch (V8TimeoutException e) {
+            // expected
+        }
+        assertTrue((System.currentTimeMillis() - start) < 5000);
+    }
+
+    @Test
+    public void testWatchdogCancel() throws InterruptedException {
+        final boolean[] fired = new boolean[1];
+        V8Watchdog.Timer timer = new V8Watchdog.Timer() {
+
+            @Override
+            protected void onTimeout() {
+                fired[0] = true;
+            }
+        };
+
+        V8Watchdog.getDefault().schedule(timer, 20, TimeUnit.MILLISECONDS);
+        assertFalse(V8Watchdog.getDefault().cancel(timer));
+        Thread.sleep(100);
+
+        assertFalse(fired[0]);
+    }
+
+    @Test
+    public void testWatchdogFires() throws InterruptedException {
+        final boolean[] fired = new boolean[1];
+        V8Watchdog.Timer timer = new V8Watchdog.Timer() {
+
+            @Override
+            protected void onTimeout() {
+                fired[0] = true;
+            }
+        };
+
+        V8Watchdog.getDefault().schedule(timer, 10, TimeUnit.MILLISECONDS);
+        Thread.sleep(200);
+
+        assertTrue(V8Watchdog.getDefault().cancel(timer));
+    }
+
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Script;
+
+public class FileCodeCacheTest {
+
+    private File directory;
+
+    @Before
+    public void setup() throws IOException {
+        directory = File.createTempFile("j2v8", "cache");
+        directory.delete();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void testCreatesDirectory() {
+        new FileCodeCache(directory);
+
+        assertTrue(directory.isDirectory());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullDirectory() {
+        new FileCodeCache(null);
+    }
+
+    @Test
+    public void testGetMissingEntry() {
+        FileCodeCache cache = new FileCodeCache(directory);
+
+        assertNull(cache.get("foo"));
+    }
+
+    @Test
+    public void testPutAndGet() {
+        FileCodeCache cache = new FileCodeCache(directory);
+
+        cache.put("foo", new byte[] { 1, 2, 3 });
+
+        assertArrayEquals(new byte[] { 1, 2, 3 }, cache.get("foo"));
+    }
+
+    @Test
+    public void testPutReplacesEntry() {
+        FileCodeCache cache = new FileCodeCache(directory);
+        cache.put("foo", new byte[] { 1, 2, 3 });
+
+        cache.put("foo", new byte[] { 4 });
+
+        assertArrayEquals(new byte[] { 4 }, cache.get("foo"));
+    }
+
+    @Test
+    public void testEntriesSurviveNewInstance() {
+        new FileCodeCache(directory).put("foo", new byte[] { 1 });
+
+        assertArrayEquals(new byte[] { 1 }, new FileCodeCache(directory).get("foo"));
+    }
+
+    @Test
+    public void testClear() {
+        FileCodeCache cache = new FileCodeCache(directory);
+        cache.put("foo", new byte[] { 1 });
+
+        cache.clear();
+
+        assertNull(cache.get("foo"));
+    }
+
+    @Test
+    public void testCompileWithFileCodeCache() {
+        FileCodeCache cache = new FileCodeCache(directory);
+        V8 v8 = V8.createV8Runtime();
+        try {
+            V8Script script = v8.compileScript("function foo() { return 7; } foo();", "foo.js", 0, cache);
+
+            assertEquals(7, script.execute());
+            assertEquals(1, directory.listFiles().length);
+        } finally {
+            v8.close();
+        }
+    }
+
+}
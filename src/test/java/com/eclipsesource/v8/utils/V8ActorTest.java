@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.JavaVoidCallback;
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Object;
+
+public class V8ActorTest {
+
+    private V8ActorSystem system;
+
+    @Before
+    public void setup() {
+        system = new V8ActorSystem(2);
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            system.shutdown();
+            if (system.getActorCount() != 0) {
+                throw new IllegalStateException("Actors not properly terminated");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private static class RecordingActor extends V8Actor<Object> {
+
+        private final List<Object> results = Collections.synchronizedList(new ArrayList<Object>());
+        private final Set<Thread>  threads = Collections.synchronizedSet(new HashSet<Thread>());
+        private volatile boolean   setup;
+        private volatile boolean   teardown;
+
+        RecordingActor(final V8ActorSystem system) {
+            super(system);
+        }
+
+        RecordingActor(final V8ActorSystem system, final int mailboxCapacity, final int batchSize) {
+            super(system, mailboxCapacity, batchSize);
+        }
+
+        @Override
+        protected void setup(final V8 runtime) {
+            setup = true;
+            runtime.executeVoidScript("var count = 0;");
+        }
+
+        @Override
+        protected void onMessage(final V8 runtime, final Object message) {
+            threads.add(Thread.currentThread());
+            if ("fail".equals(message)) {
+                throw new IllegalStateException("fail");
+            }
+            runtime.add("message", String.valueOf(message));
+            results.add(runtime.executeIntegerScript("++count; count"));
+        }
+
+        @Override
+        protected void teardown(final V8 runtime) {
+            teardown = true;
+        }
+    }
+
+    @Test
+    public void testMessagesProcessedInOrder() throws InterruptedException {
+        RecordingActor actor = new RecordingActor(system);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(actor.offer(i));
+        }
+        actor.close();
+
+        assertTrue(actor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(100, actor.results.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + 1, actor.results.get(i));
+        }
+    }
+
+    @Test
+    public void testSetupAndTeardown() throws InterruptedException {
+        RecordingActor actor = new RecordingActor(system);
+
+        actor.offer("hello");
+        actor.close();
+
+        assertTrue(actor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(actor.setup);
+        assertTrue(actor.teardown);
+        assertTrue(actor.hasTerminated());
+    }
+
+    @Test
+    public void testCloseWithoutMessagesDoesNotCreateRuntime() throws InterruptedException {
+        RecordingActor actor = new RecordingActor(system);
+
+        actor.close();
+
+        assertTrue(actor.awaitTermination(10, TimeUnit.SECONDS));
+        assertFalse(actor.setup);
+    }
+
+    @Test
+    public void testOfferAfterClose() throws InterruptedException {
+        RecordingActor actor = new RecordingActor(system);
+        actor.close();
+
+        assertFalse(actor.offer("hello"));
+        assertTrue(actor.isClosed());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfferNull() {
+        new RecordingActor(system).offer(null);
+    }
+
+    @Test
+    public void testExceptionDoesNotStopActor() throws InterruptedException {
+        RecordingActor actor = new RecordingActor(system);
+
+        actor.offer("fail");
+        actor.offer("ok");
+        actor.close();
+
+        assertTrue(actor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(actor.getException() instanceof IllegalStateException);
+        assertEquals(1, actor.results.size());
+    }
+
+    @Test
+    public void testBackpressure() throws InterruptedException {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        V8Actor<String> actor = new V8Actor<String>(system, 2, 1) {
+
+            @Override
+            protected void onMessage(final V8 runtime, final String message) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        actor.offer("first");
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        assertTrue(actor.offer("a"));
+        assertTrue(actor.offer("b"));
+
+        assertFalse(actor.offer("c"));
+        assertFalse(actor.send("c", 10, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(actor.send("c", 10, TimeUnit.SECONDS));
+        actor.close();
+        assertTrue(actor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testManyActorsShareWorkers() throws InterruptedException {
+        List<RecordingActor> actors = new ArrayList<RecordingActor>();
+        for (int i = 0; i < 20; i++) {
+            RecordingActor actor = new RecordingActor(system, 16, 4);
+            actors.add(actor);
+            for (int j = 0; j < 10; j++) {
+                assertTrue(actor.send(j, 10, TimeUnit.SECONDS));
+            }
+        }
+        system.shutdown();
+
+        Set<Thread> threads = new HashSet<Thread>();
+        for (RecordingActor actor : actors) {
+            assertTrue(actor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(10, actor.results.size());
+            threads.addAll(actor.threads);
+        }
+        assertTrue(threads.size() <= 2);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCannotCreateActorAfterShutdown() {
+        system.shutdown();
+
+        new RecordingActor(system);
+    }
+
+    @Test
+    public void testScriptActorWithStringArray() throws InterruptedException {
+        final List<String> results = Collections.synchronizedList(new ArrayList<String>());
+        V8ScriptActor actor = new V8ScriptActor(system, "function onMessage(m) { result(m.join(',')); }", "onMessage") {
+
+            @Override
+            protected void setup(final V8 runtime) {
+                runtime.registerJavaMethod(new JavaVoidCallback() {
+
+                    @Override
+                    public void invoke(final V8Object receiver, final V8Array parameters) {
+                        results.add(parameters.getString(0));
+                    }
+                }, "result");
+                super.setup(runtime);
+            }
+        };
+
+        actor.postMessage("a", "b", "c");
+        actor.close();
+
+        assertTrue(actor.awaitTermination(10, TimeUnit.SECONDS));
+        assertNull(actor.getException());
+        assertEquals(1, results.size());
+        assertEquals("a,b,c", results.get(0));
+    }
+
+    @Test
+    public void testScriptActorWithTypedPayloads() throws InterruptedException {
+        final List<Object> results = Collections.synchronizedList(new ArrayList<Object>());
+        V8ScriptActor actor = new V8ScriptActor(system, "function onMessage(m) { result(typeof m); }", "onMessage") {
+
+            @Override
+            protected void setup(final V8 runtime) {
+                runtime.registerJavaMethod(new JavaVoidCallback() {
+
+                    @Override
+                    public void invoke(final V8Object receiver, final V8Array parameters) {
+                        results.add(parameters.getString(0));
+                    }
+                }, "result");
+                super.setup(runtime);
+            }
+        };
+
+        actor.offer(7);
+        actor.offer("s");
+        actor.offer(true);
+        actor.offer(Collections.singletonMap("a", 1));
+        actor.close();
+
+        assertTrue(actor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(4, results.size());
+        assertEquals("number", results.get(0));
+        assertEquals("string", results.get(1));
+        assertEquals("boolean", results.get(2));
+        assertEquals("object", results.get(3));
+    }
+
+    @Test
+    public void testScriptActorMissingHandler() throws InterruptedException {
+        V8ScriptActor actor = new V8ScriptActor(system, "var x = 1;", "onMessage");
+
+        actor.offer("hello");
+
+        assertTrue(actor.awaitTermination(10, TimeUnit.SECONDS));
+        assertNotNull(actor.getException());
+    }
+
+}
@@ -0,0 +1,401 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8ScriptExecutionException;
+import com.eclipsesource.v8.V8SnapshotCreator;
+
+public class V8RuntimePoolTest {
+
+    private V8RuntimePool pool;
+
+    @After
+    public void tearDown() {
+        try {
+            if (pool != null) {
+                pool.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        new V8RuntimePool(2, 1);
+    }
+
+    @Test
+    public void testNoRuntimesCreatedInitially() {
+        pool = new V8RuntimePool(2, 4);
+
+        assertEquals(0, pool.getSize());
+    }
+
+    @Test
+    public void testPrestartRuntimes() {
+        pool = new V8RuntimePool(2, 4);
+
+        pool.prestartRuntimes();
+
+        assertEquals(2, pool.getSize());
+        assertEquals(2, pool.getIdleCount());
+    }
+
+    @Test
+    public void testCheckoutLocksRuntimeToThread() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+
+        V8 runtime = pool.checkout();
+
+        assertTrue(runtime.getLocker().hasLock());
+        pool.checkin(runtime);
+    }
+
+    @Test
+    public void testCheckinReleasesLock() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        V8 runtime = pool.checkout();
+
+        pool.checkin(runtime);
+
+        assertFalse(runtime.getLocker().hasLock());
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void testRuntimeIsReused() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        V8 runtime = pool.checkout();
+        pool.checkin(runtime);
+
+        V8 result = pool.checkout();
+
+        assertSame(runtime, result);
+        pool.checkin(result);
+    }
+
+    @Test
+    public void testWarmupScripts() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        pool.addWarmupScript("var x = 7;", "warmup.js");
+
+        V8 runtime = pool.checkout();
+
+        assertEquals(7, runtime.getInteger("x"));
+        pool.checkin(runtime);
+    }
+
+    @Test
+    public void testSnapshot() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        pool.setSnapshot(new V8SnapshotCreator().addScript("var x = 7;").createSnapshot());
+
+        V8 runtime = pool.checkout();
+
+        assertEquals(7, runtime.getInteger("x"));
+        pool.checkin(runtime);
+    }
+
+    @Test
+    public void testWarmupFailure() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        pool.addWarmupScript("undefinedFunction();");
+
+        try {
+            pool.checkout();
+            fail("Exception expected");
+        } catch (V8ScriptExecutionException e) {
+            assertEquals(0, pool.getSize());
+        }
+    }
+
+    @Test
+    public void testCheckoutTimeout() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        V8 runtime = pool.checkout();
+
+        assertNull(pool.checkout(10, TimeUnit.MILLISECONDS));
+        pool.checkin(runtime);
+    }
+
+    @Test
+    public void testCheckoutFromOtherThread() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        pool.checkin(pool.checkout());
+        final AtomicInteger result = new AtomicInteger();
+
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    V8 runtime = pool.checkout();
+                    result.set(runtime.executeIntegerScript("1 + 2"));
+                    pool.checkin(runtime);
+                } catch (InterruptedException e) {
+                    // do nothing
+                }
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertEquals(3, result.get());
+    }
+
+    @Test
+    public void testWaitingThreadGetsReturnedRuntime() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        V8 runtime = pool.checkout();
+        final AtomicInteger result = new AtomicInteger();
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    V8 runtime = pool.checkout();
+                    result.set(runtime.executeIntegerScript("1 + 2"));
+                    pool.checkin(runtime);
+                } catch (InterruptedException e) {
+                    // do nothing
+                }
+            }
+        });
+        thread.start();
+
+        pool.checkin(runtime);
+        thread.join();
+
+        assertEquals(3, result.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCheckinUnknownRuntime() {
+        pool = new V8RuntimePool(1, 1);
+        V8 runtime = V8.createV8Runtime();
+
+        try {
+            pool.checkin(runtime);
+        } finally {
+            runtime.close();
+        }
+    }
+
+    @Test
+    public void testDiscard() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        V8 runtime = pool.checkout();
+
+        pool.discard(runtime);
+
+        assertTrue(runtime.isReleased());
+        assertEquals(0, pool.getSize());
+    }
+
+    @Test
+    public void testLeakedHandlesDiscardRuntime() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        V8 runtime = pool.checkout();
+        new V8Object(runtime);
+
+        pool.checkin(runtime);
+
+        assertTrue(runtime.isReleased());
+        assertEquals(0, pool.getSize());
+    }
+
+    @Test
+    public void testRunDiscardsRuntimeOnExecutionException() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        final V8[] runtime = new V8[1];
+
+        try {
+            pool.run(new V8Runnable() {
+
+                @Override
+                public void run(final V8 v8) {
+                    runtime[0] = v8;
+                    v8.executeVoidScript("undefinedFunction();");
+                }
+            });
+            fail("Exception expected");
+        } catch (V8ScriptExecutionException e) {
+            assertTrue(runtime[0].isReleased());
+            assertEquals(0, pool.getSize());
+        }
+    }
+
+    @Test
+    public void testRunReturnsRuntime() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+
+        pool.run(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("var x = 1;");
+            }
+        });
+
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void testEvictIdle() throws InterruptedException {
+        pool = new V8RuntimePool(1, 3);
+        pool.setIdleTimeout(0, TimeUnit.MILLISECONDS);
+        V8 runtime1 = pool.checkout();
+        V8 runtime2 = pool.checkout();
+        V8 runtime3 = pool.checkout();
+        pool.checkin(runtime1);
+        pool.checkin(runtime2);
+        pool.checkin(runtime3);
+
+        pool.evictIdle();
+
+        assertEquals(1, pool.getSize());
+    }
+
+    @Test
+    public void testEvictIdleKeepsRecentRuntimes() throws InterruptedException {
+        pool = new V8RuntimePool(0, 2);
+        pool.setIdleTimeout(1, TimeUnit.HOURS);
+        pool.checkin(pool.checkout());
+
+        pool.evictIdle();
+
+        assertEquals(1, pool.getSize());
+    }
+
+    @Test
+    public void testCloseReleasesIdleRuntimes() throws InterruptedException {
+        pool = new V8RuntimePool(2, 2);
+        pool.prestartRuntimes();
+
+        pool.close();
+
+        assertTrue(pool.isClosed());
+        assertEquals(0, pool.getSize());
+        assertEquals(0, V8.getActiveRuntimes());
+    }
+
+    @Test
+    public void testCheckinAfterCloseReleasesRuntime() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        V8 runtime = pool.checkout();
+        pool.close();
+
+        pool.checkin(runtime);
+
+        assertTrue(runtime.isReleased());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCheckoutAfterClose() throws InterruptedException {
+        pool = new V8RuntimePool(1, 1);
+        pool.close();
+
+        pool.checkout();
+    }
+
+    @Test
+    public void testMultipleRuntimesInUse() throws InterruptedException {
+        pool = new V8RuntimePool(0, 2);
+
+        V8 runtime1 = pool.checkout();
+        V8 runtime2 = pool.checkout();
+
+        assertNotSame(runtime1, runtime2);
+        assertEquals(2, pool.getSize());
+        pool.checkin(runtime1);
+        pool.checkin(runtime2);
+    }
+
+    @Test
+    public void testHeapGrowthDiscardsRuntime() throws InterruptedException {
+        pool = new V8RuntimePool(0, 1).setMaxHeapGrowth(1024 * 1024);
+        V8 runtime = pool.checkout();
+        runtime.executeVoidScript("var retained = []; for (var i = 0; i < 100000; i++) { retained.push({ index: i }); }");
+
+        pool.checkin(runtime);
+
+        assertEquals(0, pool.getSize());
+    }
+
+    @Test
+    public void testHeapGrowthWithinLimitKeepsRuntime() throws InterruptedException {
+        pool = new V8RuntimePool(0, 1).setMaxHeapGrowth(64 * 1024 * 1024);
+        V8 runtime = pool.checkout();
+        runtime.executeVoidScript("var x = {};");
+
+        pool.checkin(runtime);
+
+        assertSame(runtime, pool.checkout());
+        pool.checkin(runtime);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeHeapGrowth() {
+        new V8RuntimePool(0, 1).setMaxHeapGrowth(-1);
+    }
+
+    @Test
+    public void testUncheckedRuntimes() throws InterruptedException {
+        pool = new V8RuntimePool(0, 1).setUncheckedRuntimes(true);
+
+        V8 runtime = pool.checkout();
+
+        assertTrue(runtime.getLocker().isUnchecked());
+        assertEquals(2, runtime.executeIntegerScript("1 + 1"));
+        pool.checkin(runtime);
+        assertFalse(runtime.getLocker().isUnchecked());
+    }
+
+    @Test(expected = Error.class)
+    public void testUncheckedRuntimeNotAccessibleAfterCheckin() throws InterruptedException {
+        pool = new V8RuntimePool(0, 1).setUncheckedRuntimes(true);
+        V8 runtime = pool.checkout();
+        pool.checkin(runtime);
+
+        runtime.executeIntegerScript("1 + 1");
+    }
+
+    @Test
+    public void testRuntimesCheckedByDefault() throws InterruptedException {
+        pool = new V8RuntimePool(0, 1);
+
+        V8 runtime = pool.checkout();
+
+        assertFalse(runtime.getLocker().isUnchecked());
+        pool.checkin(runtime);
+    }
+
+}
@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8ScriptExecutionException;
+
+public class V8SchedulerTest {
+
+    private V8Scheduler scheduler;
+
+    @Before
+    public void setup() {
+        scheduler = new V8Scheduler(2);
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            scheduler.shutdownNow();
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void testSubmitReturnsResult() throws Exception {
+        Future<Integer> result = scheduler.submit(new V8Callable<Integer>() {
+
+            @Override
+            public Integer call(final V8 runtime) {
+                return runtime.executeIntegerScript("1 + 1");
+            }
+        });
+
+        assertEquals(2, (int) result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRunRunnable() throws Exception {
+        final boolean[] ran = new boolean[1];
+
+        Future<?> result = scheduler.run(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                ran[0] = runtime.executeBooleanScript("true");
+            }
+        });
+
+        assertNull(result.get(10, TimeUnit.SECONDS));
+        assertTrue(ran[0]);
+    }
+
+    @Test
+    public void testTaskRunsOnWorkerThread() throws Exception {
+        Future<Thread> result = scheduler.submit(new V8Callable<Thread>() {
+
+            @Override
+            public Thread call(final V8 runtime) {
+                runtime.getLocker().checkThread();
+                return Thread.currentThread();
+            }
+        });
+
+        Thread worker = result.get(10, TimeUnit.SECONDS);
+        assertFalse(worker == Thread.currentThread());
+        assertTrue(worker.getName().startsWith("J2V8 Scheduler"));
+    }
+
+    @Test
+    public void testRuntimeIsReusedByWorker() throws Exception {
+        scheduler.shutdownNow();
+        scheduler = new V8Scheduler(1);
+
+        scheduler.run(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("var counter = 1;");
+            }
+        }).get(10, TimeUnit.SECONDS);
+        Future<Integer> result = scheduler.submit(new V8Callable<Integer>() {
+
+            @Override
+            public Integer call(final V8 runtime) {
+                return runtime.executeIntegerScript("++counter");
+            }
+        });
+
+        assertEquals(2, (int) result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testInitializer() throws Exception {
+        scheduler.shutdownNow();
+        scheduler = new V8Scheduler(2, new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                runtime.executeVoidScript("function twice(x) { return 2 * x; }");
+            }
+        });
+
+        Future<Integer> result = scheduler.submit(new V8Callable<Integer>() {
+
+            @Override
+            public Integer call(final V8 runtime) {
+                return runtime.executeIntegerScript("twice(21)");
+            }
+        });
+
+        assertEquals(42, (int) result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testExceptionIsReported() throws Exception {
+        Future<Object> result = scheduler.submit(new V8Callable<Object>() {
+
+            @Override
+            public Object call(final V8 runtime) {
+                return runtime.executeScript("throw 'fail';");
+            }
+        });
+
+        try {
+            result.get(10, TimeUnit.SECONDS);
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof V8ScriptExecutionException);
+        }
+    }
+
+    @Test
+    public void testV8ValueResultIsRejected() throws Exception {
+        Future<V8Object> result = scheduler.submit(new V8Callable<V8Object>() {
+
+            @Override
+            public V8Object call(final V8 runtime) {
+                return new V8Object(runtime);
+            }
+        });
+
+        try {
+            result.get(10, TimeUnit.SECONDS);
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testManySubmittingThreads() throws Exception {
+        final List<Future<Integer>> results = Collections.synchronizedList(new ArrayList<Future<Integer>>());
+        final Set<String> workers = Collections.synchronizedSet(new HashSet<String>());
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < 20; i++) {
+            final int value = i;
+            Thread thread = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    results.add(scheduler.submit(new V8Callable<Integer>() {
+
+                        @Override
+                        public Integer call(final V8 runtime) {
+                            workers.add(Thread.currentThread().getName());
+                            return runtime.executeIntegerScript(value + " * 2");
+                        }
+                    }));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int sum = 0;
+        for (Future<Integer> result : results) {
+            sum += result.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(380, sum);
+        assertTrue(workers.size() <= 2);
+    }
+
+    @Test
+    public void testShutdownRunsQueuedTasks() throws Exception {
+        Future<Integer> result = scheduler.submit(new V8Callable<Integer>() {
+
+            @Override
+            public Integer call(final V8 runtime) {
+                return runtime.executeIntegerScript("7");
+            }
+        });
+
+        scheduler.shutdown();
+
+        assertTrue(scheduler.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(7, (int) result.get());
+        assertTrue(scheduler.isShutdown());
+    }
+
+    @Test
+    public void testAwaitTerminationWaitsForRuntimes() throws Exception {
+        scheduler.submit(new V8Callable<Integer>() {
+
+            @Override
+            public Integer call(final V8 runtime) {
+                return runtime.executeIntegerScript("7");
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        scheduler.shutdown();
+
+        assertTrue(scheduler.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(0, V8.getActiveRuntimes());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void testSubmitAfterShutdown() {
+        scheduler.shutdown();
+
+        scheduler.run(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+            }
+        });
+    }
+
+    @Test
+    public void testShutdownNowTerminatesRunningScript() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        scheduler.run(new V8Runnable() {
+
+            @Override
+            public void run(final V8 runtime) {
+                started.countDown();
+                runtime.executeVoidScript("while (true) {}");
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        scheduler.shutdownNow();
+
+        assertTrue(scheduler.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+}
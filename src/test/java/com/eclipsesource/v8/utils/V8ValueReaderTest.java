@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Object;
+import com.eclipsesource.v8.V8RuntimeException;
+import com.eclipsesource.v8.V8SerializedDataReader;
+import com.eclipsesource.v8.V8Value;
+
+public class V8ValueReaderTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadObject() {
+        V8Object object = v8.executeObjectScript("({i: 7, d: 3.14, b: true, s: 'hello', u: '\\u65e5\\u672c', n: null})");
+
+        Map<String, Object> result = (Map<String, Object>) V8ValueReader.read(object);
+
+        assertEquals(7, result.get("i"));
+        assertEquals(3.14, (Double) result.get("d"), 0.000001);
+        assertEquals(true, result.get("b"));
+        assertEquals("hello", result.get("s"));
+        assertEquals("日本", result.get("u"));
+        assertTrue(result.containsKey("n"));
+        assertNull(result.get("n"));
+        object.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadNestedGraph() {
+        V8Object object = v8.executeObjectScript("({list: [1, 'two', {three: 3}], date: new Date(1000)})");
+
+        Map<String, Object> result = (Map<String, Object>) V8ValueReader.read(object);
+
+        List<Object> list = (List<Object>) result.get("list");
+        assertEquals(3, list.size());
+        assertEquals(1, list.get(0));
+        assertEquals("two", list.get(1));
+        assertEquals(3, ((Map<String, Object>) list.get(2)).get("three"));
+        assertEquals(new Date(1000), result.get("date"));
+        object.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadSharedAndCyclicObjects() {
+        V8Object object = v8.executeObjectScript("var shared = {}; var o = {a: shared, b: shared}; o.self = o; o");
+
+        Map<String, Object> result = (Map<String, Object>) V8ValueReader.read(object);
+
+        assertSame(result.get("a"), result.get("b"));
+        assertSame(result, result.get("self"));
+        object.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadSparseArray() {
+        V8Object array = v8.executeArrayScript("var a = []; a[3] = 'x'; a");
+
+        List<Object> result = (List<Object>) V8ValueReader.read(array);
+
+        assertEquals(Arrays.asList(V8.getUndefined(), V8.getUndefined(), V8.getUndefined(), "x"), result);
+        array.close();
+    }
+
+    @Test
+    public void testReadIncrementally() {
+        V8Object object = v8.executeObjectScript("({name: 'joe', age: 42, tags: ['a', 'b'], ignored: {x: 1}})");
+
+        final Person person = v8.serialize(object, new V8SerializedDataReader<Person>() {
+
+            @Override
+            public Person read(final ByteBuffer data) {
+                Person result = new Person();
+                V8ValueReader reader = new V8ValueReader(data);
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    if ("name".equals(name)) {
+                        result.name = reader.nextString();
+                    } else if ("age".equals(name)) {
+                        result.age = reader.nextInt();
+                    } else if ("tags".equals(name)) {
+                        result.tags = new String[reader.beginArray()];
+                        for (int i = 0; i < result.tags.length; i++) {
+                            result.tags[i] = reader.nextString();
+                        }
+                        reader.endArray();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                return result;
+            }
+        });
+
+        assertEquals("joe", person.name);
+        assertEquals(42, person.age);
+        assertEquals(Arrays.asList("a", "b"), Arrays.asList(person.tags));
+        object.close();
+    }
+
+    @Test
+    public void testPeek() {
+        V8Object object = v8.executeObjectScript("[1, 1.5, true, 's', null, undefined, {}, [], new Date(0)]");
+
+        final int[] types = v8.serialize(object, new V8SerializedDataReader<int[]>() {
+
+            @Override
+            public int[] read(final ByteBuffer data) {
+                V8ValueReader reader = new V8ValueReader(data);
+                int[] result = new int[reader.beginArray()];
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = reader.peek();
+                    reader.skipValue();
+                }
+                reader.endArray();
+                return result;
+            }
+        });
+
+        assertEquals(V8Value.INTEGER, types[0]);
+        assertEquals(V8Value.DOUBLE, types[1]);
+        assertEquals(V8Value.BOOLEAN, types[2]);
+        assertEquals(V8Value.STRING, types[3]);
+        assertEquals(V8Value.NULL, types[4]);
+        assertEquals(V8Value.UNDEFINED, types[5]);
+        assertEquals(V8Value.V8_OBJECT, types[6]);
+        assertEquals(V8Value.V8_ARRAY, types[7]);
+        assertEquals(V8ValueReader.DATE, types[8]);
+        object.close();
+    }
+
+    @Test
+    public void testEndObjectSkipsRemainingProperties() {
+        V8Object object = v8.executeObjectScript("[{a: 1, b: {c: [1, 2]}}, 'after']");
+
+        String result = v8.serialize(object, new V8SerializedDataReader<String>() {
+
+            @Override
+            public String read(final ByteBuffer data) {
+                V8ValueReader reader = new V8ValueReader(data);
+                reader.beginArray();
+                reader.beginObject();
+                reader.nextName();
+                reader.endObject();
+                String after = reader.nextString();
+                reader.endArray();
+                return after;
+            }
+        });
+
+        assertEquals("after", result);
+        object.close();
+    }
+
+    @Test(expected = V8RuntimeException.class)
+    public void testFunctionsCannotBeSerialized() {
+        V8Object object = v8.executeObjectScript("({f: function() {}})");
+
+        try {
+            V8ValueReader.read(object);
+        } finally {
+            object.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidData() {
+        new V8ValueReader(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testWrongType() {
+        V8Object object = v8.executeObjectScript("({a: 'string'})");
+
+        try {
+            v8.serialize(object, new V8SerializedDataReader<Integer>() {
+
+                @Override
+                public Integer read(final ByteBuffer data) {
+                    V8ValueReader reader = new V8ValueReader(data);
+                    reader.beginObject();
+                    reader.nextName();
+                    return reader.nextInt();
+                }
+            });
+        } finally {
+            object.close();
+        }
+    }
+
+    @Test
+    public void testSerializedDataIsReleasedAfterRead() {
+        V8Object object = v8.executeObjectScript("({a: 1})");
+
+        boolean hasData = v8.serialize(object, new V8SerializedDataReader<Boolean>() {
+
+            @Override
+            public Boolean read(final ByteBuffer data) {
+                return data.isDirect() && data.hasRemaining();
+            }
+        });
+
+        assertTrue(hasData);
+        assertFalse(object.isReleased());
+        object.close();
+    }
+
+    private static class Person {
+        String   name;
+        int      age;
+        String[] tags;
+    }
+
+}
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.eclipsesource.v8.V8;
+import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Object;
+
+public class V8ValueWriterTest {
+
+    private V8 v8;
+
+    @Before
+    public void setup() {
+        v8 = V8.createV8Runtime();
+    }
+
+    @After
+    public void tearDown() {
+        try {
+            if (v8 != null) {
+                v8.close();
+            }
+            if (V8.getActiveRuntimes() != 0) {
+                throw new IllegalStateException("V8Runtimes not properly released");
+            }
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testWriteMap() {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("i", 7);
+        map.put("d", 3.14);
+        map.put("b", true);
+        map.put("s", "日本");
+        map.put("n", null);
+        map.put("u", V8.getUndefined());
+
+        V8Object object = (V8Object) V8ValueWriter.write(v8, map);
+
+        assertEquals(7, object.getInteger("i"));
+        assertEquals(3.14, object.getDouble("d"), 0.000001);
+        assertTrue(object.getBoolean("b"));
+        assertEquals("日本", object.getString("s"));
+        assertNull(object.getString("n"));
+        assertTrue(object.contains("u"));
+        object.close();
+    }
+
+    @Test
+    public void testWriteList() {
+        List<Object> list = Arrays.asList((Object) 1, "two", 3.5, new Date(1000));
+
+        V8Array array = (V8Array) V8ValueWriter.write(v8, list);
+
+        v8.add("array", array);
+        assertEquals(4, array.length());
+        assertEquals(1, array.getInteger(0));
+        assertEquals("two", array.getString(1));
+        assertEquals(3.5, array.getDouble(2), 0.000001);
+        assertTrue(v8.executeBooleanScript("array[3] instanceof Date && array[3].getTime() === 1000"));
+        array.close();
+    }
+
+    @Test
+    public void testWriteSharedAndCyclicValues() {
+        Map<String, Object> map = new HashMap<String, Object>();
+        List<Object> shared = new ArrayList<Object>();
+        map.put("a", shared);
+        map.put("b", shared);
+        map.put("self", map);
+
+        V8Object object = (V8Object) V8ValueWriter.write(v8, map);
+
+        v8.add("object", object);
+        assertTrue(v8.executeBooleanScript("object.a === object.b"));
+        assertTrue(v8.executeBooleanScript("object.self === object"));
+        object.close();
+    }
+
+    @Test
+    public void testWriteIncrementally() {
+        V8ValueWriter writer = new V8ValueWriter();
+        writer.beginObject()
+                .name("name").value("joe")
+                .name("scores").beginArray(2).value(1).value(2.5).endArray()
+                .endObject();
+
+        V8Object object = (V8Object) v8.deserialize(writer.toByteBuffer());
+
+        v8.add("object", object);
+        assertEquals("joe", v8.executeStringScript("object.name"));
+        assertEquals(3.5, v8.executeDoubleScript("object.scores[0] + object.scores[1]"), 0.000001);
+        object.close();
+    }
+
+    @Test
+    public void testWriterGrowsBuffer() {
+        V8ValueWriter writer = new V8ValueWriter(16);
+        writer.beginArray(1000);
+        for (int i = 0; i < 1000; i++) {
+            writer.value("element" + i);
+        }
+        writer.endArray();
+
+        V8Array array = (V8Array) v8.deserialize(writer.toByteBuffer());
+
+        assertEquals(1000, array.length());
+        assertEquals("element999", array.getString(999));
+        array.close();
+    }
+
+    @Test
+    public void testReset() {
+        V8ValueWriter writer = new V8ValueWriter();
+        writer.value("first");
+        writer.reset();
+        writer.value("second");
+
+        assertEquals("second", v8.deserialize(writer.toByteBuffer()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRoundTrip() {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("list", Arrays.asList((Object) 1, "two", null));
+        map.put("nested", new HashMap<String, Object>());
+
+        V8Object object = (V8Object) V8ValueWriter.write(v8, map);
+        Map<String, Object> result = (Map<String, Object>) V8ValueReader.read(object);
+
+        assertEquals(Arrays.asList((Object) 1, "two", null), result.get("list"));
+        assertTrue(((Map<String, Object>) result.get("nested")).isEmpty());
+        object.close();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTooFewArrayElements() {
+        new V8ValueWriter().beginArray(2).value(1).endArray();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testValueWithoutName() {
+        new V8ValueWriter().beginObject().value(1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIncompleteValue() {
+        new V8ValueWriter().beginObject().toByteBuffer();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedType() {
+        new V8ValueWriter().writeValue(new Object());
+    }
+
+    @Test
+    public void testWritePrimitiveResult() {
+        V8ValueWriter writer = new V8ValueWriter();
+        writer.value(42);
+
+        Object result = v8.deserialize(writer.toByteBuffer());
+
+        assertEquals(42, result);
+    }
+
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils.collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LongMapTest {
+
+    @Test
+    public void testEmptyMap() {
+        LongMap<String> map = new LongMap<String>();
+
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+        assertNull(map.get(1));
+        assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    public void testPutAndGet() {
+        LongMap<String> map = new LongMap<String>();
+
+        map.put(1, "one");
+        map.put(2, "two");
+
+        assertEquals("one", map.get(1));
+        assertEquals("two", map.get(2));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testPutReplaces() {
+        LongMap<String> map = new LongMap<String>();
+
+        assertNull(map.put(1, "one"));
+        assertEquals("one", map.put(1, "uno"));
+
+        assertEquals("uno", map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testRemove() {
+        LongMap<String> map = new LongMap<String>();
+        map.put(1, "one");
+
+        assertEquals("one", map.remove(1));
+
+        assertNull(map.get(1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testRemoveMissingKey() {
+        LongMap<String> map = new LongMap<String>();
+        map.put(1, "one");
+
+        assertNull(map.remove(2));
+
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testZeroKey() {
+        LongMap<String> map = new LongMap<String>();
+
+        map.put(0, "zero");
+
+        assertTrue(map.containsKey(0));
+        assertEquals("zero", map.get(0));
+        assertEquals(1, map.size());
+        assertEquals("zero", map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testNegativeKeys() {
+        LongMap<String> map = new LongMap<String>();
+
+        map.put(-1, "minus one");
+        map.put(Long.MIN_VALUE, "min");
+
+        assertEquals("minus one", map.get(-1));
+        assertEquals("min", map.get(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void testGrow() {
+        LongMap<Long> map = new LongMap<Long>();
+
+        for (long i = 1; i <= 10000; i++) {
+            map.put(i * 16, i);
+        }
+
+        assertEquals(10000, map.size());
+        for (long i = 1; i <= 10000; i++) {
+            assertEquals(Long.valueOf(i), map.get(i * 16));
+        }
+    }
+
+    @Test
+    public void testKeys() {
+        LongMap<String> map = new LongMap<String>();
+        map.put(0, "zero");
+        map.put(8, "eight");
+        map.put(16, "sixteen");
+
+        long[] keys = map.keys();
+
+        Arrays.sort(keys);
+        assertArrayEquals(new long[] { 0, 8, 16 }, keys);
+    }
+
+    @Test
+    public void testClear() {
+        LongMap<String> map = new LongMap<String>();
+        map.put(0, "zero");
+        map.put(1, "one");
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+        assertNull(map.get(1));
+    }
+
+    @Test
+    public void testRandomOperationsMatchHashMap() {
+        LongMap<Long> map = new LongMap<Long>();
+        Map<Long, Long> expected = new HashMap<Long, Long>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100000; i++) {
+            long key = random.nextInt(512) * 8L;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package com.eclipsesource.v8.utils.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+public class MpscBoundedQueueTest {
+
+    @Test
+    public void testCapacityRoundedToPowerOfTwo() {
+        MpscBoundedQueue<String> queue = new MpscBoundedQueue<String>(5);
+
+        assertEquals(8, queue.capacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new MpscBoundedQueue<String>(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfferNull() {
+        new MpscBoundedQueue<String>(2).offer(null);
+    }
+
+    @Test
+    public void testPollEmpty() {
+        MpscBoundedQueue<String> queue = new MpscBoundedQueue<String>(2);
+
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testFifoOrder() {
+        MpscBoundedQueue<String> queue = new MpscBoundedQueue<String>(4);
+
+        queue.offer("a");
+        queue.offer("b");
+        queue.offer("c");
+
+        assertEquals(3, queue.size());
+        assertEquals("a", queue.poll());
+        assertEquals("b", queue.poll());
+        assertEquals("c", queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testOfferFailsWhenFull() {
+        MpscBoundedQueue<String> queue = new MpscBoundedQueue<String>(2);
+
+        assertTrue(queue.offer("a"));
+        assertTrue(queue.offer("b"));
+
+        assertFalse(queue.offer("c"));
+        queue.poll();
+        assertTrue(queue.offer("c"));
+    }
+
+    @Test
+    public void testWrapsAround() {
+        MpscBoundedQueue<Integer> queue = new MpscBoundedQueue<Integer>(4);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(queue.offer(i));
+            assertEquals(i, (int) queue.poll());
+        }
+    }
+
+    @Test
+    public void testClear() {
+        MpscBoundedQueue<String> queue = new MpscBoundedQueue<String>(4);
+        queue.offer("a");
+        queue.offer("b");
+
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        final MpscBoundedQueue<Integer> queue = new MpscBoundedQueue<Integer>(64);
+        final int producers = 4;
+        final int count = 10000;
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < count; i++) {
+                        while (!queue.offer(i)) {
+                            Thread.yield();
+                        }
+                    }
+                }
+            });
+            threads[p].start();
+        }
+
+        start.countDown();
+        long sum = 0;
+        int received = 0;
+        while (received < (producers * count)) {
+            Integer value = queue.poll();
+            if (value != null) {
+                sum += value;
+                received++;
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * (((long) count * (count - 1)) / 2), sum);
+        assertTrue(queue.isEmpty());
+    }
+
+}